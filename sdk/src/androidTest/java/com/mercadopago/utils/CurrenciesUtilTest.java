@@ -0,0 +1,99 @@
+package com.mercadopago.utils;
+
+import android.support.test.filters.SmallTest;
+import android.support.test.runner.AndroidJUnit4;
+import android.text.Spanned;
+import android.text.style.RelativeSizeSpan;
+import android.text.style.SuperscriptSpan;
+
+import com.mercadopago.util.CurrenciesUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+//The spanned amounts need the framework text classes, the plain formatting is tested on the JVM.
+@RunWith(AndroidJUnit4.class)
+@SmallTest
+public class CurrenciesUtilTest {
+
+    @Test
+    public void whenGettingFormattedAmountThenDecimalsAreSmallSuperscript() {
+        Spanned amount = CurrenciesUtil.getFormattedAmount(new BigDecimal("1500.25"), CurrenciesUtil.CURRENCY_ARGENTINA);
+
+        Assert.assertEquals("$ 1.500 25", amount.toString());
+        assertSmallSuperscript(amount, " 25");
+    }
+
+    @Test
+    public void whenCurrencyHasNoDecimalsThenNothingIsSuperscript() {
+        Spanned amount = CurrenciesUtil.getFormattedAmount(new BigDecimal("1500"), CurrenciesUtil.CURRENCY_COLOMBIA);
+
+        Assert.assertEquals("$ 1.500", amount.toString());
+        Assert.assertEquals(0, amount.getSpans(0, amount.length(), SuperscriptSpan.class).length);
+    }
+
+    @Test
+    public void whenSymbolIsUpThenCollapseSpacesAsHtml() {
+        Spanned amount = CurrenciesUtil.formatNumber(new BigDecimal("99.9"), CurrenciesUtil.CURRENCY_BRAZIL, true, false);
+
+        Assert.assertEquals("R$ 9990", amount.toString());
+        assertSmallSuperscript(amount, "R$ ");
+    }
+
+    @Test
+    public void whenFormattingCurrencyInTextThenReplaceEveryAmount() {
+        String number = CurrenciesUtil.formatNumber(new BigDecimal("200"), CurrenciesUtil.CURRENCY_ARGENTINA);
+        String text = "3 cuotas  de " + number + " (" + number + ")";
+
+        Spanned spanned = CurrenciesUtil.formatCurrencyInText(new BigDecimal("200"), CurrenciesUtil.CURRENCY_ARGENTINA, text, false, true);
+
+        Assert.assertEquals("3 cuotas de $ 200 00 ($ 200 00)", spanned.toString());
+        Assert.assertEquals(2, spanned.getSpans(0, spanned.length(), SuperscriptSpan.class).length);
+    }
+
+    @Test
+    public void whenAmountIsNotInTextThenKeepText() {
+        Spanned spanned = CurrenciesUtil.formatCurrencyInText(BigDecimal.ONE, CurrenciesUtil.CURRENCY_ARGENTINA, "Total", false, true);
+
+        Assert.assertEquals("Total", spanned.toString());
+    }
+
+    @Test
+    public void whenFormattingAmountsInBatchThenMatchOneByOne() {
+        List<BigDecimal> amounts = getAmounts(50);
+
+        List<Spanned> formattedAmounts = CurrenciesUtil.getFormattedAmounts(amounts, CurrenciesUtil.CURRENCY_MEXICO);
+
+        Assert.assertEquals(amounts.size(), formattedAmounts.size());
+        for (int i = 0; i < amounts.size(); i++) {
+            Spanned expected = CurrenciesUtil.getFormattedAmount(amounts.get(i), CurrenciesUtil.CURRENCY_MEXICO);
+            Assert.assertEquals(expected.toString(), formattedAmounts.get(i).toString());
+        }
+        Assert.assertNull(CurrenciesUtil.getFormattedAmounts(amounts, "XXX"));
+    }
+
+    private static void assertSmallSuperscript(Spanned spanned, String text) {
+        SuperscriptSpan[] superscripts = spanned.getSpans(0, spanned.length(), SuperscriptSpan.class);
+        RelativeSizeSpan[] sizes = spanned.getSpans(0, spanned.length(), RelativeSizeSpan.class);
+        Assert.assertEquals(1, superscripts.length);
+        Assert.assertEquals(1, sizes.length);
+        Assert.assertEquals(text, spanned.toString().substring(spanned.getSpanStart(superscripts[0]), spanned.getSpanEnd(superscripts[0])));
+        Assert.assertEquals(spanned.getSpanStart(superscripts[0]), spanned.getSpanStart(sizes[0]));
+        Assert.assertEquals(spanned.getSpanEnd(superscripts[0]), spanned.getSpanEnd(sizes[0]));
+        Assert.assertTrue(sizes[0].getSizeChange() < 1);
+    }
+
+    private static List<BigDecimal> getAmounts(int count) {
+        List<BigDecimal> amounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            amounts.add(new BigDecimal(i * 1234.567).setScale(3, BigDecimal.ROUND_HALF_UP));
+        }
+        return amounts;
+    }
+}
@@ -0,0 +1,54 @@
+package com.mercadopago.adapters;
+
+import com.mercadopago.model.PayerCost;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class ListDiffBenchmark {
+
+    private static final int[] SIZES = {24, 36, 48};
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    public void compareDiffCostOnInstallments() {
+        for (int size : SIZES) {
+            int[] installments = new int[size];
+            for (int i = 0; i < size; i++) {
+                installments[i] = i + 1;
+            }
+            List<PayerCost> oldPayerCosts = ListDiffTest.getPayerCosts(installments);
+            //As after applying a discount: every amount changes and the longest plans are no longer offered.
+            List<PayerCost> newPayerCosts = ListDiffTest.getPayerCosts(installments).subList(0, size - 6);
+            for (PayerCost payerCost : newPayerCosts) {
+                payerCost.setTotalAmount(payerCost.getTotalAmount().subtract(BigDecimal.TEN));
+            }
+            List<PayerCost> reorderedPayerCosts = new ArrayList<>(newPayerCosts);
+            Collections.shuffle(reorderedPayerCosts, new Random(size));
+            int updates = 0;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                updates += ListDiff.calculate(oldPayerCosts, newPayerCosts, PayerCostsAdapter.ITEM_CALLBACK).isEmpty() ? 0 : 1;
+            }
+            long diffTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                updates += ListDiff.calculate(oldPayerCosts, reorderedPayerCosts, PayerCostsAdapter.ITEM_CALLBACK).isEmpty() ? 0 : 1;
+            }
+            long reorderedTime = System.nanoTime() - start;
+
+            Assert.assertEquals(2 * ITERATIONS, updates);
+            System.out.println("Diff of " + size + " payer costs, changed amounts: " + diffTime / ITERATIONS
+                    + "ns/op, reordered: " + reorderedTime / ITERATIONS + "ns/op");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.model.PaymentMethod;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class BinIndexBenchmark {
+
+    private static final int ITERATIONS = 20;
+
+    @Test
+    public void compareBinIndexAgainstPatternScan() {
+        List<PaymentMethod> paymentMethods = BinIndexTest.getFixturePaymentMethods();
+        List<String> bins = BinIndexTest.getBins();
+        BinIndex binIndex = new BinIndex(paymentMethods);
+
+        long start = System.nanoTime();
+        int scanMatches = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String bin : bins) {
+                for (PaymentMethod paymentMethod : paymentMethods) {
+                    if (BinIndexTest.getSettingByPatternScan(paymentMethod.getSettings(), bin) != null) {
+                        scanMatches++;
+                    }
+                }
+            }
+        }
+        long scanTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int indexMatches = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String bin : bins) {
+                indexMatches += binIndex.match(bin).size();
+            }
+        }
+        long indexTime = System.nanoTime() - start;
+
+        Assert.assertEquals(scanMatches, indexMatches);
+        long lookups = (long) ITERATIONS * bins.size();
+        System.out.println("Bin pattern scan: " + scanTime / lookups + "ns/op, bin index: " + indexTime / lookups + "ns/op");
+    }
+}
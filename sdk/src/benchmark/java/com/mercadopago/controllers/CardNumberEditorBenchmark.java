@@ -0,0 +1,102 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.util.MPCardMaskUtil;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class CardNumberEditorBenchmark {
+
+    private static final String CARD_NUMBER = "4509953566233704123";
+    private static final int ITERATIONS = 20000;
+
+    private int drawn;
+
+    @Test
+    public void compareAllocationsPerKeystrokeAgainstRegexAndMaskUtil() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threadBean : null;
+        long threadId = Thread.currentThread().getId();
+
+        //Warm up both pipelines before measuring.
+        int keystrokes = typeWithMaskUtil();
+        typeWithEditor(new CardNumberEditor());
+
+        long startBytes = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            typeWithMaskUtil();
+        }
+        long maskUtilTime = System.nanoTime() - start;
+        long maskUtilBytes = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        CardNumberEditor editor = new CardNumberEditor();
+        startBytes = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            typeWithEditor(editor);
+        }
+        long editorTime = System.nanoTime() - start;
+        long editorBytes = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        long total = (long) ITERATIONS * keystrokes;
+        System.out.println("Card number keystroke, regex and mask util: " + maskUtilBytes / total + " bytes, " + maskUtilTime / total + "ns"
+                + ", editor: " + editorBytes / total + " bytes, " + editorTime / total + "ns"
+                + (allocationBean == null ? " (allocations not measured in this vm)" : ""));
+    }
+
+    //Types and deletes a card number as the card number text watcher did, masking it for the card view.
+    //Returns the keystrokes.
+    private int typeWithMaskUtil() {
+        int keystrokes = 0;
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH; i++) {
+            text.append(CARD_NUMBER.charAt(i));
+            keystrokes++;
+            String number = text.toString().replaceAll("\\s", "");
+            drawn += MPCardMaskUtil.buildNumberWithMask(MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH, number).length();
+            if (MPCardMaskUtil.needsMask(text, MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH)) {
+                text.append(' ');
+            }
+            drawn += text.toString().replaceAll("\\s", "").length();
+        }
+        while (text.length() > 0) {
+            text.setLength(text.length() - 1);
+            keystrokes++;
+            String number = text.toString().replaceAll("\\s", "");
+            drawn += MPCardMaskUtil.buildNumberWithMask(MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH, number).length();
+            drawn += text.toString().replaceAll("\\s", "").length();
+        }
+        return keystrokes;
+    }
+
+    //Types and deletes a card number as the card number text watcher does with the editor.
+    //Returns the keystrokes.
+    private int typeWithEditor(CardNumberEditor editor) {
+        int keystrokes = 0;
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH; i++) {
+            text.append(CARD_NUMBER.charAt(i));
+            keystrokes++;
+            editor.update(text);
+            drawn += editor.getNumber().length() + editor.getMaskedLength();
+            if (MPCardMaskUtil.needsMask(text, MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH)) {
+                text.append(' ');
+            }
+            editor.update(text);
+            drawn += editor.getLength();
+        }
+        while (text.length() > 0) {
+            text.setLength(text.length() - 1);
+            keystrokes++;
+            editor.update(text);
+            drawn += editor.getNumber().length() + editor.getMaskedLength();
+            editor.update(text);
+            drawn += editor.getLength();
+        }
+        return keystrokes;
+    }
+}
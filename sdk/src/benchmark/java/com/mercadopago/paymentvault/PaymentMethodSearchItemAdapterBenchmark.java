@@ -0,0 +1,48 @@
+package com.mercadopago.paymentvault;
+
+import com.mercadopago.uicontrollers.paymentmethodsearch.PaymentMethodSearchViewController;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class PaymentMethodSearchItemAdapterBenchmark {
+
+    private static final int ITERATIONS = 200;
+
+    //Builds the rows and scrolls through them as the unit tests do.
+    private final PaymentMethodSearchItemAdapterTest list = new PaymentMethodSearchItemAdapterTest();
+
+    @Test
+    public void compareUniqueViewTypesAgainstRecycledViewTypes() {
+        list.inflations = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            scrollThroughWithUniqueViewTypes(list.createControllers());
+        }
+        long uniqueTime = System.nanoTime() - start;
+        int uniqueInflations = list.inflations / ITERATIONS;
+
+        list.inflations = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.scrollThrough(list.createAdapter());
+        }
+        long recycledTime = System.nanoTime() - start;
+        int recycledInflations = list.inflations / ITERATIONS;
+
+        int frames = PaymentMethodSearchItemAdapterTest.SAVED_CARDS + PaymentMethodSearchItemAdapterTest.OPTIONS + 1
+                - PaymentMethodSearchItemAdapterTest.VISIBLE_ROWS + 1;
+        System.out.println("Payment method search list, unique view types: " + uniqueInflations + " inflations, " + uniqueTime / ITERATIONS / frames + "ns/frame"
+                + ", recycled view types: " + recycledInflations + " inflations, " + recycledTime / ITERATIONS / frames + "ns/frame");
+    }
+
+    //As the adapter did when each row had its own view type: every row inflated its own view.
+    private void scrollThroughWithUniqueViewTypes(List<PaymentMethodSearchViewController> controllers) {
+        for (PaymentMethodSearchViewController controller : controllers) {
+            controller.inflateInParent(null, false);
+            controller.initializeControls();
+            controller.draw();
+        }
+    }
+}
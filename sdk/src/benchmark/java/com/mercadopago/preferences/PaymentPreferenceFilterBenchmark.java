@@ -0,0 +1,55 @@
+package com.mercadopago.preferences;
+
+import com.mercadopago.mocks.PaymentMethodSearchs;
+import com.mercadopago.model.PaymentMethod;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PaymentPreferenceFilterBenchmark {
+
+    private static final int ITERATIONS = 2000;
+    private static final int EXCLUSIONS = 50;
+
+    @Test
+    public void compareLookupsAgainstExclusionLists() {
+        List<String> excludedPaymentMethodIds = new ArrayList<>();
+        for (int i = 0; i < EXCLUSIONS; i++) {
+            excludedPaymentMethodIds.add("excluded" + i);
+        }
+        PaymentPreference paymentPreference = new PaymentPreference();
+        paymentPreference.setExcludedPaymentMethodIds(excludedPaymentMethodIds);
+        List<PaymentMethod> paymentMethods = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA().getPaymentMethods();
+        int supported = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (PaymentMethod paymentMethod : paymentMethods) {
+                List<String> excludedIds = paymentPreference.getExcludedPaymentMethodIds();
+                List<String> excludedTypes = paymentPreference.getExcludedPaymentTypes();
+                if (!excludedIds.contains(paymentMethod.getId()) && (excludedTypes == null || !excludedTypes.contains(paymentMethod.getPaymentTypeId()))) {
+                    supported++;
+                }
+            }
+        }
+        long listTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (PaymentMethod paymentMethod : paymentMethods) {
+                if (paymentPreference.isPaymentMethodSupported(paymentMethod)) {
+                    supported--;
+                }
+            }
+        }
+        long filterTime = System.nanoTime() - start;
+
+        Assert.assertEquals(0, supported);
+        long lookups = (long) ITERATIONS * paymentMethods.size();
+        System.out.println("Payment method exclusion, lists: " + listTime / lookups + "ns/op, compiled filter: " + filterTime / lookups + "ns/op");
+    }
+}
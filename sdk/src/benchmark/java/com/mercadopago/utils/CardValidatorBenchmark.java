@@ -0,0 +1,50 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.mocks.PaymentMethods;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.util.CardValidator;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class CardValidatorBenchmark {
+
+    private static final int ITERATIONS = 20;
+
+    @Test
+    public void compareValidatorThroughputAgainstParsingDigitsAndSettingLookups() {
+        List<String> numbers = CardValidatorTest.generateNumbers(new Random(2));
+        PaymentMethod visa = PaymentMethods.getPaymentMethodOn();
+        CardValidator validator = new CardValidator();
+        int valid = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String number : numbers) {
+                if (CardValidatorTest.validateParsingDigits(visa, number, "123")) {
+                    valid++;
+                }
+            }
+        }
+        long parsingTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String number : numbers) {
+                if (validator.validateCardNumber(visa, number).isCardNumberValid()
+                        && validator.validateSecurityCode(visa, number, "123").isSecurityCodeValid()) {
+                    valid--;
+                }
+            }
+        }
+        long validatorTime = System.nanoTime() - start;
+
+        Assert.assertEquals(0, valid);
+        long total = (long) ITERATIONS * numbers.size();
+        System.out.println("Card validation, parsing digits: " + parsingTime / total + "ns/card, validator: " + validatorTime / total + "ns/card");
+    }
+}
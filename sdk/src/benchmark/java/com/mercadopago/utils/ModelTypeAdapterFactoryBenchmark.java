@@ -0,0 +1,54 @@
+package com.mercadopago.utils;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.util.JsonUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class ModelTypeAdapterFactoryBenchmark {
+
+    private static final int ITERATIONS = 500;
+
+    private final Gson reflectiveGson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .serializeNulls().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ").create();
+    private final Gson gson = JsonUtil.getInstance().getGson();
+
+    @Test
+    public void compareReflectiveGsonAgainstTypeAdapters() {
+        String json = ResourcesUtil.getStringResource("complete_payment_method_search_MLA.json");
+        PaymentMethodSearch paymentMethodSearch = gson.fromJson(json, PaymentMethodSearch.class);
+        for (int i = 0; i < ITERATIONS; i++) {
+            reflectiveGson.toJson(reflectiveGson.fromJson(json, PaymentMethodSearch.class));
+            gson.toJson(gson.fromJson(json, PaymentMethodSearch.class));
+        }
+
+        long reflectiveDecodeTime = timeDecoding(reflectiveGson, json);
+        long adapterDecodeTime = timeDecoding(gson, json);
+        long reflectiveEncodeTime = timeEncoding(reflectiveGson, paymentMethodSearch);
+        long adapterEncodeTime = timeEncoding(gson, paymentMethodSearch);
+
+        System.out.println("Payment method search decode, reflective: " + reflectiveDecodeTime + "ns/op, adapters: " + adapterDecodeTime + "ns/op");
+        System.out.println("Payment method search encode, reflective: " + reflectiveEncodeTime + "ns/op, adapters: " + adapterEncodeTime + "ns/op");
+    }
+
+    private long timeDecoding(Gson gson, String json) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Assert.assertNotNull(gson.fromJson(json, PaymentMethodSearch.class));
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private long timeEncoding(Gson gson, PaymentMethodSearch paymentMethodSearch) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Assert.assertNotNull(gson.toJson(paymentMethodSearch));
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
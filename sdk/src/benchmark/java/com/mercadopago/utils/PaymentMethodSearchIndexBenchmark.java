@@ -0,0 +1,77 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.model.Card;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.model.PaymentMethodSearchItem;
+import com.mercadopago.util.JsonUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class PaymentMethodSearchIndexBenchmark {
+
+    private static final int ITERATIONS = 20;
+
+    @Test
+    public void compareLookupsAgainstLinearScans() {
+        String json = JsonUtil.getInstance().toJson(PaymentMethodSearchIndexTest.generateSearch());
+        PaymentMethodSearch scanned = PaymentMethodSearchIndexTest.fromJson(json);
+        PaymentMethodSearch indexed = PaymentMethodSearchIndexTest.fromJson(json);
+        List<PaymentMethodSearchItem> items = PaymentMethodSearchIndexTest.getLeaves(scanned.getGroups());
+        int found = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            found += lookUpWithLinearScans(scanned, items);
+        }
+        long scanTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            found -= lookUpWithIndexes(indexed, items);
+        }
+        long indexTime = System.nanoTime() - start;
+
+        Assert.assertEquals(0, found);
+        long lookups = (long) ITERATIONS * (items.size() * 3 + scanned.getCards().size());
+        System.out.println("Payment method search lookup, linear scans: " + scanTime / lookups + "ns/op, indexes: " + indexTime / lookups + "ns/op");
+    }
+
+    private static int lookUpWithLinearScans(PaymentMethodSearch search, List<PaymentMethodSearchItem> items) {
+        int found = 0;
+        for (PaymentMethodSearchItem item : items) {
+            PaymentMethod paymentMethod = PaymentMethodSearchIndexTest.getPaymentMethodBySearchItem(search, item);
+            if (paymentMethod != null && PaymentMethodSearchIndexTest.searchItemInList(search.getGroups(), paymentMethod) != null
+                    && PaymentMethodSearchIndexTest.getPaymentMethodById(search, paymentMethod.getId()) != null) {
+                found++;
+            }
+        }
+        for (Card card : search.getCards()) {
+            if (PaymentMethodSearchIndexTest.getCardById(search, card.getId()) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static int lookUpWithIndexes(PaymentMethodSearch search, List<PaymentMethodSearchItem> items) {
+        int found = 0;
+        for (PaymentMethodSearchItem item : items) {
+            PaymentMethod paymentMethod = search.getPaymentMethodBySearchItem(item);
+            if (paymentMethod != null && search.getSearchItemByPaymentMethod(paymentMethod) != null
+                    && search.getPaymentMethodById(paymentMethod.getId()) != null) {
+                found++;
+            }
+        }
+        for (Card card : search.getCards()) {
+            if (search.getCardById(card.getId()) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
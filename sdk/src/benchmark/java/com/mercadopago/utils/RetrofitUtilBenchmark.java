@@ -0,0 +1,49 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.controllers.CustomServicesHandler;
+import com.mercadopago.services.CheckoutService;
+import com.mercadopago.util.RetrofitUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import okhttp3.OkHttpClient;
+
+public class RetrofitUtilBenchmark {
+
+    private static final String BASE_URL = "https://api.mercadopago.com";
+    private static final int ITERATIONS = 2000;
+
+    private OkHttpClient client;
+
+    @Before
+    public void clearRegistry() {
+        RetrofitUtil.clear();
+        CustomServicesHandler.getInstance().clear();
+        client = new OkHttpClient();
+    }
+
+    @Test
+    public void compareBuildingRetrofitPerCallAgainstCachedService() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            RetrofitUtil.createRetrofit(client, BASE_URL).create(CheckoutService.class);
+            RetrofitUtil.getService(client, BASE_URL, 10, 20, 20, CheckoutService.class);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Assert.assertNotNull(RetrofitUtil.createRetrofit(client, BASE_URL).create(CheckoutService.class));
+        }
+        long perCallTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Assert.assertNotNull(RetrofitUtil.getService(client, BASE_URL, 10, 20, 20, CheckoutService.class));
+        }
+        long cachedTime = System.nanoTime() - start;
+
+        System.out.println("Retrofit per call: " + perCallTime / ITERATIONS + "ns/op, cached: " + cachedTime / ITERATIONS + "ns/op");
+    }
+}
@@ -17,12 +17,12 @@ import com.mercadopago.core.MercadoPagoServices;
 import com.mercadopago.decorations.DividerItemDecoration;
 import com.mercadopago.model.ApiException;
 import com.mercadopago.model.BankDeal;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.LayoutUtil;
+import com.mercadopago.util.TrackingPipeline;
 
 import java.lang.reflect.Type;
 import java.util.List;
@@ -175,7 +175,7 @@ public class BankDealsActivity extends MercadoPagoActivity {
     }
 
     protected void solveBankDeals(List<BankDeal> bankDeals) {
-        MPTracker.getInstance().trackScreen("BANK_DEALS", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, getActivity());
+        TrackingPipeline.getInstance().trackScreen("BANK_DEALS", "2", mMerchantPublicKey, getActivity());
         mRecyclerView.setAdapter(new BankDealsAdapter(getActivity(), bankDeals, getDpadSelectionCallback(), new View.OnClickListener() {
             @Override
             public void onClick(View view) {
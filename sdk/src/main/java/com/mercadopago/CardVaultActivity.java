@@ -23,7 +23,6 @@ import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.model.PaymentRecovery;
 import com.mercadopago.model.Site;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.preferences.PaymentPreference;
 import com.mercadopago.presenters.CardVaultPresenter;
@@ -31,7 +30,9 @@ import com.mercadopago.providers.CardVaultProviderImpl;
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.SessionStore;
 import com.mercadopago.util.LayoutUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.CardVaultView;
 
 import java.lang.reflect.Type;
@@ -164,16 +165,16 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
 
         mPublicKey = getIntent().getStringExtra("merchantPublicKey");
         mPrivateKey = getIntent().getStringExtra("payerAccessToken");
-        PaymentPreference paymentPreference = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("paymentPreference"), PaymentPreference.class);
-        mDecorationPreference = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("decorationPreference"), DecorationPreference.class);
+        PaymentPreference paymentPreference = SessionStore.getInstance().getExtra(getIntent(), "paymentPreference", PaymentPreference.class);
+        mDecorationPreference = SessionStore.getInstance().getExtra(getIntent(), "decorationPreference", DecorationPreference.class);
 
-        Site site = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("site"), Site.class);
-        Card card = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("card"), Card.class);
-        PaymentRecovery paymentRecovery = JsonUtil.getInstance().fromJson(this.getIntent().getStringExtra("paymentRecovery"), PaymentRecovery.class);
+        Site site = SessionStore.getInstance().getExtra(getIntent(), "site", Site.class);
+        Card card = SessionStore.getInstance().getExtra(getIntent(), "card", Card.class);
+        PaymentRecovery paymentRecovery = SessionStore.getInstance().getExtra(getIntent(), "paymentRecovery", PaymentRecovery.class);
         BigDecimal amountValue = null;
         String amount = getIntent().getStringExtra("amount");
         String payerEmail = getIntent().getStringExtra("payerEmail");
-        Discount discount = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("discount"), Discount.class);
+        Discount discount = SessionStore.getInstance().getExtra(getIntent(), "discount", Discount.class);
         Boolean discountEnabled = getIntent().getBooleanExtra("discountEnabled", true);
         Boolean automaticSelection = getIntent().getBooleanExtra("automaticSelection", false);
 
@@ -189,7 +190,7 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
         try {
             Type listType = new TypeToken<List<PaymentMethod>>() {
             }.getType();
-            paymentMethods = JsonUtil.getInstance().getGson().fromJson(this.getIntent().getStringExtra("paymentMethodList"), listType);
+            paymentMethods = SessionStore.getInstance().getExtra(getIntent(), "paymentMethodList", listType);
         } catch (Exception ex) {
             paymentMethods = null;
         }
@@ -220,7 +221,7 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
     }
 
     protected void initialize() {
-        MPTracker.getInstance().trackScreen("CARD_VAULT", "2", mPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("CARD_VAULT", "2", mPublicKey, this);
         mCardVaultPresenter.initialize();
     }
 
@@ -313,6 +314,14 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
         finish();
     }
 
+    @Override
+    protected void onDestroy() {
+        if (isFinishing()) {
+            SessionStore.getInstance().release(getIntent());
+        }
+        super.onDestroy();
+    }
+
     @Override
     public void onSaveInstanceState(Bundle outState) {
         super.onSaveInstanceState(outState);
@@ -388,8 +397,7 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
 
         } else if (resultCode == RESULT_CANCELED) {
             String sitedId = mCardVaultPresenter.getSite() == null ? "" : mCardVaultPresenter.getSite().getId();
-            MPTracker.getInstance().trackEvent("INSTALLMENTS", "CANCELED", "2", mPublicKey,
-                    sitedId, BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackEvent("INSTALLMENTS", "CANCELED", "2", mPublicKey, sitedId, this);
             mCardVaultPresenter.onResultCancel();
         }
     }
@@ -404,8 +412,7 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
 
         } else if (resultCode == RESULT_CANCELED) {
             String sitedId = mCardVaultPresenter.getSite() == null ? "" : mCardVaultPresenter.getSite().getId();
-            MPTracker.getInstance().trackEvent("INSTALLMENTS", "CANCELED", "2", mPublicKey,
-                    sitedId, BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackEvent("INSTALLMENTS", "CANCELED", "2", mPublicKey, sitedId, this);
             mCardVaultPresenter.onResultCancel();
         }
     }
@@ -442,11 +449,9 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
 
         } else if (resultCode == RESULT_CANCELED) {
             if (mCardVaultPresenter.getSite() == null) {
-                MPTracker.getInstance().trackEvent("GUESSING_CARD", "CANCELED", "2", mPublicKey,
-                        BuildConfig.VERSION_NAME, this);
+                TrackingPipeline.getInstance().trackEvent("GUESSING_CARD", "CANCELED", "2", mPublicKey, this);
             } else {
-                MPTracker.getInstance().trackEvent("GUESSING_CARD", "CANCELED", "2", mPublicKey,
-                        mCardVaultPresenter.getSite().getId(), BuildConfig.VERSION_NAME, this);
+                TrackingPipeline.getInstance().trackEvent("GUESSING_CARD", "CANCELED", "2", mPublicKey, mCardVaultPresenter.getSite().getId(), this);
             }
             mCardVaultPresenter.onResultCancel();
         }
@@ -460,11 +465,9 @@ public class CardVaultActivity extends AppCompatActivity implements CardVaultVie
 
         } else if (resultCode == RESULT_CANCELED) {
             if (mCardVaultPresenter.getSite() == null) {
-                MPTracker.getInstance().trackEvent("SECURITY_CODE_CARD", "CANCELED", "2", mPublicKey,
-                        BuildConfig.VERSION_NAME, this);
+                TrackingPipeline.getInstance().trackEvent("SECURITY_CODE_CARD", "CANCELED", "2", mPublicKey, this);
             } else {
-                MPTracker.getInstance().trackEvent("SECURITY_CODE_CARD", "CANCELED", "2", mPublicKey,
-                        mCardVaultPresenter.getSite().getId(), BuildConfig.VERSION_NAME, this);
+                TrackingPipeline.getInstance().trackEvent("SECURITY_CODE_CARD", "CANCELED", "2", mPublicKey, mCardVaultPresenter.getSite().getId(), this);
             }
             mCardVaultPresenter.onResultCancel();
         }
@@ -2,8 +2,10 @@ package com.mercadopago;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.util.Log;
 
 import com.mercadopago.constants.PaymentTypes;
+import com.mercadopago.controllers.CheckoutBootstrap;
 import com.mercadopago.controllers.CheckoutTimer;
 import com.mercadopago.core.MercadoPagoCheckout;
 import com.mercadopago.core.MercadoPagoComponents;
@@ -39,6 +41,8 @@ import java.math.BigDecimal;
 
 public class CheckoutActivity extends MercadoPagoBaseActivity implements CheckoutView {
 
+    private static final String TAG = "CheckoutActivity";
+
     private static final String MERCHANT_PUBLIC_KEY_BUNDLE = "mMerchantPublicKey";
     private static final String DECORATION_PREFERENCE_BUNDLE = "mDecorationPreference";
     private static final String SERVICE_PREFERENCE_BUNDLE = "mServicePreference";
@@ -76,6 +80,15 @@ public class CheckoutActivity extends MercadoPagoBaseActivity implements Checkou
         mCheckoutPresenter.attachView(this);
         mCheckoutPresenter.setIdempotencyKeySeed(mMerchantPublicKey);
         mCheckoutPresenter.setTimer(CheckoutTimer.getInstance());
+        mCheckoutPresenter.setBootstrapListener(new CheckoutBootstrap.FinishListener() {
+            @Override
+            public void onFinish(CheckoutBootstrap bootstrap) {
+                if (BuildConfig.DEBUG) {
+                    Log.d(TAG, "Checkout bootstrap finished in " + bootstrap.getElapsedTime() + "ms, critical stage: "
+                            + bootstrap.getCriticalStage() + ", stages: " + bootstrap.getStageTimings());
+                }
+            }
+        });
     }
 
     private void decorate() {
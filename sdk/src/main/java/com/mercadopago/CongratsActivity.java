@@ -28,7 +28,6 @@ import com.mercadopago.model.PaymentResult;
 import com.mercadopago.model.ReviewSubscriber;
 import com.mercadopago.model.Reviewable;
 import com.mercadopago.model.Site;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.PaymentResultScreenPreference;
 import com.mercadopago.uicontrollers.discounts.DiscountRowView;
 import com.mercadopago.util.ColorsUtil;
@@ -37,6 +36,7 @@ import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.InstallmentsUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.MercadoPagoUtil;
+import com.mercadopago.util.TrackingPipeline;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -140,7 +140,7 @@ public class CongratsActivity extends MercadoPagoBaseActivity implements ReviewS
     }
 
     protected void setContentView() {
-        MPTracker.getInstance().trackScreen("RESULT", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("RESULT", "2", mMerchantPublicKey, this);
         setContentView(R.layout.mpsdk_activity_congrats);
     }
 
@@ -640,7 +640,7 @@ public class CongratsActivity extends MercadoPagoBaseActivity implements ReviewS
 
     @Override
     public void onBackPressed() {
-        MPTracker.getInstance().trackEvent("CONGRATS", "BACK_PRESSED", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("CONGRATS", "BACK_PRESSED", "2", mMerchantPublicKey, this);
 
         if (mBackPressedOnce) {
             finishWithOkResult();
@@ -30,7 +30,6 @@ import com.mercadopago.customviews.MPTextView;
 import com.mercadopago.model.Currency;
 
 import com.mercadopago.model.Discount;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.DecorationPreference;
 
@@ -41,6 +40,7 @@ import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.TextUtils;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.DiscountsActivityView;
 
 import java.math.BigDecimal;
@@ -286,7 +286,7 @@ public class DiscountsActivity extends AppCompatActivity implements DiscountsAct
 
     @Override
     public void drawSummary() {
-        MPTracker.getInstance().trackScreen("DISCOUNT_SUMMARY", "2", mPresenter.getPublicKey(), BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("DISCOUNT_SUMMARY", "2", mPresenter.getPublicKey(), this);
 
         mDiscountCodeContainer.setVisibility(View.GONE);
         mReviewDiscountSummaryContainer.setVisibility(View.VISIBLE);
@@ -318,7 +318,7 @@ public class DiscountsActivity extends AppCompatActivity implements DiscountsAct
 
     private void showTotalRow() {
         if (isAmountValid(mPresenter.getTransactionAmount()) && isDiscountCurrencyIdValid()) {
-            mReviewSummaryTotalAmount.setText(getFormattedAmount(mPresenter.getDiscount().getAmountWithDiscount(mPresenter.getTransactionAmount()), mPresenter.getDiscount().getCurrencyId()));
+            mReviewSummaryTotalAmount.setText(getFormattedAmount(mPresenter.getTotalAmount(), mPresenter.getDiscount().getCurrencyId()));
         } else {
             finishWithCancelResult();
         }
@@ -372,7 +372,7 @@ public class DiscountsActivity extends AppCompatActivity implements DiscountsAct
 
     @Override
     public void requestDiscountCode() {
-        MPTracker.getInstance().trackScreen("DISCOUNT_INPUT_CODE", "2", mPresenter.getPublicKey(), BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("DISCOUNT_INPUT_CODE", "2", mPresenter.getPublicKey(), this);
 
         mReviewDiscountSummaryContainer.setVisibility(View.GONE);
         mDiscountCodeContainer.setVisibility(View.VISIBLE);
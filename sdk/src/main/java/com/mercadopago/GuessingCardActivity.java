@@ -33,6 +33,7 @@ import com.mercadopago.callbacks.card.CardNumberEditTextCallback;
 import com.mercadopago.callbacks.card.CardSecurityCodeEditTextCallback;
 import com.mercadopago.callbacks.card.CardholderNameEditTextCallback;
 import com.mercadopago.constants.PaymentTypes;
+import com.mercadopago.controllers.CardNumberEditor;
 import com.mercadopago.controllers.CheckoutTimer;
 import com.mercadopago.controllers.CustomServicesHandler;
 import com.mercadopago.controllers.PaymentMethodGuessingController;
@@ -59,7 +60,6 @@ import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.model.PaymentRecovery;
 import com.mercadopago.model.PaymentType;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.preferences.PaymentPreference;
@@ -71,12 +71,15 @@ import com.mercadopago.uicontrollers.discounts.DiscountRowView;
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.ColorsUtil;
 import com.mercadopago.util.ErrorUtil;
+import com.mercadopago.util.FingerprintCache;
 import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.SessionStore;
 import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.MPAnimationUtils;
 import com.mercadopago.util.MPCardMaskUtil;
 import com.mercadopago.util.MercadoPagoUtil;
 import com.mercadopago.util.ScaleUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.GuessingCardActivityView;
 
 import java.lang.reflect.Type;
@@ -175,6 +178,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
 
     //Input Controls
     private String mCurrentEditingEditText;
+    private CardNumberEditor mCardNumberEditor;
     private String mCardSideState;
 
     protected String mDefaultBaseURL;
@@ -185,11 +189,14 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
     @Override
     public void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        SessionStore.getInstance().restoreSnapshot(savedInstanceState);
         if (mPresenter == null) {
             mPresenter = new GuessingCardPresenter(getBaseContext());
         }
         mPresenter.setView(this);
         mActivity = this;
+        mCardNumberEditor = new CardNumberEditor();
+        FingerprintCache.getInstance().prefetch(getApplicationContext());
         getActivityParameters();
         if (isCustomColorSet()) {
             setTheme(R.style.Theme_MercadoPagoTheme_NoActionBar);
@@ -222,15 +229,15 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
 
         String publicKey = getIntent().getStringExtra("merchantPublicKey");
         String privateKey = getIntent().getStringExtra("payerAccessToken");
-        PaymentPreference paymentPreference = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("paymentPreference"), PaymentPreference.class);
-        mDecorationPreference = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("decorationPreference"), DecorationPreference.class);
+        PaymentPreference paymentPreference = SessionStore.getInstance().getExtra(getIntent(), "paymentPreference", PaymentPreference.class);
+        mDecorationPreference = SessionStore.getInstance().getExtra(getIntent(), "decorationPreference", DecorationPreference.class);
 
-        PaymentRecovery paymentRecovery = JsonUtil.getInstance().fromJson(this.getIntent().getStringExtra("paymentRecovery"), PaymentRecovery.class);
+        PaymentRecovery paymentRecovery = SessionStore.getInstance().getExtra(getIntent(), "paymentRecovery", PaymentRecovery.class);
 
         BigDecimal transactionAmount = JsonUtil.getInstance().fromJson(this.getIntent().getStringExtra("amount"), BigDecimal.class);
         Boolean discountEnabled = this.getIntent().getBooleanExtra("discountEnabled", true);
         Boolean directDiscountEnabled = this.getIntent().getBooleanExtra("directDiscountEnabled", true);
-        Discount discount = JsonUtil.getInstance().fromJson(this.getIntent().getStringExtra("discount"), Discount.class);
+        Discount discount = SessionStore.getInstance().getExtra(getIntent(), "discount", Discount.class);
         String payerEmail = this.getIntent().getStringExtra("payerEmail");
 
         Token token = null;
@@ -240,7 +247,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
         try {
             Type listType = new TypeToken<List<PaymentMethod>>() {
             }.getType();
-            paymentMethodList = JsonUtil.getInstance().getGson().fromJson(this.getIntent().getStringExtra("paymentMethodList"), listType);
+            paymentMethodList = SessionStore.getInstance().getExtra(getIntent(), "paymentMethodList", listType);
         } catch (Exception ex) {
             paymentMethodList = null;
         }
@@ -271,6 +278,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
     @Override
     public void onSaveInstanceState(Bundle outState) {
         super.onSaveInstanceState(outState);
+        SessionStore.getInstance().saveSnapshot(getIntent(), outState);
 
         if (mPresenter.getPaymentMethod() != null) {
             outState.putString(CARD_SIDE_STATE_BUNDLE, mCardSideState);
@@ -580,8 +588,9 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
         mBackInactiveButtonText.setTextColor(ContextCompat.getColor(this, R.color.mpsdk_warm_grey));
     }
 
+    //The text watcher keeps the editor updated with the text.
     private String getCardNumberTextTrimmed() {
-        return mCardNumberEditText.getText().toString().replaceAll("\\s", "");
+        return mCardNumberEditor.getNumber();
     }
 
     @Override
@@ -651,6 +660,14 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
                 return true;
             }
         });
+        mCardNumberEditor.setOnCardNumberChangedListener(new CardNumberEditor.OnCardNumberChangedListener() {
+            @Override
+            public void onCardNumberChanged(CardNumberEditor editor, int start, int count) {
+                if (cardViewsActive()) {
+                    mCardView.drawEditingCardNumber(editor);
+                }
+            }
+        });
         mCardNumberEditText.addTextChangedListener(new CardNumberTextWatcher(
                 controller,
                 new PaymentMethodSelectionCallback() {
@@ -686,6 +703,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
                             return;
                         }
                         mPresenter.clearSpaceErasableSettings();
+                        mCardNumberEditor.setCardNumberLength(MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH);
                         clearCardNumberEditTextMask();
                         mPresenter.setPaymentMethod(null);
                         mSecurityCodeEditText.getText().clear();
@@ -707,10 +725,8 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
 
                     @Override
                     public void saveCardNumber(CharSequence string) {
+                        //The card view draws the number when the editor notifies it changed.
                         mPresenter.saveCardNumber(string.toString());
-                        if (cardViewsActive()) {
-                            mCardView.drawEditingCardNumber(string.toString());
-                        }
                         mPresenter.setCurrentNumberLength(string.length());
                     }
 
@@ -738,7 +754,9 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
                     public void toggleLineColorOnError(boolean toggle) {
                         mCardNumberEditText.toggleLineColorOnError(toggle);
                     }
-                }));
+                },
+                mCardNumberEditor,
+                mPresenter.getBinPipeline()));
     }
 
     private void clearCardNumberEditTextMask() {
@@ -771,7 +789,10 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
                 mCardView.setCardNumberLength(mPresenter.getCardNumberLength());
                 mCardView.setSecurityCodeLength(mPresenter.getSecurityCodeLength());
                 mCardView.setSecurityCodeLocation(mPresenter.getSecurityCodeLocation());
-                mCardView.updateCardNumberMask(getCardNumberTextTrimmed());
+            }
+            //The card view draws the number again if its mask changes.
+            mCardNumberEditor.setCardNumberLength(mPresenter.getCardNumberLength());
+            if (cardViewsActive()) {
                 mCardView.transitionPaymentMethodSet();
             }
         }
@@ -1131,8 +1152,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
     }
 
     private void requestCardNumberFocus() {
-        MPTracker.getInstance().trackScreen("CARD_NUMBER", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("CARD_NUMBER", "2", mPresenter.getPublicKey(), this);
         disableBackInputButton();
         mCurrentEditingEditText = CARD_NUMBER_INPUT;
         openKeyboard(mCardNumberEditText);
@@ -1147,8 +1167,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
         if (!mPresenter.validateCardNumber()) {
             return;
         }
-        MPTracker.getInstance().trackScreen("CARD_HOLDER_NAME", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("CARD_HOLDER_NAME", "2", mPresenter.getPublicKey(), this);
         enableBackInputButton();
         mCurrentEditingEditText = CARDHOLDER_NAME_INPUT;
         openKeyboard(mCardHolderNameEditText);
@@ -1161,8 +1180,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
         if (!mPresenter.validateCardName()) {
             return;
         }
-        MPTracker.getInstance().trackScreen("CARD_EXPIRY_DATE", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("CARD_EXPIRY_DATE", "2", mPresenter.getPublicKey(), this);
         enableBackInputButton();
         mCurrentEditingEditText = CARD_EXPIRYDATE_INPUT;
         openKeyboard(mCardExpiryDateEditText);
@@ -1182,8 +1200,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
         if (mCurrentEditingEditText.equals(CARD_EXPIRYDATE_INPUT) ||
                 mCurrentEditingEditText.equals(CARD_IDENTIFICATION_INPUT) ||
                 mCurrentEditingEditText.equals(CARD_SECURITYCODE_INPUT)) {
-            MPTracker.getInstance().trackScreen("CARD_SECURITY_CODE", "2", mPresenter.getPublicKey(),
-                    BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackScreen("CARD_SECURITY_CODE", "2", mPresenter.getPublicKey(), this);
             enableBackInputButton();
             mCurrentEditingEditText = CARD_SECURITYCODE_INPUT;
             openKeyboard(mSecurityCodeEditText);
@@ -1201,8 +1218,7 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
                 (!mPresenter.isSecurityCodeRequired() && !mPresenter.validateExpiryDate())) {
             return;
         }
-        MPTracker.getInstance().trackScreen("IDENTIFICATION_NUMBER", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("IDENTIFICATION_NUMBER", "2", mPresenter.getPublicKey(), this);
         enableBackInputButton();
         mCurrentEditingEditText = CARD_IDENTIFICATION_INPUT;
         openKeyboard(mIdentificationNumberEditText);
@@ -1577,11 +1593,19 @@ public class GuessingCardActivity extends MercadoPagoBaseActivity implements Gue
     }
 
 
+    @Override
+    protected void onDestroy() {
+        if (isFinishing()) {
+            mPresenter.cancelTasks();
+            SessionStore.getInstance().release(getIntent());
+        }
+        super.onDestroy();
+    }
+
     @Override
     public void onBackPressed() {
         checkFlipCardToFront();
-        MPTracker.getInstance().trackEvent("GUESSING_CARD", "BACK_PRESSED", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("GUESSING_CARD", "BACK_PRESSED", "2", mPresenter.getPublicKey(), this);
         Intent returnIntent = new Intent();
         returnIntent.putExtra("discount", JsonUtil.getInstance().toJson(mPresenter.getDiscount()));
         returnIntent.putExtra("discountEnabled", JsonUtil.getInstance().toJson(mPresenter.getDiscountEnabled()));
@@ -31,7 +31,6 @@ import com.mercadopago.model.Issuer;
 import com.mercadopago.model.PayerCost;
 import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.model.Site;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.preferences.PaymentPreference;
@@ -50,6 +49,7 @@ import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.InstallmentsUtil;
 import com.mercadopago.util.ScaleUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.InstallmentsActivityView;
 
 import java.lang.reflect.Type;
@@ -189,7 +189,7 @@ public class InstallmentsActivity extends MercadoPagoBaseActivity implements Ins
 
     public void setContentView() {
         String siteId = mPresenter.getSite() == null ? "" : mPresenter.getSite().getId();
-        MPTracker.getInstance().trackScreen("CARD_INSTALLMENTS", "2", mPublicKey, siteId, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("CARD_INSTALLMENTS", "2", mPublicKey, siteId, this);
 
         if (mLowResActive) {
             setContentViewLowRes();
@@ -382,9 +382,14 @@ public class InstallmentsActivity extends MercadoPagoBaseActivity implements Ins
         }
     }
 
+    //The adapter is kept, so showing the installments again only notifies the rows that changed.
     private void initializeAdapter(OnSelectedCallback<Integer> onSelectedCallback) {
-        mPayerCostsAdapter = new PayerCostsAdapter(this, mPresenter.getSite(), onSelectedCallback);
-        initializeAdapterListener(mPayerCostsAdapter, mInstallmentsRecyclerView);
+        if (mPayerCostsAdapter == null) {
+            mPayerCostsAdapter = new PayerCostsAdapter(this, mPresenter.getSite(), onSelectedCallback);
+        }
+        if (mInstallmentsRecyclerView.getAdapter() != mPayerCostsAdapter) {
+            initializeAdapterListener(mPayerCostsAdapter, mInstallmentsRecyclerView);
+        }
     }
 
     private void initializeAdapterListener(RecyclerView.Adapter adapter, RecyclerView view) {
@@ -394,7 +399,9 @@ public class InstallmentsActivity extends MercadoPagoBaseActivity implements Ins
                 new RecyclerItemClickListener.OnItemClickListener() {
                     @Override
                     public void onItemClick(View view, int position) {
-                        mPresenter.onItemSelected(position);
+                        if (!mPayerCostsAdapter.isUpdating()) {
+                            mPresenter.onItemSelected(position);
+                        }
                     }
                 }));
     }
@@ -472,7 +479,7 @@ public class InstallmentsActivity extends MercadoPagoBaseActivity implements Ins
             mPresenter.initializeDiscountRow();
         } else {
             String siteId = mPresenter.getSite() == null ? "" : mPresenter.getSite().getId();
-            MPTracker.getInstance().trackEvent("CARD_INSTALLMENTS", "BACK_PRESSED", "2", mPublicKey, siteId, BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackEvent("CARD_INSTALLMENTS", "BACK_PRESSED", "2", mPublicKey, siteId, this);
             Intent returnIntent = new Intent();
             returnIntent.putExtra("backButtonPressed", true);
             returnIntent.putExtra("discount", JsonUtil.getInstance().toJson(mPresenter.getDiscount()));
@@ -29,7 +29,6 @@ import com.mercadopago.model.Instructions;
 import com.mercadopago.model.PaymentData;
 import com.mercadopago.model.PaymentResult;
 import com.mercadopago.model.Site;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.PaymentResultScreenPreference;
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.CurrenciesUtil;
@@ -39,6 +38,7 @@ import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.MercadoPagoUtil;
 import com.mercadopago.util.ScaleUtil;
 import com.mercadopago.util.TextUtil;
+import com.mercadopago.util.TrackingPipeline;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -244,7 +244,7 @@ public class InstructionsActivity extends MercadoPagoBaseActivity {
     }
 
     protected void showInstructions(Instruction instruction) {
-        MPTracker.getInstance().trackScreen("INSTRUCTIONS", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("INSTRUCTIONS", "2", mMerchantPublicKey, this);
 
         setTitle(instruction.getTitle());
         setReferencesInformation(instruction);
@@ -388,7 +388,7 @@ public class InstructionsActivity extends MercadoPagoBaseActivity {
 
     @Override
     public void onBackPressed() {
-        MPTracker.getInstance().trackScreen("INSTRUCTIONS", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("INSTRUCTIONS", "2", mMerchantPublicKey, this);
 
         if (mBackPressedOnce) {
             super.onBackPressed();
@@ -25,7 +25,6 @@ import com.mercadopago.model.ApiException;
 import com.mercadopago.model.CardInfo;
 import com.mercadopago.model.Issuer;
 import com.mercadopago.model.PaymentMethod;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.preferences.PaymentPreference;
@@ -39,6 +38,7 @@ import com.mercadopago.util.ColorsUtil;
 import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.ScaleUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.IssuersActivityView;
 
 import java.lang.reflect.Type;
@@ -138,7 +138,7 @@ public class IssuersActivity extends MercadoPagoBaseActivity implements IssuersA
     }
 
     public void setContentView() {
-        MPTracker.getInstance().trackScreen("CARD_ISSUERS", "2", mPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("CARD_ISSUERS", "2", mPublicKey, this);
 
         if (mLowResActive) {
             setContentViewLowRes();
@@ -304,9 +304,14 @@ public class IssuersActivity extends MercadoPagoBaseActivity implements IssuersA
         }
     }
 
+    //The adapter is kept, so showing the issuers again only notifies the rows that changed.
     private void initializeAdapter(OnSelectedCallback<Integer> onSelectedCallback) {
-        mIssuersAdapter = new IssuersAdapter(this, onSelectedCallback);
-        initializeAdapterListener(mIssuersAdapter, mIssuersRecyclerView);
+        if (mIssuersAdapter == null) {
+            mIssuersAdapter = new IssuersAdapter(this, onSelectedCallback);
+        }
+        if (mIssuersRecyclerView.getAdapter() != mIssuersAdapter) {
+            initializeAdapterListener(mIssuersAdapter, mIssuersRecyclerView);
+        }
     }
 
     private void initializeAdapterListener(RecyclerView.Adapter adapter, RecyclerView view) {
@@ -316,7 +321,9 @@ public class IssuersActivity extends MercadoPagoBaseActivity implements IssuersA
                 new RecyclerItemClickListener.OnItemClickListener() {
                     @Override
                     public void onItemClick(View view, int position) {
-                        mPresenter.onItemSelected(position);
+                        if (!mIssuersAdapter.isUpdating()) {
+                            mPresenter.onItemSelected(position);
+                        }
                     }
                 }));
     }
@@ -400,7 +407,7 @@ public class IssuersActivity extends MercadoPagoBaseActivity implements IssuersA
 
     @Override
     public void onBackPressed() {
-        MPTracker.getInstance().trackEvent("CARD_ISSUERS", "BACK_PRESSED", "2", mPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("CARD_ISSUERS", "BACK_PRESSED", "2", mPublicKey, this);
         Intent returnIntent = new Intent();
         returnIntent.putExtra("backButtonPressed", true);
         setResult(RESULT_CANCELED, returnIntent);
@@ -24,11 +24,11 @@ import com.mercadopago.model.ApiException;
 import com.mercadopago.model.CardToken;
 import com.mercadopago.model.IdentificationType;
 import com.mercadopago.model.PaymentMethod;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.MercadoPagoUtil;
+import com.mercadopago.util.TrackingPipeline;
 
 import java.util.List;
 
@@ -98,7 +98,7 @@ public class NewCardActivity extends AppCompatActivity {
             }
         });
 
-        MPTracker.getInstance().trackScreen("NEW_CARD", "2", mKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("NEW_CARD", "2", mKey, this);
 
         // Set security code visibility
         setSecurityCodeLayout();
@@ -156,7 +156,7 @@ public class NewCardActivity extends AppCompatActivity {
 
     @Override
     public void onBackPressed() {
-        MPTracker.getInstance().trackEvent("NEW_CARD", "BACK_PRESSED", "2", mKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("NEW_CARD", "BACK_PRESSED", "2", mKey, this);
 
         Intent returnIntent = new Intent();
         returnIntent.putExtra("backButtonPressed", true);
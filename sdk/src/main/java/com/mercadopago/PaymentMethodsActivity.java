@@ -21,7 +21,6 @@ import com.mercadopago.core.MercadoPagoComponents;
 import com.mercadopago.decorations.DividerItemDecoration;
 import com.mercadopago.exceptions.MercadoPagoError;
 import com.mercadopago.model.PaymentMethod;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.preferences.PaymentPreference;
 import com.mercadopago.presenters.PaymentMethodsPresenter;
@@ -30,6 +29,7 @@ import com.mercadopago.providers.PaymentMethodsProviderImpl;
 import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.LayoutUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.PaymentMethodsView;
 
 import java.lang.reflect.Type;
@@ -86,7 +86,7 @@ public class PaymentMethodsActivity extends MercadoPagoBaseActivity implements P
     }
 
     protected void setContentView() {
-        MPTracker.getInstance().trackScreen("PAYMENT_METHODS", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("PAYMENT_METHODS", "2", mMerchantPublicKey, this);
         setContentView(R.layout.mpsdk_activity_payment_methods);
     }
 
@@ -142,7 +142,7 @@ public class PaymentMethodsActivity extends MercadoPagoBaseActivity implements P
     }
 
     public void onBackPressed() {
-        MPTracker.getInstance().trackEvent("PAYMENT_METHODS", "BACK_PRESSED", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("PAYMENT_METHODS", "BACK_PRESSED", "2", mMerchantPublicKey, this);
 
         Intent returnIntent = new Intent();
         returnIntent.putExtra("backButtonPressed", true);
@@ -23,7 +23,6 @@ import com.mercadopago.model.ApiException;
 import com.mercadopago.model.CardInfo;
 import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.model.PaymentType;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.presenters.PaymentTypesPresenter;
@@ -35,6 +34,7 @@ import com.mercadopago.util.ColorsUtil;
 import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.ScaleUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.PaymentTypesActivityView;
 
 import java.lang.reflect.Type;
@@ -126,8 +126,7 @@ public class PaymentTypesActivity extends MercadoPagoBaseActivity implements Pay
     }
 
     public void setContentView() {
-        MPTracker.getInstance().trackScreen("CARD_PAYMENT_TYPES", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("CARD_PAYMENT_TYPES", "2", mPresenter.getPublicKey(), this);
         if (mLowResActive) {
             setContentViewLowRes();
         } else {
@@ -195,9 +194,14 @@ public class PaymentTypesActivity extends MercadoPagoBaseActivity implements Pay
         }
     }
 
+    //The adapter is kept, so loading the payment types again only notifies the rows that changed.
     private void initializeAdapter() {
-        mPaymentTypesAdapter = new PaymentTypesAdapter(this, getDpadSelectionCallback());
-        initializeAdapterListener(mPaymentTypesAdapter, mPaymentTypesRecyclerView);
+        if (mPaymentTypesAdapter == null) {
+            mPaymentTypesAdapter = new PaymentTypesAdapter(this, getDpadSelectionCallback());
+        }
+        if (mPaymentTypesRecyclerView.getAdapter() != mPaymentTypesAdapter) {
+            initializeAdapterListener(mPaymentTypesAdapter, mPaymentTypesRecyclerView);
+        }
     }
 
     protected OnSelectedCallback<Integer> getDpadSelectionCallback() {
@@ -216,7 +220,9 @@ public class PaymentTypesActivity extends MercadoPagoBaseActivity implements Pay
                 new RecyclerItemClickListener.OnItemClickListener() {
                     @Override
                     public void onItemClick(View view, int position) {
-                        mPresenter.onItemSelected(position);
+                        if (!mPaymentTypesAdapter.isUpdating()) {
+                            mPresenter.onItemSelected(position);
+                        }
                     }
                 }));
     }
@@ -339,8 +345,7 @@ public class PaymentTypesActivity extends MercadoPagoBaseActivity implements Pay
 
     @Override
     public void onBackPressed() {
-        MPTracker.getInstance().trackEvent("CARD_PAYMENT_TYPES", "BACK_PRESSED", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("CARD_PAYMENT_TYPES", "BACK_PRESSED", "2", mPresenter.getPublicKey(), this);
         Intent returnIntent = new Intent();
         returnIntent.putExtra("backButtonPressed", true);
         setResult(RESULT_CANCELED, returnIntent);
@@ -37,7 +37,6 @@ import com.mercadopago.model.PaymentMethodSearch;
 import com.mercadopago.model.PaymentMethodSearchItem;
 import com.mercadopago.model.Site;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.preferences.FlowPreference;
@@ -53,7 +52,9 @@ import com.mercadopago.uicontrollers.paymentmethodsearch.PaymentMethodSearchView
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.SessionStore;
 import com.mercadopago.util.ScaleUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.PaymentVaultView;
 
 import java.lang.reflect.Type;
@@ -113,6 +114,7 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        SessionStore.getInstance().restoreSnapshot(savedInstanceState);
         createPresenter();
         getActivityParameters();
 
@@ -158,14 +160,14 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
     }
 
     protected void getActivityParameters() {
-        mDecorationPreference = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("decorationPreference"), DecorationPreference.class);
+        mDecorationPreference = SessionStore.getInstance().getExtra(getIntent(), "decorationPreference", DecorationPreference.class);
         mServicePreference = JsonUtil.getInstance().fromJson(getIntent().getStringExtra("servicePreference"), ServicePreference.class);
         mPublicKey = getIntent().getStringExtra("merchantPublicKey");
         mPrivateKey = this.getIntent().getStringExtra("payerAccessToken");
 
         mPaymentVaultPresenter.setPayerAccessToken(mPrivateKey);
         mPaymentVaultPresenter.setPayerEmail(this.getIntent().getStringExtra("payerEmail"));
-        mPaymentVaultPresenter.setDiscount(JsonUtil.getInstance().fromJson(getIntent().getStringExtra("discount"), Discount.class));
+        mPaymentVaultPresenter.setDiscount(SessionStore.getInstance().<Discount>getExtra(getIntent(), "discount", Discount.class));
         mPaymentVaultPresenter.setDiscountEnabled(this.getIntent().getBooleanExtra("discountEnabled", true));
         mPaymentVaultPresenter.setDirectDiscountEnabled(this.getIntent().getBooleanExtra("directDiscountEnabled", true));
         mPaymentVaultPresenter.setInstallmentsReviewEnabled(this.getIntent().getBooleanExtra("installmentsReviewEnabled", true));
@@ -174,11 +176,11 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
         mShowBankDeals = getIntent().getBooleanExtra("showBankDeals", true);
 
         if (getIntent().getStringExtra("paymentPreference") != null) {
-            mPaymentVaultPresenter.setPaymentPreference(JsonUtil.getInstance().fromJson(getIntent().getStringExtra("paymentPreference"), PaymentPreference.class));
+            mPaymentVaultPresenter.setPaymentPreference(SessionStore.getInstance().<PaymentPreference>getExtra(getIntent(), "paymentPreference", PaymentPreference.class));
         }
 
         if (this.getIntent().getStringExtra("selectedSearchItem") != null) {
-            mPaymentVaultPresenter.setSelectedSearchItem(JsonUtil.getInstance().fromJson(this.getIntent().getStringExtra("selectedSearchItem"), PaymentMethodSearchItem.class));
+            mPaymentVaultPresenter.setSelectedSearchItem(SessionStore.getInstance().<PaymentMethodSearchItem>getExtra(getIntent(), "selectedSearchItem", PaymentMethodSearchItem.class));
         }
 
         try {
@@ -187,17 +189,18 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
             mPaymentVaultPresenter.setAmount(null);
         }
 
-        mPaymentVaultPresenter.setSite(JsonUtil.getInstance().fromJson(this.getIntent().getStringExtra("site"), Site.class));
+        mPaymentVaultPresenter.setSite(SessionStore.getInstance().<Site>getExtra(getIntent(), "site", Site.class));
 
         if (this.getIntent().getStringExtra("paymentMethodSearch") != null) {
-            PaymentMethodSearch paymentMethodSearch = JsonUtil.getInstance().fromJson(this.getIntent().getStringExtra("paymentMethodSearch"), PaymentMethodSearch.class);
+            PaymentMethodSearch paymentMethodSearch = SessionStore.getInstance().getExtra(getIntent(), "paymentMethodSearch", PaymentMethodSearch.class);
             try {
-                Gson gson = new Gson();
                 Type listType = new TypeToken<List<Card>>() {
                 }.getType();
-                List<Card> cards = (gson.fromJson(this.getIntent().getStringExtra("cards"), listType));
+                //Cards passed as json are written with a plain Gson.
+                List<Card> cards = SessionStore.getInstance().getExtra(getIntent(), "cards", listType, new Gson());
 
-                paymentMethodSearch.setCards(cards, getString(R.string.mpsdk_last_digits_label));
+                //The search is shared with the activity that started this one, so it's not changed.
+                paymentMethodSearch = paymentMethodSearch.copyWithCards(cards, getString(R.string.mpsdk_last_digits_label));
             } catch (Exception ex) {
                 //Do nothing...
             }
@@ -221,7 +224,7 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
     }
 
     protected void initialize(boolean selectAutomatically) {
-        MPTracker.getInstance().trackScreen("PAYMENT_METHOD_SEARCH", "2", mPublicKey, mPaymentVaultPresenter.getSite().getId(), BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("PAYMENT_METHOD_SEARCH", "2", mPublicKey, mPaymentVaultPresenter.getSite().getId(), this);
         showTimer();
         mPaymentVaultPresenter.initialize(selectAutomatically);
     }
@@ -296,6 +299,7 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
         mSearchItemsRecyclerView = (RecyclerView) findViewById(R.id.mpsdkGroupsList);
         mSearchItemsRecyclerView.setLayoutManager(new GridLayoutManager(this, columns));
         mSearchItemsRecyclerView.addItemDecoration(new GridSpacingItemDecoration(columns, ScaleUtil.getPxFromDp(COLUMN_SPACING_DP_VALUE, this), true));
+        mSearchItemsRecyclerView.setRecycledViewPool(PaymentMethodSearchItemAdapter.createRecycledViewPool());
         PaymentMethodSearchItemAdapter groupsAdapter = new PaymentMethodSearchItemAdapter();
         mSearchItemsRecyclerView.setAdapter(groupsAdapter);
     }
@@ -369,10 +373,10 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
     @Override
     public void showSelectedItem(PaymentMethodSearchItem item) {
         Intent intent = new Intent(this, PaymentVaultActivity.class);
-        intent.putExtras(this.getIntent());
-        intent.putExtra("selectedSearchItem", JsonUtil.getInstance().toJson(item));
-        intent.putExtra("discount", JsonUtil.getInstance().toJson(mPaymentVaultPresenter.getDiscount()));
-        intent.putExtra("paymentMethodSearch", JsonUtil.getInstance().toJson(mPaymentVaultPresenter.getPaymentMethodSearch()));
+        SessionStore.getInstance().putExtras(intent, getIntent());
+        SessionStore.getInstance().putExtra(intent, "selectedSearchItem", item);
+        SessionStore.getInstance().putExtra(intent, "discount", mPaymentVaultPresenter.getDiscount());
+        SessionStore.getInstance().putExtra(intent, "paymentMethodSearch", mPaymentVaultPresenter.getPaymentMethodSearch());
         intent.putExtra("discountEnabled", mPaymentVaultPresenter.getDiscountEnabled());
         intent.putExtra("directDiscountEnabled", mPaymentVaultPresenter.getDirectDiscountEnabled());
 
@@ -416,7 +420,7 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
             setResult(RESULT_OK, data);
             finish();
         } else if (resultCode == RESULT_CANCELED && data != null && data.hasExtra("mercadoPagoError")) {
-            MPTracker.getInstance().trackEvent(PAYMENT_VAULT_SCREEN_NAME, "CANCELED", "2", mPublicKey, mPaymentVaultPresenter.getSite().getId(), BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackEvent(PAYMENT_VAULT_SCREEN_NAME, "CANCELED", "2", mPublicKey, mPaymentVaultPresenter.getSite().getId(), this);
             setResult(Activity.RESULT_CANCELED, data);
             this.finish();
         } else {
@@ -449,7 +453,7 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
             finishWithCardResult();
         } else {
             String siteId = mPaymentVaultPresenter.getSite() == null ? "" : mPaymentVaultPresenter.getSite().getId();
-            MPTracker.getInstance().trackEvent(PAYMENT_VAULT_SCREEN_NAME, "CANCELED", "2", mPublicKey, siteId, BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackEvent(PAYMENT_VAULT_SCREEN_NAME, "CANCELED", "2", mPublicKey, siteId, this);
             if (shouldFinishOnBack(data)) {
                 setResult(Activity.RESULT_CANCELED, data);
                 this.finish();
@@ -608,7 +612,7 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
     @Override
     public void onBackPressed() {
         String siteId = mPaymentVaultPresenter.getSite() == null ? "" : mPaymentVaultPresenter.getSite().getId();
-        MPTracker.getInstance().trackEvent(PAYMENT_VAULT_SCREEN_NAME, "BACK_PRESSED", "2", mPublicKey, siteId, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent(PAYMENT_VAULT_SCREEN_NAME, "BACK_PRESSED", "2", mPublicKey, siteId, this);
         Intent returnIntent = new Intent();
         returnIntent.putExtra("discount", JsonUtil.getInstance().toJson(mPaymentVaultPresenter.getDiscount()));
         setResult(RESULT_CANCELED, returnIntent);
@@ -623,6 +627,7 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
     @Override
     public void onSaveInstanceState(Bundle outState) {
         super.onSaveInstanceState(outState);
+        SessionStore.getInstance().saveSnapshot(getIntent(), outState);
         outState.putString(PUBLIC_KEY_BUNDLE, mPublicKey);
         outState.putString(MERCHANT_GET_CUSTOMER_URI_BUNDLE, mMerchantGetCustomerUri);
         outState.putString(MERCHANT_BASE_URL_BUNDLE, mMerchantBaseUrl);
@@ -659,6 +664,9 @@ public class PaymentVaultActivity extends MercadoPagoBaseActivity implements Pay
     protected void onDestroy() {
         mActivityActive = false;
         mPaymentVaultPresenter.detachView();
+        if (isFinishing()) {
+            SessionStore.getInstance().release(getIntent());
+        }
         super.onDestroy();
     }
 
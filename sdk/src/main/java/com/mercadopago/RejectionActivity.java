@@ -18,11 +18,11 @@ import com.mercadopago.model.Payment;
 import com.mercadopago.model.PaymentData;
 import com.mercadopago.model.PaymentResult;
 import com.mercadopago.model.PaymentResultAction;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.PaymentResultScreenPreference;
 import com.mercadopago.util.ErrorUtil;
 import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.TrackingPipeline;
 
 import static android.text.TextUtils.isEmpty;
 
@@ -102,7 +102,7 @@ public class RejectionActivity extends MercadoPagoBaseActivity implements TimerO
     }
 
     protected void setContentView() {
-        MPTracker.getInstance().trackScreen("RESULT", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("RESULT", "2", mMerchantPublicKey, this);
         setContentView(R.layout.mpsdk_activity_rejection);
     }
 
@@ -380,7 +380,7 @@ public class RejectionActivity extends MercadoPagoBaseActivity implements TimerO
 
     @Override
     public void onBackPressed() {
-        MPTracker.getInstance().trackEvent("REJECTION", "BACK_PRESSED", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("REJECTION", "BACK_PRESSED", "2", mMerchantPublicKey, this);
 
         if (mBackPressedOnce) {
             finishWithOkResult();
@@ -412,7 +412,7 @@ public class RejectionActivity extends MercadoPagoBaseActivity implements TimerO
 
     public void onClickRejectionOptionButton() {
         if (isPaymentStatusDetailRecoverable()) {
-            MPTracker.getInstance().trackEvent("REJECTION", "RECOVER_PAYMENT", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackEvent("REJECTION", "RECOVER_PAYMENT", "2", mMerchantPublicKey, this);
 
             Intent returnIntent = new Intent();
             mNextAction = PaymentResultAction.RECOVER_PAYMENT;
@@ -420,7 +420,7 @@ public class RejectionActivity extends MercadoPagoBaseActivity implements TimerO
             setResult(RESULT_CANCELED, returnIntent);
             finish();
         } else {
-            MPTracker.getInstance().trackEvent("REJECTION", "SELECT_OTHER_PAYMENT_METHOD", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackEvent("REJECTION", "SELECT_OTHER_PAYMENT_METHOD", "2", mMerchantPublicKey, this);
 
             Intent returnIntent = new Intent();
             mNextAction = PaymentResultAction.SELECT_OTHER_PAYMENT_METHOD;
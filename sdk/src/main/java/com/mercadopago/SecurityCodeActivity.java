@@ -23,7 +23,6 @@ import com.mercadopago.model.Card;
 import com.mercadopago.model.CardInfo;
 import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.observers.TimerObserver;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.presenters.SecurityCodePresenter;
@@ -32,8 +31,10 @@ import com.mercadopago.uicontrollers.card.CardView;
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.ColorsUtil;
 import com.mercadopago.util.ErrorUtil;
+import com.mercadopago.util.FingerprintCache;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.ScaleUtil;
+import com.mercadopago.util.TrackingPipeline;
 import com.mercadopago.views.SecurityCodeActivityView;
 
 
@@ -68,6 +69,7 @@ public class SecurityCodeActivity extends MercadoPagoBaseActivity implements Sec
         }
         mPresenter.setView(this);
         mActivity = this;
+        FingerprintCache.getInstance().prefetch(getApplicationContext());
         getActivityParameters();
         if (isCustomColorSet()) {
             setTheme(R.style.Theme_MercadoPagoTheme_NoActionBar);
@@ -104,8 +106,7 @@ public class SecurityCodeActivity extends MercadoPagoBaseActivity implements Sec
     }
 
     public void setContentView() {
-        MPTracker.getInstance().trackScreen("SECURITY_CODE_CARD", "2", mPresenter.getPublicKey(),
-                BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackScreen("SECURITY_CODE_CARD", "2", mPresenter.getPublicKey(), this);
         setContentViewNormal();
     }
 
@@ -308,6 +309,14 @@ public class SecurityCodeActivity extends MercadoPagoBaseActivity implements Sec
         finish();
     }
 
+    @Override
+    protected void onDestroy() {
+        if (isFinishing()) {
+            mPresenter.cancelTasks();
+        }
+        super.onDestroy();
+    }
+
     @Override
     public void onTimeChanged(String timeToShow) {
         mTimerTextView.setText(timeToShow);
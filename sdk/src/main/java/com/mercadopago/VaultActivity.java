@@ -36,12 +36,12 @@ import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.model.SavedCardToken;
 import com.mercadopago.model.Site;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.PaymentPreference;
 import com.mercadopago.util.ApiUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.MercadoPagoUtil;
+import com.mercadopago.util.TrackingPipeline;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -132,7 +132,7 @@ public class VaultActivity extends AppCompatActivity {
 
             setFormGoButton(mSecurityCodeText);
 
-            MPTracker.getInstance().trackScreen("VAULT", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+            TrackingPipeline.getInstance().trackScreen("VAULT", "2", mMerchantPublicKey, this);
 
             initPaymentFlow();
         } else {
@@ -243,7 +243,7 @@ public class VaultActivity extends AppCompatActivity {
 
     @Override
     public void onBackPressed() {
-        MPTracker.getInstance().trackEvent("VAULT", "BACK_PRESSED", "2", mMerchantPublicKey, BuildConfig.VERSION_NAME, this);
+        TrackingPipeline.getInstance().trackEvent("VAULT", "BACK_PRESSED", "2", mMerchantPublicKey, this);
 
         Intent returnIntent = new Intent();
         returnIntent.putExtra("backButtonPressed", true);
@@ -0,0 +1,85 @@
+package com.mercadopago.adapters;
+
+import com.mercadopago.callbacks.Callback;
+import com.mercadopago.model.ApiException;
+import com.mercadopago.util.CatalogCache;
+
+import java.lang.reflect.Type;
+
+/**
+ * Serves a catalog response from {@link CatalogCache} when possible. A value in memory is delivered
+ * before enqueue returns, one on disk later on the main thread. If it is no longer fresh, the call
+ * still runs to refresh the cache.
+ * Otherwise the callback waits for the call, whose response is cached.
+ */
+public class CachedCall<T> implements MPCall<T> {
+
+    private final CatalogCache cache;
+    private final String key;
+    private final Type type;
+    private final MPCall<T> call;
+    private volatile boolean cancelled;
+
+    public CachedCall(CatalogCache cache, String key, Type type, MPCall<T> call) {
+        this.cache = cache;
+        this.key = key;
+        this.type = type;
+        this.call = call;
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        call.cancel();
+    }
+
+    @Override
+    public void enqueue(final Callback<T> callback) {
+        cache.get(key, type, new CatalogCache.Listener<T>() {
+            @Override
+            public void onLoaded(T cached, boolean fresh) {
+                if (cancelled) {
+                    return;
+                }
+                if (cached != null) {
+                    callback.success(cached);
+                    if (!fresh) {
+                        call.enqueue(new Callback<T>() {
+                            @Override
+                            public void success(T t) {
+                                if (t != null) {
+                                    cache.put(key, t, type);
+                                }
+                            }
+
+                            @Override
+                            public void failure(ApiException apiException) {
+                                //The stale value was already delivered.
+                            }
+                        });
+                    }
+                } else {
+                    call.enqueue(new Callback<T>() {
+                        @Override
+                        public void success(T t) {
+                            if (t != null) {
+                                cache.put(key, t, type);
+                            }
+                            callback.success(t);
+                        }
+
+                        @Override
+                        public void failure(ApiException apiException) {
+                            callback.failure(apiException);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    @Override
+    public MPCall<T> clone() {
+        return new CachedCall<>(cache, key, type, call.clone());
+    }
+}
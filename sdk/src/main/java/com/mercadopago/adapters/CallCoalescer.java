@@ -0,0 +1,165 @@
+package com.mercadopago.adapters;
+
+import com.mercadopago.callbacks.Callback;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import okhttp3.Request;
+import retrofit2.Call;
+
+/**
+ * Shares identical GET requests between {@link MPCall}s. While a request is in flight, calls for
+ * the same request join it instead of going to the network, and when it completes every joined
+ * callback gets its result. Successful results are kept for a few seconds, so a screen opened
+ * again right away doesn't request them again.
+ * <p>
+ * Results are shared, not copied, so callbacks should not modify them.
+ */
+public class CallCoalescer {
+
+    private static final long MEMO_TIME = 10 * 1000;
+    private static final int MAX_MEMO_ENTRIES = 32;
+
+    private static CallCoalescer mInstance;
+
+    private final long mMemoTime;
+    private final Map<String, InFlight> mInFlight;
+    private final Map<String, Memo> mMemos;
+
+    protected CallCoalescer(long memoTime) {
+        mMemoTime = memoTime;
+        mInFlight = new HashMap<>();
+        mMemos = new LinkedHashMap<String, Memo>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Memo> eldest) {
+                return size() > MAX_MEMO_ENTRIES;
+            }
+        };
+    }
+
+    public synchronized static CallCoalescer getInstance() {
+        if (mInstance == null) {
+            mInstance = new CallCoalescer(MEMO_TIME);
+        }
+        return mInstance;
+    }
+
+    /**
+     * @return the key of the request, or null if it can't be shared because it isn't a GET.
+     */
+    public static String getKey(Request request) {
+        if (request == null || !"GET".equals(request.method())) {
+            return null;
+        }
+        return request.url() + "\n" + request.headers();
+    }
+
+    /**
+     * @return the result of a request with the given key completed less than a few seconds ago, or null.
+     */
+    public synchronized <T> T getMemo(String key) {
+        Memo memo = mMemos.get(key);
+        if (memo == null) {
+            return null;
+        } else if (now() - memo.time > mMemoTime) {
+            mMemos.remove(key);
+            return null;
+        }
+        return (T) memo.value;
+    }
+
+    /**
+     * Adds the callback to the request in flight with the given key.
+     *
+     * @return true if the callback joined a request in flight, false if there was none and the
+     * caller has to execute it with the call, calling {@link #complete(String, Call, Object)} or
+     * {@link #fail(String, Call)} when done.
+     */
+    public synchronized boolean join(String key, Call<?> call, Callback<?> callback) {
+        InFlight inFlight = mInFlight.get(key);
+        if (inFlight != null) {
+            inFlight.callbacks.add(callback);
+            return true;
+        }
+        mInFlight.put(key, new InFlight(call, callback));
+        return false;
+    }
+
+    /**
+     * Removes the callback from the request in flight with the given key.
+     *
+     * @return the call to cancel if no callback is left for the request, or null.
+     */
+    public synchronized Call<?> leave(String key, Callback<?> callback) {
+        InFlight inFlight = mInFlight.get(key);
+        if (inFlight == null || !inFlight.callbacks.remove(callback) || !inFlight.callbacks.isEmpty()) {
+            return null;
+        }
+        mInFlight.remove(key);
+        return inFlight.call;
+    }
+
+    /**
+     * @return the callbacks that joined the request executed with the call, to be given the result.
+     */
+    public synchronized <T> List<Callback<T>> complete(String key, Call<?> call, T value) {
+        List<Callback<T>> callbacks = remove(key, call);
+        if (value != null && !callbacks.isEmpty()) {
+            mMemos.put(key, new Memo(value, now()));
+        }
+        return callbacks;
+    }
+
+    /**
+     * @return the callbacks that joined the request executed with the call, to be given the failure.
+     */
+    public synchronized <T> List<Callback<T>> fail(String key, Call<?> call) {
+        return remove(key, call);
+    }
+
+    public synchronized void clear() {
+        mMemos.clear();
+    }
+
+    protected long now() {
+        return System.currentTimeMillis();
+    }
+
+    private <T> List<Callback<T>> remove(String key, Call<?> call) {
+        InFlight inFlight = mInFlight.get(key);
+        List<Callback<T>> callbacks = new ArrayList<>();
+        //A cancelled request may complete after a new one with the same key was started.
+        if (inFlight != null && inFlight.call == call) {
+            mInFlight.remove(key);
+            for (Callback<?> callback : inFlight.callbacks) {
+                callbacks.add((Callback<T>) callback);
+            }
+        }
+        return callbacks;
+    }
+
+    private static class InFlight {
+        private final Call<?> call;
+        private final List<Callback<?>> callbacks;
+
+        private InFlight(Call<?> call, Callback<?> callback) {
+            this.call = call;
+            this.callbacks = new ArrayList<>();
+            this.callbacks.add(callback);
+        }
+    }
+
+    private static class Memo {
+        private final Object value;
+        private final long time;
+
+        private Memo(Object value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
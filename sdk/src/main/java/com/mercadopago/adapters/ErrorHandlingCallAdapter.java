@@ -6,15 +6,19 @@ import android.support.annotation.NonNull;
 
 import com.google.gson.reflect.TypeToken;
 import com.mercadopago.callbacks.Callback;
+import com.mercadopago.model.ApiException;
 import com.mercadopago.model.Payment;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
+import com.mercadopago.util.ApiMetrics;
 import com.mercadopago.util.ApiUtil;
+import com.mercadopago.util.TrackingPipeline;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
+import okhttp3.Request;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
 import retrofit2.Response;
@@ -53,39 +57,108 @@ public class ErrorHandlingCallAdapter {
     }
 
     /**
-     * Adapts a {@link Call} to {@link MPCall}.
+     * Adapts a {@link Call} to {@link MPCall}. Identical GET requests are shared through {@link CallCoalescer}.
      */
     static class MPCallAdapter<T> implements MPCall<T> {
-        private final Call<T> call;
+        private final RetriedCall<T> call;
+        private final String endpoint;
+        private Callback<T> enqueuedCallback;
 
         MPCallAdapter(Call<T> call) {
-            this.call = call;
+            this(call, ApiMetrics.getCallingEndpoint());
+        }
+
+        MPCallAdapter(Call<T> call, String endpoint) {
+            this.call = new RetriedCall<>(call);
+            this.endpoint = endpoint;
         }
 
         @Override
         public void cancel() {
-            call.cancel();
+            String key = CallCoalescer.getKey(call.request());
+            if (key == null || enqueuedCallback == null) {
+                call.cancel();
+            } else {
+                Call<?> sharedCall = CallCoalescer.getInstance().leave(key, enqueuedCallback);
+                if (sharedCall != null) {
+                    sharedCall.cancel();
+                }
+            }
         }
 
         @Override
         public void enqueue(final Callback<T> callback) {
-            call.enqueue(new retrofit2.Callback<T>() {
+            final String key = CallCoalescer.getKey(call.request());
+            if (key == null) {
+                enqueue(call, getEndpoint(), callback);
+                return;
+            }
+            final CallCoalescer coalescer = CallCoalescer.getInstance();
+            final T memo = coalescer.getMemo(key);
+            if (memo != null) {
+                executeOnMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!call.isCanceled()) {
+                            callback.success(memo);
+                        }
+                    }
+                });
+            } else {
+                enqueuedCallback = callback;
+                if (!coalescer.join(key, call, callback)) {
+                    enqueue(call, getEndpoint(), new Callback<T>() {
+                        @Override
+                        public void success(T t) {
+                            for (Callback<T> joinedCallback : coalescer.complete(key, call, t)) {
+                                joinedCallback.success(t);
+                            }
+                        }
+
+                        @Override
+                        public void failure(ApiException apiException) {
+                            for (Callback<T> joinedCallback : coalescer.<T>fail(key, call)) {
+                                joinedCallback.failure(apiException);
+                            }
+                        }
+                    });
+                }
+            }
+        }
+
+        private String getEndpoint() {
+            return endpoint == null ? ApiMetrics.getEndpoint(call.request()) : endpoint;
+        }
+
+        private static <T> void enqueue(final RetriedCall<T> retriedCall, final String endpoint, final Callback<T> callback) {
+            RetryEngine.getInstance().onRequest();
+            final long enqueuedAt = ApiMetrics.getInstance().now();
+            retriedCall.enqueue(new retrofit2.Callback<T>() {
+
+                private int retries;
+
                 @Override
                 public void onResponse(Call<T> call, Response<T> response) {
+                    RetryEngine.getInstance().onResponse(retries);
+                    final ApiMetrics.CallTimings timings = ApiMetrics.getInstance().onResponse(endpoint, enqueuedAt);
                     final Response<T> r = response;
                     executeOnMainThread(new Runnable() {
                         @Override
                         public void run() {
+                            ApiMetrics.getInstance().onDispatched(timings);
+                            if (retriedCall.isCanceled()) {
+                                return;
+                            }
                             int code = r.code();
                             if (code >= 200 && code < 300) {
                                 //Get body
                                 T body = r.body();
                                 if (body instanceof Payment) {
                                     Payment mPayment = (Payment) body;
-                                    MPTracker.getInstance().trackPayment("NO_SCREEN", "CREATE_PAYMENT_RESPONSE", mPayment.getId(), mPayment.getPaymentMethodId(), mPayment.getStatus(), mPayment.getStatusDetail(), mPayment.getPaymentTypeId(), mPayment.getInstallments(), mPayment.getIssuerId());
+                                    TrackingPipeline.getInstance().trackPayment("NO_SCREEN", "CREATE_PAYMENT_RESPONSE", mPayment.getId(), mPayment.getPaymentMethodId(), mPayment.getStatus(), mPayment.getStatusDetail(), mPayment.getPaymentTypeId(), mPayment.getInstallments(), mPayment.getIssuerId());
                                 } else if (body instanceof Token) {
                                     Token mToken = (Token) body;
-                                    MPTracker.getInstance().trackToken(mToken.getId());
+                                    TrackingPipeline.getInstance().trackToken(mToken.getId());
                                 }
                                 callback.success(r.body());
                             } else {
@@ -97,16 +170,26 @@ public class ErrorHandlingCallAdapter {
 
                 @Override
                 public void onFailure(final Call<T> call, Throwable t) {
+                    ApiMetrics.getInstance().onFailure();
                     final Throwable th = t;
-                    if (callback.attempts++ == 3) {
+                    long delay = retriedCall.isCanceled() ? -1 : RetryEngine.getInstance().getRetryDelay(call.request(), ++retries);
+                    if (delay < 0) {
                         executeOnMainThread(new Runnable() {
                             @Override
                             public void run() {
-                                callback.failure(ApiUtil.getApiException(th));
+                                if (!retriedCall.isCanceled()) {
+                                    callback.failure(ApiUtil.getApiException(th));
+                                }
                             }
                         });
                     } else {
-                        call.clone().enqueue(this);
+                        final retrofit2.Callback<T> retryCallback = this;
+                        executeOnMainThread(new Runnable() {
+                            @Override
+                            public void run() {
+                                retriedCall.retry(retryCallback);
+                            }
+                        }, delay);
                     }
                 }
             });
@@ -114,12 +197,84 @@ public class ErrorHandlingCallAdapter {
 
         @Override
         public MPCall<T> clone() {
-            return new MPCallAdapter<>(call.clone());
+            return new MPCallAdapter<>(call.clone(), endpoint);
         }
     }
 
-    private static void executeOnMainThread(@NonNull Runnable r) {
-        final Handler handler = new Handler(Looper.getMainLooper());
-        handler.post(r);
+    /**
+     * A call and its retries. Cancelling it cancels the attempt in flight, and no retry or result
+     * is delivered afterwards.
+     */
+    private static class RetriedCall<T> implements Call<T> {
+        private Call<T> attempt;
+        private boolean canceled;
+
+        private RetriedCall(Call<T> call) {
+            this.attempt = call;
+        }
+
+        private synchronized void retry(retrofit2.Callback<T> callback) {
+            if (!canceled) {
+                attempt = attempt.clone();
+                attempt.enqueue(callback);
+            }
+        }
+
+        @Override
+        public Response<T> execute() throws IOException {
+            return getAttempt().execute();
+        }
+
+        @Override
+        public void enqueue(retrofit2.Callback<T> callback) {
+            getAttempt().enqueue(callback);
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return getAttempt().isExecuted();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            canceled = true;
+            attempt.cancel();
+        }
+
+        @Override
+        public synchronized boolean isCanceled() {
+            return canceled || attempt.isCanceled();
+        }
+
+        @Override
+        public Call<T> clone() {
+            return getAttempt().clone();
+        }
+
+        @Override
+        public Request request() {
+            return getAttempt().request();
+        }
+
+        private synchronized Call<T> getAttempt() {
+            return attempt;
+        }
+    }
+
+    private static Handler mainHandler;
+
+    private static synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
+    }
+
+    static void executeOnMainThread(@NonNull Runnable r) {
+        getMainHandler().post(r);
+    }
+
+    private static void executeOnMainThread(@NonNull Runnable r, long delay) {
+        getMainHandler().postDelayed(r, delay);
     }
 }
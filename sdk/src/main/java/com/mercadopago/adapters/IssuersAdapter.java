@@ -13,29 +13,52 @@ import com.mercadopago.callbacks.OnSelectedCallback;
 import com.mercadopago.model.Issuer;
 import com.mercadopago.uicontrollers.issuers.IssuersView;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class IssuersAdapter extends RecyclerView.Adapter<IssuersAdapter.ViewHolder> {
 
+    /**
+     * Issuers are identified by their id, and their rows change with their names.
+     */
+    public static final ListDiff.ItemCallback<Issuer> ITEM_CALLBACK = new ListDiff.ItemCallback<Issuer>() {
+        @Override
+        public long getItemId(Issuer issuer) {
+            return issuer.getId() == null ? RecyclerView.NO_ID : issuer.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(Issuer oldIssuer, Issuer newIssuer) {
+            return oldIssuer.getName() == null ? newIssuer.getName() == null : oldIssuer.getName().equals(newIssuer.getName());
+        }
+    };
+
+    private final ListUpdater<Issuer> mListUpdater;
     private Context mContext;
-    private List<Issuer> mIssuers;
     private OnSelectedCallback<Integer> mCallback;
 
     public IssuersAdapter(Context context, OnSelectedCallback<Integer> callback) {
         this.mContext = context;
-        this.mIssuers = new ArrayList<>();
+        this.mListUpdater = new ListUpdater<>(this, ITEM_CALLBACK);
         this.mCallback = callback;
+        setHasStableIds(true);
     }
 
+    /**
+     * Replaces the rows, notifying only the ones that changed.
+     */
     public void addResults(List<Issuer> list) {
-        mIssuers.addAll(list);
-        notifyDataSetChanged();
+        mListUpdater.setList(list);
+    }
+
+    /**
+     * @return true while the rows don't show the list added last yet, so selections should wait.
+     */
+    public boolean isUpdating() {
+        return mListUpdater.isUpdating();
     }
 
     public void clear() {
-        mIssuers.clear();
-        notifyDataSetChanged();
+        mListUpdater.setList(null);
     }
 
     @Override
@@ -49,18 +72,23 @@ public class IssuersAdapter extends RecyclerView.Adapter<IssuersAdapter.ViewHold
 
     @Override
     public void onBindViewHolder(ViewHolder holder, int position) {
-        Issuer issuer = mIssuers.get(position);
+        Issuer issuer = mListUpdater.getList().get(position);
         holder.mIssuersView.drawIssuer(issuer);
     }
 
 
     public Issuer getItem(int position) {
-        return mIssuers.get(position);
+        return mListUpdater.getList().get(position);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return mListUpdater.getItemId(position);
     }
 
     @Override
     public int getItemCount() {
-        return mIssuers.size();
+        return mListUpdater.getList().size();
     }
 
     public class ViewHolder extends RecyclerView.ViewHolder {
@@ -80,7 +108,9 @@ public class IssuersAdapter extends RecyclerView.Adapter<IssuersAdapter.ViewHold
                 public boolean onKey(View v, int keyCode, KeyEvent event) {
                     if (event != null && event.getAction() == KeyEvent.ACTION_DOWN
                             && event.getKeyCode() == KeyEvent.KEYCODE_DPAD_CENTER) {
-                        mCallback.onSelected(getLayoutPosition());
+                        if (!isUpdating()) {
+                            mCallback.onSelected(getLayoutPosition());
+                        }
                         return true;
                     }
                     return false;
@@ -0,0 +1,241 @@
+package com.mercadopago.adapters;
+
+import android.support.v7.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The changes that turn a list into another one, as removed, moved, inserted and changed ranges
+ * of positions, to notify an adapter of only the rows that changed instead of the whole data set.
+ * <p>
+ * Items are matched by their stable id, so each id must be unique in a list. If it isn't, the
+ * diff removes every old item and inserts every new one.
+ */
+public class ListDiff {
+
+    private static final int REMOVED = 0;
+    private static final int MOVED = 1;
+    private static final int INSERTED = 2;
+    private static final int CHANGED = 3;
+
+    //Triples of type, position and count, or of MOVED, from and to.
+    private final List<int[]> mUpdates;
+
+    private ListDiff(List<int[]> updates) {
+        mUpdates = updates;
+    }
+
+    /**
+     * Matches the items of the lists by id, in time linear in their sizes plus the moved items
+     * by the size of the new list.
+     */
+    public static <T> ListDiff calculate(List<T> oldList, List<T> newList, ItemCallback<T> callback) {
+        List<int[]> updates = new ArrayList<>();
+        Map<Long, Integer> newPositions = getPositions(newList, callback);
+        Map<Long, Integer> oldPositions = getPositions(oldList, callback);
+        if (newPositions == null || oldPositions == null) {
+            addUpdate(updates, REMOVED, 0, oldList.size());
+            addUpdate(updates, INSERTED, 0, newList.size());
+            return new ListDiff(updates);
+        }
+
+        //Removed from the end, so the positions before each range don't change.
+        List<Long> ids = new ArrayList<>(oldList.size());
+        for (int i = oldList.size() - 1; i >= 0; i--) {
+            long id = callback.getItemId(oldList.get(i));
+            if (newPositions.containsKey(id)) {
+                ids.add(id);
+            } else {
+                addRemoved(updates, i);
+            }
+        }
+        Collections.reverse(ids);
+
+        //The kept items in the longest run already in the new order stay, the others move after
+        //the kept item that precedes them in the new list.
+        List<Long> keptIds = new ArrayList<>(ids.size());
+        for (T item : newList) {
+            long id = callback.getItemId(item);
+            if (oldPositions.containsKey(id)) {
+                keptIds.add(id);
+            }
+        }
+        boolean[] inOrder = getLongestIncreasingRun(ids, newPositions);
+        Map<Long, Boolean> staying = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            staying.put(ids.get(i), inOrder[i]);
+        }
+        for (int i = 0; i < keptIds.size(); i++) {
+            Long id = keptIds.get(i);
+            if (!staying.get(id)) {
+                int from = ids.indexOf(id);
+                ids.remove(from);
+                int to = i == 0 ? 0 : ids.indexOf(keptIds.get(i - 1)) + 1;
+                ids.add(to, id);
+                if (from != to) {
+                    updates.add(new int[]{MOVED, from, to});
+                }
+            }
+        }
+
+        for (int i = 0; i < newList.size(); i++) {
+            T newItem = newList.get(i);
+            Integer oldPosition = oldPositions.get(callback.getItemId(newItem));
+            if (oldPosition == null) {
+                addUpdate(updates, INSERTED, i, 1);
+            }
+        }
+        for (int i = 0; i < newList.size(); i++) {
+            T newItem = newList.get(i);
+            Integer oldPosition = oldPositions.get(callback.getItemId(newItem));
+            if (oldPosition != null && !callback.areContentsTheSame(oldList.get(oldPosition), newItem)) {
+                addUpdate(updates, CHANGED, i, 1);
+            }
+        }
+        return new ListDiff(updates);
+    }
+
+    //Null if an id is repeated.
+    private static <T> Map<Long, Integer> getPositions(List<T> list, ItemCallback<T> callback) {
+        Map<Long, Integer> positions = new HashMap<>(list.size() * 2);
+        for (int i = 0; i < list.size(); i++) {
+            if (positions.put(callback.getItemId(list.get(i)), i) != null) {
+                return null;
+            }
+        }
+        return positions;
+    }
+
+    //Marks the ids of a longest run whose positions in the new list increase, in n log n.
+    private static boolean[] getLongestIncreasingRun(List<Long> ids, Map<Long, Integer> newPositions) {
+        int size = ids.size();
+        int[] tails = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            int position = newPositions.get(ids.get(i));
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (newPositions.get(ids.get(tails[middle])) < position) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[i] = low == 0 ? -1 : tails[low - 1];
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] inOrder = new boolean[size];
+        for (int i = length == 0 ? -1 : tails[length - 1]; i >= 0; i = previous[i]) {
+            inOrder[i] = true;
+        }
+        return inOrder;
+    }
+
+    private static void addRemoved(List<int[]> updates, int position) {
+        int[] last = updates.isEmpty() ? null : updates.get(updates.size() - 1);
+        if (last != null && last[0] == REMOVED && last[1] == position + 1) {
+            last[1] = position;
+            last[2]++;
+        } else {
+            updates.add(new int[]{REMOVED, position, 1});
+        }
+    }
+
+    private static void addUpdate(List<int[]> updates, int type, int position, int count) {
+        if (count == 0) {
+            return;
+        }
+        int[] last = updates.isEmpty() ? null : updates.get(updates.size() - 1);
+        if (last != null && last[0] == type && last[1] + last[2] == position) {
+            last[2] += count;
+        } else {
+            updates.add(new int[]{type, position, count});
+        }
+    }
+
+    /**
+     * @return true if the lists have the same items with the same contents.
+     */
+    public boolean isEmpty() {
+        return mUpdates.isEmpty();
+    }
+
+    /**
+     * Calls the callback with each change, in order: positions are the ones of the list with the
+     * previous changes applied.
+     */
+    public void dispatchUpdatesTo(UpdateCallback callback) {
+        for (int[] update : mUpdates) {
+            switch (update[0]) {
+                case REMOVED:
+                    callback.onRemoved(update[1], update[2]);
+                    break;
+                case MOVED:
+                    callback.onMoved(update[1], update[2]);
+                    break;
+                case INSERTED:
+                    callback.onInserted(update[1], update[2]);
+                    break;
+                default:
+                    callback.onChanged(update[1], update[2]);
+                    break;
+            }
+        }
+    }
+
+    public void dispatchUpdatesTo(final RecyclerView.Adapter<?> adapter) {
+        dispatchUpdatesTo(new UpdateCallback() {
+            @Override
+            public void onRemoved(int position, int count) {
+                adapter.notifyItemRangeRemoved(position, count);
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+                adapter.notifyItemMoved(fromPosition, toPosition);
+            }
+
+            @Override
+            public void onInserted(int position, int count) {
+                adapter.notifyItemRangeInserted(position, count);
+            }
+
+            @Override
+            public void onChanged(int position, int count) {
+                adapter.notifyItemRangeChanged(position, count);
+            }
+        });
+    }
+
+    public interface ItemCallback<T> {
+        /**
+         * @return an id that identifies the item in every list, like the one of the adapter rows.
+         */
+        long getItemId(T item);
+
+        /**
+         * @return false if the row of the old item has to be drawn again for the new one.
+         */
+        boolean areContentsTheSame(T oldItem, T newItem);
+    }
+
+    public interface UpdateCallback {
+        void onRemoved(int position, int count);
+
+        void onMoved(int fromPosition, int toPosition);
+
+        void onInserted(int position, int count);
+
+        void onChanged(int position, int count);
+    }
+}
@@ -0,0 +1,150 @@
+package com.mercadopago.adapters;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.v7.widget.RecyclerView;
+
+import com.mercadopago.util.SdkExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the list of an adapter and replaces it by notifying only the rows that changed. The
+ * {@link ListDiff} between the lists is calculated on the {@link SdkExecutor}, and the new list is
+ * set and notified on the main thread when it's done, so until then the adapter shows the old one.
+ * <p>
+ * If the list is set again before a diff is done, that diff is dropped. Filling an empty list or
+ * emptying one is notified at once, without a diff.
+ * <p>
+ * Must be used from the main thread.
+ */
+public class ListUpdater<T> {
+
+    private final ListDiff.UpdateCallback mUpdateCallback;
+    private final RecyclerView.Adapter<?> mAdapter;
+    private final ListDiff.ItemCallback<T> mItemCallback;
+
+    private List<T> mList;
+    private List<T> mLatestList;
+    private int mVersion;
+    private Handler mHandler;
+
+    public ListUpdater(RecyclerView.Adapter<?> adapter, ListDiff.ItemCallback<T> itemCallback) {
+        this(adapter, null, itemCallback);
+    }
+
+    public ListUpdater(ListDiff.UpdateCallback updateCallback, ListDiff.ItemCallback<T> itemCallback) {
+        this(null, updateCallback, itemCallback);
+    }
+
+    private ListUpdater(RecyclerView.Adapter<?> adapter, ListDiff.UpdateCallback updateCallback, ListDiff.ItemCallback<T> itemCallback) {
+        mAdapter = adapter;
+        mUpdateCallback = updateCallback;
+        mItemCallback = itemCallback;
+        mList = Collections.emptyList();
+        mLatestList = mList;
+    }
+
+    /**
+     * @return the list the adapter shows, which must not be modified.
+     */
+    public List<T> getList() {
+        return mList;
+    }
+
+    /**
+     * @return true while the list set last isn't shown yet, so the positions of the rows don't
+     * match it and selections should wait.
+     */
+    public boolean isUpdating() {
+        return mLatestList != mList;
+    }
+
+    public long getItemId(int position) {
+        return mItemCallback.getItemId(mList.get(position));
+    }
+
+    public void setList(List<T> list) {
+        setList(list, null);
+    }
+
+    /**
+     * Sets the list last set, even if its diff isn't done, followed by the given items.
+     */
+    public void addAll(List<T> items) {
+        List<T> list = new ArrayList<>(mLatestList);
+        if (items != null) {
+            list.addAll(items);
+        }
+        setList(list);
+    }
+
+    /**
+     * Replaces the list with a copy of the given one.
+     *
+     * @param onSet run on the main thread right before the new list is notified, to update
+     *              the state of the adapter that goes with it. Not run if the diff is dropped.
+     */
+    public void setList(List<T> list, final Runnable onSet) {
+        final int version = ++mVersion;
+        final List<T> oldList = mList;
+        final List<T> newList = list == null ? Collections.<T>emptyList() : Collections.unmodifiableList(new ArrayList<>(list));
+        mLatestList = newList;
+        if (oldList.isEmpty() || newList.isEmpty()) {
+            apply(newList, onSet, ListDiff.calculate(oldList, newList, mItemCallback));
+            return;
+        }
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                final ListDiff diff = ListDiff.calculate(oldList, newList, mItemCallback);
+                post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (version == mVersion) {
+                            apply(newList, onSet, diff);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Drops the diffs not done yet.
+     */
+    public void cancel() {
+        mVersion++;
+        mLatestList = mList;
+        SdkExecutor.getInstance().cancel(this);
+    }
+
+    private void apply(List<T> list, Runnable onSet, ListDiff diff) {
+        mList = list;
+        if (onSet != null) {
+            onSet.run();
+        }
+        if (mAdapter != null) {
+            diff.dispatchUpdatesTo(mAdapter);
+        } else {
+            diff.dispatchUpdatesTo(mUpdateCallback);
+        }
+    }
+
+    protected void execute(Runnable runnable) {
+        SdkExecutor.getInstance().execute(this, runnable);
+    }
+
+    protected void post(Runnable runnable) {
+        getHandler().post(runnable);
+    }
+
+    private Handler getHandler() {
+        if (mHandler == null) {
+            mHandler = new Handler(Looper.getMainLooper());
+        }
+        return mHandler;
+    }
+}
@@ -2,6 +2,7 @@ package com.mercadopago.adapters;
 
 import android.content.Context;
 import android.support.v7.widget.RecyclerView;
+import android.text.Spanned;
 import android.view.KeyEvent;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -13,15 +14,36 @@ import com.mercadopago.callbacks.OnSelectedCallback;
 import com.mercadopago.model.PayerCost;
 import com.mercadopago.model.Site;
 import com.mercadopago.uicontrollers.payercosts.PayerCostRow;
+import com.mercadopago.util.CurrenciesUtil;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
 public class PayerCostsAdapter extends  RecyclerView.Adapter<PayerCostsAdapter.ViewHolder> {
 
+    /**
+     * Payer costs are identified by their installments, and their rows change with their amounts.
+     */
+    public static final ListDiff.ItemCallback<PayerCost> ITEM_CALLBACK = new ListDiff.ItemCallback<PayerCost>() {
+        @Override
+        public long getItemId(PayerCost payerCost) {
+            return payerCost.getInstallments() == null ? RecyclerView.NO_ID : payerCost.getInstallments();
+        }
+
+        @Override
+        public boolean areContentsTheSame(PayerCost oldPayerCost, PayerCost newPayerCost) {
+            return isSameAmount(oldPayerCost.getInstallmentAmount(), newPayerCost.getInstallmentAmount())
+                    && isSameAmount(oldPayerCost.getTotalAmount(), newPayerCost.getTotalAmount())
+                    && isSameAmount(oldPayerCost.getInstallmentRate(), newPayerCost.getInstallmentRate());
+        }
+    };
+
     private final Site mSite;
+    private final ListUpdater<PayerCost> mListUpdater;
     private Context mContext;
-    private List<PayerCost> mInstallmentsList;
+    private List<Spanned> mInstallmentAmounts;
+    private List<Spanned> mTotalAmounts;
     private String mCurrencyId;
     private OnSelectedCallback<Integer> mCallback;
 
@@ -29,18 +51,54 @@ public class PayerCostsAdapter extends  RecyclerView.Adapter<PayerCostsAdapter.V
         this.mContext = context;
         this.mCurrencyId = site.getCurrencyId();
         this.mSite = site;
-        this.mInstallmentsList = new ArrayList<>();
+        this.mListUpdater = new ListUpdater<>(this, ITEM_CALLBACK);
         this.mCallback = callback;
+        setHasStableIds(true);
     }
 
     public void addResults(List<PayerCost> list) {
-        mInstallmentsList = list;
-        notifyDataSetChanged();
+        final List<Spanned> installmentAmounts = formatAmounts(list, false);
+        final List<Spanned> totalAmounts = formatAmounts(list, true);
+        mListUpdater.setList(list, new Runnable() {
+            @Override
+            public void run() {
+                mInstallmentAmounts = installmentAmounts;
+                mTotalAmounts = totalAmounts;
+            }
+        });
+    }
+
+    /**
+     * @return true while the rows don't show the list added last yet, so selections should wait.
+     */
+    public boolean isUpdating() {
+        return mListUpdater.isUpdating();
     }
 
     public void clear() {
-        mInstallmentsList.clear();
-        notifyDataSetChanged();
+        mListUpdater.setList(null, new Runnable() {
+            @Override
+            public void run() {
+                mInstallmentAmounts = null;
+                mTotalAmounts = null;
+            }
+        });
+    }
+
+    //Formats the amounts of all the rows in one pass, instead of once per bind.
+    private List<Spanned> formatAmounts(List<PayerCost> payerCosts, boolean totalAmounts) {
+        if (payerCosts == null) {
+            return null;
+        }
+        List<BigDecimal> amounts = new ArrayList<>(payerCosts.size());
+        for (PayerCost payerCost : payerCosts) {
+            amounts.add(totalAmounts ? payerCost.getTotalAmount() : payerCost.getInstallmentAmount());
+        }
+        return CurrenciesUtil.getFormattedAmounts(amounts, mCurrencyId);
+    }
+
+    private static boolean isSameAmount(BigDecimal amount, BigDecimal otherAmount) {
+        return amount == null ? otherAmount == null : otherAmount != null && amount.compareTo(otherAmount) == 0;
     }
 
     @Override
@@ -54,18 +112,28 @@ public class PayerCostsAdapter extends  RecyclerView.Adapter<PayerCostsAdapter.V
 
     @Override
     public void onBindViewHolder(ViewHolder holder, int position) {
-        PayerCost payerCost = mInstallmentsList.get(position);
+        PayerCost payerCost = mListUpdater.getList().get(position);
         holder.mPayerCostRow.setSmallTextSize();
-        holder.mPayerCostRow.drawPayerCost(payerCost);
+        holder.mPayerCostRow.drawPayerCost(payerCost, getFormattedAmount(mInstallmentAmounts, position),
+                getFormattedAmount(mTotalAmounts, position));
+    }
+
+    private Spanned getFormattedAmount(List<Spanned> formattedAmounts, int position) {
+        return formattedAmounts == null || position >= formattedAmounts.size() ? null : formattedAmounts.get(position);
     }
 
     public PayerCost getItem(int position) {
-        return mInstallmentsList.get(position);
+        return mListUpdater.getList().get(position);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return mListUpdater.getItemId(position);
     }
 
     @Override
     public int getItemCount() {
-        return mInstallmentsList.size();
+        return mListUpdater.getList().size();
     }
 
     public class ViewHolder extends RecyclerView.ViewHolder {
@@ -85,7 +153,9 @@ public class PayerCostsAdapter extends  RecyclerView.Adapter<PayerCostsAdapter.V
                 public boolean onKey(View v, int keyCode, KeyEvent event) {
                     if (event != null && event.getAction() == KeyEvent.ACTION_DOWN
                             && event.getKeyCode() == KeyEvent.KEYCODE_DPAD_CENTER) {
-                        mCallback.onSelected(getLayoutPosition());
+                        if (!isUpdating()) {
+                            mCallback.onSelected(getLayoutPosition());
+                        }
                         return true;
                     }
                     return false;
@@ -0,0 +1,161 @@
+package com.mercadopago.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.mercadopago.callbacks.Callback;
+import com.mercadopago.callbacks.OnPartialResultCallback;
+import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.model.PaymentMethodSearchItem;
+import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.ModelTypeAdapterFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Decodes the payment method search while it is downloaded, instead of after the whole response
+ * is buffered. If the callback implements {@link OnPartialResultCallback}, it gets the groups as
+ * soon as they are read, before custom options, payment methods and cards.
+ * <p>
+ * The call goes through {@link ErrorHandlingCallAdapter} like the rest, so errors, retries,
+ * sharing and metrics are handled the same way.
+ */
+public class PaymentMethodSearchCall implements MPCall<PaymentMethodSearch> {
+
+    private static final String ENDPOINT = "CheckoutService.getPaymentMethodSearch";
+
+    private final DecodingCall decodingCall;
+    private final MPCall<PaymentMethodSearch> call;
+
+    public PaymentMethodSearchCall(Call<ResponseBody> call) {
+        this.decodingCall = new DecodingCall(call, new PartialResult());
+        this.call = new ErrorHandlingCallAdapter.MPCallAdapter<>(decodingCall, ENDPOINT);
+    }
+
+    @Override
+    public void cancel() {
+        call.cancel();
+    }
+
+    @Override
+    public void enqueue(Callback<PaymentMethodSearch> callback) {
+        if (callback instanceof OnPartialResultCallback) {
+            decodingCall.partialResult.callback = (OnPartialResultCallback<List<PaymentMethodSearchItem>>) callback;
+        }
+        call.enqueue(callback);
+    }
+
+    @Override
+    public MPCall<PaymentMethodSearch> clone() {
+        return new PaymentMethodSearchCall(decodingCall.call.clone());
+    }
+
+    //Shared by the attempts of a call, so the groups are delivered once.
+    private static class PartialResult {
+        private final AtomicBoolean delivered = new AtomicBoolean();
+        private volatile OnPartialResultCallback<List<PaymentMethodSearchItem>> callback;
+    }
+
+    /**
+     * Reads the streamed body into the search on the thread of the http client.
+     */
+    private static class DecodingCall implements Call<PaymentMethodSearch> {
+
+        private final Call<ResponseBody> call;
+        private final PartialResult partialResult;
+
+        private DecodingCall(Call<ResponseBody> call, PartialResult partialResult) {
+            this.call = call;
+            this.partialResult = partialResult;
+        }
+
+        @Override
+        public Response<PaymentMethodSearch> execute() throws IOException {
+            return decode(call.execute());
+        }
+
+        @Override
+        public void enqueue(final retrofit2.Callback<PaymentMethodSearch> callback) {
+            call.enqueue(new retrofit2.Callback<ResponseBody>() {
+                @Override
+                public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
+                    Response<PaymentMethodSearch> decoded;
+                    try {
+                        decoded = decode(response);
+                    } catch (IOException | RuntimeException e) {
+                        callback.onFailure(DecodingCall.this, e);
+                        return;
+                    }
+                    callback.onResponse(DecodingCall.this, decoded);
+                }
+
+                @Override
+                public void onFailure(Call<ResponseBody> call, Throwable t) {
+                    callback.onFailure(DecodingCall.this, t);
+                }
+            });
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return call.isExecuted();
+        }
+
+        @Override
+        public void cancel() {
+            call.cancel();
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return call.isCanceled();
+        }
+
+        @Override
+        public Call<PaymentMethodSearch> clone() {
+            return new DecodingCall(call.clone(), partialResult);
+        }
+
+        @Override
+        public Request request() {
+            return call.request();
+        }
+
+        private Response<PaymentMethodSearch> decode(Response<ResponseBody> response) throws IOException {
+            if (!response.isSuccessful()) {
+                return Response.error(response.errorBody(), response.raw());
+            }
+            OnPartialResultCallback<List<PaymentMethodSearchItem>> onGroupsRead = null;
+            final OnPartialResultCallback<List<PaymentMethodSearchItem>> callback = partialResult.callback;
+            if (callback != null && !partialResult.delivered.get()) {
+                onGroupsRead = new OnPartialResultCallback<List<PaymentMethodSearchItem>>() {
+                    @Override
+                    public void onPartialResult(final List<PaymentMethodSearchItem> groups) {
+                        if (partialResult.delivered.compareAndSet(false, true)) {
+                            ErrorHandlingCallAdapter.executeOnMainThread(new Runnable() {
+                                @Override
+                                public void run() {
+                                    callback.onPartialResult(groups);
+                                }
+                            });
+                        }
+                    }
+                };
+            }
+            ResponseBody body = response.body();
+            Gson gson = JsonUtil.getInstance().getGson();
+            JsonReader reader = gson.newJsonReader(body.charStream());
+            try {
+                return Response.success(ModelTypeAdapterFactory.readPaymentMethodSearch(gson, reader, onGroupsRead), response.raw());
+            } finally {
+                body.close();
+            }
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.mercadopago.adapters;
 
 import android.support.v7.widget.RecyclerView;
+import android.view.View;
 import android.view.ViewGroup;
 
-import com.mercadopago.uicontrollers.CustomViewController;
+import com.mercadopago.uicontrollers.paymentmethodsearch.PaymentMethodSearchCustomOption;
 import com.mercadopago.uicontrollers.paymentmethodsearch.PaymentMethodSearchViewController;
 
 import java.util.ArrayList;
@@ -11,33 +12,55 @@ import java.util.List;
 
 /**
  * Created by mreverter on 18/1/16.
+ * <p>
+ * Rows of the same view type share recycled views: a view controller inflates a row only when
+ * there is none to recycle, and is bound to the row of its position when drawn.
  */
 public class PaymentMethodSearchItemAdapter extends RecyclerView.Adapter<PaymentMethodSearchItemAdapter.ViewHolder> {
 
+    public static final int VIEW_TYPE_OPTION = 0;
+    public static final int VIEW_TYPE_CUSTOM_OPTION = 1;
+    public static final int VIEW_TYPE_SAVED_CARD = 2;
+
+    private static final int MAX_RECYCLED_VIEWS = 10;
+
     private List<PaymentMethodSearchViewController> mItems;
 
     public PaymentMethodSearchItemAdapter() {
         mItems = new ArrayList<>();
     }
 
+    /**
+     * @return a pool sized for the view types of the search, for the list of one activity. Rows
+     * keep the context they were inflated with, so pools are not shared between activities.
+     */
+    public static RecyclerView.RecycledViewPool createRecycledViewPool() {
+        RecyclerView.RecycledViewPool recycledViewPool = new RecyclerView.RecycledViewPool();
+        recycledViewPool.setMaxRecycledViews(VIEW_TYPE_OPTION, MAX_RECYCLED_VIEWS);
+        recycledViewPool.setMaxRecycledViews(VIEW_TYPE_CUSTOM_OPTION, MAX_RECYCLED_VIEWS);
+        recycledViewPool.setMaxRecycledViews(VIEW_TYPE_SAVED_CARD, MAX_RECYCLED_VIEWS);
+        return recycledViewPool;
+    }
+
     @Override
-    public ViewHolder onCreateViewHolder(ViewGroup parent, int position) {
+    public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
 
-        CustomViewController item = mItems.get(position);
+        PaymentMethodSearchViewController item = getItemOfViewType(viewType);
 
-        item.inflateInParent(parent, false);
+        View view = item.inflateInParent(parent, false);
 
-        return new ViewHolder(item);
+        return new ViewHolder(view);
     }
 
     @Override
     public int getItemViewType(int position) {
-        return position;
+        return getViewType(mItems.get(position));
     }
 
     @Override
     public void onBindViewHolder(ViewHolder holder, int position) {
         PaymentMethodSearchViewController viewController = mItems.get(position);
+        viewController.bindView(holder.itemView);
         viewController.draw();
     }
 
@@ -60,14 +83,26 @@ public class PaymentMethodSearchItemAdapter extends RecyclerView.Adapter<Payment
         notifyItemInserted(mItems.size() - 1);
     }
 
-    public class ViewHolder extends RecyclerView.ViewHolder {
+    private PaymentMethodSearchViewController getItemOfViewType(int viewType) {
+        for (PaymentMethodSearchViewController item : mItems) {
+            if (getViewType(item) == viewType) {
+                return item;
+            }
+        }
+        throw new IllegalStateException("no item of view type " + viewType);
+    }
 
-        private CustomViewController mViewController;
+    private static int getViewType(PaymentMethodSearchViewController item) {
+        if (item instanceof PaymentMethodSearchCustomOption) {
+            return ((PaymentMethodSearchCustomOption) item).isSavedCard() ? VIEW_TYPE_SAVED_CARD : VIEW_TYPE_CUSTOM_OPTION;
+        }
+        return VIEW_TYPE_OPTION;
+    }
+
+    public class ViewHolder extends RecyclerView.ViewHolder {
 
-        public ViewHolder(CustomViewController viewController) {
-            super(viewController.getView());
-            mViewController = viewController;
-            mViewController.initializeControls();
+        public ViewHolder(View view) {
+            super(view);
         }
     }
 }
@@ -12,7 +12,6 @@ import com.mercadopago.callbacks.OnSelectedCallback;
 import com.mercadopago.customviews.MPTextView;
 import com.mercadopago.model.PaymentType;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -21,24 +20,48 @@ import java.util.List;
 
 public class PaymentTypesAdapter extends RecyclerView.Adapter<PaymentTypesAdapter.ViewHolder> {
 
+    /**
+     * Payment types are identified by the hash of their id, which is all their rows show.
+     */
+    public static final ListDiff.ItemCallback<PaymentType> ITEM_CALLBACK = new ListDiff.ItemCallback<PaymentType>() {
+        @Override
+        public long getItemId(PaymentType paymentType) {
+            return paymentType.getId() == null ? RecyclerView.NO_ID : paymentType.getId().hashCode();
+        }
+
+        @Override
+        public boolean areContentsTheSame(PaymentType oldPaymentType, PaymentType newPaymentType) {
+            return true;
+        }
+    };
+
+    private final ListUpdater<PaymentType> mListUpdater;
     private Context mContext;
-    private List<PaymentType> mPaymentTypes;
     private OnSelectedCallback<Integer> mCallback;
 
     public PaymentTypesAdapter(Context context, OnSelectedCallback<Integer> callback) {
         this.mContext = context;
-        this.mPaymentTypes = new ArrayList<>();
+        this.mListUpdater = new ListUpdater<>(this, ITEM_CALLBACK);
         this.mCallback = callback;
+        setHasStableIds(true);
     }
 
+    /**
+     * Replaces the rows, notifying only the ones that changed.
+     */
     public void addResults(List<PaymentType> list) {
-        mPaymentTypes.addAll(list);
-        notifyDataSetChanged();
+        mListUpdater.setList(list);
+    }
+
+    /**
+     * @return true while the rows don't show the list added last yet, so selections should wait.
+     */
+    public boolean isUpdating() {
+        return mListUpdater.isUpdating();
     }
 
     public void clear() {
-        mPaymentTypes.clear();
-        notifyDataSetChanged();
+        mListUpdater.setList(null);
     }
 
     @Override
@@ -51,18 +74,23 @@ public class PaymentTypesAdapter extends RecyclerView.Adapter<PaymentTypesAdapte
 
     @Override
     public void onBindViewHolder(ViewHolder holder, int position) {
-        PaymentType paymentType = mPaymentTypes.get(position);
+        PaymentType paymentType = mListUpdater.getList().get(position);
         holder.mPaymentTypeIdTextView.setText(paymentType.toString(mContext));
     }
 
 
     public PaymentType getItem(int position) {
-        return mPaymentTypes.get(position);
+        return mListUpdater.getList().get(position);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return mListUpdater.getItemId(position);
     }
 
     @Override
     public int getItemCount() {
-        return mPaymentTypes.size();
+        return mListUpdater.getList().size();
     }
 
     public class ViewHolder extends RecyclerView.ViewHolder {
@@ -78,7 +106,9 @@ public class PaymentTypesAdapter extends RecyclerView.Adapter<PaymentTypesAdapte
                 public boolean onKey(View v, int keyCode, KeyEvent event) {
                     if (event != null && event.getAction() == KeyEvent.ACTION_DOWN
                             && event.getKeyCode() == KeyEvent.KEYCODE_DPAD_CENTER) {
-                        mCallback.onSelected(getLayoutPosition());
+                        if (!isUpdating()) {
+                            mCallback.onSelected(getLayoutPosition());
+                        }
                         return true;
                     }
                     return false;
@@ -0,0 +1,196 @@
+package com.mercadopago.adapters;
+
+import com.mercadopago.BuildConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import okhttp3.Request;
+
+/**
+ * Decides whether and when a request that failed to reach the api is retried.
+ * <p>
+ * Each endpoint has a {@link RetryPolicy}, the one registered for the longest prefix of its path
+ * or the default one. Requests whose method isn't idempotent are retried only if they have an
+ * idempotency key or their policy says they are idempotent. Retries are also limited by a budget
+ * that grows with requests, so when the network flaps retries don't multiply the load on the api.
+ */
+public class RetryEngine {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "X-Idempotency-Key";
+
+    //Each request allows a fifth of a retry, up to ten retries in a row.
+    private static final double BUDGET_PER_REQUEST = 0.2;
+    private static final double MAX_BUDGET = 10;
+
+    private static RetryEngine mInstance;
+
+    private final Map<String, RetryPolicy> mPolicies;
+    private final Random mRandom;
+    private RetryPolicy mDefaultPolicy;
+    private double mBudget;
+
+    private long mRequests;
+    private long mRetries;
+    private long mRecoveredRequests;
+    private long mExhaustedRequests;
+    private long mNotIdempotentRequests;
+    private long mOverBudgetRequests;
+
+    protected RetryEngine() {
+        mPolicies = new LinkedHashMap<>();
+        mRandom = new Random();
+        mDefaultPolicy = new RetryPolicy.Builder().build();
+        mBudget = MAX_BUDGET;
+
+        mPolicies.put("/" + BuildConfig.API_VERSION + "/checkout/payment_methods/search/options", new RetryPolicy.Builder()
+                .setIdempotent()
+                .build());
+        mPolicies.put("/" + BuildConfig.API_VERSION + "/checkout/payments", new RetryPolicy.Builder()
+                .setMaxRetries(2)
+                .setInitialDelay(1000)
+                .build());
+    }
+
+    public synchronized static RetryEngine getInstance() {
+        if (mInstance == null) {
+            mInstance = new RetryEngine();
+        }
+        return mInstance;
+    }
+
+    public synchronized void setDefaultPolicy(RetryPolicy policy) {
+        mDefaultPolicy = policy;
+    }
+
+    /**
+     * Sets the policy of the endpoints whose path starts with the given prefix.
+     */
+    public synchronized void setPolicy(String pathPrefix, RetryPolicy policy) {
+        mPolicies.put(pathPrefix, policy);
+    }
+
+    public synchronized RetryPolicy getPolicy(String path) {
+        RetryPolicy policy = mDefaultPolicy;
+        int prefixLength = -1;
+        for (Map.Entry<String, RetryPolicy> entry : mPolicies.entrySet()) {
+            if (path != null && path.startsWith(entry.getKey()) && entry.getKey().length() > prefixLength) {
+                policy = entry.getValue();
+                prefixLength = entry.getKey().length();
+            }
+        }
+        return policy;
+    }
+
+    /**
+     * Called when a request is sent for the first time.
+     */
+    public synchronized void onRequest() {
+        mRequests++;
+        mBudget = Math.min(MAX_BUDGET, mBudget + BUDGET_PER_REQUEST);
+    }
+
+    /**
+     * Called when a request reaches the api.
+     */
+    public synchronized void onResponse(int retries) {
+        if (retries > 0) {
+            mRecoveredRequests++;
+        }
+    }
+
+    public long getRetryDelay(Request request, int retry) {
+        return getRetryDelay(request.method(), request.url().encodedPath(), request.header(IDEMPOTENCY_KEY_HEADER), retry);
+    }
+
+    /**
+     * @param retry the number of the retry, starting at 1.
+     * @return the time to wait before retrying the request, in milliseconds, or -1 if it must not
+     * be retried.
+     */
+    public synchronized long getRetryDelay(String method, String path, String idempotencyKey, int retry) {
+        RetryPolicy policy = getPolicy(path);
+        if (!policy.isIdempotent() && !isIdempotent(method) && (idempotencyKey == null || idempotencyKey.isEmpty())) {
+            mNotIdempotentRequests++;
+            return -1;
+        } else if (retry > policy.getMaxRetries()) {
+            mExhaustedRequests++;
+            return -1;
+        } else if (mBudget < 1) {
+            mOverBudgetRequests++;
+            return -1;
+        }
+        mBudget--;
+        mRetries++;
+        return policy.getDelay(retry, random());
+    }
+
+    public synchronized Metrics getMetrics() {
+        return new Metrics(mRequests, mRetries, mRecoveredRequests, mExhaustedRequests, mNotIdempotentRequests, mOverBudgetRequests);
+    }
+
+    protected double random() {
+        return mRandom.nextDouble();
+    }
+
+    private static boolean isIdempotent(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "PUT".equals(method)
+                || "DELETE".equals(method) || "OPTIONS".equals(method);
+    }
+
+    public static class Metrics {
+
+        private final long requests;
+        private final long retries;
+        private final long recoveredRequests;
+        private final long exhaustedRequests;
+        private final long notIdempotentRequests;
+        private final long overBudgetRequests;
+
+        private Metrics(long requests, long retries, long recoveredRequests, long exhaustedRequests, long notIdempotentRequests, long overBudgetRequests) {
+            this.requests = requests;
+            this.retries = retries;
+            this.recoveredRequests = recoveredRequests;
+            this.exhaustedRequests = exhaustedRequests;
+            this.notIdempotentRequests = notIdempotentRequests;
+            this.overBudgetRequests = overBudgetRequests;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getRetries() {
+            return retries;
+        }
+
+        /**
+         * @return requests that reached the api after being retried.
+         */
+        public long getRecoveredRequests() {
+            return recoveredRequests;
+        }
+
+        /**
+         * @return failed requests not retried because they were retried the max times of their policy.
+         */
+        public long getExhaustedRequests() {
+            return exhaustedRequests;
+        }
+
+        /**
+         * @return failed requests not retried because they are not idempotent.
+         */
+        public long getNotIdempotentRequests() {
+            return notIdempotentRequests;
+        }
+
+        /**
+         * @return failed requests not retried because the retry budget was spent.
+         */
+        public long getOverBudgetRequests() {
+            return overBudgetRequests;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.mercadopago.adapters;
+
+/**
+ * How many times and how late a request that failed to reach the api is retried. The delay
+ * grows exponentially with each retry, up to a maximum, and half of it is random so clients
+ * that failed together don't retry together.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_INITIAL_DELAY = 500;
+    public static final long DEFAULT_MAX_DELAY = 8000;
+    public static final double DEFAULT_MULTIPLIER = 2;
+
+    private final int maxRetries;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final double multiplier;
+    private final boolean idempotent;
+
+    private RetryPolicy(Builder builder) {
+        this.maxRetries = builder.maxRetries;
+        this.initialDelay = builder.initialDelay;
+        this.maxDelay = builder.maxDelay;
+        this.multiplier = builder.multiplier;
+        this.idempotent = builder.idempotent;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @return true if requests of the endpoint can be retried even when their method isn't
+     * idempotent, like searches sent as POST.
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * @param retry  the number of the retry, starting at 1.
+     * @param random a random number in [0, 1).
+     * @return the time to wait before the retry, in milliseconds.
+     */
+    public long getDelay(int retry, double random) {
+        double delay = initialDelay * Math.pow(multiplier, retry - 1);
+        long cappedDelay = (long) Math.min(delay, maxDelay);
+        return cappedDelay / 2 + (long) (random * (cappedDelay - cappedDelay / 2));
+    }
+
+    public static class Builder {
+
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+        private long initialDelay = DEFAULT_INITIAL_DELAY;
+        private long maxDelay = DEFAULT_MAX_DELAY;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private boolean idempotent = false;
+
+        public Builder setMaxRetries(int maxRetries) {
+            if (maxRetries < 0) throw new IllegalArgumentException("max retries is negative");
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder setInitialDelay(long initialDelay) {
+            if (initialDelay < 0) throw new IllegalArgumentException("initial delay is negative");
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        public Builder setMaxDelay(long maxDelay) {
+            if (maxDelay < 0) throw new IllegalArgumentException("max delay is negative");
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder setMultiplier(double multiplier) {
+            if (multiplier < 1) throw new IllegalArgumentException("multiplier is lower than 1");
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        public Builder setIdempotent() {
+            this.idempotent = true;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -16,5 +16,9 @@ public abstract class Callback<T> {
      */
     public abstract void failure(ApiException apiException);
 
+    /**
+     * @deprecated retries are counted by {@link com.mercadopago.adapters.RetryEngine}, this is no longer updated.
+     */
+    @Deprecated
     public int attempts = 0;
 }
@@ -0,0 +1,8 @@
+package com.mercadopago.callbacks;
+
+/**
+ * Implemented by callbacks that can use part of a result before the whole of it is available.
+ */
+public interface OnPartialResultCallback<P> {
+    void onPartialResult(P partialResult);
+}
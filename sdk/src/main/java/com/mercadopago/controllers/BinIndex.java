@@ -0,0 +1,319 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.Setting;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index over the bin patterns of a list of payment methods, built once so that guessing a bin
+ * doesn't go through every setting of every payment method.
+ * <p>
+ * The literal digits a pattern starts with are stored in a digit trie, so a lookup only checks
+ * the settings whose prefix matches the bin. Candidates are confirmed with the compiled patterns
+ * and, as in {@link Setting#getSettingByBin(List, String)}, the last matching setting of each
+ * payment method wins.
+ */
+public class BinIndex {
+
+    private static final int MAX_PREFIXES_PER_PATTERN = 256;
+
+    private final List<PaymentMethod> mPaymentMethods;
+    private final List<IndexedSetting> mSettings;
+    private final TrieNode mRoot;
+
+    public BinIndex(List<PaymentMethod> paymentMethods) {
+        mPaymentMethods = paymentMethods == null ? Collections.<PaymentMethod>emptyList() : paymentMethods;
+        mSettings = new ArrayList<>();
+        mRoot = new TrieNode();
+
+        for (int i = 0; i < mPaymentMethods.size(); i++) {
+            List<Setting> settings = mPaymentMethods.get(i).getSettings();
+            if (settings != null) {
+                for (Setting setting : settings) {
+                    if (setting != null && setting.getBin() != null && setting.getBin().getPattern() != null) {
+                        addSetting(new IndexedSetting(i, setting));
+                    }
+                }
+            }
+        }
+    }
+
+    public List<PaymentMethod> getPaymentMethods() {
+        return mPaymentMethods;
+    }
+
+    /**
+     * @return the payment methods valid for the bin, in their original order, each with the
+     * setting that applies to it.
+     */
+    public List<BinMatch> match(String bin) {
+        List<BinMatch> matches = new ArrayList<>();
+        if (bin == null || bin.isEmpty()) {
+            return matches;
+        }
+
+        BitSet candidates = new BitSet(mSettings.size());
+        TrieNode node = mRoot;
+        node.addCandidatesTo(candidates);
+        for (int i = 0; i < bin.length() && node != null; i++) {
+            node = node.getChild(bin.charAt(i));
+            if (node != null) {
+                node.addCandidatesTo(candidates);
+            }
+        }
+
+        int currentPaymentMethod = -1;
+        Setting currentSetting = null;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            IndexedSetting indexedSetting = mSettings.get(i);
+            if (indexedSetting.paymentMethodIndex != currentPaymentMethod) {
+                addMatch(matches, currentPaymentMethod, currentSetting);
+                currentPaymentMethod = indexedSetting.paymentMethodIndex;
+                currentSetting = null;
+            }
+            if (indexedSetting.setting.getBin().isValidFor(bin)) {
+                currentSetting = indexedSetting.setting;
+            }
+        }
+        addMatch(matches, currentPaymentMethod, currentSetting);
+        return matches;
+    }
+
+    public List<PaymentMethod> getValidPaymentMethods(String bin) {
+        List<PaymentMethod> paymentMethods = new ArrayList<>();
+        for (BinMatch match : match(bin)) {
+            paymentMethods.add(match.getPaymentMethod());
+        }
+        return paymentMethods;
+    }
+
+    public Setting getSetting(PaymentMethod paymentMethod, String bin) {
+        for (BinMatch match : match(bin)) {
+            if (match.getPaymentMethod() == paymentMethod) {
+                return match.getSetting();
+            }
+        }
+        return null;
+    }
+
+    private void addMatch(List<BinMatch> matches, int paymentMethodIndex, Setting setting) {
+        if (setting != null) {
+            matches.add(new BinMatch(mPaymentMethods.get(paymentMethodIndex), setting));
+        }
+    }
+
+    private void addSetting(IndexedSetting indexedSetting) {
+        int index = mSettings.size();
+        mSettings.add(indexedSetting);
+
+        Set<String> prefixes = getLiteralPrefixes(indexedSetting.setting.getBin().getPattern());
+        for (String prefix : prefixes) {
+            TrieNode node = mRoot;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.getOrCreateChild(prefix.charAt(i));
+            }
+            node.candidates.set(index);
+        }
+    }
+
+    /**
+     * Returns digit strings such that any bin the pattern accepts starts with one of them. Parsing
+     * stops at the first construct that is not a digit, a group or an alternation, so the result
+     * may be shorter than the pattern, never wrong. An unparseable pattern yields the empty prefix.
+     */
+    static Set<String> getLiteralPrefixes(String pattern) {
+        Set<String> prefixes;
+        try {
+            PrefixParser parser = new PrefixParser(pattern);
+            prefixes = parser.parse();
+        } catch (IllegalArgumentException e) {
+            prefixes = null;
+        }
+        if (prefixes == null || prefixes.isEmpty()) {
+            prefixes = new LinkedHashSet<>();
+            prefixes.add("");
+        }
+        return prefixes;
+    }
+
+    public static class BinMatch {
+
+        private final PaymentMethod paymentMethod;
+        private final Setting setting;
+
+        public BinMatch(PaymentMethod paymentMethod, Setting setting) {
+            this.paymentMethod = paymentMethod;
+            this.setting = setting;
+        }
+
+        public PaymentMethod getPaymentMethod() {
+            return paymentMethod;
+        }
+
+        public Setting getSetting() {
+            return setting;
+        }
+    }
+
+    private static class IndexedSetting {
+
+        private final int paymentMethodIndex;
+        private final Setting setting;
+
+        private IndexedSetting(int paymentMethodIndex, Setting setting) {
+            this.paymentMethodIndex = paymentMethodIndex;
+            this.setting = setting;
+        }
+    }
+
+    private static class TrieNode {
+
+        private final TrieNode[] children = new TrieNode[10];
+        private final BitSet candidates = new BitSet();
+
+        private TrieNode getChild(char digit) {
+            return digit >= '0' && digit <= '9' ? children[digit - '0'] : null;
+        }
+
+        private TrieNode getOrCreateChild(char digit) {
+            int position = digit - '0';
+            if (children[position] == null) {
+                children[position] = new TrieNode();
+            }
+            return children[position];
+        }
+
+        private void addCandidatesTo(BitSet bitSet) {
+            bitSet.or(candidates);
+        }
+    }
+
+    private static class PrefixParser {
+
+        private final String pattern;
+        private int position;
+
+        private PrefixParser(String pattern) {
+            this.pattern = pattern;
+        }
+
+        private Set<String> parse() {
+            if (pattern.startsWith("^")) {
+                position++;
+            }
+            Alternatives alternatives = parseAlternation();
+            return alternatives.prefixes;
+        }
+
+        private Alternatives parseAlternation() {
+            Alternatives result = parseSequence();
+            while (position < pattern.length() && pattern.charAt(position) == '|') {
+                position++;
+                Alternatives branch = parseSequence();
+                result.prefixes.addAll(branch.prefixes);
+                result.complete = result.complete && branch.complete;
+            }
+            return result;
+        }
+
+        private Alternatives parseSequence() {
+            Alternatives result = new Alternatives("");
+            while (position < pattern.length()) {
+                char current = pattern.charAt(position);
+                if (current == '|' || current == ')') {
+                    break;
+                }
+                Alternatives atom;
+                if (current == '(') {
+                    position++;
+                    atom = parseAlternation();
+                    if (position >= pattern.length() || pattern.charAt(position) != ')') {
+                        throw new IllegalArgumentException("Unbalanced group in " + pattern);
+                    }
+                    position++;
+                } else if (current >= '0' && current <= '9') {
+                    position++;
+                    atom = new Alternatives(String.valueOf(current));
+                } else {
+                    atom = null;
+                }
+
+                if (atom == null || isQuantified()) {
+                    //The rest of the sequence is not a literal, but the group may still close later.
+                    result.complete = false;
+                    skipToSequenceEnd();
+                    break;
+                }
+                if (result.complete) {
+                    result.append(atom);
+                }
+            }
+            return result;
+        }
+
+        private boolean isQuantified() {
+            if (position < pattern.length()) {
+                char next = pattern.charAt(position);
+                return next == '?' || next == '*' || next == '+' || next == '{';
+            }
+            return false;
+        }
+
+        private void skipToSequenceEnd() {
+            int depth = 0;
+            while (position < pattern.length()) {
+                char current = pattern.charAt(position);
+                if (current == '\\') {
+                    position++;
+                } else if (current == '[') {
+                    while (position < pattern.length() && pattern.charAt(position) != ']') {
+                        position++;
+                    }
+                } else if (current == '(') {
+                    depth++;
+                } else if (current == ')' || current == '|') {
+                    if (depth == 0) {
+                        return;
+                    }
+                    if (current == ')') {
+                        depth--;
+                    }
+                }
+                position++;
+            }
+        }
+    }
+
+    private static class Alternatives {
+
+        private Set<String> prefixes;
+        private boolean complete;
+
+        private Alternatives(String prefix) {
+            prefixes = new LinkedHashSet<>();
+            prefixes.add(prefix);
+            complete = true;
+        }
+
+        private void append(Alternatives other) {
+            if (prefixes.size() * other.prefixes.size() > MAX_PREFIXES_PER_PATTERN) {
+                complete = false;
+                return;
+            }
+            Set<String> appended = new LinkedHashSet<>();
+            for (String prefix : prefixes) {
+                for (String suffix : other.prefixes) {
+                    appended.add(prefix + suffix);
+                }
+            }
+            prefixes = appended;
+            complete = other.complete;
+        }
+    }
+}
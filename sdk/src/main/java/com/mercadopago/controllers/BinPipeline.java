@@ -0,0 +1,146 @@
+package com.mercadopago.controllers;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.mercadopago.adapters.MPCall;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns the edits of a card number into bin events, so the work that depends on the bin runs once
+ * per bin and not once per keystroke.
+ * <p>
+ * The bin is compared with the previous one, so only an actual change is reported: typing the rest
+ * of the number doesn't report it again, and pasting a number or editing its first digits does.
+ * A change is reported at once, for the work the form needs right away like guessing the payment
+ * method, and again when the bin didn't change for the debounce time, for requests. The calls made
+ * for a bin are tracked and cancelled when a newer bin replaces it, so the latest bin wins.
+ * <p>
+ * Must be used from the main thread.
+ */
+public class BinPipeline {
+
+    public static final long DEFAULT_DEBOUNCE_TIME = 300;
+
+    private final long mDebounceTime;
+    private final List<MPCall<?>> mCalls;
+    private final Runnable mSettle;
+
+    private Handler mHandler;
+    private OnBinChangedListener mOnBinChangedListener;
+    private OnBinSettledListener mOnBinSettledListener;
+    private String mBin;
+    private boolean mSettled;
+
+    public BinPipeline() {
+        this(DEFAULT_DEBOUNCE_TIME);
+    }
+
+    public BinPipeline(long debounceTime) {
+        mDebounceTime = debounceTime;
+        mCalls = new ArrayList<>();
+        mSettle = new Runnable() {
+            @Override
+            public void run() {
+                mSettled = true;
+                if (mOnBinSettledListener != null) {
+                    mOnBinSettledListener.onBinSettled(mBin);
+                }
+            }
+        };
+    }
+
+    public void setOnBinChangedListener(OnBinChangedListener listener) {
+        mOnBinChangedListener = listener;
+    }
+
+    public void setOnBinSettledListener(OnBinSettledListener listener) {
+        mOnBinSettledListener = listener;
+    }
+
+    /**
+     * @param bin the bin of the card number, or null if the number is shorter than a bin.
+     */
+    public void update(String bin) {
+        if (bin == null ? mBin == null : bin.equals(mBin)) {
+            return;
+        }
+        String previousBin = mBin;
+        cancel();
+        mBin = bin;
+        if (mOnBinChangedListener != null) {
+            mOnBinChangedListener.onBinChanged(previousBin, bin);
+        }
+        //A listener may have changed the bin again.
+        if (bin != null && mBin == bin) {
+            postDelayed(mSettle, mDebounceTime);
+        }
+    }
+
+    /**
+     * Keeps a call made for the current bin, to cancel it when the bin changes. Calls made while
+     * there is no bin are not tracked.
+     *
+     * @return the call.
+     */
+    public <C extends MPCall<?>> C track(C call) {
+        if (call != null && mBin != null) {
+            mCalls.add(call);
+        }
+        return call;
+    }
+
+    /**
+     * Cancels the calls of the current bin and its settled event. The bin is kept.
+     */
+    public void cancel() {
+        removeCallbacks(mSettle);
+        mSettled = false;
+        for (MPCall<?> call : mCalls) {
+            call.cancel();
+        }
+        mCalls.clear();
+    }
+
+    public String getBin() {
+        return mBin;
+    }
+
+    /**
+     * @return true if the current bin didn't change for the debounce time.
+     */
+    public boolean isSettled() {
+        return mSettled;
+    }
+
+    protected void postDelayed(Runnable runnable, long delay) {
+        getHandler().postDelayed(runnable, delay);
+    }
+
+    protected void removeCallbacks(Runnable runnable) {
+        if (mHandler != null) {
+            mHandler.removeCallbacks(runnable);
+        }
+    }
+
+    private Handler getHandler() {
+        if (mHandler == null) {
+            mHandler = new Handler(Looper.getMainLooper());
+        }
+        return mHandler;
+    }
+
+    public interface OnBinChangedListener {
+        /**
+         * @param previousBin the bin replaced, or null if the number was shorter than a bin.
+         * @param bin         the new bin, or null if the number is now shorter than a bin.
+         */
+        void onBinChanged(String previousBin, String bin);
+    }
+
+    public interface OnBinSettledListener {
+        void onBinSettled(String bin);
+    }
+}
@@ -0,0 +1,222 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.util.MPCardMaskUtil;
+import com.mercadopago.util.MercadoPagoUtil;
+
+/**
+ * Keeps the digits of the card number being typed and its masked representation in reusable
+ * buffers, so a keystroke doesn't create new Strings nor go through regular expressions.
+ * <p>
+ * Only the digits after the first one that changed are copied and masked again, and the
+ * listener is told which chars of the masked number changed, if any. The masked number is
+ * grouped as {@link MPCardMaskUtil#buildNumberWithMask(int, String)} does for the card number
+ * length of the resolved setting.
+ */
+public class CardNumberEditor {
+
+    public static final int MAX_DIGITS = 19;
+
+    //Up to a space after every four digits.
+    private static final int MAX_MASKED_LENGTH = MAX_DIGITS + MAX_DIGITS / 4;
+
+    private final char[] mDigits;
+    private final char[] mMasked;
+    private final int[] mMaskedPositions;
+    private final CharSequence mMaskedNumber;
+    private int mLength;
+    private int mCardNumberLength;
+    private int mMaskedLength;
+    private String mNumber;
+    private String mBin;
+    private OnCardNumberChangedListener mListener;
+
+    public CardNumberEditor() {
+        mDigits = new char[MAX_DIGITS];
+        mMasked = new char[MAX_MASKED_LENGTH];
+        mMaskedPositions = new int[MAX_DIGITS];
+        mMaskedNumber = new MaskedNumber();
+        mNumber = "";
+        setCardNumberLength(MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH);
+    }
+
+    public void setOnCardNumberChangedListener(OnCardNumberChangedListener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Groups the masked number for the given card number length, as in
+     * {@link com.mercadopago.model.CardNumber#getLength()}.
+     */
+    public void setCardNumberLength(int cardNumberLength) {
+        int length = Math.max(0, Math.min(cardNumberLength, MAX_DIGITS));
+        if (length == mCardNumberLength && mMaskedLength > 0) {
+            return;
+        }
+        mCardNumberLength = length;
+        int position = 0;
+        for (int i = 1; i <= length; i++) {
+            mMaskedPositions[i - 1] = position;
+            mMasked[position++] = getMaskedChar(i - 1);
+            if (isSpaceAfter(length, i)) {
+                mMasked[position++] = ' ';
+            }
+        }
+        mMaskedLength = position;
+        notifyChanged(0, mMaskedLength);
+    }
+
+    public int getCardNumberLength() {
+        return mCardNumberLength;
+    }
+
+    /**
+     * Takes the digits of the text of the card number input, ignoring spaces and any other char.
+     *
+     * @return true if the digits changed.
+     */
+    public boolean update(CharSequence text) {
+        int firstChange = -1;
+        int length = 0;
+        for (int i = 0; i < text.length() && length < MAX_DIGITS; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (firstChange < 0 && (length >= mLength || mDigits[length] != c)) {
+                    firstChange = length;
+                }
+                mDigits[length++] = c;
+            }
+        }
+        if (firstChange < 0 && length < mLength) {
+            firstChange = length;
+        }
+        if (firstChange < 0) {
+            return false;
+        }
+        int lastChange = Math.max(length, mLength);
+        mLength = length;
+        mNumber = null;
+        if (firstChange < MercadoPagoUtil.BIN_LENGTH) {
+            mBin = null;
+        }
+
+        int maskedLastChange = Math.min(lastChange, mCardNumberLength);
+        for (int i = firstChange; i < maskedLastChange; i++) {
+            mMasked[mMaskedPositions[i]] = getMaskedChar(i);
+        }
+        if (firstChange < maskedLastChange) {
+            int start = mMaskedPositions[firstChange];
+            notifyChanged(start, mMaskedPositions[maskedLastChange - 1] + 1 - start);
+        }
+        return true;
+    }
+
+    public void clear() {
+        update("");
+    }
+
+    public int getLength() {
+        return mLength;
+    }
+
+    /**
+     * @return the digits typed, created only once until they change.
+     */
+    public String getNumber() {
+        if (mNumber == null) {
+            mNumber = new String(mDigits, 0, mLength);
+        }
+        return mNumber;
+    }
+
+    /**
+     * @return the bin of the number, created only once until its digits change, or null if the
+     * number is shorter than a bin.
+     */
+    public String getBin() {
+        if (mLength < MercadoPagoUtil.BIN_LENGTH) {
+            return null;
+        }
+        if (mBin == null) {
+            mBin = new String(mDigits, 0, MercadoPagoUtil.BIN_LENGTH);
+        }
+        return mBin;
+    }
+
+    /**
+     * @return the masked number, backed by the buffer of the editor. It changes with the number.
+     */
+    public CharSequence getMaskedNumber() {
+        return mMaskedNumber;
+    }
+
+    /**
+     * @return the buffer with the masked number, to be read up to {@link #getMaskedLength()}.
+     */
+    public char[] getMaskedChars() {
+        return mMasked;
+    }
+
+    public int getMaskedLength() {
+        return mMaskedLength;
+    }
+
+    private char getMaskedChar(int index) {
+        return index < mLength ? mDigits[index] : MPCardMaskUtil.HIDDEN_NUMBER_CHAR;
+    }
+
+    private void notifyChanged(int start, int count) {
+        if (mListener != null) {
+            mListener.onCardNumberChanged(this, start, count);
+        }
+    }
+
+    /**
+     * @return true if the mask has a space after the given amount of digits.
+     */
+    public static boolean isSpaceAfter(int cardNumberLength, int digits) {
+        switch (cardNumberLength) {
+            case MPCardMaskUtil.CARD_NUMBER_AMEX_LENGTH:
+            case MPCardMaskUtil.CARD_NUMBER_DINERS_LENGTH:
+                return digits == 4 || digits == 10;
+            case MPCardMaskUtil.CARD_NUMBER_MAESTRO_SETTING_1_LENGTH:
+                return digits == 10 || digits == 15;
+            case MPCardMaskUtil.CARD_NUMBER_MAESTRO_SETTING_2_LENGTH:
+                return digits == 9;
+            default:
+                return digits % 4 == 0;
+        }
+    }
+
+    public interface OnCardNumberChangedListener {
+
+        /**
+         * @param start the first char of the masked number that changed.
+         * @param count how many chars of the masked number changed from start.
+         */
+        void onCardNumberChanged(CardNumberEditor editor, int start, int count);
+    }
+
+    private class MaskedNumber implements CharSequence {
+
+        @Override
+        public int length() {
+            return mMaskedLength;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index >= mMaskedLength) throw new IndexOutOfBoundsException("char " + index + " of " + mMaskedLength);
+            return mMasked[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(mMasked, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(mMasked, 0, mMaskedLength);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.adapters.MPCall;
+import com.mercadopago.callbacks.Callback;
+import com.mercadopago.model.ApiException;
+import com.mercadopago.model.Installment;
+import com.mercadopago.model.Issuer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gets the issuers of a card, and its installments when it has only one issuer, as soon as its
+ * payment method is known for its bin, while the rest of the card form is filled. When the card
+ * flow asks for them they are served from the prefetch, or the prefetch in flight is joined,
+ * instead of requesting them after the token is created.
+ * <p>
+ * A new prefetch for another payment method or bin cancels the previous one and its requests.
+ * A failed prefetch is not reported, the data is requested again for each callback that asked
+ * for it. Must be used from the main thread, where the callbacks are delivered.
+ */
+public abstract class CardPrefetcher {
+
+    private final List<MPCall<?>> mCalls = new ArrayList<>();
+    private String mPaymentMethodId;
+    private String mBin;
+    private BigDecimal mAmount;
+    private Prefetch<List<Issuer>> mIssuers;
+    private Long mIssuerId;
+    private Prefetch<List<Installment>> mInstallments;
+
+    /**
+     * Starts prefetching the data of the card, unless it's already being prefetched.
+     *
+     * @param amount the amount of the installments, or null to prefetch only the issuers.
+     */
+    public void prefetch(final String paymentMethodId, final String bin, BigDecimal amount) {
+        if (mIssuers != null && equals(mPaymentMethodId, paymentMethodId) && equals(mBin, bin) && equals(mAmount, amount)) {
+            return;
+        }
+        cancel();
+        mPaymentMethodId = paymentMethodId;
+        mBin = bin;
+        mAmount = amount;
+        mIssuers = new Prefetch<List<Issuer>>() {
+            @Override
+            protected void onPrefetched(List<Issuer> result) {
+                if (mAmount != null && result != null && result.size() == 1 && result.get(0) != null) {
+                    prefetchInstallments(result.get(0).getId());
+                }
+            }
+
+            @Override
+            protected void fetch(Callback<List<Issuer>> callback) {
+                requestIssuers(paymentMethodId, bin, callback);
+            }
+        };
+        mIssuers.fetch(mIssuers);
+    }
+
+    /**
+     * Discards the data prefetched or being prefetched, and cancels the requests made for the card.
+     */
+    public void cancel() {
+        if (mIssuers != null) {
+            mIssuers.cancel();
+        }
+        if (mInstallments != null) {
+            mInstallments.cancel();
+        }
+        for (MPCall<?> call : mCalls) {
+            call.cancel();
+        }
+        mCalls.clear();
+        mPaymentMethodId = null;
+        mBin = null;
+        mAmount = null;
+        mIssuers = null;
+        mIssuerId = null;
+        mInstallments = null;
+    }
+
+    public void getIssuers(String paymentMethodId, String bin, Callback<List<Issuer>> callback) {
+        if (mIssuers == null || !equals(mPaymentMethodId, paymentMethodId) || !equals(mBin, bin)
+                || !mIssuers.deliverTo(callback)) {
+            requestIssuers(paymentMethodId, bin, callback);
+        }
+    }
+
+    public void getInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback) {
+        if (mInstallments == null || !equals(mPaymentMethodId, paymentMethodId) || !equals(mBin, bin)
+                || !equals(mAmount, amount) || !equals(mIssuerId, issuerId) || !mInstallments.deliverTo(callback)) {
+            requestInstallments(bin, amount, issuerId, paymentMethodId, callback);
+        }
+    }
+
+    /**
+     * @return the call, to cancel it.
+     */
+    protected abstract MPCall<List<Issuer>> fetchIssuers(String paymentMethodId, String bin, Callback<List<Issuer>> callback);
+
+    /**
+     * @return the call, to cancel it.
+     */
+    protected abstract MPCall<List<Installment>> fetchInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback);
+
+    private void prefetchInstallments(final Long issuerId) {
+        final String paymentMethodId = mPaymentMethodId;
+        final String bin = mBin;
+        final BigDecimal amount = mAmount;
+        mIssuerId = issuerId;
+        mInstallments = new Prefetch<List<Installment>>() {
+            @Override
+            protected void fetch(Callback<List<Installment>> callback) {
+                requestInstallments(bin, amount, issuerId, paymentMethodId, callback);
+            }
+        };
+        mInstallments.fetch(mInstallments);
+    }
+
+    private void requestIssuers(String paymentMethodId, String bin, Callback<List<Issuer>> callback) {
+        track(fetchIssuers(paymentMethodId, bin, callback));
+    }
+
+    private void requestInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback) {
+        track(fetchInstallments(bin, amount, issuerId, paymentMethodId, callback));
+    }
+
+    private void track(MPCall<?> call) {
+        if (call != null) {
+            mCalls.add(call);
+        }
+    }
+
+    private static boolean equals(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private abstract static class Prefetch<T> extends Callback<T> {
+
+        private final List<Callback<T>> mWaiting = new ArrayList<>();
+        private boolean mCancelled;
+        private boolean mDone;
+        private T mResult;
+        private ApiException mError;
+
+        @Override
+        public void success(T result) {
+            if (mCancelled) {
+                return;
+            }
+            mDone = true;
+            mResult = result;
+            onPrefetched(result);
+            List<Callback<T>> waiting = new ArrayList<>(mWaiting);
+            mWaiting.clear();
+            for (Callback<T> callback : waiting) {
+                callback.success(result);
+            }
+        }
+
+        @Override
+        public void failure(ApiException apiException) {
+            if (mCancelled) {
+                return;
+            }
+            mDone = true;
+            mError = apiException;
+            List<Callback<T>> waiting = new ArrayList<>(mWaiting);
+            mWaiting.clear();
+            for (Callback<T> callback : waiting) {
+                fetch(callback);
+            }
+        }
+
+        protected void onPrefetched(T result) {
+        }
+
+        /**
+         * Requests the data for the callback.
+         */
+        protected abstract void fetch(Callback<T> callback);
+
+        /**
+         * Gives the result to the callback, now or when it arrives.
+         *
+         * @return false if the prefetch failed, so the data has to be requested again.
+         */
+        private boolean deliverTo(Callback<T> callback) {
+            if (!mDone) {
+                mWaiting.add(callback);
+            } else if (mError == null) {
+                callback.success(mResult);
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        private void cancel() {
+            mCancelled = true;
+            mWaiting.clear();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.mercadopago.controllers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Joins the independent requests issued when a checkout starts and keeps track of how long each
+ * stage took. Branches are awaited before any request is issued, so the finish listener is called
+ * exactly once, when the last branch completes, no matter the order in which responses arrive.
+ */
+public class CheckoutBootstrap {
+
+    public static final String STAGE_PREFERENCE = "preference";
+    public static final String STAGE_DISCOUNTS = "discounts";
+    public static final String STAGE_CAMPAIGNS = "campaigns";
+    public static final String STAGE_DIRECT_DISCOUNT = "direct_discount";
+    public static final String STAGE_PAYMENT_METHOD_SEARCH = "payment_method_search";
+
+    private final Set<String> mPendingBranches;
+    private final Map<String, Long> mStageStarts;
+    private final List<StageTiming> mStageTimings;
+    private final long mStartTime;
+
+    private FinishListener mFinishListener;
+    private StageTiming mCriticalStage;
+    private boolean mFinished;
+
+    public CheckoutBootstrap() {
+        mPendingBranches = new LinkedHashSet<>();
+        mStageStarts = new HashMap<>();
+        mStageTimings = new ArrayList<>();
+        mStartTime = now();
+    }
+
+    public void setFinishListener(FinishListener finishListener) {
+        mFinishListener = finishListener;
+    }
+
+    public void awaitBranch(String branch) {
+        mPendingBranches.add(branch);
+        startStage(branch);
+    }
+
+    public void completeBranch(String branch) {
+        finishStage(branch);
+        if (mPendingBranches.remove(branch) && mPendingBranches.isEmpty() && !mFinished) {
+            mFinished = true;
+            if (mFinishListener != null) {
+                mFinishListener.onFinish(this);
+            }
+        }
+    }
+
+    public void startStage(String stage) {
+        mStageStarts.put(stage, now());
+    }
+
+    public void finishStage(String stage) {
+        Long stageStart = mStageStarts.remove(stage);
+        if (stageStart != null) {
+            StageTiming timing = new StageTiming(stage, stageStart - mStartTime, now() - stageStart);
+            mStageTimings.add(timing);
+            if (mCriticalStage == null || timing.getEndOffset() >= mCriticalStage.getEndOffset()) {
+                mCriticalStage = timing;
+            }
+        }
+    }
+
+    public boolean isFinished() {
+        return mFinished;
+    }
+
+    public List<StageTiming> getStageTimings() {
+        return Collections.unmodifiableList(mStageTimings);
+    }
+
+    /**
+     * @return the stage that finished last, the one that bounds the time to first screen.
+     */
+    public StageTiming getCriticalStage() {
+        return mCriticalStage;
+    }
+
+    public long getElapsedTime() {
+        return mCriticalStage == null ? 0 : mCriticalStage.getEndOffset();
+    }
+
+    protected long now() {
+        return System.currentTimeMillis();
+    }
+
+    public interface FinishListener {
+        void onFinish(CheckoutBootstrap bootstrap);
+    }
+
+    public static class StageTiming {
+
+        private final String stage;
+        private final long startOffset;
+        private final long duration;
+
+        public StageTiming(String stage, long startOffset, long duration) {
+            this.stage = stage;
+            this.startOffset = startOffset;
+            this.duration = duration;
+        }
+
+        public String getStage() {
+            return stage;
+        }
+
+        public long getStartOffset() {
+            return startOffset;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        public long getEndOffset() {
+            return startOffset + duration;
+        }
+
+        @Override
+        public String toString() {
+            return stage + " +" + startOffset + "ms (" + duration + "ms)";
+        }
+    }
+}
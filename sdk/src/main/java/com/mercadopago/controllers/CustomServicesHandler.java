@@ -1,10 +1,12 @@
 package com.mercadopago.controllers;
 
 import com.mercadopago.preferences.ServicePreference;
+import com.mercadopago.util.RetrofitUtil;
 
 public class CustomServicesHandler {
     private static CustomServicesHandler mInstance;
     private ServicePreference servicePreference;
+    private String baseUrls;
 
     private CustomServicesHandler(){}
 
@@ -21,6 +23,12 @@ public class CustomServicesHandler {
 
     public void setServices(ServicePreference servicePreference) {
         this.servicePreference = servicePreference;
+        //Cached services are keyed by base url, drop the ones built for urls that are no longer set.
+        String newBaseUrls = servicePreference == null ? null : servicePreference.getDefaultBaseURL() + "|" + servicePreference.getGatewayBaseURL();
+        if (baseUrls != null && !baseUrls.equals(newBaseUrls)) {
+            RetrofitUtil.clear();
+        }
+        baseUrls = newBaseUrls;
     }
 
     public ServicePreference getServicePreference() {
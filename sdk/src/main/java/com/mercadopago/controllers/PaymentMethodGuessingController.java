@@ -3,6 +3,8 @@ package com.mercadopago.controllers;
 import com.mercadopago.model.CardInformation;
 import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.model.Setting;
+import com.mercadopago.preferences.PaymentPreference;
+import com.mercadopago.preferences.PaymentPreferenceFilter;
 import com.mercadopago.util.MercadoPagoUtil;
 
 import java.util.ArrayList;
@@ -13,17 +15,29 @@ public class PaymentMethodGuessingController {
     private String mSavedBin;
     private List<PaymentMethod> mAllPaymentMethods;
     private List<PaymentMethod> mGuessedPaymentMethods;
-    private List<String> mExcludedPaymentTypes;
+    private PaymentPreferenceFilter mPaymentPreferenceFilter;
     private String mPaymentTypeId;
+    private BinIndex mBinIndex;
 
     public PaymentMethodGuessingController(List<PaymentMethod> paymentMethods,
                                            String paymentTypeId, List<String> excludedPaymentTypes) {
+        this(paymentMethods, getPaymentPreferenceFilter(paymentTypeId, excludedPaymentTypes));
+    }
+
+    public PaymentMethodGuessingController(List<PaymentMethod> paymentMethods, PaymentPreferenceFilter paymentPreferenceFilter) {
         this.mAllPaymentMethods = paymentMethods;
-        this.mExcludedPaymentTypes = excludedPaymentTypes;
-        this.mPaymentTypeId = paymentTypeId;
+        this.mPaymentPreferenceFilter = paymentPreferenceFilter;
+        this.mPaymentTypeId = paymentPreferenceFilter.getDefaultPaymentTypeId();
         this.mSavedBin = "";
     }
 
+    private static PaymentPreferenceFilter getPaymentPreferenceFilter(String paymentTypeId, List<String> excludedPaymentTypes) {
+        PaymentPreference paymentPreference = new PaymentPreference();
+        paymentPreference.setDefaultPaymentTypeId(paymentTypeId);
+        paymentPreference.setExcludedPaymentTypeIds(excludedPaymentTypes);
+        return paymentPreference.getFilter();
+    }
+
     public String getPaymentTypeId() {
         return mPaymentTypeId;
     }
@@ -37,15 +51,24 @@ public class PaymentMethodGuessingController {
             return mGuessedPaymentMethods;
         }
         saveBin(bin);
-        mGuessedPaymentMethods = MercadoPagoUtil
-                .getValidPaymentMethodsForBin(mSavedBin, this.mAllPaymentMethods);
+        mGuessedPaymentMethods = getValidPaymentMethodsForBin(mSavedBin);
         mGuessedPaymentMethods = getValidPaymentMethodForType(mPaymentTypeId, mGuessedPaymentMethods);
         if (mGuessedPaymentMethods.size() > 1) {
-            mGuessedPaymentMethods = filterByPaymentType(mExcludedPaymentTypes, mGuessedPaymentMethods);
+            mGuessedPaymentMethods = mPaymentPreferenceFilter.filterByPaymentType(mGuessedPaymentMethods);
         }
         return mGuessedPaymentMethods;
     }
 
+    private List<PaymentMethod> getValidPaymentMethodsForBin(String bin) {
+        if (bin.length() != MercadoPagoUtil.BIN_LENGTH) {
+            throw new RuntimeException("Invalid bin: " + MercadoPagoUtil.BIN_LENGTH + " digits needed, " + bin.length() + " found");
+        }
+        if (mBinIndex == null) {
+            mBinIndex = new BinIndex(mAllPaymentMethods);
+        }
+        return mBinIndex.getValidPaymentMethods(bin);
+    }
+
     public void saveBin(String bin) {
         mSavedBin = bin;
     }
@@ -74,15 +97,7 @@ public class PaymentMethodGuessingController {
             return guessingPaymentMethods;
         }
 
-        List<PaymentMethod> ans = new ArrayList<>();
-        for (PaymentMethod p : guessingPaymentMethods) {
-            for (String paymentType : excludedPaymentTypes) {
-                if (!paymentType.equals(p.getPaymentTypeId())) {
-                    ans.add(p);
-                }
-            }
-        }
-        return ans;
+        return getPaymentPreferenceFilter(null, excludedPaymentTypes).filterByPaymentType(guessingPaymentMethods);
     }
 
     public Setting getSettingByPaymentMethod(PaymentMethod paymentMethod) {
@@ -3,22 +3,17 @@ package com.mercadopago.core;
 import android.content.Context;
 import android.support.annotation.NonNull;
 
-import com.mercadopago.adapters.ErrorHandlingCallAdapter;
 import com.mercadopago.callbacks.Callback;
 import com.mercadopago.model.Customer;
 import com.mercadopago.model.Discount;
 import com.mercadopago.model.Payment;
 import com.mercadopago.preferences.CheckoutPreference;
 import com.mercadopago.services.CustomService;
-import com.mercadopago.util.HttpClientUtil;
-import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.RetrofitUtil;
 
 import java.util.HashMap;
 import java.util.Map;
 
-import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
-
 /**
  * Created by vaserber on 1/25/17.
  */
@@ -76,18 +71,7 @@ public class CustomServer {
 
     private static CustomService getService(Context context, String baseUrl) {
 
-        Retrofit retrofit = getRetrofit(context, baseUrl);
-        return retrofit.create(CustomService.class);
-    }
-
-    private static Retrofit getRetrofit(Context context, String baseUrl) {
-
-        return new Retrofit.Builder()
-                .baseUrl(baseUrl)
-                .client(HttpClientUtil.getClient(context, 20, 20, 20))
-                .addConverterFactory(GsonConverterFactory.create(JsonUtil.getInstance().getGson()))
-                .addCallAdapterFactory(new ErrorHandlingCallAdapter.ErrorHandlingCallAdapterFactory())
-                .build();
+        return RetrofitUtil.getService(context, baseUrl, 20, 20, 20, CustomService.class);
     }
 
     private static String ripFirstSlash(String uri) {
@@ -7,7 +7,6 @@ import android.content.Intent;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.mercadopago.BankDealsActivity;
-import com.mercadopago.BuildConfig;
 import com.mercadopago.CallForAuthorizeActivity;
 import com.mercadopago.CardVaultActivity;
 import com.mercadopago.CheckoutActivity;
@@ -26,7 +25,6 @@ import com.mercadopago.PendingActivity;
 import com.mercadopago.RejectionActivity;
 import com.mercadopago.SecurityCodeActivity;
 import com.mercadopago.VaultActivity;
-import com.mercadopago.adapters.ErrorHandlingCallAdapter;
 import com.mercadopago.callbacks.Callback;
 import com.mercadopago.model.BankDeal;
 import com.mercadopago.model.Campaign;
@@ -52,7 +50,6 @@ import com.mercadopago.model.SavedCardToken;
 import com.mercadopago.model.SecurityCodeIntent;
 import com.mercadopago.model.Site;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.CheckoutPreference;
 import com.mercadopago.preferences.DecorationPreference;
 import com.mercadopago.preferences.PaymentPreference;
@@ -62,8 +59,11 @@ import com.mercadopago.services.DiscountService;
 import com.mercadopago.services.GatewayService;
 import com.mercadopago.services.IdentificationService;
 import com.mercadopago.services.PaymentService;
-import com.mercadopago.util.HttpClientUtil;
 import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.SessionStore;
+import com.mercadopago.util.RetrofitUtil;
+import com.mercadopago.util.SdkExecutor;
+import com.mercadopago.util.TrackingPipeline;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -71,9 +71,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
-
 @Deprecated
 public class MercadoPago {
 
@@ -113,28 +110,17 @@ public class MercadoPago {
     private String mKeyType = null;
     private Context mContext = null;
 
-    Retrofit mRetrofit;
-
     private MercadoPago(Builder builder) {
 
         this.mContext = builder.mContext;
         this.mKey = builder.mKey;
         this.mKeyType = builder.mKeyType;
-
-        System.setProperty("http.keepAlive", "false");
-
-        mRetrofit = new Retrofit.Builder()
-                .baseUrl(MP_API_BASE_URL)
-                .addConverterFactory(GsonConverterFactory.create(JsonUtil.getInstance().getGson()))
-                .client(HttpClientUtil.getClient(this.mContext, 10, 20, 20))
-                .addCallAdapterFactory(new ErrorHandlingCallAdapter.ErrorHandlingCallAdapterFactory())
-                .build();
     }
 
     public void getPreference(String checkoutPreferenceId, Callback<CheckoutPreference> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_PREFERENCE", "3", mKey, BuildConfig.VERSION_NAME, mContext);
-            CheckoutService service = mRetrofit.create(CheckoutService.class);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_PREFERENCE", "3", mKey, mContext);
+            CheckoutService service = getService(CheckoutService.class);
             service.getPreference(checkoutPreferenceId, this.mKey).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -143,15 +129,8 @@ public class MercadoPago {
 
     public void createPayment(final PaymentBody paymentBody, final Callback<Payment> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "CREATE_PAYMENT", "1", mKey, BuildConfig.VERSION_NAME, mContext);
-            Retrofit paymentsRetrofitAdapter = new Retrofit.Builder()
-                    .baseUrl(MP_API_BASE_URL)
-                    .addConverterFactory(GsonConverterFactory.create(JsonUtil.getInstance().getGson()))
-                    .client(HttpClientUtil.getClient(this.mContext, 10, 40, 40))
-                    .addCallAdapterFactory(new ErrorHandlingCallAdapter.ErrorHandlingCallAdapterFactory())
-                    .build();
-
-            CheckoutService service = paymentsRetrofitAdapter.create(CheckoutService.class);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CREATE_PAYMENT", "1", mKey, mContext);
+            CheckoutService service = RetrofitUtil.getService(mContext, MP_API_BASE_URL, 10, 40, 40, CheckoutService.class);
             service.createPayment(paymentBody.getTransactionId(), paymentBody).enqueue(callback);
 
         } else {
@@ -161,15 +140,17 @@ public class MercadoPago {
 
     public void createToken(final SavedCardToken savedCardToken, final Callback<Token> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "CREATE_SAVED_CARD_TOKEN", "1", mKey, BuildConfig.VERSION_NAME, mContext);
-            new Thread(new Runnable() {
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CREATE_SAVED_CARD_TOKEN", "1", mKey, mContext);
+            SdkExecutor.getInstance().execute(this, new SdkExecutor.Task() {
                 @Override
                 public void run() {
                     savedCardToken.setDevice(mContext);
-                    GatewayService service = mRetrofit.create(GatewayService.class);
-                    service.getToken(mKey,"", savedCardToken).enqueue(callback);
+                    if (!isCancelled()) {
+                        GatewayService service = getService(GatewayService.class);
+                        service.getToken(mKey, "", savedCardToken).enqueue(callback);
+                    }
                 }
-            }).start();
+            });
 
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -178,25 +159,35 @@ public class MercadoPago {
 
     public void createToken(final CardToken cardToken, final Callback<Token> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "CREATE_CARD_TOKEN", "1", mKey, BuildConfig.VERSION_NAME, mContext);
-            new Thread(new Runnable() {
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CREATE_CARD_TOKEN", "1", mKey, mContext);
+            SdkExecutor.getInstance().execute(this, new SdkExecutor.Task() {
                 @Override
                 public void run() {
                     cardToken.setDevice(mContext);
-                    GatewayService service = mRetrofit.create(GatewayService.class);
-                    service.getToken(mKey, "", cardToken).enqueue(callback);
+                    if (!isCancelled()) {
+                        GatewayService service = getService(GatewayService.class);
+                        service.getToken(mKey, "", cardToken).enqueue(callback);
+                    }
                 }
-            }).start();
+            });
         } else {
             throw new RuntimeException("Unsupported key type for this method");
         }
     }
 
+    /**
+     * Cancels the background work scheduled by these services that hasn't finished, like building
+     * the fingerprint before creating a token. Requests already sent aren't cancelled.
+     */
+    public void cancelTasks() {
+        SdkExecutor.getInstance().cancel(this);
+    }
+
     public void cloneToken(final String tokenId, final Callback<Token> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mKey, mContext);
 
-            GatewayService service = mRetrofit.create(GatewayService.class);
+            GatewayService service = getService(GatewayService.class);
             service.getToken(tokenId, "", this.mKey).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -205,9 +196,9 @@ public class MercadoPago {
 
     public void putSecurityCode(final String tokenId, final SecurityCodeIntent securityCodeIntent, final Callback<Token> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mKey, mContext);
 
-            GatewayService service = mRetrofit.create(GatewayService.class);
+            GatewayService service = getService(GatewayService.class);
             service.getToken(tokenId, this.mKey,"",  securityCodeIntent).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -216,8 +207,8 @@ public class MercadoPago {
 
     public void getBankDeals(final Callback<List<BankDeal>> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_BANK_DEALS", "1", mKey, BuildConfig.VERSION_NAME, mContext);
-            BankDealService service = mRetrofit.create(BankDealService.class);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_BANK_DEALS", "1", mKey, mContext);
+            BankDealService service = getService(BankDealService.class);
             service.getBankDeals(this.mKey, "", mContext.getResources().getConfiguration().locale.toString()).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -226,9 +217,9 @@ public class MercadoPago {
 
     public void getDirectDiscount(String amount, String payerEmail, final Callback<Discount> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_DIRECT_DISCOUNT", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_DIRECT_DISCOUNT", "1", mKey, mContext);
 
-            DiscountService service = mRetrofit.create(DiscountService.class);
+            DiscountService service = getService(DiscountService.class);
             service.getDirectDiscount(this.mKey, amount, payerEmail).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -237,9 +228,9 @@ public class MercadoPago {
 
     public void getCodeDiscount(String amount, String payerEmail, String couponCode, final Callback<Discount> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_CODE_DISCOUNT", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_CODE_DISCOUNT", "1", mKey, mContext);
 
-            DiscountService service = mRetrofit.create(DiscountService.class);
+            DiscountService service = getService(DiscountService.class);
             service.getCodeDiscount(this.mKey, amount, payerEmail, couponCode).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -248,9 +239,9 @@ public class MercadoPago {
 
     public void getCampaigns(final Callback<List<Campaign>> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_CAMPAIGNS", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_CAMPAIGNS", "1", mKey, mContext);
 
-            DiscountService service = mRetrofit.create(DiscountService.class);
+            DiscountService service = getService(DiscountService.class);
             service.getCampaigns(this.mKey).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -258,9 +249,9 @@ public class MercadoPago {
     }
 
     public void getIdentificationTypes(Callback<List<IdentificationType>> callback) {
-        IdentificationService service = mRetrofit.create(IdentificationService.class);
+        IdentificationService service = getService(IdentificationService.class);
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_IDENTIFICATION_TYPES", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_IDENTIFICATION_TYPES", "1", mKey, mContext);
             service.getIdentificationTypes(this.mKey, null).enqueue(callback);
         } else {
             service.getIdentificationTypes(null, this.mKey).enqueue(callback);
@@ -269,8 +260,8 @@ public class MercadoPago {
 
     public void getInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_INSTALLMENTS", "1", mKey, BuildConfig.VERSION_NAME, mContext);
-            PaymentService service = mRetrofit.create(PaymentService.class);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_INSTALLMENTS", "1", mKey, mContext);
+            PaymentService service = getService(PaymentService.class);
             service.getInstallments(this.mKey,"",  bin, amount, issuerId, paymentMethodId,
                     mContext.getResources().getConfiguration().locale.toString()).enqueue(callback);
         } else {
@@ -280,8 +271,8 @@ public class MercadoPago {
 
     public void getIssuers(String paymentMethodId, String bin, final Callback<List<Issuer>> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_ISSUERS", "1", mKey, BuildConfig.VERSION_NAME, mContext);
-            PaymentService service = mRetrofit.create(PaymentService.class);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_ISSUERS", "1", mKey, mContext);
+            PaymentService service = getService(PaymentService.class);
             service.getIssuers(this.mKey, "", paymentMethodId, bin).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -290,8 +281,8 @@ public class MercadoPago {
 
     public void getPaymentMethods(final Callback<List<PaymentMethod>> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHODS", "1", mKey, BuildConfig.VERSION_NAME, mContext);
-            PaymentService service = mRetrofit.create(PaymentService.class);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHODS", "1", mKey, mContext);
+            PaymentService service = getService(PaymentService.class);
             service.getPaymentMethods(this.mKey, "").enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -300,9 +291,9 @@ public class MercadoPago {
 
     public void getPaymentMethodSearch(BigDecimal amount, List<String> excludedPaymentTypes, List<String> excludedPaymentMethods, Payer payer, final Callback<PaymentMethodSearch> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHOD_SEARCH", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHOD_SEARCH", "1", mKey, mContext);
             PayerIntent payerIntent = new PayerIntent(payer);
-            CheckoutService service = mRetrofit.create(CheckoutService.class);
+            CheckoutService service = getService(CheckoutService.class);
             String separator = ",";
             String excludedPaymentTypesAppended = getListAsString(excludedPaymentTypes, separator);
             String excludedPaymentMethodsAppended = getListAsString(excludedPaymentMethods, separator);
@@ -315,9 +306,9 @@ public class MercadoPago {
 
     public void getPaymentResult(Long paymentId, String paymentTypeId, final Callback<Instructions> callback) {
         if (this.mKeyType.equals(KEY_TYPE_PUBLIC)) {
-            MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_INSTRUCTIONS", "1", mKey, BuildConfig.VERSION_NAME, mContext);
+            TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_INSTRUCTIONS", "1", mKey, mContext);
 
-            CheckoutService service = mRetrofit.create(CheckoutService.class);
+            CheckoutService service = getService(CheckoutService.class);
             service.getPaymentResult(mContext.getResources().getConfiguration().locale.getLanguage(), paymentId, this.mKey, paymentTypeId, PAYMENT_RESULT_API_VERSION).enqueue(callback);
         } else {
             throw new RuntimeException("Unsupported key type for this method");
@@ -560,21 +551,21 @@ public class MercadoPago {
 
         guessingCardIntent.putExtra("showBankDeals", showBankDeals);
 
-        guessingCardIntent.putExtra("paymentPreference", JsonUtil.getInstance().toJson(paymentPreference));
+        SessionStore.getInstance().putExtra(guessingCardIntent, "paymentPreference", paymentPreference);
 
-        guessingCardIntent.putExtra("paymentMethodList", JsonUtil.getInstance().toJson(paymentMethodList));
+        SessionStore.getInstance().putExtra(guessingCardIntent, "paymentMethodList", paymentMethodList);
 
-        guessingCardIntent.putExtra("decorationPreference", JsonUtil.getInstance().toJson(decorationPreference));
+        SessionStore.getInstance().putExtra(guessingCardIntent, "decorationPreference", decorationPreference);
 
-        guessingCardIntent.putExtra("paymentRecovery", JsonUtil.getInstance().toJson(paymentRecovery));
+        SessionStore.getInstance().putExtra(guessingCardIntent, "paymentRecovery", paymentRecovery);
 
-        guessingCardIntent.putExtra("card", JsonUtil.getInstance().toJson(card));
+        SessionStore.getInstance().putExtra(guessingCardIntent, "card", card);
 
         guessingCardIntent.putExtra("payerEmail", payerEmail);
 
         guessingCardIntent.putExtra("transactionAmount", JsonUtil.getInstance().toJson(transactionAmount));
 
-        guessingCardIntent.putExtra("discount", JsonUtil.getInstance().toJson(discount));
+        SessionStore.getInstance().putExtra(guessingCardIntent, "discount", discount);
 
         guessingCardIntent.putExtra("installmentsEnabled", installmentsEnabled);
 
@@ -606,16 +597,16 @@ public class MercadoPago {
             cardVaultIntent.putExtra("amount", amount.toString());
         }
 
-        cardVaultIntent.putExtra("site", JsonUtil.getInstance().toJson(site));
+        SessionStore.getInstance().putExtra(cardVaultIntent, "site", site);
         cardVaultIntent.putExtra("installmentsEnabled", installmentsEnabled);
         cardVaultIntent.putExtra("showBankDeals", showBankDeals);
-        cardVaultIntent.putExtra("paymentPreference", JsonUtil.getInstance().toJson(paymentPreference));
-        cardVaultIntent.putExtra("paymentMethodList", JsonUtil.getInstance().toJson(paymentMethodList));
-        cardVaultIntent.putExtra("paymentRecovery", JsonUtil.getInstance().toJson(paymentRecovery));
-        cardVaultIntent.putExtra("decorationPreference", JsonUtil.getInstance().toJson(decorationPreference));
-        cardVaultIntent.putExtra("card", JsonUtil.getInstance().toJson(card));
+        SessionStore.getInstance().putExtra(cardVaultIntent, "paymentPreference", paymentPreference);
+        SessionStore.getInstance().putExtra(cardVaultIntent, "paymentMethodList", paymentMethodList);
+        SessionStore.getInstance().putExtra(cardVaultIntent, "paymentRecovery", paymentRecovery);
+        SessionStore.getInstance().putExtra(cardVaultIntent, "decorationPreference", decorationPreference);
+        SessionStore.getInstance().putExtra(cardVaultIntent, "card", card);
         cardVaultIntent.putExtra("payerEmail", payerEmail);
-        cardVaultIntent.putExtra("discount", JsonUtil.getInstance().toJson(discount));
+        SessionStore.getInstance().putExtra(cardVaultIntent, "discount", discount);
         cardVaultIntent.putExtra("discountEnabled", discountEnabled);
         cardVaultIntent.putExtra("directDiscountEnabled", directDiscountEnabled);
         cardVaultIntent.putExtra("installmentsReviewEnabled", installmentsReviewEnabled);
@@ -672,22 +663,21 @@ public class MercadoPago {
         vaultIntent.putExtra("merchantGetCustomerUri", merchantGetCustomerUri);
         vaultIntent.putExtra("merchantAccessToken", merchantAccessToken);
         vaultIntent.putExtra("amount", amount.toString());
-        vaultIntent.putExtra("site", JsonUtil.getInstance().toJson(site));
+        SessionStore.getInstance().putExtra(vaultIntent, "site", site);
         vaultIntent.putExtra("installmentsEnabled", installmentsEnabled);
         vaultIntent.putExtra("installmentsReviewEnabled", installmentsReviewEnabled);
         vaultIntent.putExtra("showBankDeals", showBankDeals);
         vaultIntent.putExtra("merchantBaseUrl", merchantBaseUrl);
         vaultIntent.putExtra("merchantGetCustomerUri", merchantGetCustomerUri);
         vaultIntent.putExtra("merchantAccessToken", merchantAccessToken);
-        vaultIntent.putExtra("paymentMethodSearch", JsonUtil.getInstance().toJson(paymentMethodSearch));
-        vaultIntent.putExtra("paymentPreference", JsonUtil.getInstance().toJson(paymentPreference));
-        Gson gson = new Gson();
-        vaultIntent.putExtra("cards", gson.toJson(cards));
-        vaultIntent.putExtra("decorationPreference", JsonUtil.getInstance().toJson(decorationPreference));
+        SessionStore.getInstance().putExtra(vaultIntent, "paymentMethodSearch", paymentMethodSearch);
+        SessionStore.getInstance().putExtra(vaultIntent, "paymentPreference", paymentPreference);
+        SessionStore.getInstance().putExtra(vaultIntent, "cards", cards);
+        SessionStore.getInstance().putExtra(vaultIntent, "decorationPreference", decorationPreference);
         vaultIntent.putExtra("payerAccessToken", payerAccessToken);
         vaultIntent.putExtra("accountMoneyEnabled", accountMoneyEnabled);
         vaultIntent.putExtra("payerEmail", payerEmail);
-        vaultIntent.putExtra("discount", JsonUtil.getInstance().toJson(discount));
+        SessionStore.getInstance().putExtra(vaultIntent, "discount", discount);
         vaultIntent.putExtra("discountEnabled", discountEnabled);
         vaultIntent.putExtra("directDiscountEnabled", directDiscountEnabled);
         vaultIntent.putExtra("merchantDiscountBaseUrl", merchantDiscountBaseUrl);
@@ -747,6 +737,10 @@ public class MercadoPago {
         return stringBuilder.toString();
     }
 
+    private <T> T getService(Class<T> serviceClass) {
+        return RetrofitUtil.getService(mContext, MP_API_BASE_URL, 10, 20, 20, serviceClass);
+    }
+
     public static class Builder {
 
         private Context mContext;
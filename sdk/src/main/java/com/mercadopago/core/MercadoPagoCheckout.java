@@ -19,9 +19,12 @@ import com.mercadopago.preferences.FlowPreference;
 import com.mercadopago.preferences.PaymentResultScreenPreference;
 import com.mercadopago.preferences.ReviewScreenPreference;
 import com.mercadopago.preferences.ServicePreference;
+import com.mercadopago.util.HttpClientUtil;
 import com.mercadopago.util.JsonUtil;
 import com.mercadopago.util.TextUtil;
 
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created by mreverter on 1/17/17.
@@ -46,6 +49,7 @@ public class MercadoPagoCheckout {
     private PaymentData paymentData;
     private PaymentResult paymentResult;
     private Boolean binaryMode;
+    private Boolean connectionsWarmUp;
     private Discount discount;
 
     private MercadoPagoCheckout(Builder builder) {
@@ -61,6 +65,7 @@ public class MercadoPagoCheckout {
         this.paymentResult = builder.paymentResult;
         this.reviewScreenPreference = builder.reviewScreenPreference;
         this.binaryMode = builder.binaryMode;
+        this.connectionsWarmUp = builder.connectionsWarmUp;
         this.discount = builder.discount;
 
         customizeServices(servicePreference);
@@ -155,6 +160,9 @@ public class MercadoPagoCheckout {
 
     private void startCheckoutActivity(Integer resultCode) {
         validate(resultCode);
+        if (connectionsWarmUp) {
+            warmUpConnections();
+        }
         Intent checkoutIntent;
         if (context != null) {
             checkoutIntent = new Intent(context, CheckoutActivity.class);
@@ -183,6 +191,20 @@ public class MercadoPagoCheckout {
 
     }
 
+    private void warmUpConnections() {
+        List<String> urls = new ArrayList<>();
+        urls.add(MercadoPagoServices.MP_API_BASE_URL);
+        if (servicePreference != null) {
+            urls.add(servicePreference.getDefaultBaseURL());
+            urls.add(servicePreference.getGatewayBaseURL());
+            urls.add(servicePreference.getGetCustomerURL());
+            urls.add(servicePreference.getCreatePaymentURL());
+            urls.add(servicePreference.getCreateCheckoutPreferenceURL());
+            urls.add(servicePreference.getGetMerchantDiscountBaseURL());
+        }
+        HttpClientUtil.warmUp(context != null ? context : activity, urls);
+    }
+
     private void startCheckoutActivity() {
         startCheckoutActivity(Activity.RESULT_OK);
     }
@@ -192,6 +214,7 @@ public class MercadoPagoCheckout {
         private Activity activity;
         private String publicKey;
         private Boolean binaryMode = false;
+        private Boolean connectionsWarmUp = false;
         private CheckoutPreference checkoutPreference;
         private DecorationPreference decorationPreference;
         private ServicePreference servicePreference;
@@ -252,6 +275,15 @@ public class MercadoPagoCheckout {
             return this;
         }
 
+        /**
+         * Connects to the api and merchant servers while the checkout starts, so its first
+         * requests don't wait for the TLS handshakes.
+         */
+        public Builder enableConnectionsWarmUp() {
+            this.connectionsWarmUp = true;
+            return this;
+        }
+
         public Builder setReviewScreenPreference(ReviewScreenPreference reviewScreenPreference) {
             this.reviewScreenPreference = reviewScreenPreference;
             return this;
@@ -55,6 +55,7 @@ import com.mercadopago.preferences.PaymentPreference;
 import com.mercadopago.uicontrollers.savedcards.SavedCardRowView;
 import com.mercadopago.uicontrollers.savedcards.SavedCardView;
 import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.SessionStore;
 import com.mercadopago.util.MercadoPagoUtil;
 
 import java.math.BigDecimal;
@@ -259,25 +260,23 @@ public class MercadoPagoComponents {
                 paymentVaultIntent.putExtra("merchantGetCustomerUri", merchantGetCustomerUri);
                 paymentVaultIntent.putExtra("merchantAccessToken", merchantAccessToken);
                 paymentVaultIntent.putExtra("amount", amount.toString());
-                paymentVaultIntent.putExtra("site", JsonUtil.getInstance().toJson(site));
+                SessionStore.getInstance().putExtra(paymentVaultIntent, "site", site);
                 paymentVaultIntent.putExtra("installmentsEnabled", installmentsEnabled);
                 paymentVaultIntent.putExtra("showBankDeals", showBankDeals);
                 paymentVaultIntent.putExtra("merchantBaseUrl", merchantBaseUrl);
                 paymentVaultIntent.putExtra("merchantGetCustomerUri", merchantGetCustomerUri);
                 paymentVaultIntent.putExtra("merchantAccessToken", merchantAccessToken);
-                paymentVaultIntent.putExtra("paymentMethodSearch", JsonUtil.getInstance().toJson(paymentMethodSearch));
-                paymentVaultIntent.putExtra("paymentPreference", JsonUtil.getInstance().toJson(paymentPreference));
-
-                Gson gson = new Gson();
-                paymentVaultIntent.putExtra("cards", gson.toJson(cards));
-                paymentVaultIntent.putExtra("decorationPreference", JsonUtil.getInstance().toJson(decorationPreference));
+                SessionStore.getInstance().putExtra(paymentVaultIntent, "paymentMethodSearch", paymentMethodSearch);
+                SessionStore.getInstance().putExtra(paymentVaultIntent, "paymentPreference", paymentPreference);
+                SessionStore.getInstance().putExtra(paymentVaultIntent, "cards", cards);
+                SessionStore.getInstance().putExtra(paymentVaultIntent, "decorationPreference", decorationPreference);
                 paymentVaultIntent.putExtra("payerAccessToken", payerAccessToken);
                 paymentVaultIntent.putExtra("maxSavedCards", maxSavedCards);
                 paymentVaultIntent.putExtra("showAllSavedCardsEnabled", showAllSavedCardsEnabled);
 
                 //Discounts
                 paymentVaultIntent.putExtra("payerEmail", payerEmail);
-                paymentVaultIntent.putExtra("discount", JsonUtil.getInstance().toJson(discount));
+                SessionStore.getInstance().putExtra(paymentVaultIntent, "discount", discount);
                 paymentVaultIntent.putExtra("discountEnabled", discountEnabled);
 
                 paymentVaultIntent.putExtra("directDiscountEnabled", directDiscountEnabled);
@@ -660,7 +659,7 @@ public class MercadoPagoComponents {
                     cardVaultIntent.putExtra("amount", amount.toString());
                 }
 
-                cardVaultIntent.putExtra("site", JsonUtil.getInstance().toJson(site));
+                SessionStore.getInstance().putExtra(cardVaultIntent, "site", site);
 
                 cardVaultIntent.putExtra("installmentsEnabled", installmentsEnabled);
 
@@ -670,19 +669,19 @@ public class MercadoPagoComponents {
 
                 cardVaultIntent.putExtra("payerAccessToken", payerAccessToken);
 
-                cardVaultIntent.putExtra("paymentPreference", JsonUtil.getInstance().toJson(paymentPreference));
+                SessionStore.getInstance().putExtra(cardVaultIntent, "paymentPreference", paymentPreference);
 
-                cardVaultIntent.putExtra("paymentMethodList", JsonUtil.getInstance().toJson(paymentMethodList));
+                SessionStore.getInstance().putExtra(cardVaultIntent, "paymentMethodList", paymentMethodList);
 
-                cardVaultIntent.putExtra("paymentRecovery", JsonUtil.getInstance().toJson(paymentRecovery));
+                SessionStore.getInstance().putExtra(cardVaultIntent, "paymentRecovery", paymentRecovery);
 
-                cardVaultIntent.putExtra("decorationPreference", JsonUtil.getInstance().toJson(decorationPreference));
+                SessionStore.getInstance().putExtra(cardVaultIntent, "decorationPreference", decorationPreference);
 
-                cardVaultIntent.putExtra("card", JsonUtil.getInstance().toJson(card));
+                SessionStore.getInstance().putExtra(cardVaultIntent, "card", card);
 
                 cardVaultIntent.putExtra("installmentsReviewEnabled", installmentsReviewEnabled);
 
-                cardVaultIntent.putExtra("discount", JsonUtil.getInstance().toJson(discount));
+                SessionStore.getInstance().putExtra(cardVaultIntent, "discount", discount);
 
                 cardVaultIntent.putExtra("discountEnabled", discountEnabled);
 
@@ -823,15 +822,15 @@ public class MercadoPagoComponents {
 
                 guessingCardIntent.putExtra("showBankDeals", showBankDeals);
 
-                guessingCardIntent.putExtra("paymentPreference", JsonUtil.getInstance().toJson(paymentPreference));
+                SessionStore.getInstance().putExtra(guessingCardIntent, "paymentPreference", paymentPreference);
 
-                guessingCardIntent.putExtra("paymentMethodList", JsonUtil.getInstance().toJson(paymentMethodList));
+                SessionStore.getInstance().putExtra(guessingCardIntent, "paymentMethodList", paymentMethodList);
 
-                guessingCardIntent.putExtra("decorationPreference", JsonUtil.getInstance().toJson(decorationPreference));
+                SessionStore.getInstance().putExtra(guessingCardIntent, "decorationPreference", decorationPreference);
 
-                guessingCardIntent.putExtra("paymentRecovery", JsonUtil.getInstance().toJson(paymentRecovery));
+                SessionStore.getInstance().putExtra(guessingCardIntent, "paymentRecovery", paymentRecovery);
 
-                guessingCardIntent.putExtra("card", JsonUtil.getInstance().toJson(card));
+                SessionStore.getInstance().putExtra(guessingCardIntent, "card", card);
 
                 if (amount != null) {
                     guessingCardIntent.putExtra("amount", amount.toString());
@@ -841,7 +840,7 @@ public class MercadoPagoComponents {
 
                 guessingCardIntent.putExtra("payerAccessToken", payerAccessToken);
 
-                guessingCardIntent.putExtra("discount", JsonUtil.getInstance().toJson(discount));
+                SessionStore.getInstance().putExtra(guessingCardIntent, "discount", discount);
 
                 guessingCardIntent.putExtra("discountEnabled", discountEnabled);
 
@@ -2,8 +2,10 @@ package com.mercadopago.core;
 
 import android.content.Context;
 
-import com.mercadopago.BuildConfig;
-import com.mercadopago.adapters.ErrorHandlingCallAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.mercadopago.adapters.CachedCall;
+import com.mercadopago.adapters.MPCall;
+import com.mercadopago.adapters.PaymentMethodSearchCall;
 import com.mercadopago.callbacks.Callback;
 import com.mercadopago.controllers.CustomServicesHandler;
 import com.mercadopago.model.BankDeal;
@@ -24,7 +26,6 @@ import com.mercadopago.model.SavedCardToken;
 import com.mercadopago.model.SecurityCodeIntent;
 import com.mercadopago.model.Site;
 import com.mercadopago.model.Token;
-import com.mercadopago.mptracker.MPTracker;
 import com.mercadopago.preferences.CheckoutPreference;
 import com.mercadopago.preferences.ServicePreference;
 import com.mercadopago.services.BankDealService;
@@ -33,18 +34,18 @@ import com.mercadopago.services.DiscountService;
 import com.mercadopago.services.GatewayService;
 import com.mercadopago.services.IdentificationService;
 import com.mercadopago.services.PaymentService;
-import com.mercadopago.util.HttpClientUtil;
-import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.CatalogCache;
+import com.mercadopago.util.RetrofitUtil;
+import com.mercadopago.util.SdkExecutor;
 import com.mercadopago.util.TextUtil;
 import com.mercadopago.util.TextUtils;
+import com.mercadopago.util.TrackingPipeline;
 
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
-import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
-
 /**
  * Created by mreverter on 1/17/17.
  */
@@ -52,7 +53,7 @@ import retrofit2.converter.gson.GsonConverterFactory;
 public class MercadoPagoServices {
     public static final int BIN_LENGTH = 6;
 
-    private static final String MP_API_BASE_URL = "https://api.mercadopago.com";
+    static final String MP_API_BASE_URL = "https://api.mercadopago.com";
 
     private static final String PAYMENT_RESULT_API_VERSION = "1.3.x";
     private static final String PAYMENT_METHODS_OPTIONS_API_VERSION = "1.3.x";
@@ -75,121 +76,148 @@ public class MercadoPagoServices {
         this.mPublicKey = builder.mPublicKey;
         this.mPrivateKey = builder.mPrivateKey;
         this.mServicePreference = CustomServicesHandler.getInstance().getServicePreference();
-
-        System.setProperty("http.keepAlive", "false");
     }
 
     public void getPreference(String checkoutPreferenceId, Callback<CheckoutPreference> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_PREFERENCE", "3", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        CheckoutService service = getDefaultRetrofit().create(CheckoutService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_PREFERENCE", "3", mPublicKey, mContext);
+        CheckoutService service = getDefaultService(CheckoutService.class);
         service.getPreference(checkoutPreferenceId, this.mPublicKey).enqueue(callback);
     }
 
     public void getInstructions(Long paymentId, String paymentTypeId, final Callback<Instructions> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_INSTRUCTIONS", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        CheckoutService service = getDefaultRetrofit().create(CheckoutService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_INSTRUCTIONS", "1", mPublicKey, mContext);
+        CheckoutService service = getDefaultService(CheckoutService.class);
         service.getPaymentResult(mContext.getResources().getConfiguration().locale.getLanguage(), paymentId, this.mPublicKey, paymentTypeId, PAYMENT_RESULT_API_VERSION).enqueue(callback);
     }
 
     public void getPaymentMethodSearch(BigDecimal amount, List<String> excludedPaymentTypes, List<String> excludedPaymentMethods, Payer payer, Site site, final Callback<PaymentMethodSearch> callback) {
 
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHOD_SEARCH", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHOD_SEARCH", "1", mPublicKey, mContext);
         PayerIntent payerIntent = new PayerIntent(payer);
-        CheckoutService service = getDefaultRetrofit().create(CheckoutService.class);
+        CheckoutService service = getDefaultService(CheckoutService.class);
         String separator = ",";
         String excludedPaymentTypesAppended = getListAsString(excludedPaymentTypes, separator);
         String excludedPaymentMethodsAppended = getListAsString(excludedPaymentMethods, separator);
         String siteId = site == null ? "" : site.getId();
-        service.getPaymentMethodSearch(mContext.getResources().getConfiguration().locale.getLanguage(), this.mPublicKey, amount, excludedPaymentTypesAppended, excludedPaymentMethodsAppended, payerIntent, siteId, PAYMENT_METHODS_OPTIONS_API_VERSION).enqueue(callback);
+        new PaymentMethodSearchCall(service.getPaymentMethodSearchStream(mContext.getResources().getConfiguration().locale.getLanguage(), this.mPublicKey, amount, excludedPaymentTypesAppended, excludedPaymentMethodsAppended, payerIntent, siteId, PAYMENT_METHODS_OPTIONS_API_VERSION)).enqueue(callback);
     }
 
     public void createPayment(final PaymentBody paymentBody, final Callback<Payment> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "CREATE_PAYMENT", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        CheckoutService service = getDefaultRetrofit(DEFAULT_PAYMENT_CONNECT_TIMEOUT, DEFAULT_PAYMENT_READ_TIMEOUT, DEFAULT_PAYMENT_WRITE_TIMEOUT).create(CheckoutService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CREATE_PAYMENT", "1", mPublicKey, mContext);
+        CheckoutService service = getDefaultService(CheckoutService.class, DEFAULT_PAYMENT_CONNECT_TIMEOUT, DEFAULT_PAYMENT_READ_TIMEOUT, DEFAULT_PAYMENT_WRITE_TIMEOUT);
         service.createPayment(paymentBody.getTransactionId(), paymentBody).enqueue(callback);
     }
 
     public void createToken(final SavedCardToken savedCardToken, final Callback<Token> callback) {
-        new Thread(new Runnable() {
+        SdkExecutor.getInstance().execute(this, new SdkExecutor.Task() {
             @Override
             public void run() {
                 savedCardToken.setDevice(mContext);
-                GatewayService service = getGatewayRetrofit().create(GatewayService.class);
-                service.getToken(mPublicKey, mPrivateKey, savedCardToken).enqueue(callback);
+                if (!isCancelled()) {
+                    GatewayService service = getGatewayService(GatewayService.class);
+                    service.getToken(mPublicKey, mPrivateKey, savedCardToken).enqueue(callback);
+                }
             }
-        }).start();
+        });
     }
 
     public void createToken(final CardToken cardToken, final Callback<Token> callback) {
-        new Thread(new Runnable() {
+        SdkExecutor.getInstance().execute(this, new SdkExecutor.Task() {
             @Override
             public void run() {
                 cardToken.setDevice(mContext);
-                GatewayService service = getGatewayRetrofit().create(GatewayService.class);
-                service.getToken(mPublicKey, mPrivateKey, cardToken).enqueue(callback);
+                if (!isCancelled()) {
+                    GatewayService service = getGatewayService(GatewayService.class);
+                    service.getToken(mPublicKey, mPrivateKey, cardToken).enqueue(callback);
+                }
             }
-        }).start();
+        });
+    }
+
+    /**
+     * Cancels the background work scheduled by these services that hasn't finished, like building
+     * the fingerprint before creating a token. Requests already sent aren't cancelled.
+     */
+    public void cancelTasks() {
+        SdkExecutor.getInstance().cancel(this);
     }
 
     public void cloneToken(final String tokenId, final Callback<Token> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        GatewayService service = getGatewayRetrofit().create(GatewayService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mPublicKey, mContext);
+        GatewayService service = getGatewayService(GatewayService.class);
         service.getToken(tokenId, this.mPublicKey, mPrivateKey).enqueue(callback);
     }
 
     public void putSecurityCode(final String tokenId, final SecurityCodeIntent securityCodeIntent, final Callback<Token> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        GatewayService service = getGatewayRetrofit().create(GatewayService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "CLONE_TOKEN", "1", mPublicKey, mContext);
+        GatewayService service = getGatewayService(GatewayService.class);
         service.getToken(tokenId, this.mPublicKey, mPrivateKey, securityCodeIntent).enqueue(callback);
     }
 
     public void getBankDeals(final Callback<List<BankDeal>> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_BANK_DEALS", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        BankDealService service = getDefaultRetrofit().create(BankDealService.class);
-        service.getBankDeals(this.mPublicKey, mPrivateKey, mContext.getResources().getConfiguration().locale.toString()).enqueue(callback);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_BANK_DEALS", "1", mPublicKey, mContext);
+        BankDealService service = getDefaultService(BankDealService.class);
+        String locale = mContext.getResources().getConfiguration().locale.toString();
+        Type type = new TypeToken<List<BankDeal>>() {
+        }.getType();
+        enqueueCached("bank_deals:" + locale, type, service.getBankDeals(this.mPublicKey, mPrivateKey, locale), callback);
     }
 
 
     public void getIdentificationTypes(Callback<List<IdentificationType>> callback) {
-        IdentificationService service = getDefaultRetrofit().create(IdentificationService.class);
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_IDENTIFICATION_TYPES", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        service.getIdentificationTypes(this.mPublicKey, this.mPrivateKey).enqueue(callback);
+        IdentificationService service = getDefaultService(IdentificationService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_IDENTIFICATION_TYPES", "1", mPublicKey, mContext);
+        Type type = new TypeToken<List<IdentificationType>>() {
+        }.getType();
+        enqueueCached("identification_types", type, service.getIdentificationTypes(this.mPublicKey, this.mPrivateKey), callback);
     }
 
-    public void getInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_INSTALLMENTS", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        PaymentService service = getDefaultRetrofit().create(PaymentService.class);
-        service.getInstallments(this.mPublicKey, mPrivateKey, bin, amount, issuerId, paymentMethodId,
-                mContext.getResources().getConfiguration().locale.toString()).enqueue(callback);
+    /**
+     * @return the call, to cancel it.
+     */
+    public MPCall<List<Installment>> getInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback) {
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_INSTALLMENTS", "1", mPublicKey, mContext);
+        PaymentService service = getDefaultService(PaymentService.class);
+        MPCall<List<Installment>> call = service.getInstallments(this.mPublicKey, mPrivateKey, bin, amount, issuerId, paymentMethodId,
+                mContext.getResources().getConfiguration().locale.toString());
+        call.enqueue(callback);
+        return call;
     }
 
-    public void getIssuers(String paymentMethodId, String bin, final Callback<List<Issuer>> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_ISSUERS", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        PaymentService service = getDefaultRetrofit().create(PaymentService.class);
-        service.getIssuers(this.mPublicKey, mPrivateKey, paymentMethodId, bin).enqueue(callback);
+    /**
+     * @return the call, to cancel it.
+     */
+    public MPCall<List<Issuer>> getIssuers(String paymentMethodId, String bin, final Callback<List<Issuer>> callback) {
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_ISSUERS", "1", mPublicKey, mContext);
+        PaymentService service = getDefaultService(PaymentService.class);
+        Type type = new TypeToken<List<Issuer>>() {
+        }.getType();
+        return enqueueCached("issuers:" + paymentMethodId + ":" + bin, type, service.getIssuers(this.mPublicKey, mPrivateKey, paymentMethodId, bin), callback);
     }
 
     public void getPaymentMethods(final Callback<List<PaymentMethod>> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHODS", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        PaymentService service = getDefaultRetrofit().create(PaymentService.class);
-        service.getPaymentMethods(this.mPublicKey, mPrivateKey).enqueue(callback);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_PAYMENT_METHODS", "1", mPublicKey, mContext);
+        PaymentService service = getDefaultService(PaymentService.class);
+        Type type = new TypeToken<List<PaymentMethod>>() {
+        }.getType();
+        enqueueCached("payment_methods", type, service.getPaymentMethods(this.mPublicKey, mPrivateKey), callback);
     }
 
     public void getDirectDiscount(String amount, String payerEmail, final Callback<Discount> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_DIRECT_DISCOUNT", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        DiscountService service = getDefaultRetrofit().create(DiscountService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_DIRECT_DISCOUNT", "1", mPublicKey, mContext);
+        DiscountService service = getDefaultService(DiscountService.class);
         service.getDirectDiscount(this.mPublicKey, amount, payerEmail).enqueue(callback);
     }
 
     public void getCodeDiscount(String amount, String payerEmail, String couponCode, final Callback<Discount> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_CODE_DISCOUNT", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        DiscountService service = getDefaultRetrofit().create(DiscountService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_CODE_DISCOUNT", "1", mPublicKey, mContext);
+        DiscountService service = getDefaultService(DiscountService.class);
         service.getCodeDiscount(this.mPublicKey, amount, payerEmail, couponCode).enqueue(callback);
     }
 
     public void getCampaigns(final Callback<List<Campaign>> callback) {
-        MPTracker.getInstance().trackEvent("NO_SCREEN", "GET_CAMPAIGNS", "1", mPublicKey, BuildConfig.VERSION_NAME, mContext);
-        DiscountService service = getDefaultRetrofit().create(DiscountService.class);
+        TrackingPipeline.getInstance().trackEvent("NO_SCREEN", "GET_CAMPAIGNS", "1", mPublicKey, mContext);
+        DiscountService service = getDefaultService(DiscountService.class);
         service.getCampaigns(this.mPublicKey).enqueue(callback);
     }
 
@@ -206,25 +234,42 @@ public class MercadoPagoServices {
             throw new RuntimeException("Invalid bin: " + BIN_LENGTH + " digits needed, " + bin.length() + " found");
     }
 
-    private Retrofit getDefaultRetrofit() {
-        return getDefaultRetrofit(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_WRITE_TIMEOUT);
+    /**
+     * Serves catalog responses through a {@link CachedCall}. Responses requested with a private key
+     * may depend on the payer, so they are never cached.
+     *
+     * @return the call, to cancel it.
+     */
+    private <T> MPCall<T> enqueueCached(String resource, Type type, MPCall<T> call, Callback<T> callback) {
+        if (!TextUtil.isEmpty(mPublicKey) && TextUtil.isEmpty(mPrivateKey)) {
+            String key = getDefaultBaseUrl() + ":" + mPublicKey + ":" + resource;
+            call = new CachedCall<>(CatalogCache.getInstance(mContext), key, type, call);
+        }
+        call.enqueue(callback);
+        return call;
     }
 
-    private Retrofit getDefaultRetrofit(int connectTimeout, int readTimeout, int writeTimeout) {
-        String baseUrl;
+    private <T> T getDefaultService(Class<T> serviceClass) {
+        return getDefaultService(serviceClass, DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_WRITE_TIMEOUT);
+    }
+
+    private <T> T getDefaultService(Class<T> serviceClass, int connectTimeout, int readTimeout, int writeTimeout) {
+        return RetrofitUtil.getService(mContext, getDefaultBaseUrl(), connectTimeout, readTimeout, writeTimeout, serviceClass);
+    }
+
+    private String getDefaultBaseUrl() {
         if (mServicePreference != null && !TextUtil.isEmpty(mServicePreference.getDefaultBaseURL())) {
-            baseUrl = mServicePreference.getDefaultBaseURL();
+            return mServicePreference.getDefaultBaseURL();
         } else {
-            baseUrl = MP_API_BASE_URL;
+            return MP_API_BASE_URL;
         }
-        return getRetrofit(baseUrl, connectTimeout, readTimeout, writeTimeout);
     }
 
-    private Retrofit getGatewayRetrofit() {
-        return getGatewayRetrofit(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_WRITE_TIMEOUT);
+    private <T> T getGatewayService(Class<T> serviceClass) {
+        return getGatewayService(serviceClass, DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_WRITE_TIMEOUT);
     }
 
-    private Retrofit getGatewayRetrofit(int connectTimeout, int readTimeout, int writeTimeout) {
+    private <T> T getGatewayService(Class<T> serviceClass, int connectTimeout, int readTimeout, int writeTimeout) {
         String baseUrl;
         if (mServicePreference != null && !TextUtil.isEmpty(mServicePreference.getGatewayBaseURL())) {
             baseUrl = mServicePreference.getGatewayBaseURL();
@@ -233,16 +278,7 @@ public class MercadoPagoServices {
         } else {
             baseUrl = MP_API_BASE_URL;
         }
-        return getRetrofit(baseUrl, connectTimeout, readTimeout, writeTimeout);
-    }
-
-    private Retrofit getRetrofit(String baseUrl, int connectTimeout, int readTimeout, int writeTimeout) {
-        return new Retrofit.Builder()
-                .baseUrl(baseUrl)
-                .addConverterFactory(GsonConverterFactory.create(JsonUtil.getInstance().getGson()))
-                .client(HttpClientUtil.getClient(this.mContext, connectTimeout, readTimeout, writeTimeout))
-                .addCallAdapterFactory(new ErrorHandlingCallAdapter.ErrorHandlingCallAdapterFactory())
-                .build();
+        return RetrofitUtil.getService(mContext, baseUrl, connectTimeout, readTimeout, writeTimeout, serviceClass);
     }
 
     public static class Builder {
@@ -2,7 +2,6 @@ package com.mercadopago.core;
 
 import android.content.Context;
 
-import com.mercadopago.adapters.ErrorHandlingCallAdapter;
 import com.mercadopago.callbacks.Callback;
 import com.mercadopago.model.Customer;
 import com.mercadopago.model.Discount;
@@ -10,15 +9,11 @@ import com.mercadopago.model.MerchantPayment;
 import com.mercadopago.model.Payment;
 import com.mercadopago.preferences.CheckoutPreference;
 import com.mercadopago.services.MerchantService;
-import com.mercadopago.util.HttpClientUtil;
-import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.RetrofitUtil;
 
 import java.util.HashMap;
 import java.util.Map;
 
-import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
-
 @Deprecated
 public class MerchantServer {
 
@@ -56,20 +51,9 @@ public class MerchantServer {
         return uri.startsWith("/") ? uri.substring(1, uri.length()) : uri;
     }
 
-    private static Retrofit getRetrofit(Context context, String endPoint) {
-
-        return new Retrofit.Builder()
-                .baseUrl(endPoint)
-                .client(HttpClientUtil.getClient(context, 20, 20, 20))
-                .addConverterFactory(GsonConverterFactory.create(JsonUtil.getInstance().getGson()))
-                .addCallAdapterFactory(new ErrorHandlingCallAdapter.ErrorHandlingCallAdapterFactory())
-                .build();
-    }
-
     private static MerchantService getService(Context context, String endPoint) {
 
-        Retrofit retrofit = getRetrofit(context, endPoint);
-        return retrofit.create(MerchantService.class);
+        return RetrofitUtil.getService(context, endPoint, 20, 20, 20, MerchantService.class);
     }
 
     private static Map<String, String> getDiscountAdditionalInfo(Map<String, String> discountAdditionalInfo) {
@@ -5,9 +5,10 @@ import android.text.TextWatcher;
 
 import com.mercadopago.callbacks.PaymentMethodSelectionCallback;
 import com.mercadopago.callbacks.card.CardNumberEditTextCallback;
+import com.mercadopago.controllers.BinPipeline;
+import com.mercadopago.controllers.CardNumberEditor;
 import com.mercadopago.controllers.PaymentMethodGuessingController;
 import com.mercadopago.model.PaymentMethod;
-import com.mercadopago.util.MercadoPagoUtil;
 
 import java.util.List;
 
@@ -20,14 +21,50 @@ public class CardNumberTextWatcher implements TextWatcher {
     private PaymentMethodGuessingController mController;
     private PaymentMethodSelectionCallback mPaymentSelectionCallback;
     private CardNumberEditTextCallback mEditTextCallback;
-    private String mBin;
+    private CardNumberEditor mEditor;
+    private BinPipeline mBinPipeline;
 
     public CardNumberTextWatcher(PaymentMethodGuessingController controller,
                                  PaymentMethodSelectionCallback paymentSelectionCallback,
                                  CardNumberEditTextCallback editTextCallback) {
+        this(controller, paymentSelectionCallback, editTextCallback, new CardNumberEditor());
+    }
+
+    /**
+     * @param editor keeps the digits typed, so they are read from the text only once per keystroke.
+     */
+    public CardNumberTextWatcher(PaymentMethodGuessingController controller,
+                                 PaymentMethodSelectionCallback paymentSelectionCallback,
+                                 CardNumberEditTextCallback editTextCallback,
+                                 CardNumberEditor editor) {
+        this(controller, paymentSelectionCallback, editTextCallback, editor, new BinPipeline());
+    }
+
+    /**
+     * @param binPipeline reports the bin changes, guessing the payment method once per bin.
+     */
+    public CardNumberTextWatcher(PaymentMethodGuessingController controller,
+                                 PaymentMethodSelectionCallback paymentSelectionCallback,
+                                 CardNumberEditTextCallback editTextCallback,
+                                 CardNumberEditor editor,
+                                 BinPipeline binPipeline) {
         this.mController = controller;
         this.mPaymentSelectionCallback = paymentSelectionCallback;
         this.mEditTextCallback = editTextCallback;
+        this.mEditor = editor;
+        this.mBinPipeline = binPipeline;
+        this.mBinPipeline.setOnBinChangedListener(new BinPipeline.OnBinChangedListener() {
+            @Override
+            public void onBinChanged(String previousBin, String bin) {
+                if (previousBin != null) {
+                    mPaymentSelectionCallback.onPaymentMethodCleared();
+                }
+                if (bin != null) {
+                    List<PaymentMethod> list = mController.guessPaymentMethodsByBin(bin);
+                    mPaymentSelectionCallback.onPaymentMethodListSet(list, bin);
+                }
+            }
+        });
     }
 
     @Override
@@ -38,7 +75,8 @@ public class CardNumberTextWatcher implements TextWatcher {
     @Override
     public void onTextChanged(CharSequence s, int start, int before, int count) {
         mEditTextCallback.checkOpenKeyboard();
-        mEditTextCallback.saveCardNumber(s.toString().replaceAll("\\s", ""));
+        mEditor.update(s);
+        mEditTextCallback.saveCardNumber(mEditor.getNumber());
         if (before == 0) {
             mEditTextCallback.appendSpace(s);
         }
@@ -52,14 +90,8 @@ public class CardNumberTextWatcher implements TextWatcher {
         mEditTextCallback.changeErrorView();
         mEditTextCallback.toggleLineColorOnError(false);
         if (mController == null) return;
-        String number = s.toString().replaceAll("\\s", "");
-        if (number.length() == MercadoPagoUtil.BIN_LENGTH - 1) {
-            mPaymentSelectionCallback.onPaymentMethodCleared();
-        } else if (number.length() == MercadoPagoUtil.BIN_LENGTH) {
-            mBin = number.subSequence(0, MercadoPagoUtil.BIN_LENGTH).toString();
-            List<PaymentMethod> list = mController.guessPaymentMethodsByBin(mBin);
-            mPaymentSelectionCallback.onPaymentMethodListSet(list, mBin);
-        }
+        mEditor.update(s);
+        mBinPipeline.update(mEditor.getBin());
     }
 
 }
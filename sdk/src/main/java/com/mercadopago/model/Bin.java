@@ -1,17 +1,23 @@
 package com.mercadopago.model;
 
+import java.util.regex.Pattern;
+
 public class Bin {
 
     private String exclusionPattern;
     private String installmentsPattern;
     private String pattern;
 
+    private transient Pattern compiledPattern;
+    private transient Pattern compiledExclusionPattern;
+
     public String getExclusionPattern() {
         return exclusionPattern;
     }
 
     public void setExclusionPattern(String exclusionPattern) {
         this.exclusionPattern = exclusionPattern;
+        this.compiledExclusionPattern = null;
     }
 
     public String getInstallmentsPattern() {
@@ -28,5 +34,25 @@ public class Bin {
 
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = null;
+    }
+
+    /**
+     * Same as bin.matches(pattern + ".*") without an exclusion match, with both patterns compiled once.
+     */
+    public boolean isValidFor(String bin) {
+        if (compiledPattern == null) {
+            compiledPattern = Pattern.compile(pattern + ".*");
+        }
+        if (!compiledPattern.matcher(bin).matches()) {
+            return false;
+        }
+        if (exclusionPattern == null || exclusionPattern.isEmpty()) {
+            return true;
+        }
+        if (compiledExclusionPattern == null) {
+            compiledExclusionPattern = Pattern.compile(exclusionPattern + ".*");
+        }
+        return !compiledExclusionPattern.matcher(bin).matches();
     }
 }
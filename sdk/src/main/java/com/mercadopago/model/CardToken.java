@@ -3,11 +3,9 @@ package com.mercadopago.model;
 import android.content.Context;
 import android.text.TextUtils;
 
-import com.mercadopago.R;
-import com.mercadopago.util.MercadoPagoUtil;
+import com.mercadopago.util.CardValidator;
 
 import java.util.Calendar;
-import java.util.Locale;
 
 public class CardToken {
 
@@ -21,6 +19,7 @@ public class CardToken {
     private Integer expirationMonth;
     private Integer expirationYear;
     private String securityCode;
+    private transient CardValidator validator;
 
     public CardToken(String cardNumber, Integer expirationMonth, Integer expirationYear,
                      String securityCode, String cardholderName, String identificationType, String identificationNumber) {
@@ -85,11 +84,7 @@ public class CardToken {
     }
 
     public boolean validate(boolean includeSecurityCode) {
-        boolean result = validateCardNumber() && validateExpiryDate() && validateIdentification() && validateCardholderName();
-        if (includeSecurityCode) {
-            result = result && validateSecurityCode();
-        }
-        return result;
+        return getValidator().validate(this, null, null, includeSecurityCode).isValid();
     }
 
     public boolean validateCardNumber() {
@@ -97,33 +92,9 @@ public class CardToken {
     }
 
     public void validateCardNumber(Context context, PaymentMethod paymentMethod) throws Exception {
-
-        // Empty field
-        if (TextUtils.isEmpty(cardNumber)) {
-            throw new Exception(context.getString(R.string.mpsdk_invalid_empty_card));
-        }
-
-        Setting setting = Setting.getSettingByBin(paymentMethod.getSettings(), (cardNumber.length()
-                >= MercadoPagoUtil.BIN_LENGTH ? cardNumber.substring(0, MercadoPagoUtil.BIN_LENGTH) : ""));
-
-        if (setting == null) {
-
-            // Invalid bin
-            throw new Exception(context.getString(R.string.mpsdk_invalid_card_bin));
-
-        } else {
-
-            // Validate cards length
-            int cardLength = setting.getCardNumber().getLength();
-            if (cardNumber.trim().length() != cardLength) {
-                throw new Exception(context.getString(R.string.mpsdk_invalid_card_length, cardLength));
-            }
-
-            // Validate luhn
-            String luhnAlgorithm = setting.getCardNumber().getValidation();
-            if (("standard".equals(luhnAlgorithm)) && (!checkLuhn(cardNumber))) {
-                throw new Exception(context.getString(R.string.mpsdk_invalid_card_luhn));
-            }
+        CardValidator.Result result = getValidator().validateCardNumber(paymentMethod, cardNumber);
+        if (!result.isCardNumberValid()) {
+            throw new Exception(CardValidator.getCardNumberErrorMessage(context, result));
         }
     }
 
@@ -138,24 +109,17 @@ public class CardToken {
     }
 
     public void validateSecurityCode(Context context, PaymentMethod paymentMethod) throws Exception {
-
-        validateSecurityCode(context, securityCode, paymentMethod, (((cardNumber != null) ? cardNumber.length() : 0) >= MercadoPagoUtil.BIN_LENGTH ? cardNumber.substring(0, MercadoPagoUtil.BIN_LENGTH) : ""));
+        validateSecurityCode(context, getValidator(), securityCode, paymentMethod, cardNumber);
     }
 
     public static void validateSecurityCode(Context context, String securityCode, PaymentMethod paymentMethod, String bin) throws Exception {
+        validateSecurityCode(context, new CardValidator(), securityCode, paymentMethod, bin);
+    }
 
-        if (paymentMethod != null) {
-            Setting setting = Setting.getSettingByBin(paymentMethod.getSettings(), bin);
-
-            // Validate security code length
-            if (setting != null) {
-                int cvvLength = setting.getSecurityCode().getLength();
-                if ((securityCode == null) || ((cvvLength != 0) && (securityCode.trim().length() != cvvLength))) {
-                    throw new Exception(context.getString(R.string.mpsdk_invalid_cvv_length, cvvLength));
-                }
-            } else {
-                throw new Exception(context.getString(R.string.mpsdk_invalid_field));
-            }
+    private static void validateSecurityCode(Context context, CardValidator validator, String securityCode, PaymentMethod paymentMethod, String cardNumber) throws Exception {
+        CardValidator.Result result = validator.validateSecurityCode(paymentMethod, cardNumber, securityCode);
+        if (!result.isSecurityCodeValid()) {
+            throw new Exception(CardValidator.getSecurityCodeErrorMessage(context, result));
         }
     }
 
@@ -229,24 +193,7 @@ public class CardToken {
     }
 
     public static boolean checkLuhn(String cardNumber) {
-
-        int sum = 0;
-        boolean alternate = false;
-        if ((cardNumber == null) || (cardNumber.length() == 0)) {
-            return false;
-        }
-        for (int i = cardNumber.length() - 1; i >= 0; i--) {
-            int n = Integer.parseInt(cardNumber.substring(i, i + 1));
-            if (alternate) {
-                n *= 2;
-                if (n > 9) {
-                    n = (n % 10) + 1;
-                }
-            }
-            sum += n;
-            alternate = !alternate;
-        }
-        return (sum % 10 == 0);
+        return CardValidator.checkLuhn(cardNumber);
     }
 
     private static boolean hasYearPassed(int year) {
@@ -260,14 +207,33 @@ public class CardToken {
 
     private static Integer normalizeYear(Integer year) {
         if ((year != null) && (year < 100 && year >= 0)) {
-            String currentYear = String.valueOf(now.get(Calendar.YEAR));
-            String prefix = currentYear.substring(0, currentYear.length() - 2);
-            year = Integer.parseInt(String.format(Locale.US, "%s%02d", prefix, year));
+            //The century of the current year.
+            year = now.get(Calendar.YEAR) / 100 * 100 + year;
         }
         return year;
     }
 
+    private CardValidator getValidator() {
+        if (validator == null) {
+            validator = new CardValidator();
+        }
+        return validator;
+    }
+
     private String normalizeCardNumber(String number) {
-        return number.trim().replaceAll("\\s+|-", "");
+        number = number.trim();
+        StringBuilder normalized = new StringBuilder(number.length());
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (c != '-' && !isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.length() == number.length() ? number : normalized.toString();
+    }
+
+    //The chars of \s in a regular expression.
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
@@ -2,11 +2,17 @@ package com.mercadopago.model;
 
 import android.content.Context;
 
+import com.mercadopago.util.FingerprintCache;
+
 public class Device {
 
     Fingerprint fingerprint;
 
     public Device(Context context) {
-        this.fingerprint = new Fingerprint(context);
+        this(FingerprintCache.getInstance().getFingerprint(context));
+    }
+
+    public Device(Fingerprint fingerprint) {
+        this.fingerprint = fingerprint;
     }
 }
@@ -38,6 +38,7 @@ import java.util.regex.Pattern;
 public class Fingerprint {
     private static final String TAG = "Fingerprint";
     private static final String SHARED_PREFS_FINGERPRINT_LOCATION = "FINGERPRINT_LOCATION";
+    private static final Pattern RAM_PATTERN = Pattern.compile("(\\d+)");
 
     private transient Context mContext;
     private transient LocationManager mLocationManager;
@@ -81,19 +82,40 @@ public class Fingerprint {
     }
 
     public Fingerprint(Context context) {
-        mContext = context;
+        this(context, null);
+    }
+
+    /**
+     * Builds a fingerprint reading again only the attributes that change while the app runs, the
+     * free disk space and the location, and taking the rest from the given fingerprint.
+     *
+     * @param staticAttributes a fingerprint of this device, or null to read every attribute.
+     */
+    public Fingerprint(Context context, Fingerprint staticAttributes) {
+        mContext = context.getApplicationContext();
 
         mLocationManager = (LocationManager) mContext.getSystemService(Context.LOCATION_SERVICE);
         mLocationListener = new FingerprintLocationListener();
-        vendorIds = getVendorIds();
-        model = getModel();
-        os = getOs();
-        systemVersion = getSystemVersion();
-        resolution = getResolution();
-        ram = getRam();
-        diskSpace = getDiskSpace();
+        if (staticAttributes == null) {
+            vendorIds = getVendorIds();
+            model = getModel();
+            os = getOs();
+            systemVersion = getSystemVersion();
+            resolution = getResolution();
+            ram = getRam();
+            diskSpace = getDiskSpace();
+            vendorSpecificAttributes = getVendorSpecificAttributes();
+        } else {
+            vendorIds = staticAttributes.vendorIds;
+            model = staticAttributes.model;
+            os = staticAttributes.os;
+            systemVersion = staticAttributes.systemVersion;
+            resolution = staticAttributes.resolution;
+            ram = staticAttributes.ram;
+            diskSpace = staticAttributes.diskSpace;
+            vendorSpecificAttributes = staticAttributes.vendorSpecificAttributes;
+        }
         freeDiskSpace = getFreeDiskSpace();
-        vendorSpecificAttributes = getVendorSpecificAttributes();
         location = getLocation();
     }
 
@@ -181,16 +203,21 @@ public class Fingerprint {
 
     public Long getRam() {
         Long ram = null;
+        RandomAccessFile reader = null;
         try {
-            RandomAccessFile reader = new RandomAccessFile("/proc/meminfo", "r");
-            String load = reader.readLine();
-            Pattern pattern = Pattern.compile("(\\d+)");
-            Matcher matcher = pattern.matcher(load);
+            reader = new RandomAccessFile("/proc/meminfo", "r");
+            Matcher matcher = RAM_PATTERN.matcher(reader.readLine());
             if (matcher.find()) {
                 ram = Long.valueOf(matcher.group(0));
             }
-            reader.close();
-        } catch (Exception ex) {}
+        } catch (Exception ex) {
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException ignored) {}
+            }
+        }
 
         return ram;
     }
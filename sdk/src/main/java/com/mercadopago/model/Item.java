@@ -1,6 +1,8 @@
 package com.mercadopago.model;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Item {
 
@@ -13,6 +15,8 @@ public class Item {
     private String title;
     private BigDecimal unitPrice;
 
+    //Told when the price, quantity or currency changes, so amounts summed from this item are summed again.
+    private transient List<AmountListener> amountListeners;
 
     public Item(String description, Integer quantity, BigDecimal unitPrice) {
         this.description = description;
@@ -54,6 +58,7 @@ public class Item {
 
     public void setCurrencyId(String currencyId) {
         this.currencyId = currencyId;
+        notifyAmountChanged();
     }
 
     public String getDescription() {
@@ -86,6 +91,7 @@ public class Item {
 
     public void setQuantity(Integer quantity) {
         this.quantity = quantity;
+        notifyAmountChanged();
     }
 
     public String getTitle() {
@@ -102,5 +108,49 @@ public class Item {
 
     public void setUnitPrice(BigDecimal unitPrice) {
         this.unitPrice = unitPrice;
+        notifyAmountChanged();
+    }
+
+    public void addAmountListener(AmountListener amountListener) {
+        if (amountListeners == null) {
+            amountListeners = new ArrayList<>();
+        }
+        if (indexOfAmountListener(amountListener) == -1) {
+            amountListeners.add(amountListener);
+        }
+    }
+
+    public void removeAmountListener(AmountListener amountListener) {
+        int index = indexOfAmountListener(amountListener);
+        if (index != -1) {
+            amountListeners.remove(index);
+        }
+    }
+
+    //By identity, since listeners may be lists that are equal when they have the same items.
+    private int indexOfAmountListener(AmountListener amountListener) {
+        if (amountListeners != null) {
+            for (int i = 0; i < amountListeners.size(); i++) {
+                if (amountListeners.get(i) == amountListener) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void notifyAmountChanged() {
+        if (amountListeners != null) {
+            for (int i = 0; i < amountListeners.size(); i++) {
+                amountListeners.get(i).onAmountChanged(this);
+            }
+        }
+    }
+
+    public interface AmountListener {
+        /**
+         * Called after the price, quantity or currency of the item is set.
+         */
+        void onAmountChanged(Item item);
     }
 }
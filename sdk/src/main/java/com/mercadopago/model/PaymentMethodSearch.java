@@ -3,10 +3,16 @@ package com.mercadopago.model;
 import com.google.gson.annotations.SerializedName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by mreverter on 15/1/16.
+ * <p>
+ * Lookups by id go through hash indexes built on first use. They are dropped when a list is set,
+ * so lists changed in place must be set again.
  */
 public class PaymentMethodSearch {
 
@@ -21,14 +27,32 @@ public class PaymentMethodSearch {
 
     private AccountMoney accountMoney;
 
+    private transient Map<String, PaymentMethod> paymentMethodsById;
+    private transient Map<String, List<Integer>> paymentMethodPositionsById;
+    private transient Map<String, int[]> paymentMethodPositionsByItemId;
+    private transient Map<String, PaymentMethodSearchItem> searchItemsByPaymentMethod;
+    private transient Map<String, Card> cardsById;
+
     public List<PaymentMethodSearchItem> getGroups() {
         return groups;
     }
 
+    public void setGroups(List<PaymentMethodSearchItem> groups) {
+        this.groups = groups;
+        this.searchItemsByPaymentMethod = null;
+    }
+
     public List<PaymentMethod> getPaymentMethods() {
         return paymentMethods;
     }
 
+    public void setPaymentMethods(List<PaymentMethod> paymentMethods) {
+        this.paymentMethods = paymentMethods;
+        this.paymentMethodsById = null;
+        this.paymentMethodPositionsById = null;
+        this.paymentMethodPositionsByItemId = null;
+    }
+
     public boolean hasSearchItems() {
         return this.groups != null && !this.groups.isEmpty();
     }
@@ -36,11 +60,11 @@ public class PaymentMethodSearch {
     public PaymentMethod getPaymentMethodBySearchItem(PaymentMethodSearchItem item) {
         PaymentMethod requiredPaymentMethod = null;
         if (paymentMethods != null && item != null && item.getId() != null) {
-            for (PaymentMethod currentPaymentMethod : paymentMethods) {
-                if (itemMatchesPaymentMethod(item, currentPaymentMethod)) {
-                    requiredPaymentMethod = currentPaymentMethod;
-                    requiredPaymentMethod.setPaymentTypeId(getPaymentTypeIdFromItem(item, currentPaymentMethod));
-                }
+            //Every matching payment method gets the payment type of the item, the last one is returned.
+            for (int position : getPaymentMethodPositionsByItemId(item.getId())) {
+                PaymentMethod currentPaymentMethod = paymentMethods.get(position);
+                requiredPaymentMethod = currentPaymentMethod;
+                requiredPaymentMethod.setPaymentTypeId(getPaymentTypeIdFromItem(item, currentPaymentMethod));
             }
         }
         return requiredPaymentMethod;
@@ -49,7 +73,7 @@ public class PaymentMethodSearch {
     private String getPaymentTypeIdFromItem(PaymentMethodSearchItem item, PaymentMethod paymentMethod) {
         //Remove payment method id from item id and the splitter
         String paymentType;
-        String itemIdWithoutPaymentMethod = item.getId().replaceFirst(paymentMethod.getId(), "");
+        String itemIdWithoutPaymentMethod = item.getId().substring(paymentMethod.getId().length());
         if (itemIdWithoutPaymentMethod.isEmpty()) {
             paymentType = paymentMethod.getPaymentTypeId();
         } else {
@@ -62,6 +86,49 @@ public class PaymentMethodSearch {
         return item.getId().startsWith(paymentMethod.getId());
     }
 
+    //The positions of the payment methods whose id starts the item id, in the order of the list.
+    private int[] getPaymentMethodPositionsByItemId(String itemId) {
+        if (paymentMethodPositionsByItemId == null) {
+            paymentMethodPositionsByItemId = new HashMap<>();
+        }
+        int[] positions = paymentMethodPositionsByItemId.get(itemId);
+        if (positions == null) {
+            Map<String, List<Integer>> positionsById = getPaymentMethodPositionsById();
+            List<Integer> matches = new ArrayList<>();
+            for (int length = 0; length <= itemId.length(); length++) {
+                List<Integer> prefixPositions = positionsById.get(itemId.substring(0, length));
+                if (prefixPositions != null) {
+                    matches.addAll(prefixPositions);
+                }
+            }
+            positions = new int[matches.size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = matches.get(i);
+            }
+            Arrays.sort(positions);
+            paymentMethodPositionsByItemId.put(itemId, positions);
+        }
+        return positions;
+    }
+
+    private Map<String, List<Integer>> getPaymentMethodPositionsById() {
+        if (paymentMethodPositionsById == null) {
+            paymentMethodPositionsById = new HashMap<>();
+            for (int i = 0; i < paymentMethods.size(); i++) {
+                String id = paymentMethods.get(i).getId();
+                if (id != null) {
+                    List<Integer> positions = paymentMethodPositionsById.get(id);
+                    if (positions == null) {
+                        positions = new ArrayList<>(1);
+                        paymentMethodPositionsById.put(id, positions);
+                    }
+                    positions.add(i);
+                }
+            }
+        }
+        return paymentMethodPositionsById;
+    }
+
     public PaymentMethodSearchItem getSearchItemByPaymentMethod(PaymentMethod selectedPaymentMethod) {
         PaymentMethodSearchItem requiredItem = null;
         if (selectedPaymentMethod != null) {
@@ -72,8 +139,18 @@ public class PaymentMethodSearch {
         return requiredItem;
     }
 
+    //The item found for a payment method and payment type is kept, even if none is found.
     private PaymentMethodSearchItem searchItemMatchingPaymentMethod(PaymentMethod paymentMethod) {
-        return searchItemInList(groups, paymentMethod);
+        if (searchItemsByPaymentMethod == null) {
+            searchItemsByPaymentMethod = new HashMap<>();
+        }
+        String key = paymentMethod.getId() + "/" + paymentMethod.getPaymentTypeId();
+        PaymentMethodSearchItem requiredItem = searchItemsByPaymentMethod.get(key);
+        if (requiredItem == null && !searchItemsByPaymentMethod.containsKey(key)) {
+            requiredItem = searchItemInList(groups, paymentMethod);
+            searchItemsByPaymentMethod.put(key, requiredItem);
+        }
+        return requiredItem;
     }
 
     private PaymentMethodSearchItem searchItemInList(List<PaymentMethodSearchItem> list, PaymentMethod paymentMethod) {
@@ -88,7 +165,7 @@ public class PaymentMethodSearch {
             //Case like "bancomer_ticket", with the payment type in the item id
             else if (itemMatchesPaymentMethod(currentItem, paymentMethod)) {
                 //Remove payment method id from item id
-                String potentialPaymentType = currentItem.getId().replaceFirst(paymentMethod.getId(), "");
+                String potentialPaymentType = currentItem.getId().substring(paymentMethod.getId().length());
                 if (potentialPaymentType.endsWith(paymentMethod.getPaymentTypeId())) {
                     requiredItem = currentItem;
                     break;
@@ -106,12 +183,15 @@ public class PaymentMethodSearch {
     public PaymentMethod getPaymentMethodById(String paymentMethodId) {
         PaymentMethod foundPaymentMethod = null;
         if (paymentMethods != null) {
-            for (PaymentMethod paymentMethod : paymentMethods) {
-                if (paymentMethod.getId().equals(paymentMethodId)) {
-                    foundPaymentMethod = paymentMethod;
-                    break;
+            if (paymentMethodsById == null) {
+                paymentMethodsById = new HashMap<>();
+                for (PaymentMethod paymentMethod : paymentMethods) {
+                    if (paymentMethod.getId() != null && !paymentMethodsById.containsKey(paymentMethod.getId())) {
+                        paymentMethodsById.put(paymentMethod.getId(), paymentMethod);
+                    }
                 }
             }
+            foundPaymentMethod = paymentMethodsById.get(paymentMethodId);
         }
         return foundPaymentMethod;
     }
@@ -119,12 +199,15 @@ public class PaymentMethodSearch {
     public Card getCardById(String cardId) {
         Card foundCard = null;
         if (cards != null) {
-            for (Card card : cards) {
-                if (card.getId().equals(cardId)) {
-                    foundCard = card;
-                    break;
+            if (cardsById == null) {
+                cardsById = new HashMap<>();
+                for (Card card : cards) {
+                    if (card.getId() != null && !cardsById.containsKey(card.getId())) {
+                        cardsById.put(card.getId(), card);
+                    }
                 }
             }
+            foundCard = cardsById.get(cardId);
         }
         return foundCard;
     }
@@ -133,6 +216,10 @@ public class PaymentMethodSearch {
         return customSearchItems;
     }
 
+    public void setCustomSearchItems(List<CustomSearchItem> customSearchItems) {
+        this.customSearchItems = customSearchItems;
+    }
+
     public boolean hasCustomSearchItems() {
         return customSearchItems != null && !customSearchItems.isEmpty();
     }
@@ -141,10 +228,19 @@ public class PaymentMethodSearch {
         return cards;
     }
 
+    public void setCards(List<Card> cards) {
+        this.cards = cards;
+        this.cardsById = null;
+    }
+
     public AccountMoney getAccountMoney() {
         return accountMoney;
     }
 
+    public void setAccountMoney(AccountMoney accountMoney) {
+        this.accountMoney = accountMoney;
+    }
+
     public boolean hasSavedCards() {
         return cards != null && !cards.isEmpty();
     }
@@ -163,6 +259,22 @@ public class PaymentMethodSearch {
                 this.customSearchItems.add(searchItem);
                 this.cards.add(card);
             }
+            this.cardsById = null;
         }
     }
+
+    /**
+     * @return a copy of the search with the cards set as in {@link #setCards(List, String)}, leaving
+     * this search unchanged. The other lists are shared with the copy.
+     */
+    public PaymentMethodSearch copyWithCards(List<Card> cards, String lastFourDigitsText) {
+        PaymentMethodSearch copy = new PaymentMethodSearch();
+        copy.groups = groups;
+        copy.customSearchItems = customSearchItems;
+        copy.paymentMethods = paymentMethods;
+        copy.cards = this.cards;
+        copy.accountMoney = accountMoney;
+        copy.setCards(cards, lastFourDigitsText);
+        return copy;
+    }
 }
@@ -64,6 +64,18 @@ public class PaymentMethodSearchItem {
         return this.childrenHeader;
     }
 
+    public void setChildrenHeader(String childrenHeader) {
+        this.childrenHeader = childrenHeader;
+    }
+
+    public Boolean getShowIcon() {
+        return showIcon;
+    }
+
+    public void setShowIcon(Boolean showIcon) {
+        this.showIcon = showIcon;
+    }
+
     public boolean hasChildren() {
         return children != null && children.size() != 0;
     }
@@ -40,9 +40,7 @@ public class Setting {
 
             for (Setting setting : settings) {
 
-                if (!"".equals(bin) && bin.matches(setting.getBin().getPattern() + ".*") &&
-                        (setting.getBin().getExclusionPattern() == null || setting.getBin().getExclusionPattern().isEmpty()
-                                || !bin.matches(setting.getBin().getExclusionPattern() + ".*"))) {
+                if (!"".equals(bin) && setting.getBin().isValidFor(bin)) {
                     selectedSetting = setting;
                 }
             }
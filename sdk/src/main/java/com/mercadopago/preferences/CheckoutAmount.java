@@ -0,0 +1,102 @@
+package com.mercadopago.preferences;
+
+import com.mercadopago.model.Discount;
+import com.mercadopago.model.Item;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The amounts of the items of a {@link CheckoutPreference}, summed once. Get it from
+ * {@link CheckoutPreference#getCheckoutAmount()}, which sums them again only when the items
+ * change. Screens that receive the amount instead of the preference create it from that amount.
+ * <p>
+ * The sums are exact: prices are multiplied and added as {@link BigDecimal}, never rounded.
+ */
+public class CheckoutAmount {
+
+    private final List<Item> items;
+    private final int itemsVersion;
+    private final BigDecimal subtotal;
+    private final Map<String, BigDecimal> totalsByCurrency;
+
+    private Discount lastDiscount;
+    private BigDecimal lastCouponAmount;
+    private BigDecimal lastTotal;
+
+    /**
+     * @param subtotal the amount to apply discounts to. It has no totals by currency.
+     */
+    public CheckoutAmount(BigDecimal subtotal) {
+        this.items = null;
+        this.itemsVersion = 0;
+        this.subtotal = subtotal;
+        this.totalsByCurrency = Collections.emptyMap();
+    }
+
+    CheckoutAmount(List<Item> items, int itemsVersion) {
+        this.items = items;
+        this.itemsVersion = itemsVersion;
+
+        BigDecimal total = BigDecimal.ZERO;
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+        int size = items == null ? 0 : items.size();
+        for (int i = 0; i < size && total != null; i++) {
+            Item item = items.get(i);
+            if ((item != null) && (item.getUnitPrice() != null) && (item.getQuantity() != null)) {
+                BigDecimal itemAmount = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+                total = total.add(itemAmount);
+                BigDecimal currencyTotal = totals.get(item.getCurrencyId());
+                totals.put(item.getCurrencyId(), currencyTotal == null ? itemAmount : currencyTotal.add(itemAmount));
+            } else {
+                total = null;
+            }
+        }
+        subtotal = total;
+        totalsByCurrency = total == null ? Collections.<String, BigDecimal>emptyMap() : Collections.unmodifiableMap(totals);
+    }
+
+    /**
+     * @return the sum of the prices of the items by their quantities, or null if an item has no
+     * price or quantity.
+     */
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    /**
+     * @return the subtotal minus the coupon amount of the discount, or the subtotal if the discount
+     * is null or not valid.
+     */
+    public synchronized BigDecimal getTotal(Discount discount) {
+        if (subtotal == null || discount == null || !discount.isValid()) {
+            return subtotal;
+        }
+        if (discount != lastDiscount || discount.getCouponAmount() != lastCouponAmount) {
+            lastDiscount = discount;
+            lastCouponAmount = discount.getCouponAmount();
+            lastTotal = discount.getAmountWithDiscount(subtotal);
+        }
+        return lastTotal;
+    }
+
+    /**
+     * @return the subtotal of the items of each currency, in the order they appear, or an empty map
+     * if an item has no price or quantity.
+     */
+    public Map<String, BigDecimal> getTotalsByCurrency() {
+        return totalsByCurrency;
+    }
+
+    public BigDecimal getTotal(String currencyId) {
+        return totalsByCurrency.get(currencyId);
+    }
+
+    //True if the amount was summed from this list, and neither the list nor any of its items changed since.
+    boolean isOf(List<Item> items, int itemsVersion) {
+        return items == this.items && itemsVersion == this.itemsVersion;
+    }
+}
@@ -5,6 +5,7 @@ import com.google.gson.annotations.SerializedName;
 import com.mercadopago.constants.PaymentTypes;
 import com.mercadopago.constants.Sites;
 import com.mercadopago.exceptions.CheckoutPreferenceException;
+import com.mercadopago.model.Discount;
 import com.mercadopago.model.Item;
 import com.mercadopago.model.Payer;
 import com.mercadopago.model.Site;
@@ -13,8 +14,10 @@ import com.mercadopago.util.TextUtils;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import static com.mercadopago.util.TextUtils.isEmpty;
 
@@ -33,12 +36,14 @@ public class CheckoutPreference {
 
     private Site localPreferenceSite;
 
+    private transient CheckoutAmount checkoutAmount;
+
     public CheckoutPreference(String checkoutPreferenceId) {
         this.id = checkoutPreferenceId;
     }
 
     private CheckoutPreference(Builder builder) {
-        this.items = builder.items;
+        this.items = new ItemList(builder.items);
         this.expirationDateFrom = builder.expirationDateFrom;
         this.expirationDateTo = builder.expirationDateTo;
         this.localPreferenceSite = builder.localPreferenceSite;
@@ -150,19 +155,44 @@ public class CheckoutPreference {
         this.paymentPreference = paymentPreference;
     }
 
+    /**
+     * @return the sum of the items, or null if an item has no price or quantity.
+     */
     public BigDecimal getAmount() {
+        return getCheckoutAmount().getSubtotal();
+    }
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        if (items != null) {
-            for (Item item : items) {
-                if ((item != null) && (item.getUnitPrice() != null) && (item.getQuantity() != null)) {
-                    totalAmount = totalAmount.add(item.getUnitPrice().multiply(new BigDecimal(item.getQuantity())));
-                } else {
-                    return null;
-                }
-            }
+    /**
+     * @return the amounts of the items, summed again only if the items changed since the last call.
+     */
+    public CheckoutAmount getCheckoutAmount() {
+        ItemList itemList = getItemList();
+        int itemsVersion = itemList == null ? 0 : itemList.getVersion();
+        CheckoutAmount currentCheckoutAmount = checkoutAmount;
+        if (currentCheckoutAmount == null || !currentCheckoutAmount.isOf(itemList, itemsVersion)) {
+            currentCheckoutAmount = new CheckoutAmount(itemList, itemsVersion);
+            checkoutAmount = currentCheckoutAmount;
         }
-        return totalAmount;
+        return currentCheckoutAmount;
+    }
+
+    /**
+     * @return the sum of the items minus the coupon amount of the discount, or the sum of the items
+     * if the discount is null or not valid.
+     */
+    public BigDecimal getTotal(Discount discount) {
+        return getCheckoutAmount().getTotal(discount);
+    }
+
+    /**
+     * @return the sum of the items of the currency, or null if there is none.
+     */
+    public BigDecimal getTotal(String currencyId) {
+        return getCheckoutAmount().getTotal(currencyId);
+    }
+
+    public Map<String, BigDecimal> getTotalsByCurrency() {
+        return getCheckoutAmount().getTotalsByCurrency();
     }
 
     public String getId() {
@@ -174,11 +204,24 @@ public class CheckoutPreference {
     }
 
     public List<Item> getItems() {
-        return items;
+        return getItemList();
     }
 
+    /**
+     * Keeps a copy of the items, which tells the amount when it changes. Changes made afterwards to
+     * the given list are not seen by the preference, they must be made through {@link #getItems()}.
+     */
     public void setItems(List<Item> items) {
-        this.items = items;
+        this.items = items == null ? null : new ItemList(items);
+        this.checkoutAmount = null;
+    }
+
+    //Items read from json come in a plain list.
+    private ItemList getItemList() {
+        if (items != null && !(items instanceof ItemList)) {
+            items = new ItemList(items);
+        }
+        return (ItemList) items;
     }
 
     public Payer getPayer() {
@@ -248,6 +291,71 @@ public class CheckoutPreference {
         return getId() != null;
     }
 
+    //Counts its changes and the amount changes of its items, so the amount is summed again only when they change.
+    private static class ItemList extends ArrayList<Item> implements Item.AmountListener {
+
+        //Not the modCount, so iterators over the list don't fail when an item or an element is set.
+        private int changes;
+
+        private ItemList(List<Item> items) {
+            super(items);
+            for (Item item : items) {
+                listenTo(item);
+            }
+        }
+
+        @Override
+        public boolean add(Item item) {
+            listenTo(item);
+            return super.add(item);
+        }
+
+        @Override
+        public void add(int index, Item item) {
+            listenTo(item);
+            super.add(index, item);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Item> items) {
+            for (Item item : items) {
+                listenTo(item);
+            }
+            return super.addAll(items);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends Item> items) {
+            for (Item item : items) {
+                listenTo(item);
+            }
+            return super.addAll(index, items);
+        }
+
+        @Override
+        public Item set(int index, Item item) {
+            listenTo(item);
+            changes++;
+            return super.set(index, item);
+        }
+
+        //Removed items aren't forgotten: a change to one of them only makes the amount be summed again.
+        private void listenTo(Item item) {
+            if (item != null) {
+                item.addAmountListener(this);
+            }
+        }
+
+        @Override
+        public void onAmountChanged(Item item) {
+            changes++;
+        }
+
+        private int getVersion() {
+            return modCount + changes;
+        }
+    }
+
     public static class Builder {
         private List<Item> items;
         private List<String> excludedPaymentMethods;
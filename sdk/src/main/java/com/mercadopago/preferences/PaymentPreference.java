@@ -29,13 +29,16 @@ public class PaymentPreference {
 
     private String defaultPaymentTypeId;
 
+    private transient PaymentPreferenceFilter filter;
 
     public void setMaxAcceptedInstallments(Integer installments) {
         this.maxInstallments = installments;
+        this.filter = null;
     }
 
     public void setDefaultInstallments(Integer defaultInstallments) {
         this.defaultInstallments = defaultInstallments;
+        this.filter = null;
     }
 
     public void setExcludedPaymentMethodIds(List<String> excludedPaymentMethodIds) {
@@ -46,6 +49,7 @@ public class PaymentPreference {
                 excludedPaymentMethod.setId(paymentMethodId);
                 this.excludedPaymentMethods.add(excludedPaymentMethod);
             }
+            this.filter = null;
         }
     }
 
@@ -57,15 +61,18 @@ public class PaymentPreference {
                 excludedPaymentType.setId(paymentTypeId);
                 this.excludedPaymentTypes.add(excludedPaymentType);
             }
+            this.filter = null;
         }
     }
 
     public void setDefaultPaymentMethodId(String defaultPaymentMethodId) {
         this.defaultPaymentMethodId = defaultPaymentMethodId;
+        this.filter = null;
     }
 
     public void setDefaultPaymentTypeId(String defaultPaymentTypeId) {
         this.defaultPaymentTypeId = defaultPaymentTypeId;
+        this.filter = null;
     }
 
     public Integer getMaxInstallments() {
@@ -106,75 +113,36 @@ public class PaymentPreference {
         return defaultPaymentTypeId;
     }
 
-    public List<PayerCost> getInstallmentsBelowMax(List<PayerCost> payerCosts) {
-
-        List<PayerCost> validPayerCosts = new ArrayList<>();
-
-        if (this.maxInstallments != null) {
-            for (PayerCost currentPayerCost : payerCosts) {
-                if (currentPayerCost.getInstallments() <= this.maxInstallments) {
-                    validPayerCosts.add(currentPayerCost);
-                }
-            }
-            return validPayerCosts;
-        } else {
-            return payerCosts;
+    /**
+     * @return the preference compiled for lookups, shared until the preference changes.
+     */
+    public PaymentPreferenceFilter getFilter() {
+        PaymentPreferenceFilter currentFilter = filter;
+        if (currentFilter == null) {
+            currentFilter = new PaymentPreferenceFilter(this);
+            filter = currentFilter;
         }
+        return currentFilter;
+    }
 
+    public List<PayerCost> getInstallmentsBelowMax(List<PayerCost> payerCosts) {
+        return getFilter().getInstallmentsBelowMax(payerCosts);
     }
 
     public PayerCost getDefaultInstallments(List<PayerCost> payerCosts) {
-        PayerCost defaultPayerCost = null;
-
-        for (PayerCost currentPayerCost : payerCosts) {
-            if (currentPayerCost.getInstallments().equals(this.defaultInstallments)) {
-                defaultPayerCost = currentPayerCost;
-                break;
-            }
-        }
-
-        return defaultPayerCost;
+        return getFilter().getDefaultInstallments(payerCosts);
     }
 
     public List<PaymentMethod> getSupportedPaymentMethods(List<PaymentMethod> paymentMethods) {
-        List<PaymentMethod> supportedPaymentMethods = new ArrayList<>();
-        if (paymentMethods != null) {
-            for (PaymentMethod paymentMethod : paymentMethods) {
-                if (this.isPaymentMethodSupported(paymentMethod)) {
-                    supportedPaymentMethods.add(paymentMethod);
-                }
-            }
-        }
-        return supportedPaymentMethods;
+        return getFilter().getSupportedPaymentMethods(paymentMethods);
     }
 
     public boolean isPaymentMethodSupported(PaymentMethod paymentMethod) {
-        boolean isSupported = true;
-        if (paymentMethod == null) {
-            isSupported = false;
-        } else {
-            List<String> excludedPaymentMethodIds = this.getExcludedPaymentMethodIds();
-            List<String> excludedPaymentTypes = this.getExcludedPaymentTypes();
-
-            if ((excludedPaymentMethodIds != null && excludedPaymentMethodIds.contains(paymentMethod.getId()))
-                    || (excludedPaymentTypes != null && excludedPaymentTypes.contains(paymentMethod.getPaymentTypeId()))) {
-                isSupported = false;
-            }
-        }
-        return isSupported;
+        return getFilter().isPaymentMethodSupported(paymentMethod);
     }
 
     public PaymentMethod getDefaultPaymentMethod(List<PaymentMethod> paymentMethods) {
-        PaymentMethod defaultPaymentMethod = null;
-        if (this.defaultPaymentMethodId != null && paymentMethods != null) {
-            for (PaymentMethod pm : paymentMethods) {
-                if (pm.getId().equals(this.defaultPaymentMethodId)) {
-                    defaultPaymentMethod = pm;
-                    break;
-                }
-            }
-        }
-        return defaultPaymentMethod;
+        return getFilter().getDefaultPaymentMethod(paymentMethods);
     }
 
     public boolean installmentPreferencesValid() {
@@ -195,14 +163,6 @@ public class PaymentPreference {
     }
 
     public List<Card> getValidCards(List<Card> cards) {
-        List<Card> supportedCards = new ArrayList<>();
-        if(cards != null) {
-            for(Card card : cards) {
-                if(isPaymentMethodSupported(card.getPaymentMethod())) {
-                    supportedCards.add(card);
-                }
-            }
-        }
-        return supportedCards;
+        return getFilter().getValidCards(cards);
     }
 }
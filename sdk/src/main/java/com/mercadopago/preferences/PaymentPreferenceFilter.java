@@ -0,0 +1,148 @@
+package com.mercadopago.preferences;
+
+import com.mercadopago.model.Card;
+import com.mercadopago.model.PayerCost;
+import com.mercadopago.model.PaymentMethod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The restrictions of a {@link PaymentPreference} compiled for lookups: the excluded payment
+ * method ids and payment types are kept in hash sets, so checking a payment method or a card
+ * doesn't scan the lists of the preference.
+ * <p>
+ * Immutable. Get it from {@link PaymentPreference#getFilter()}, which compiles it again when the
+ * preference changes.
+ */
+public class PaymentPreferenceFilter {
+
+    private final Set<String> excludedPaymentMethodIds;
+    private final Set<String> excludedPaymentTypeIds;
+    private final Integer maxInstallments;
+    private final Integer defaultInstallments;
+    private final String defaultPaymentMethodId;
+    private final String defaultPaymentTypeId;
+
+    PaymentPreferenceFilter(PaymentPreference paymentPreference) {
+        excludedPaymentMethodIds = toSet(paymentPreference.getExcludedPaymentMethodIds());
+        excludedPaymentTypeIds = toSet(paymentPreference.getExcludedPaymentTypes());
+        maxInstallments = paymentPreference.getMaxInstallments();
+        defaultInstallments = paymentPreference.getDefaultInstallments();
+        defaultPaymentMethodId = paymentPreference.getDefaultPaymentMethodId();
+        defaultPaymentTypeId = paymentPreference.getDefaultPaymentTypeId();
+    }
+
+    private static Set<String> toSet(List<String> ids) {
+        return ids == null || ids.isEmpty() ? Collections.<String>emptySet() : Collections.unmodifiableSet(new HashSet<>(ids));
+    }
+
+    public Integer getMaxInstallments() {
+        return maxInstallments;
+    }
+
+    public Integer getDefaultInstallments() {
+        return defaultInstallments;
+    }
+
+    public String getDefaultPaymentMethodId() {
+        return defaultPaymentMethodId;
+    }
+
+    public String getDefaultPaymentTypeId() {
+        return defaultPaymentTypeId;
+    }
+
+    public boolean hasExclusions() {
+        return !excludedPaymentMethodIds.isEmpty() || !excludedPaymentTypeIds.isEmpty();
+    }
+
+    public boolean isPaymentMethodIdExcluded(String paymentMethodId) {
+        return excludedPaymentMethodIds.contains(paymentMethodId);
+    }
+
+    public boolean isPaymentTypeExcluded(String paymentTypeId) {
+        return excludedPaymentTypeIds.contains(paymentTypeId);
+    }
+
+    public boolean isPaymentMethodSupported(PaymentMethod paymentMethod) {
+        return paymentMethod != null && !isPaymentMethodIdExcluded(paymentMethod.getId())
+                && !isPaymentTypeExcluded(paymentMethod.getPaymentTypeId());
+    }
+
+    public List<PaymentMethod> getSupportedPaymentMethods(List<PaymentMethod> paymentMethods) {
+        List<PaymentMethod> supportedPaymentMethods = new ArrayList<>();
+        if (paymentMethods != null) {
+            for (PaymentMethod paymentMethod : paymentMethods) {
+                if (isPaymentMethodSupported(paymentMethod)) {
+                    supportedPaymentMethods.add(paymentMethod);
+                }
+            }
+        }
+        return supportedPaymentMethods;
+    }
+
+    /**
+     * @return the payment methods whose payment type is not excluded, once each.
+     */
+    public List<PaymentMethod> filterByPaymentType(List<PaymentMethod> paymentMethods) {
+        if (excludedPaymentTypeIds.isEmpty()) {
+            return paymentMethods;
+        }
+        List<PaymentMethod> filteredPaymentMethods = new ArrayList<>();
+        for (PaymentMethod paymentMethod : paymentMethods) {
+            if (!isPaymentTypeExcluded(paymentMethod.getPaymentTypeId())) {
+                filteredPaymentMethods.add(paymentMethod);
+            }
+        }
+        return filteredPaymentMethods;
+    }
+
+    public List<Card> getValidCards(List<Card> cards) {
+        List<Card> supportedCards = new ArrayList<>();
+        if (cards != null) {
+            for (Card card : cards) {
+                if (isPaymentMethodSupported(card.getPaymentMethod())) {
+                    supportedCards.add(card);
+                }
+            }
+        }
+        return supportedCards;
+    }
+
+    public List<PayerCost> getInstallmentsBelowMax(List<PayerCost> payerCosts) {
+        if (maxInstallments == null) {
+            return payerCosts;
+        }
+        List<PayerCost> validPayerCosts = new ArrayList<>();
+        for (PayerCost currentPayerCost : payerCosts) {
+            if (currentPayerCost.getInstallments() <= maxInstallments) {
+                validPayerCosts.add(currentPayerCost);
+            }
+        }
+        return validPayerCosts;
+    }
+
+    public PayerCost getDefaultInstallments(List<PayerCost> payerCosts) {
+        for (PayerCost currentPayerCost : payerCosts) {
+            if (currentPayerCost.getInstallments().equals(defaultInstallments)) {
+                return currentPayerCost;
+            }
+        }
+        return null;
+    }
+
+    public PaymentMethod getDefaultPaymentMethod(List<PaymentMethod> paymentMethods) {
+        if (defaultPaymentMethodId != null && paymentMethods != null) {
+            for (PaymentMethod paymentMethod : paymentMethods) {
+                if (paymentMethod.getId().equals(defaultPaymentMethodId)) {
+                    return paymentMethod;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ package com.mercadopago.presenters;
 
 import com.mercadopago.callbacks.FailureRecovery;
 import com.mercadopago.constants.PaymentMethods;
+import com.mercadopago.controllers.CheckoutBootstrap;
 import com.mercadopago.controllers.CheckoutTimer;
 import com.mercadopago.controllers.Timer;
 import com.mercadopago.core.MercadoPagoCheckout;
@@ -70,6 +71,11 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
     private transient FailureRecovery failureRecovery;
     private transient Timer mCheckoutTimer;
 
+    private transient CheckoutBootstrap mBootstrap;
+    private transient CheckoutBootstrap.FinishListener mBootstrapListener;
+    private transient PaymentMethodSearch mBootstrapPaymentMethodSearch;
+    private transient MercadoPagoError mBootstrapError;
+
     public CheckoutPresenter() {
         mFlowPreference = new FlowPreference.Builder()
                 .build();
@@ -114,11 +120,50 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
     private void startCheckout() {
         resolvePreSelectedData();
         setCheckoutTimer();
+        startBootstrap();
+    }
+
+    private void startBootstrap() {
+        getView().showProgress();
+        CheckoutBootstrap bootstrap = getBootstrap();
+        bootstrap.setFinishListener(new CheckoutBootstrap.FinishListener() {
+            @Override
+            public void onFinish(CheckoutBootstrap bootstrap) {
+                onBootstrapFinished(bootstrap);
+            }
+        });
+
         boolean shouldGetDiscounts = mDiscount == null && isDiscountEnabled();
+        bootstrap.awaitBranch(CheckoutBootstrap.STAGE_PAYMENT_METHOD_SEARCH);
+        if (shouldGetDiscounts) {
+            bootstrap.awaitBranch(CheckoutBootstrap.STAGE_DISCOUNTS);
+        }
+
+        retrievePaymentMethodSearch();
         if (shouldGetDiscounts) {
             getDiscountCampaigns();
+        }
+    }
+
+    private CheckoutBootstrap getBootstrap() {
+        if (mBootstrap == null || mBootstrap.isFinished()) {
+            mBootstrap = new CheckoutBootstrap();
+        }
+        return mBootstrap;
+    }
+
+    private void onBootstrapFinished(CheckoutBootstrap bootstrap) {
+        if (mBootstrapListener != null) {
+            mBootstrapListener.onFinish(bootstrap);
+        }
+        if (mBootstrapError != null) {
+            MercadoPagoError error = mBootstrapError;
+            mBootstrapError = null;
+            getView().showError(error);
         } else {
-            retrievePaymentMethodSearch();
+            mPaymentMethodSearch = mBootstrapPaymentMethodSearch;
+            mBootstrapPaymentMethodSearch = null;
+            startFlow();
         }
     }
 
@@ -155,6 +200,7 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
     }
 
     private void getDiscountCampaigns() {
+        mBootstrap.startStage(CheckoutBootstrap.STAGE_CAMPAIGNS);
         getResourcesProvider().getDiscountCampaigns(onCampaignsRetrieved());
     }
 
@@ -163,6 +209,7 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
             @Override
             public void onSuccess(List<Campaign> campaigns) {
                 if (isViewAttached()) {
+                    mBootstrap.finishStage(CheckoutBootstrap.STAGE_CAMPAIGNS);
                     analyzeCampaigns(campaigns);
                 }
             }
@@ -170,8 +217,9 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
             @Override
             public void onFailure(MercadoPagoError error) {
                 if (isViewAttached()) {
+                    mBootstrap.finishStage(CheckoutBootstrap.STAGE_CAMPAIGNS);
                     mFlowPreference.disableDiscount();
-                    retrievePaymentMethodSearch();
+                    mBootstrap.completeBranch(CheckoutBootstrap.STAGE_DISCOUNTS);
                 }
             }
         };
@@ -182,7 +230,7 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
         boolean couponDiscountFound = false;
         if (campaigns == null) {
             mFlowPreference.disableDiscount();
-            retrievePaymentMethodSearch();
+            mBootstrap.completeBranch(CheckoutBootstrap.STAGE_DISCOUNTS);
         } else {
             for (Campaign campaign : campaigns) {
                 if (campaign.isDirectDiscountCampaign()) {
@@ -200,39 +248,39 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
                 } else {
                     mFlowPreference.disableDiscount();
                 }
-                retrievePaymentMethodSearch();
+                mBootstrap.completeBranch(CheckoutBootstrap.STAGE_DISCOUNTS);
             }
         }
     }
 
     private void getDirectDiscount(final boolean couponDiscountFount) {
         String payerEmail = mCheckoutPreference.getPayer() == null ? "" : mCheckoutPreference.getPayer().getEmail();
+        mBootstrap.startStage(CheckoutBootstrap.STAGE_DIRECT_DISCOUNT);
         getResourcesProvider().getDirectDiscount(mCheckoutPreference.getAmount(), payerEmail, new OnResourcesRetrievedCallback<Discount>() {
             @Override
             public void onSuccess(Discount discount) {
                 if (isViewAttached()) {
+                    mBootstrap.finishStage(CheckoutBootstrap.STAGE_DIRECT_DISCOUNT);
                     mDiscount = discount;
-                    retrievePaymentMethodSearch();
+                    mBootstrap.completeBranch(CheckoutBootstrap.STAGE_DISCOUNTS);
                 }
             }
 
             @Override
             public void onFailure(MercadoPagoError error) {
                 if (isViewAttached()) {
+                    mBootstrap.finishStage(CheckoutBootstrap.STAGE_DIRECT_DISCOUNT);
                     mDirectDiscountEnabled = false;
-                    if (couponDiscountFount) {
-                        retrievePaymentMethodSearch();
-                    } else {
+                    if (!couponDiscountFount) {
                         mFlowPreference.disableDiscount();
-                        retrievePaymentMethodSearch();
                     }
+                    mBootstrap.completeBranch(CheckoutBootstrap.STAGE_DISCOUNTS);
                 }
             }
         });
     }
 
     private void retrievePaymentMethodSearch() {
-        getView().showProgress();
         Payer payer = new Payer();
         payer.setAccessToken(mCheckoutPreference.getPayer().getAccessToken());
         getResourcesProvider().getPaymentMethodSearch(mCheckoutPreference.getAmount(), mCheckoutPreference.getExcludedPaymentTypes(), mCheckoutPreference.getExcludedPaymentMethods(), payer, mCheckoutPreference.getSite(), onPaymentMethodSearchRetrieved(), onCustomerRetrieved());
@@ -243,15 +291,16 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
             @Override
             public void onSuccess(PaymentMethodSearch paymentMethodSearch) {
                 if (isViewAttached()) {
-                    mPaymentMethodSearch = paymentMethodSearch;
-                    startFlow();
+                    mBootstrapPaymentMethodSearch = paymentMethodSearch;
+                    mBootstrap.completeBranch(CheckoutBootstrap.STAGE_PAYMENT_METHOD_SEARCH);
                 }
             }
 
             @Override
             public void onFailure(MercadoPagoError error) {
                 if (isViewAttached()) {
-                    getView().showError(error);
+                    mBootstrapError = error;
+                    mBootstrap.completeBranch(CheckoutBootstrap.STAGE_PAYMENT_METHOD_SEARCH);
                 }
             }
         };
@@ -323,10 +372,12 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
 
     private void retrieveCheckoutPreference() {
         getView().showProgress();
+        getBootstrap().startStage(CheckoutBootstrap.STAGE_PREFERENCE);
         getResourcesProvider().getCheckoutPreference(mCheckoutPreference.getId(), new OnResourcesRetrievedCallback<CheckoutPreference>() {
 
             @Override
             public void onSuccess(CheckoutPreference checkoutPreference) {
+                mBootstrap.finishStage(CheckoutBootstrap.STAGE_PREFERENCE);
                 mCheckoutPreference = checkoutPreference;
                 startCheckoutForPreference();
             }
@@ -752,6 +803,10 @@ public class CheckoutPresenter extends MvpPresenter<CheckoutView, CheckoutProvid
         this.mCheckoutTimer = timer;
     }
 
+    public void setBootstrapListener(CheckoutBootstrap.FinishListener bootstrapListener) {
+        this.mBootstrapListener = bootstrapListener;
+    }
+
     public CheckoutPreference getCheckoutPreference() {
         return mCheckoutPreference;
     }
@@ -4,6 +4,7 @@ import com.mercadopago.exceptions.MercadoPagoError;
 import com.mercadopago.model.Discount;
 import com.mercadopago.mvp.MvpPresenter;
 import com.mercadopago.mvp.OnResourcesRetrievedCallback;
+import com.mercadopago.preferences.CheckoutAmount;
 import com.mercadopago.providers.DiscountsProvider;
 import com.mercadopago.views.DiscountsView;
 
@@ -25,6 +26,7 @@ public class DiscountsPresenter extends MvpPresenter<DiscountsActivityView, Disc
     private String mPublicKey;
     private String mPayerEmail;
     private BigDecimal mTransactionAmount;
+    private CheckoutAmount mCheckoutAmount;
     private Discount mDiscount;
     private Boolean mDirectDiscountEnabled;
 
@@ -127,6 +129,7 @@ public class DiscountsPresenter extends MvpPresenter<DiscountsActivityView, Disc
 
     public void setTransactionAmount(BigDecimal transactionAmount) {
         this.mTransactionAmount = transactionAmount;
+        this.mCheckoutAmount = new CheckoutAmount(transactionAmount);
     }
 
     public void setDirectDiscountEnabled(Boolean directDiscountEnabled) {
@@ -145,6 +148,14 @@ public class DiscountsPresenter extends MvpPresenter<DiscountsActivityView, Disc
         return mTransactionAmount;
     }
 
+    /**
+     * @return the transaction amount minus the coupon amount, or the transaction amount if the
+     * discount is not valid.
+     */
+    public BigDecimal getTotalAmount() {
+        return mCheckoutAmount == null ? mTransactionAmount : mCheckoutAmount.getTotal(mDiscount);
+    }
+
     public BigDecimal getCouponAmount() {
         return mDiscount.getCouponAmount();
     }
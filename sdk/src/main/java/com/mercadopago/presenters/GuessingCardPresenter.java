@@ -4,8 +4,11 @@ import android.content.Context;
 import android.text.TextUtils;
 
 import com.mercadopago.R;
+import com.mercadopago.adapters.MPCall;
 import com.mercadopago.callbacks.Callback;
 import com.mercadopago.callbacks.FailureRecovery;
+import com.mercadopago.controllers.BinPipeline;
+import com.mercadopago.controllers.CardPrefetcher;
 import com.mercadopago.controllers.PaymentMethodGuessingController;
 import com.mercadopago.core.MerchantServer;
 import com.mercadopago.core.MercadoPagoServices;
@@ -28,8 +31,10 @@ import com.mercadopago.model.SecurityCode;
 import com.mercadopago.model.Setting;
 import com.mercadopago.model.Token;
 import com.mercadopago.preferences.PaymentPreference;
+import com.mercadopago.preferences.PaymentPreferenceFilter;
 import com.mercadopago.uicontrollers.card.CardView;
 import com.mercadopago.uicontrollers.card.FrontCardView;
+import com.mercadopago.util.CardValidator;
 import com.mercadopago.util.CurrenciesUtil;
 import com.mercadopago.util.TextUtil;
 import com.mercadopago.util.MercadoPagoUtil;
@@ -95,6 +100,9 @@ public class GuessingCardPresenter {
     private IdentificationType mIdentificationType;
     private String mIdentificationNumber;
     private CardToken mCardToken;
+    private CardValidator mCardValidator;
+    private CardPrefetcher mCardPrefetcher;
+    private BinPipeline mBinPipeline;
     private Token mToken;
     private PaymentType mPaymentType;
 
@@ -118,6 +126,25 @@ public class GuessingCardPresenter {
     public GuessingCardPresenter(Context context) {
         this.mContext = context;
         this.mEraseSpace = true;
+        this.mCardValidator = new CardValidator();
+        this.mBinPipeline = new BinPipeline();
+        this.mBinPipeline.setOnBinSettledListener(new BinPipeline.OnBinSettledListener() {
+            @Override
+            public void onBinSettled(String bin) {
+                prefetchCardData();
+            }
+        });
+        this.mCardPrefetcher = new CardPrefetcher() {
+            @Override
+            protected MPCall<List<Issuer>> fetchIssuers(String paymentMethodId, String bin, Callback<List<Issuer>> callback) {
+                return mBinPipeline.track(mMercadoPago.getIssuers(paymentMethodId, bin, callback));
+            }
+
+            @Override
+            protected MPCall<List<Installment>> fetchInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback) {
+                return mBinPipeline.track(mMercadoPago.getInstallments(bin, amount, issuerId, paymentMethodId, callback));
+            }
+        };
     }
 
     public void setCurrentNumberLength(int currentNumberLength) {
@@ -180,6 +207,23 @@ public class GuessingCardPresenter {
         this.mPaymentMethod = paymentMethod;
         if (paymentMethod == null) {
             clearCardSettings();
+            mCardPrefetcher.cancel();
+        } else if (mBinPipeline.isSettled()) {
+            prefetchCardData();
+        }
+    }
+
+    /**
+     * @return the pipeline of the bin typed, to guess the payment method and prefetch the card data once per bin.
+     */
+    public BinPipeline getBinPipeline() {
+        return mBinPipeline;
+    }
+
+    //The issuers and installments are needed once the token is created, they are requested while the form is filled.
+    private void prefetchCardData() {
+        if (mMercadoPago != null && mPaymentMethod != null && mBin != null && mBin.length() == MercadoPagoUtil.BIN_LENGTH) {
+            mCardPrefetcher.prefetch(mPaymentMethod.getId(), mBin, mTransactionAmount);
         }
     }
 
@@ -312,6 +356,18 @@ public class GuessingCardPresenter {
                 .build();
     }
 
+    /**
+     * Cancels the background work of the screen that hasn't finished, like a token being created or the
+     * issuers of the card being prefetched.
+     */
+    public void cancelTasks() {
+        mBinPipeline.cancel();
+        mCardPrefetcher.cancel();
+        if (mMercadoPago != null) {
+            mMercadoPago.cancelTasks();
+        }
+    }
+
     public CardInformation getCardInformation() {
         return mCardInfo;
     }
@@ -325,11 +381,11 @@ public class GuessingCardPresenter {
     }
 
     public void initializeGuessingCardNumberController() {
-        List<PaymentMethod> supportedPaymentMethods = mPaymentPreference
+        PaymentPreferenceFilter paymentPreferenceFilter = mPaymentPreference.getFilter();
+        List<PaymentMethod> supportedPaymentMethods = paymentPreferenceFilter
                 .getSupportedPaymentMethods(mPaymentMethodList);
         mPaymentMethodGuessingController = new PaymentMethodGuessingController(
-                supportedPaymentMethods, mPaymentPreference.getDefaultPaymentTypeId(),
-                mPaymentPreference.getExcludedPaymentTypes());
+                supportedPaymentMethods, paymentPreferenceFilter);
     }
 
     private void startGuessingForm() {
@@ -802,21 +858,22 @@ public class GuessingCardPresenter {
 
     public boolean validateCardNumber() {
         mCardToken.setCardNumber(getCardNumber());
-        try {
-            if (mPaymentMethod == null) {
-                if (getCardNumber() == null || getCardNumber().length() < MercadoPagoUtil.BIN_LENGTH) {
-                    throw new RuntimeException(mContext.getString(R.string.mpsdk_invalid_card_number_incomplete));
-                } else if (getCardNumber().length() == MercadoPagoUtil.BIN_LENGTH) {
-                    throw new RuntimeException(mContext.getString(R.string.mpsdk_invalid_payment_method));
-                } else {
-                    throw new RuntimeException(mContext.getString(R.string.mpsdk_invalid_payment_method));
-                }
+        String errorMessage;
+        if (mPaymentMethod == null) {
+            if (getCardNumber() == null || getCardNumber().length() < MercadoPagoUtil.BIN_LENGTH) {
+                errorMessage = mContext.getString(R.string.mpsdk_invalid_card_number_incomplete);
+            } else {
+                errorMessage = mContext.getString(R.string.mpsdk_invalid_payment_method);
             }
-            mCardToken.validateCardNumber(mContext, mPaymentMethod);
+        } else {
+            CardValidator.Result result = mCardValidator.validateCardNumber(mPaymentMethod, getCardNumber());
+            errorMessage = CardValidator.getCardNumberErrorMessage(mContext, result);
+        }
+        if (errorMessage == null) {
             mView.clearErrorView();
             return true;
-        } catch (Exception e) {
-            mView.setErrorView(e.getMessage());
+        } else {
+            mView.setErrorView(errorMessage);
             mView.setErrorCardNumber();
             return false;
         }
@@ -856,12 +913,12 @@ public class GuessingCardPresenter {
 
     public boolean validateSecurityCode() {
         mCardToken.setSecurityCode(getSecurityCode());
-        try {
-            mCardToken.validateSecurityCode(mContext, mPaymentMethod);
+        CardValidator.Result result = mCardValidator.validateSecurityCode(mPaymentMethod, mCardToken.getCardNumber(), getSecurityCode());
+        if (result.isSecurityCodeValid()) {
             mView.clearErrorView();
             return true;
-        } catch (Exception e) {
-            setCardSecurityCodeErrorView(e.getMessage());
+        } else {
+            setCardSecurityCodeErrorView(CardValidator.getSecurityCodeErrorMessage(mContext, result));
             return false;
         }
     }
@@ -1023,7 +1080,7 @@ public class GuessingCardPresenter {
     }
 
     private void getIssuers(Callback<List<Issuer>> callback) {
-        mMercadoPago.getIssuers(mPaymentMethod.getId(), mBin, callback);
+        mCardPrefetcher.getIssuers(mPaymentMethod.getId(), mBin, callback);
     }
 
     private Callback<List<Issuer>> onIssuersRetrieved() {
@@ -1052,7 +1109,7 @@ public class GuessingCardPresenter {
     }
 
     private void getInstallments(Callback<List<Installment>> installmentsRetrievedCallback) {
-        mMercadoPago.getInstallments(mBin, mTransactionAmount, mIssuer.getId(), mPaymentMethod.getId(), installmentsRetrievedCallback);
+        mCardPrefetcher.getInstallments(mBin, mTransactionAmount, mIssuer.getId(), mPaymentMethod.getId(), installmentsRetrievedCallback);
     }
 
     private Callback<List<Installment>> onInstallmentsRetrieved() {
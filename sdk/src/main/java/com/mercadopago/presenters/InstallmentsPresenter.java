@@ -14,7 +14,7 @@ import com.mercadopago.model.Site;
 import com.mercadopago.mvp.MvpPresenter;
 import com.mercadopago.mvp.OnResourcesRetrievedCallback;
 import com.mercadopago.providers.InstallmentsProvider;
-import com.mercadopago.util.CurrenciesUtil;
+import com.mercadopago.preferences.CheckoutAmount;
 import com.mercadopago.preferences.PaymentPreference;
 import com.mercadopago.util.InstallmentsUtil;
 import com.mercadopago.views.InstallmentsActivityView;
@@ -39,6 +39,7 @@ public class InstallmentsPresenter extends MvpPresenter<InstallmentsActivityView
     private PaymentMethod mPaymentMethod;
     private Issuer mIssuer;
     private BigDecimal mAmount;
+    private CheckoutAmount mCheckoutAmount;
     private List<PayerCost> mPayerCosts;
     private PaymentPreference mPaymentPreference;
     private CardInfo mCardInfo;
@@ -151,6 +152,7 @@ public class InstallmentsPresenter extends MvpPresenter<InstallmentsActivityView
 
     public void setAmount(BigDecimal amount) {
         this.mAmount = amount;
+        this.mCheckoutAmount = new CheckoutAmount(amount);
     }
 
     public void setPayerCosts(List<PayerCost> payerCosts) {
@@ -173,31 +175,14 @@ public class InstallmentsPresenter extends MvpPresenter<InstallmentsActivityView
         return this.mPaymentMethod;
     }
 
+    /**
+     * @return the amount, minus the coupon amount if the discount is enabled and valid.
+     */
     public BigDecimal getAmount() {
-        BigDecimal amount;
-
-        if (!mDiscountEnabled || mDiscount == null || !isDiscountValid()) {
-            amount = mAmount;
-        } else {
-            amount = mDiscount.getAmountWithDiscount(mAmount);
+        if (!mDiscountEnabled || mCheckoutAmount == null) {
+            return mAmount;
         }
-        return amount;
-    }
-
-    private Boolean isDiscountValid() {
-        return isAmountValid(mDiscount.getCouponAmount()) && isCampaignIdValid() && isDiscountCurrencyIdValid();
-    }
-
-    private Boolean isDiscountCurrencyIdValid() {
-        return mDiscount != null && mDiscount.getCurrencyId() != null && CurrenciesUtil.isValidCurrency(mDiscount.getCurrencyId());
-    }
-
-    private Boolean isAmountValid(BigDecimal amount) {
-        return amount != null && amount.compareTo(BigDecimal.ZERO) >= 0;
-    }
-
-    private Boolean isCampaignIdValid() {
-        return mDiscount.getId() != null;
+        return mCheckoutAmount.getTotal(mDiscount);
     }
 
     public boolean isRequiredCardDrawn() {
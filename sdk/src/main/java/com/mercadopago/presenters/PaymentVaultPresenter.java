@@ -1,6 +1,7 @@
 package com.mercadopago.presenters;
 
 import com.mercadopago.callbacks.FailureRecovery;
+import com.mercadopago.callbacks.OnPartialResultCallback;
 import com.mercadopago.callbacks.OnSelectedCallback;
 import com.mercadopago.exceptions.MercadoPagoError;
 import com.mercadopago.model.Card;
@@ -43,6 +44,7 @@ public class PaymentVaultPresenter extends MvpPresenter<PaymentVaultView, Paymen
     private Integer mMaxSavedCards;
 
     private boolean mSelectAutomatically;
+    private boolean mSearchItemsPreviewShown;
     private FailureRecovery failureRecovery;
 
     public void initialize(boolean selectAutomatically) {
@@ -191,28 +193,60 @@ public class PaymentVaultPresenter extends MvpPresenter<PaymentVaultView, Paymen
             Payer payer = new Payer();
             payer.setAccessToken(mPayerAccessToken);
 
-            getResourcesProvider().getPaymentMethodSearch(mAmount, mPaymentPreference, payer, mSite, new OnResourcesRetrievedCallback<PaymentMethodSearch>() {
-
-                @Override
-                public void onSuccess(PaymentMethodSearch paymentMethodSearch) {
-                    mPaymentMethodSearch = paymentMethodSearch;
-                    resolveAvailablePaymentMethods();
-                }
+            getResourcesProvider().getPaymentMethodSearch(mAmount, mPaymentPreference, payer, mSite, new PaymentMethodSearchCallback());
+        }
+    }
 
+    private void showSearchItemsPreview(List<PaymentMethodSearchItem> groups) {
+        if (isViewAttached() && mPaymentMethodSearch == null && !groups.isEmpty()
+                && (groups.size() > 1 || !mSelectAutomatically)) {
+            mSearchItemsPreviewShown = true;
+            getView().showSearchItems(groups, new OnSelectedCallback<PaymentMethodSearchItem>() {
                 @Override
-                public void onFailure(MercadoPagoError error) {
-                    if (isViewAttached()) {
-                        getView().showError(error);
-
-                        setFailureRecovery(new FailureRecovery() {
-                            @Override
-                            public void recover() {
-                                getPaymentMethodSearchAsync();
-                            }
-                        });
+                public void onSelected(PaymentMethodSearchItem item) {
+                    //Options can't be selected until the whole search is retrieved.
+                    if (mPaymentMethodSearch != null) {
+                        selectItem(item);
                     }
                 }
             });
+            getView().hideProgress();
+        }
+    }
+
+    /**
+     * Shows the groups of the payment method search as soon as the provider reads them, then
+     * replaces them with every option when the whole search is retrieved.
+     */
+    private class PaymentMethodSearchCallback implements OnResourcesRetrievedCallback<PaymentMethodSearch>, OnPartialResultCallback<List<PaymentMethodSearchItem>> {
+
+        @Override
+        public void onPartialResult(List<PaymentMethodSearchItem> groups) {
+            showSearchItemsPreview(groups);
+        }
+
+        @Override
+        public void onSuccess(PaymentMethodSearch paymentMethodSearch) {
+            mPaymentMethodSearch = paymentMethodSearch;
+            if (mSearchItemsPreviewShown && isViewAttached()) {
+                mSearchItemsPreviewShown = false;
+                getView().cleanPaymentMethodOptions();
+            }
+            resolveAvailablePaymentMethods();
+        }
+
+        @Override
+        public void onFailure(MercadoPagoError error) {
+            if (isViewAttached()) {
+                getView().showError(error);
+
+                setFailureRecovery(new FailureRecovery() {
+                    @Override
+                    public void recover() {
+                        getPaymentMethodSearchAsync();
+                    }
+                });
+            }
         }
     }
 
@@ -320,7 +354,7 @@ public class PaymentVaultPresenter extends MvpPresenter<PaymentVaultView, Paymen
 
     private Card getCardWithPaymentMethod(CustomSearchItem searchItem) {
         PaymentMethod paymentMethod = mPaymentMethodSearch.getPaymentMethodById(searchItem.getPaymentMethodId());
-        Card selectedCard = getCardById(mPaymentMethodSearch.getCards(), searchItem.getId());
+        Card selectedCard = mPaymentMethodSearch.getCardById(searchItem.getId());
         if (paymentMethod != null) {
             selectedCard.setPaymentMethod(paymentMethod);
             if (selectedCard.getSecurityCode() == null && paymentMethod.getSettings() != null && paymentMethod.getSettings().get(0) != null) {
@@ -330,17 +364,6 @@ public class PaymentVaultPresenter extends MvpPresenter<PaymentVaultView, Paymen
         return selectedCard;
     }
 
-    private Card getCardById(List<Card> savedCards, String cardId) {
-        Card foundCard = null;
-        for (Card card : savedCards) {
-            if (card.getId().equals(cardId)) {
-                foundCard = card;
-                break;
-            }
-        }
-        return foundCard;
-    }
-
     private void startNextStepForPaymentType(PaymentMethodSearchItem item) {
         startNextStepForPaymentType(item, false);
     }
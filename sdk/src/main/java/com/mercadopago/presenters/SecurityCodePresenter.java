@@ -152,6 +152,15 @@ public class SecurityCodePresenter {
                 .build();
     }
 
+    /**
+     * Cancels the background work of the screen that hasn't finished, like a token being created.
+     */
+    public void cancelTasks() {
+        if (mMercadoPago != null) {
+            mMercadoPago.cancelTasks();
+        }
+    }
+
 
     public void recoverFromFailure() {
         if (mFailureRecovery != null) {
@@ -4,6 +4,7 @@ import android.content.Context;
 
 import com.mercadopago.R;
 import com.mercadopago.callbacks.Callback;
+import com.mercadopago.callbacks.OnPartialResultCallback;
 import com.mercadopago.core.CustomServer;
 import com.mercadopago.core.MercadoPagoServices;
 import com.mercadopago.exceptions.MercadoPagoError;
@@ -15,6 +16,7 @@ import com.mercadopago.model.Customer;
 import com.mercadopago.model.Discount;
 import com.mercadopago.model.Payer;
 import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.model.PaymentMethodSearchItem;
 import com.mercadopago.model.Site;
 import com.mercadopago.mvp.OnResourcesRetrievedCallback;
 import com.mercadopago.util.TextUtil;
@@ -102,21 +104,43 @@ public class PaymentVaultProviderImpl implements PaymentVaultProvider {
         List<String> excludedPaymentTypes = paymentPreference == null ? null : paymentPreference.getExcludedPaymentTypes();
         List<String> excludedPaymentMethodIds = paymentPreference == null ? null : paymentPreference.getExcludedPaymentMethodIds();
 
-        mercadoPago.getPaymentMethodSearch(amount, excludedPaymentTypes, excludedPaymentMethodIds, payer, site, new Callback<PaymentMethodSearch>() {
-            @Override
-            public void success(final PaymentMethodSearch paymentMethodSearch) {
-                if (!paymentMethodSearch.hasSavedCards() && isMerchantServerCustomerAvailable()) {
-                    addCustomerCardsFromMerchantServer(paymentMethodSearch, paymentPreference, onResourcesRetrievedCallback);
-                } else {
-                    onResourcesRetrievedCallback.onSuccess(paymentMethodSearch);
-                }
+        mercadoPago.getPaymentMethodSearch(amount, excludedPaymentTypes, excludedPaymentMethodIds, payer, site, new PaymentMethodSearchCallback(paymentPreference, onResourcesRetrievedCallback));
+    }
+
+    /**
+     * Forwards the groups read before the whole search to callbacks that can show them, so they
+     * don't wait for the rest of the response nor the customer cards of the merchant server.
+     */
+    private class PaymentMethodSearchCallback extends Callback<PaymentMethodSearch> implements OnPartialResultCallback<List<PaymentMethodSearchItem>> {
+
+        private final PaymentPreference paymentPreference;
+        private final OnResourcesRetrievedCallback<PaymentMethodSearch> onResourcesRetrievedCallback;
+
+        private PaymentMethodSearchCallback(PaymentPreference paymentPreference, OnResourcesRetrievedCallback<PaymentMethodSearch> onResourcesRetrievedCallback) {
+            this.paymentPreference = paymentPreference;
+            this.onResourcesRetrievedCallback = onResourcesRetrievedCallback;
+        }
+
+        @Override
+        public void onPartialResult(List<PaymentMethodSearchItem> groups) {
+            if (onResourcesRetrievedCallback instanceof OnPartialResultCallback) {
+                ((OnPartialResultCallback<List<PaymentMethodSearchItem>>) onResourcesRetrievedCallback).onPartialResult(groups);
             }
+        }
 
-            @Override
-            public void failure(ApiException apiException) {
-                onResourcesRetrievedCallback.onFailure(new MercadoPagoError(apiException));
+        @Override
+        public void success(final PaymentMethodSearch paymentMethodSearch) {
+            if (!paymentMethodSearch.hasSavedCards() && isMerchantServerCustomerAvailable()) {
+                addCustomerCardsFromMerchantServer(paymentMethodSearch, paymentPreference, onResourcesRetrievedCallback);
+            } else {
+                onResourcesRetrievedCallback.onSuccess(paymentMethodSearch);
             }
-        });
+        }
+
+        @Override
+        public void failure(ApiException apiException) {
+            onResourcesRetrievedCallback.onFailure(new MercadoPagoError(apiException));
+        }
     }
 
     private void addCustomerCardsFromMerchantServer(final PaymentMethodSearch paymentMethodSearch, final PaymentPreference paymentPreference, final OnResourcesRetrievedCallback<PaymentMethodSearch> onResourcesRetrievedCallback) {
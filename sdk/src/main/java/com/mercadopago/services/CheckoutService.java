@@ -8,15 +8,20 @@ import com.mercadopago.model.Payment;
 import com.mercadopago.model.PaymentBody;
 import com.mercadopago.model.PaymentMethodSearch;
 import com.mercadopago.preferences.CheckoutPreference;
+import com.mercadopago.util.HttpClientUtil;
 
 import java.math.BigDecimal;
 
+import okhttp3.ResponseBody;
+import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.GET;
 import retrofit2.http.Header;
+import retrofit2.http.Headers;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 /**
  * Created by mreverter on 2/20/17.
@@ -27,6 +32,11 @@ public interface CheckoutService {
     @POST("/" + BuildConfig.API_VERSION + "/checkout/payment_methods/search/options")
     MPCall<PaymentMethodSearch> getPaymentMethodSearch(@Header("Accept-Language") String locale, @Query("public_key") String publicKey, @Query("amount") BigDecimal amount, @Query("excluded_payment_types") String excludedPaymentTypes, @Query("excluded_payment_methods") String excludedPaymentMethods, @Body PayerIntent payerIntent, @Query("site_id") String siteId, @Query("api_version") String apiVersion);
 
+    @Streaming
+    @Headers(HttpClientUtil.STREAMED_RESPONSE_HEADER + ": true")
+    @POST("/" + BuildConfig.API_VERSION + "/checkout/payment_methods/search/options")
+    Call<ResponseBody> getPaymentMethodSearchStream(@Header("Accept-Language") String locale, @Query("public_key") String publicKey, @Query("amount") BigDecimal amount, @Query("excluded_payment_types") String excludedPaymentTypes, @Query("excluded_payment_methods") String excludedPaymentMethods, @Body PayerIntent payerIntent, @Query("site_id") String siteId, @Query("api_version") String apiVersion);
+
     @POST("/" + BuildConfig.API_VERSION + "/checkout/payments")
     MPCall<Payment> createPayment(@Header("X-Idempotency-Key") String transactionId, @Body PaymentBody body);
 
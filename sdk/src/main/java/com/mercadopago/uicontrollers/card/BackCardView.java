@@ -15,6 +15,7 @@ import com.mercadopago.customviews.MPTextView;
 import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.MPCardMaskUtil;
+import com.mercadopago.util.ResourceIdCache;
 import com.mercadopago.util.ScaleUtil;
 
 /**
@@ -130,7 +131,7 @@ public class BackCardView {
 
     private int getCardColor(PaymentMethod paymentMethod) {
         String colorName = "mpsdk_" + paymentMethod.getId().toLowerCase();
-        int color = mContext.getResources().getIdentifier(colorName, "color", mContext.getPackageName());
+        int color = ResourceIdCache.getInstance().getColor(mContext, colorName);
         if (color == 0) {
             color = NEUTRAL_CARD_COLOR;
         }
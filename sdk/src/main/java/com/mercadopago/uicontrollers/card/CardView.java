@@ -10,6 +10,7 @@ import android.view.WindowManager;
 import android.widget.FrameLayout;
 
 import com.mercadopago.R;
+import com.mercadopago.controllers.CardNumberEditor;
 import com.mercadopago.model.PaymentMethod;
 import com.mercadopago.util.MPAnimationUtils;
 
@@ -137,6 +138,10 @@ public class CardView {
         mFrontCardView.drawEditingCardNumber(cardNumber);
     }
 
+    public void drawEditingCardNumber(CardNumberEditor editor) {
+        mFrontCardView.drawEditingCardNumber(editor);
+    }
+
     public void drawEditingCardHolderName(String cardholderName) {
         mFrontCardView.drawEditingCardHolderName(cardholderName);
     }
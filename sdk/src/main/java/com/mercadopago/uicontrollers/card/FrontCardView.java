@@ -16,6 +16,7 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import com.mercadopago.R;
+import com.mercadopago.controllers.CardNumberEditor;
 import com.mercadopago.customviews.MPAutoResizeTextView;
 import com.mercadopago.customviews.MPTextView;
 import com.mercadopago.model.PaymentMethod;
@@ -23,6 +24,7 @@ import com.mercadopago.util.LayoutUtil;
 import com.mercadopago.util.MPAnimationUtils;
 import com.mercadopago.util.MPCardMaskUtil;
 import com.mercadopago.util.MercadoPagoUtil;
+import com.mercadopago.util.ResourceIdCache;
 import com.mercadopago.util.ScaleUtil;
 
 /**
@@ -198,6 +200,23 @@ public class FrontCardView {
         } else {
             mCardNumberTextView.setText(MPCardMaskUtil.buildNumberWithMask(mCardNumberLength, cardNumber));
         }
+        enableEditingCardNumberFontColor();
+    }
+
+    /**
+     * Draws the masked number of the editor straight from its buffer. Meant to be called when the
+     * editor notifies that its masked number changed, so it doesn't change the editor.
+     */
+    public void drawEditingCardNumber(CardNumberEditor editor) {
+        if (editor.getLength() == 0) {
+            mCardNumberTextView.setText(BASE_NUMBER_CARDHOLDER);
+        } else {
+            mCardNumberTextView.setText(editor.getMaskedChars(), 0, editor.getMaskedLength());
+        }
+        enableEditingCardNumberFontColor();
+    }
+
+    private void enableEditingCardNumberFontColor() {
         enableEditingFontColor(mCardNumberTextView);
         disableEditingFontColor(mCardholderNameTextView);
         disableEditingFontColor(mCardExpiryMonthTextView);
@@ -365,14 +384,14 @@ public class FrontCardView {
 
     private int getCardImage(PaymentMethod paymentMethod) {
         String imageName = "mpsdk_ico_card_" + paymentMethod.getId().toLowerCase();
-        return mContext.getResources().getIdentifier(imageName, "drawable", mContext.getPackageName());
+        return ResourceIdCache.getInstance().getDrawable(mContext, imageName);
     }
 
     private int getCardColor(PaymentMethod paymentMethod) {
         String colorName = "mpsdk_" + paymentMethod.getId().toLowerCase();
-        int color = mContext.getResources().getIdentifier(colorName, "color", mContext.getPackageName());
+        int color = ResourceIdCache.getInstance().getColor(mContext, colorName);
         if (color == 0) {
-            color = mContext.getResources().getIdentifier(NEUTRAL_CARD_COLOR_NAME, "color", mContext.getPackageName());
+            color = ResourceIdCache.getInstance().getColor(mContext, NEUTRAL_CARD_COLOR_NAME);
         }
         return color;
     }
@@ -382,9 +401,9 @@ public class FrontCardView {
             return FULL_TEXT_VIEW_COLOR;
         }
         String colorName = "mpsdk_font_" + paymentMethod.getId().toLowerCase();
-        int color = mContext.getResources().getIdentifier(colorName, "color", mContext.getPackageName());
+        int color = ResourceIdCache.getInstance().getColor(mContext, colorName);
         if (color == 0) {
-            color = mContext.getResources().getIdentifier(FULL_TEXT_VIEW_COLOR_NAME, "color", mContext.getPackageName());
+            color = ResourceIdCache.getInstance().getColor(mContext, FULL_TEXT_VIEW_COLOR_NAME);
         }
         return color;
     }
@@ -9,6 +9,7 @@ import android.widget.ImageView;
 import com.mercadopago.R;
 import com.mercadopago.customviews.MPTextView;
 import com.mercadopago.model.Issuer;
+import com.mercadopago.util.ResourceIdCache;
 
 /**
  * Created by vaserber on 10/11/16.
@@ -69,6 +70,6 @@ public class IssuersView implements IssuersViewController {
 
     private int getCardImage(Issuer issuer) {
         String imageName = CARD_IMAGE_PREFIX + String.valueOf(issuer.getId());
-        return mContext.getResources().getIdentifier(imageName, "drawable", mContext.getPackageName());
+        return ResourceIdCache.getInstance().getDrawable(mContext, imageName);
     }
 }
@@ -1,6 +1,7 @@
 package com.mercadopago.uicontrollers.payercosts;
 
 import android.content.Context;
+import android.text.SpannableStringBuilder;
 import android.text.Spanned;
 import android.util.TypedValue;
 import android.view.LayoutInflater;
@@ -15,6 +16,7 @@ import com.mercadopago.util.CurrenciesUtil;
 import com.mercadopago.util.InstallmentsUtil;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Created by mreverter on 12/5/16.
@@ -40,8 +42,16 @@ public class PayerCostRow implements PayerCostViewController {
 
     @Override
     public void drawPayerCost(PayerCost payerCost) {
+        drawPayerCost(payerCost, null, null);
+    }
+
+    /**
+     * Draws the payer cost with its amounts already formatted, as by
+     * {@link CurrenciesUtil#getFormattedAmounts(List, String)}. Null amounts are formatted here.
+     */
+    public void drawPayerCost(PayerCost payerCost, Spanned installmentAmount, Spanned totalAmount) {
         mPayerCost = payerCost;
-        setInstallmentsText();
+        setInstallmentsText(installmentAmount);
         if (!InstallmentsUtil.shouldWarnAboutBankInterests(mSite)) {
             if (payerCost.getInstallmentRate().compareTo(BigDecimal.ZERO) == 0) {
                 mTotalText.setVisibility(View.GONE);
@@ -49,7 +59,7 @@ public class PayerCostRow implements PayerCostViewController {
                     mZeroRateText.setVisibility(View.VISIBLE);
                 }
             } else {
-                setAmountWithRateText();
+                setAmountWithRateText(totalAmount);
             }
         }
 
@@ -58,7 +68,7 @@ public class PayerCostRow implements PayerCostViewController {
     @Override
     public void drawPayerCostWithoutTotal(PayerCost payerCost) {
         mPayerCost = payerCost;
-        setInstallmentsText();
+        setInstallmentsText(null);
 
         if (!InstallmentsUtil.shouldWarnAboutBankInterests(mSite)) {
             if (payerCost.getInstallmentRate().compareTo(BigDecimal.ZERO) == 0) {
@@ -79,28 +89,29 @@ public class PayerCostRow implements PayerCostViewController {
         mTotalText.setTextSize(TypedValue.COMPLEX_UNIT_PX, mContext.getResources().getDimension(R.dimen.mpsdk_payer_cost_total_small_text));
     }
 
-    private void setAmountWithRateText() {
+    private void setAmountWithRateText(Spanned totalAmount) {
         mTotalText.setVisibility(View.VISIBLE);
-        StringBuilder sb = new StringBuilder();
+        if (totalAmount == null) {
+            totalAmount = CurrenciesUtil.getFormattedAmount(mPayerCost.getTotalAmount(), mCurrencyId);
+        }
+        SpannableStringBuilder sb = new SpannableStringBuilder();
         sb.append("(");
-        sb.append(CurrenciesUtil.formatNumber(mPayerCost.getTotalAmount(), mCurrencyId));
+        sb.append(totalAmount);
         sb.append(")");
-        Spanned spannedFullAmountText = CurrenciesUtil.formatCurrencyInText(mPayerCost.getTotalAmount(),
-                mCurrencyId, sb.toString(), false, true);
-        mTotalText.setText(spannedFullAmountText);
+        mTotalText.setText(sb);
     }
 
-    private void setInstallmentsText() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(mPayerCost.getInstallments());
+    private void setInstallmentsText(Spanned installmentAmount) {
+        if (installmentAmount == null) {
+            installmentAmount = CurrenciesUtil.getFormattedAmount(mPayerCost.getInstallmentAmount(), mCurrencyId);
+        }
+        SpannableStringBuilder sb = new SpannableStringBuilder();
+        sb.append(String.valueOf(mPayerCost.getInstallments()));
         sb.append(" ");
         sb.append(mContext.getString(R.string.mpsdk_installments_by));
         sb.append(" ");
-
-        sb.append(CurrenciesUtil.formatNumber(mPayerCost.getInstallmentAmount(), mCurrencyId));
-        Spanned spannedInstallmentsText = CurrenciesUtil.formatCurrencyInText(mPayerCost.getInstallmentAmount(),
-                mCurrencyId, sb.toString(), false, true);
-        mInstallmentsTextView.setText(spannedInstallmentsText);
+        sb.append(installmentAmount);
+        mInstallmentsTextView.setText(sb);
     }
 
     @Override
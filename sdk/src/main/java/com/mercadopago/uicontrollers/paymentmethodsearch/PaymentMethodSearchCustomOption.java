@@ -44,6 +44,13 @@ public class PaymentMethodSearchCustomOption implements PaymentMethodSearchViewC
         return mView;
     }
 
+    @Override
+    public void bindView(View view) {
+        mView = view;
+        mView.setOnClickListener(mListener);
+        initializeControls();
+    }
+
     public void initializeControls() {
         mDescription = (MPTextView) mView.findViewById(R.id.mpsdkDescription);
         mComment = (MPTextView) mView.findViewById(R.id.mpsdkComment);
@@ -61,6 +68,7 @@ public class PaymentMethodSearchCustomOption implements PaymentMethodSearchViewC
         }
 
         if (resourceId != 0) {
+            mIcon.setVisibility(View.VISIBLE);
             mIcon.setImageResource(resourceId);
         } else {
             mIcon.setVisibility(View.GONE);
@@ -69,6 +77,10 @@ public class PaymentMethodSearchCustomOption implements PaymentMethodSearchViewC
         mComment.setVisibility(View.GONE);
     }
 
+    public boolean isSavedCard() {
+        return MercadoPagoUtil.isCard(mItem.getType());
+    }
+
     @Override
     public void setOnClickListener(View.OnClickListener listener) {
         mListener = listener;
@@ -50,6 +50,13 @@ public class PaymentMethodSearchOption implements PaymentMethodSearchViewControl
         return mView;
     }
 
+    @Override
+    public void bindView(View view) {
+        mView = view;
+        mView.setOnClickListener(mListener);
+        initializeControls();
+    }
+
     public void initializeControls() {
         mDescription = (MPTextView) mView.findViewById(R.id.mpsdkDescription);
         mComment = (MPTextView) mView.findViewById(R.id.mpsdkComment);
@@ -66,6 +73,8 @@ public class PaymentMethodSearchOption implements PaymentMethodSearchViewControl
         }
         if (mItem.hasComment() && mItem.getComment().length() < COMMENT_MAX_LENGTH) {
             mComment.setText(mItem.getComment());
+        } else {
+            mComment.setText("");
         }
 
         int resourceId = 0;
@@ -83,6 +92,7 @@ public class PaymentMethodSearchOption implements PaymentMethodSearchViewControl
         }
 
         if (resourceId != 0) {
+            mIcon.setVisibility(View.VISIBLE);
             mIcon.setImageResource(resourceId);
         } else {
             mIcon.setVisibility(View.GONE);
@@ -90,6 +100,8 @@ public class PaymentMethodSearchOption implements PaymentMethodSearchViewControl
 
         if (needsTint) {
             mIcon.setColorFilter(mDecorationPreference.getBaseColor(), PorterDuff.Mode.MULTIPLY);
+        } else {
+            mIcon.clearColorFilter();
         }
     }
 
@@ -9,5 +9,9 @@ import com.mercadopago.uicontrollers.CustomViewController;
  */
 public interface PaymentMethodSearchViewController extends CustomViewController {
     void draw();
+    /**
+     * Makes the controller draw on a recycled view inflated by a controller of the same class.
+     */
+    void bindView(View view);
     void setOnClickListener(View.OnClickListener listener);
 }
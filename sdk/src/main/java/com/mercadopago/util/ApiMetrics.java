@@ -0,0 +1,416 @@
+package com.mercadopago.util;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.SocketFactory;
+
+import okhttp3.Dns;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Measures where the time of each API call goes, keeping a {@link LatencyHistogram} of each phase
+ * for each endpoint. Endpoints are named after the service method, like
+ * "CheckoutService.getPaymentMethodSearch".
+ * <p>
+ * The phases are measured by the interceptors, dns and socket factory of the SDK http client,
+ * and by the call adapter:
+ * <ul>
+ * <li>dns, connect and tls: only when the call opens a connection. Tls is the time to get the
+ * connection minus the dns lookup and the socket connect.</li>
+ * <li>ttfb: from sending the request to receiving the response headers.</li>
+ * <li>body: reading and parsing the response body.</li>
+ * <li>dispatch: from the response being parsed to the callback running on the main thread.</li>
+ * <li>total: from enqueuing the call to its callback, retries included.</li>
+ * </ul>
+ * With a custom http client only dispatch and total are measured.
+ */
+public class ApiMetrics {
+
+    public static final String DNS = "dns";
+    public static final String CONNECT = "connect";
+    public static final String TLS = "tls";
+    public static final String TTFB = "ttfb";
+    public static final String BODY = "body";
+    public static final String DISPATCH = "dispatch";
+    public static final String TOTAL = "total";
+
+    private static final long NOT_MEASURED = -1;
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private static ApiMetrics mInstance;
+
+    //The endpoint of the service method being called, while retrofit creates its call.
+    private static final ThreadLocal<String> sCallingEndpoint = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LatencyHistogram>> mHistograms;
+    private final Map<Method, String> mEndpoints;
+    private final ThreadLocal<Exchange> mExchange;
+    private volatile Listener mListener;
+
+    protected ApiMetrics() {
+        mHistograms = new ConcurrentHashMap<>();
+        mEndpoints = new ConcurrentHashMap<>();
+        mExchange = new ThreadLocal<>();
+    }
+
+    public synchronized static ApiMetrics getInstance() {
+        if (mInstance == null) {
+            mInstance = new ApiMetrics();
+        }
+        return mInstance;
+    }
+
+    /**
+     * Sets the listener told of each measured call, or null to remove it.
+     */
+    public void setListener(Listener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * @return the latencies of each phase of each endpoint, by endpoint and phase name.
+     */
+    public Map<String, Map<String, LatencyHistogram.Snapshot>> getSnapshot() {
+        Map<String, Map<String, LatencyHistogram.Snapshot>> snapshot = new TreeMap<>();
+        for (String endpoint : mHistograms.keySet()) {
+            snapshot.put(endpoint, getSnapshot(endpoint));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * @return the latencies of each phase of the endpoint, by phase name.
+     */
+    public Map<String, LatencyHistogram.Snapshot> getSnapshot(String endpoint) {
+        Map<String, LatencyHistogram.Snapshot> snapshot = new TreeMap<>();
+        Map<String, LatencyHistogram> histograms = mHistograms.get(endpoint);
+        if (histograms != null) {
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                snapshot.put(entry.getKey(), entry.getValue().getSnapshot());
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    public void clear() {
+        mHistograms.clear();
+    }
+
+    /**
+     * @return a proxy of the service that names the calls it creates after the method called.
+     */
+    public <T> T nameCalls(final Class<T> serviceClass, final T service) {
+        return serviceClass.cast(Proxy.newProxyInstance(serviceClass.getClassLoader(), new Class<?>[]{serviceClass},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getDeclaringClass() == Object.class) {
+                            return invokeService(method, args);
+                        }
+                        String previousEndpoint = sCallingEndpoint.get();
+                        sCallingEndpoint.set(getEndpoint(serviceClass, method));
+                        try {
+                            return invokeService(method, args);
+                        } finally {
+                            sCallingEndpoint.set(previousEndpoint);
+                        }
+                    }
+
+                    private Object invokeService(Method method, Object[] args) throws Throwable {
+                        try {
+                            return method.invoke(service, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                }));
+    }
+
+    /**
+     * @return the endpoint of the service method being called on this thread, or null.
+     */
+    public static String getCallingEndpoint() {
+        return sCallingEndpoint.get();
+    }
+
+    /**
+     * @return the endpoint of a request whose service method is unknown, like "GET /v1/payments".
+     */
+    public static String getEndpoint(Request request) {
+        return request.method() + " " + request.url().encodedPath();
+    }
+
+    private String getEndpoint(Class<?> serviceClass, Method method) {
+        String endpoint = mEndpoints.get(method);
+        if (endpoint == null) {
+            endpoint = serviceClass.getSimpleName() + "." + method.getName();
+            mEndpoints.put(method, endpoint);
+        }
+        return endpoint;
+    }
+
+    public Interceptor getInterceptor() {
+        return new Interceptor() {
+            @Override
+            public Response intercept(Chain chain) throws IOException {
+                Exchange exchange = new Exchange(now());
+                mExchange.set(exchange);
+                Response response = chain.proceed(chain.request());
+                exchange.headersReceivedAt = now();
+                return response;
+            }
+        };
+    }
+
+    public Interceptor getNetworkInterceptor() {
+        return new Interceptor() {
+            @Override
+            public Response intercept(Chain chain) throws IOException {
+                Exchange exchange = mExchange.get();
+                if (exchange != null) {
+                    exchange.connectedAt = now();
+                }
+                Response response = chain.proceed(chain.request());
+                if (exchange != null) {
+                    exchange.ttfb = now() - exchange.connectedAt;
+                }
+                return response;
+            }
+        };
+    }
+
+    public Dns getDns(final Dns dns) {
+        return new Dns() {
+            @Override
+            public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+                long start = now();
+                try {
+                    return dns.lookup(hostname);
+                } finally {
+                    Exchange exchange = mExchange.get();
+                    if (exchange != null) {
+                        exchange.dns += now() - start;
+                    }
+                }
+            }
+        };
+    }
+
+    public SocketFactory getSocketFactory(final SocketFactory socketFactory) {
+        return new SocketFactory() {
+            @Override
+            public Socket createSocket() {
+                return new Socket() {
+                    @Override
+                    public void connect(SocketAddress endpoint, int timeout) throws IOException {
+                        long start = now();
+                        try {
+                            super.connect(endpoint, timeout);
+                        } finally {
+                            Exchange exchange = mExchange.get();
+                            if (exchange != null) {
+                                exchange.connect += now() - start;
+                            }
+                        }
+                    }
+                };
+            }
+
+            @Override
+            public Socket createSocket(String host, int port) throws IOException {
+                return socketFactory.createSocket(host, port);
+            }
+
+            @Override
+            public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+                return socketFactory.createSocket(host, port, localHost, localPort);
+            }
+
+            @Override
+            public Socket createSocket(InetAddress host, int port) throws IOException {
+                return socketFactory.createSocket(host, port);
+            }
+
+            @Override
+            public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+                return socketFactory.createSocket(address, port, localAddress, localPort);
+            }
+        };
+    }
+
+    /**
+     * Called on the thread of the http client when the response of a call is parsed.
+     *
+     * @param enqueuedAt when the call was enqueued, from {@link #now()}.
+     * @return the timings of the call, to complete with {@link #onDispatched(CallTimings)}.
+     */
+    public CallTimings onResponse(String endpoint, long enqueuedAt) {
+        long now = now();
+        Exchange exchange = mExchange.get();
+        mExchange.remove();
+        CallTimings timings = new CallTimings(endpoint, enqueuedAt, now);
+        if (exchange != null && exchange.headersReceivedAt != 0) {
+            timings.body = now - exchange.headersReceivedAt;
+            if (exchange.connectedAt != 0) {
+                timings.ttfb = exchange.ttfb;
+                if (exchange.connect > 0) {
+                    timings.dns = exchange.dns;
+                    timings.connect = exchange.connect;
+                    timings.tls = Math.max(0, exchange.connectedAt - exchange.startedAt - exchange.dns - exchange.connect);
+                }
+            }
+        }
+        return timings;
+    }
+
+    /**
+     * Called on the thread of the http client when a call fails.
+     */
+    public void onFailure() {
+        mExchange.remove();
+    }
+
+    /**
+     * Called on the main thread when the callback of the call runs. Records its timings and tells
+     * the listener.
+     */
+    public void onDispatched(CallTimings timings) {
+        long now = now();
+        timings.dispatch = now - timings.respondedAt;
+        timings.total = now - timings.enqueuedAt;
+        record(timings.endpoint, DNS, timings.dns);
+        record(timings.endpoint, CONNECT, timings.connect);
+        record(timings.endpoint, TLS, timings.tls);
+        record(timings.endpoint, TTFB, timings.ttfb);
+        record(timings.endpoint, BODY, timings.body);
+        record(timings.endpoint, DISPATCH, timings.dispatch);
+        record(timings.endpoint, TOTAL, timings.total);
+        Listener listener = mListener;
+        if (listener != null) {
+            listener.onCallMeasured(timings);
+        }
+    }
+
+    private void record(String endpoint, String phase, long nanos) {
+        if (nanos == NOT_MEASURED) {
+            return;
+        }
+        ConcurrentHashMap<String, LatencyHistogram> histograms = mHistograms.get(endpoint);
+        if (histograms == null) {
+            histograms = new ConcurrentHashMap<>();
+            ConcurrentHashMap<String, LatencyHistogram> previous = mHistograms.putIfAbsent(endpoint, histograms);
+            if (previous != null) {
+                histograms = previous;
+            }
+        }
+        LatencyHistogram histogram = histograms.get(phase);
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            LatencyHistogram previous = histograms.putIfAbsent(phase, histogram);
+            if (previous != null) {
+                histogram = previous;
+            }
+        }
+        histogram.record(nanos / NANOS_PER_MICRO);
+    }
+
+    /**
+     * @return the time in nanoseconds.
+     */
+    public long now() {
+        return System.nanoTime();
+    }
+
+    //What the interceptors, dns and sockets measure of a call, on its thread.
+    private static class Exchange {
+
+        private final long startedAt;
+        private long connectedAt;
+        private long headersReceivedAt;
+        private long dns;
+        private long connect;
+        private long ttfb;
+
+        private Exchange(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * The time of each phase of a call, in nanoseconds, or -1 for the phases not measured.
+     */
+    public static class CallTimings {
+
+        private final String endpoint;
+        private final long enqueuedAt;
+        private final long respondedAt;
+        private long dns = NOT_MEASURED;
+        private long connect = NOT_MEASURED;
+        private long tls = NOT_MEASURED;
+        private long ttfb = NOT_MEASURED;
+        private long body = NOT_MEASURED;
+        private long dispatch = NOT_MEASURED;
+        private long total = NOT_MEASURED;
+
+        private CallTimings(String endpoint, long enqueuedAt, long respondedAt) {
+            this.endpoint = endpoint;
+            this.enqueuedAt = enqueuedAt;
+            this.respondedAt = respondedAt;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public long getDnsTime() {
+            return dns;
+        }
+
+        public long getConnectTime() {
+            return connect;
+        }
+
+        public long getTlsTime() {
+            return tls;
+        }
+
+        public long getTtfb() {
+            return ttfb;
+        }
+
+        public long getBodyTime() {
+            return body;
+        }
+
+        public long getDispatchTime() {
+            return dispatch;
+        }
+
+        public long getTotalTime() {
+            return total;
+        }
+    }
+
+    public interface Listener {
+        /**
+         * Called on the main thread after the callback of each call. Percentiles of the endpoint
+         * are in {@link #getSnapshot(String)}.
+         */
+        void onCallMeasured(CallTimings timings);
+    }
+}
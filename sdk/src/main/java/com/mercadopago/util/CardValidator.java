@@ -0,0 +1,300 @@
+package com.mercadopago.util;
+
+import android.content.Context;
+
+import com.mercadopago.R;
+import com.mercadopago.model.CardToken;
+import com.mercadopago.model.Cardholder;
+import com.mercadopago.model.Identification;
+import com.mercadopago.model.IdentificationType;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.Setting;
+
+/**
+ * Validates the data of a card going once over each field, without creating Strings for it.
+ * <p>
+ * The setting of a payment method for the bin of the card number is looked up once and kept
+ * until the payment method or the bin change, so validating the number and the security code
+ * don't match the bin patterns again. Validations write their result to a {@link Result} that
+ * is reused, so a validator must be used from one thread.
+ */
+public class CardValidator {
+
+    public static final int VALID = 0;
+    public static final int ERROR_EMPTY = 1;
+    public static final int ERROR_BIN = 2;
+    public static final int ERROR_LENGTH = 3;
+    public static final int ERROR_LUHN = 4;
+    public static final int ERROR_SETTING = 5;
+
+    private static final String LUHN_VALIDATION = "standard";
+    private static final int MIN_SECURITY_CODE_LENGTH = 3;
+    private static final int MAX_SECURITY_CODE_LENGTH = 4;
+
+    //The sum of the digits of the double of each digit.
+    private static final int[] DOUBLED_DIGITS = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
+    private final Result mResult;
+    private final char[] mBin;
+    private PaymentMethod mPaymentMethod;
+    private boolean mSettingResolved;
+    private Setting mSetting;
+
+    public CardValidator() {
+        mResult = new Result();
+        mBin = new char[MercadoPagoUtil.BIN_LENGTH];
+    }
+
+    /**
+     * Validates every field of the card token, as {@link CardToken#validate(boolean)} when there
+     * is no payment method, or against the setting of the payment method for its bin.
+     */
+    public Result validate(CardToken cardToken, PaymentMethod paymentMethod, IdentificationType identificationType, boolean includeSecurityCode) {
+        validateCardNumber(paymentMethod, cardToken.getCardNumber());
+        mResult.expiryDateValid = CardToken.validateExpiryDate(cardToken.getExpirationMonth(), cardToken.getExpirationYear());
+        Cardholder cardholder = cardToken.getCardholder();
+        Identification identification = cardholder == null ? null : cardholder.getIdentification();
+        mResult.identificationValid = identification != null
+                && validateIdentification(identificationType, identification.getType(), identification.getNumber());
+        mResult.cardholderNameValid = cardholder != null && !isEmpty(cardholder.getName());
+        if (!includeSecurityCode) {
+            mResult.securityCodeError = VALID;
+            mResult.securityCodeLength = 0;
+        } else if (paymentMethod == null) {
+            String securityCode = cardToken.getSecurityCode();
+            mResult.securityCodeError = securityCode == null || (securityCode.length() >= MIN_SECURITY_CODE_LENGTH
+                    && securityCode.length() <= MAX_SECURITY_CODE_LENGTH) ? VALID : ERROR_LENGTH;
+            mResult.securityCodeLength = 0;
+        } else {
+            validateSecurityCode(paymentMethod, cardToken.getCardNumber(), cardToken.getSecurityCode());
+        }
+        return mResult;
+    }
+
+    /**
+     * Validates the card number against the setting of the payment method for its bin: its
+     * length and, if the setting asks for it, its Luhn check digit. Without a payment method only
+     * the bounds of a card number length are checked.
+     */
+    public Result validateCardNumber(PaymentMethod paymentMethod, CharSequence cardNumber) {
+        mResult.cardNumberLength = 0;
+        int length = cardNumber == null ? 0 : cardNumber.length();
+        if (paymentMethod == null) {
+            mResult.cardNumberError = length == 0 ? ERROR_EMPTY
+                    : length > CardToken.MIN_LENGTH_NUMBER && length < CardToken.MAX_LENGTH_NUMBER ? VALID : ERROR_LENGTH;
+            return mResult;
+        }
+        if (length == 0) {
+            mResult.cardNumberError = ERROR_EMPTY;
+            return mResult;
+        }
+        Setting setting = getSetting(paymentMethod, cardNumber);
+        if (setting == null) {
+            mResult.cardNumberError = ERROR_BIN;
+            return mResult;
+        }
+        int cardNumberLength = setting.getCardNumber().getLength();
+        mResult.cardNumberLength = cardNumberLength;
+        if (getTrimmedLength(cardNumber) != cardNumberLength) {
+            mResult.cardNumberError = ERROR_LENGTH;
+        } else if (LUHN_VALIDATION.equals(setting.getCardNumber().getValidation()) && !checkLuhn(cardNumber)) {
+            mResult.cardNumberError = ERROR_LUHN;
+        } else {
+            mResult.cardNumberError = VALID;
+        }
+        return mResult;
+    }
+
+    /**
+     * Validates the length of the security code against the setting of the payment method for
+     * the bin of the card number. Without a payment method the code is valid.
+     */
+    public Result validateSecurityCode(PaymentMethod paymentMethod, CharSequence cardNumber, CharSequence securityCode) {
+        mResult.securityCodeLength = 0;
+        if (paymentMethod == null) {
+            mResult.securityCodeError = VALID;
+            return mResult;
+        }
+        Setting setting = getSetting(paymentMethod, cardNumber);
+        if (setting == null) {
+            mResult.securityCodeError = ERROR_SETTING;
+            return mResult;
+        }
+        int securityCodeLength = setting.getSecurityCode().getLength();
+        mResult.securityCodeLength = securityCodeLength;
+        if (securityCode == null || (securityCodeLength != 0 && getTrimmedLength(securityCode) != securityCodeLength)) {
+            mResult.securityCodeError = ERROR_LENGTH;
+        } else {
+            mResult.securityCodeError = VALID;
+        }
+        return mResult;
+    }
+
+    /**
+     * @return true if the number has the length of the identification type, or isn't empty if
+     * the type has no length.
+     */
+    public static boolean validateIdentification(IdentificationType identificationType, String type, CharSequence number) {
+        if (number == null || isEmpty(type)) {
+            return false;
+        }
+        if (identificationType != null && identificationType.getMinLength() != null && identificationType.getMaxLength() != null) {
+            return number.length() >= identificationType.getMinLength() && number.length() <= identificationType.getMaxLength();
+        }
+        return number.length() > 0;
+    }
+
+    /**
+     * @return the setting of the payment method for the bin of the card number, or null if the
+     * number is shorter than a bin or no setting matches it.
+     */
+    public Setting getSetting(PaymentMethod paymentMethod, CharSequence cardNumber) {
+        if (cardNumber == null || cardNumber.length() < MercadoPagoUtil.BIN_LENGTH) {
+            return null;
+        }
+        if (!mSettingResolved || paymentMethod != mPaymentMethod || !isSameBin(cardNumber)) {
+            for (int i = 0; i < MercadoPagoUtil.BIN_LENGTH; i++) {
+                mBin[i] = cardNumber.charAt(i);
+            }
+            mPaymentMethod = paymentMethod;
+            mSetting = Setting.getSettingByBin(paymentMethod.getSettings(), new String(mBin));
+            mSettingResolved = true;
+        }
+        return mSetting;
+    }
+
+    private boolean isSameBin(CharSequence cardNumber) {
+        for (int i = 0; i < MercadoPagoUtil.BIN_LENGTH; i++) {
+            if (mBin[i] != cardNumber.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the number has only digits and its Luhn check digit is right.
+     */
+    public static boolean checkLuhn(CharSequence cardNumber) {
+        if (cardNumber == null || cardNumber.length() == 0) {
+            return false;
+        }
+        int sum = 0;
+        boolean alternate = false;
+        for (int i = cardNumber.length() - 1; i >= 0; i--) {
+            int digit = cardNumber.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            sum += alternate ? DOUBLED_DIGITS[digit] : digit;
+            alternate = !alternate;
+        }
+        return sum % 10 == 0;
+    }
+
+    public static String getCardNumberErrorMessage(Context context, Result result) {
+        switch (result.getCardNumberError()) {
+            case ERROR_EMPTY:
+                return context.getString(R.string.mpsdk_invalid_empty_card);
+            case ERROR_BIN:
+                return context.getString(R.string.mpsdk_invalid_card_bin);
+            case ERROR_LENGTH:
+                return context.getString(R.string.mpsdk_invalid_card_length, result.getCardNumberLength());
+            case ERROR_LUHN:
+                return context.getString(R.string.mpsdk_invalid_card_luhn);
+            default:
+                return null;
+        }
+    }
+
+    public static String getSecurityCodeErrorMessage(Context context, Result result) {
+        switch (result.getSecurityCodeError()) {
+            case ERROR_SETTING:
+                return context.getString(R.string.mpsdk_invalid_field);
+            case ERROR_LENGTH:
+                return context.getString(R.string.mpsdk_invalid_cvv_length, result.getSecurityCodeLength());
+            default:
+                return null;
+        }
+    }
+
+    //The length of the text without the chars trim() removes from its ends.
+    private static int getTrimmedLength(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
+
+    private static boolean isEmpty(CharSequence text) {
+        return text == null || text.length() == 0;
+    }
+
+    public static class Result {
+
+        private int cardNumberError;
+        private int cardNumberLength;
+        private int securityCodeError;
+        private int securityCodeLength;
+        private boolean expiryDateValid;
+        private boolean identificationValid;
+        private boolean cardholderNameValid;
+
+        private Result() {
+            expiryDateValid = true;
+            identificationValid = true;
+            cardholderNameValid = true;
+        }
+
+        public boolean isValid() {
+            return isCardNumberValid() && isSecurityCodeValid() && expiryDateValid && identificationValid && cardholderNameValid;
+        }
+
+        public boolean isCardNumberValid() {
+            return cardNumberError == VALID;
+        }
+
+        public int getCardNumberError() {
+            return cardNumberError;
+        }
+
+        /**
+         * @return the length of the card number in the setting for its bin, or 0 if not found.
+         */
+        public int getCardNumberLength() {
+            return cardNumberLength;
+        }
+
+        public boolean isSecurityCodeValid() {
+            return securityCodeError == VALID;
+        }
+
+        public int getSecurityCodeError() {
+            return securityCodeError;
+        }
+
+        /**
+         * @return the length of the security code in the setting for the bin, or 0 if not found.
+         */
+        public int getSecurityCodeLength() {
+            return securityCodeLength;
+        }
+
+        public boolean isExpiryDateValid() {
+            return expiryDateValid;
+        }
+
+        public boolean isIdentificationValid() {
+            return identificationValid;
+        }
+
+        public boolean isCardholderNameValid() {
+            return cardholderNameValid;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.mercadopago.util;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Persistent cache for catalog responses (payment methods, identification types, bank deals,
+ * issuers) that are not served with cache headers.
+ * <p>
+ * Entries younger than the fresh time are served as they are. Older entries are still served,
+ * but should be revalidated in background, until they reach the max stale time and are dropped.
+ * Decoded entries, and keys with no entry, are kept in memory. Reading, parsing and writing the
+ * files in app storage, whose total size is capped by evicting the oldest files, is done on the
+ * disk executor. Lookups are delivered on the main thread, synchronously when the entry is already
+ * in memory and the lookup is made from the main thread.
+ */
+public class CatalogCache {
+
+    public static final long DEFAULT_FRESH_TIME = 24 * 60 * 60 * 1000L;
+    public static final long DEFAULT_MAX_STALE_TIME = 7 * DEFAULT_FRESH_TIME;
+    public static final long DEFAULT_MAX_SIZE = 512 * 1024;
+
+    private static final String CACHE_DIRECTORY = "mpsdk_catalog";
+    private static final String ENCODING = "UTF-8";
+    private static final int MAX_MEMORY_ENTRIES = 32;
+    //Remembers a key with no entry, so it isn't looked up on disk again.
+    private static final MemoryEntry MISSING = new MemoryEntry(0, null);
+
+    private static CatalogCache mInstance;
+
+    private final File mDirectory;
+    private final long mFreshTime;
+    private final long mMaxStaleTime;
+    private final long mMaxSize;
+    private final Executor mDiskExecutor;
+    private final Map<String, MemoryEntry> mEntries;
+    //Changes when the cache is cleared, so lookups started before don't restore what they read.
+    private int mGeneration;
+    private Handler mHandler;
+
+    public CatalogCache(File directory, long freshTime, long maxStaleTime, long maxSize, Executor diskExecutor) {
+        mDirectory = directory;
+        mFreshTime = freshTime;
+        mMaxStaleTime = maxStaleTime;
+        mMaxSize = maxSize;
+        mDiskExecutor = diskExecutor;
+        mEntries = new LinkedHashMap<String, MemoryEntry>(MAX_MEMORY_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MemoryEntry> eldest) {
+                return size() > MAX_MEMORY_ENTRIES;
+            }
+        };
+    }
+
+    public synchronized static CatalogCache getInstance(Context context) {
+        if (mInstance == null) {
+            File directory = new File(context.getApplicationContext().getFilesDir(), CACHE_DIRECTORY);
+            mInstance = new CatalogCache(directory, DEFAULT_FRESH_TIME, DEFAULT_MAX_STALE_TIME, DEFAULT_MAX_SIZE,
+                    Executors.newSingleThreadExecutor());
+        }
+        return mInstance;
+    }
+
+    /**
+     * Looks up the cached value, reading it from disk on the disk executor if it isn't in memory.
+     * The listener is called on the main thread: right away if the value is in memory and this is
+     * the main thread, later otherwise.
+     */
+    public <T> void get(final String key, final Type type, final Listener<T> listener) {
+        final int generation;
+        MemoryEntry entry;
+        synchronized (this) {
+            generation = mGeneration;
+            entry = mEntries.get(key);
+        }
+        if (entry != null) {
+            deliver(key, entry, listener, isMainThread());
+            return;
+        }
+        mDiskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                MemoryEntry loaded = read(key, type);
+                MemoryEntry current;
+                synchronized (CatalogCache.this) {
+                    current = mEntries.get(key);
+                    if (current == null) {
+                        current = loaded;
+                        if (generation == mGeneration) {
+                            mEntries.put(key, loaded);
+                        }
+                    }
+                }
+                deliver(key, current, listener, false);
+            }
+        });
+    }
+
+    /**
+     * Keeps the value in memory and writes it to disk on the disk executor. The value must not be
+     * changed after it's put, since later lookups get the same instance.
+     */
+    public void put(final String key, final Object value, final Type type) {
+        final long storedAt = now();
+        synchronized (this) {
+            mEntries.put(key, new MemoryEntry(storedAt, value));
+        }
+        mDiskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                write(new CacheEntry(key, storedAt, JsonUtil.getInstance().getGson().toJson(value, type)));
+                trimToSize();
+            }
+        });
+    }
+
+    public void remove(String key) {
+        synchronized (this) {
+            mEntries.put(key, MISSING);
+        }
+        final File file = getFile(key);
+        mDiskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                file.delete();
+            }
+        });
+    }
+
+    public void clear() {
+        synchronized (this) {
+            mEntries.clear();
+            mGeneration++;
+        }
+        mDiskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                File[] files = mDirectory.listFiles();
+                if (files != null) {
+                    for (File file : files) {
+                        file.delete();
+                    }
+                }
+            }
+        });
+    }
+
+    protected long now() {
+        return System.currentTimeMillis();
+    }
+
+    protected boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    protected void post(Runnable runnable) {
+        getHandler().post(runnable);
+    }
+
+    private synchronized Handler getHandler() {
+        if (mHandler == null) {
+            mHandler = new Handler(Looper.getMainLooper());
+        }
+        return mHandler;
+    }
+
+    private <T> void deliver(String key, final MemoryEntry entry, final Listener<T> listener, boolean synchronous) {
+        final long age = now() - entry.storedAt;
+        if (entry.value != null && age > mMaxStaleTime) {
+            remove(key);
+        }
+        Runnable delivery = new Runnable() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void run() {
+                if (entry.value == null || age > mMaxStaleTime) {
+                    listener.onLoaded(null, false);
+                } else {
+                    listener.onLoaded((T) entry.value, age <= mFreshTime);
+                }
+            }
+        };
+        if (synchronous) {
+            delivery.run();
+        } else {
+            post(delivery);
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(mDirectory, String.format("%08x", key.hashCode()));
+    }
+
+    private MemoryEntry read(String key, Type type) {
+        File file = getFile(key);
+        if (!file.exists()) {
+            return MISSING;
+        }
+        Reader reader = null;
+        try {
+            reader = new InputStreamReader(new FileInputStream(file), ENCODING);
+            CacheEntry entry = JsonUtil.getInstance().getGson().fromJson(reader, CacheEntry.class);
+            //Different keys may share a file name, the stored key tells them apart.
+            if (entry == null || !key.equals(entry.key)) {
+                return MISSING;
+            }
+            Object value = JsonUtil.getInstance().getGson().fromJson(entry.value, type);
+            return value == null ? MISSING : new MemoryEntry(entry.storedAt, value);
+        } catch (IOException | RuntimeException e) {
+            file.delete();
+            return MISSING;
+        } finally {
+            close(reader);
+        }
+    }
+
+    private void write(CacheEntry entry) {
+        if (!mDirectory.exists() && !mDirectory.mkdirs()) {
+            return;
+        }
+        Writer writer = null;
+        try {
+            writer = new OutputStreamWriter(new FileOutputStream(getFile(entry.key)), ENCODING);
+            JsonUtil.getInstance().getGson().toJson(entry, writer);
+        } catch (IOException e) {
+            getFile(entry.key).delete();
+        } finally {
+            close(writer);
+        }
+    }
+
+    private void trimToSize() {
+        File[] files = mDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+        long size = 0;
+        for (File file : files) {
+            size += file.length();
+        }
+        if (size <= mMaxSize) {
+            return;
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File first, File second) {
+                return Long.valueOf(first.lastModified()).compareTo(second.lastModified());
+            }
+        });
+        for (int i = 0; i < files.length && size > mMaxSize; i++) {
+            size -= files[i].length();
+            files[i].delete();
+            evictFromMemory(files[i].getName());
+        }
+    }
+
+    private synchronized void evictFromMemory(String fileName) {
+        Iterator<String> keys = mEntries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (getFile(keys.next()).getName().equals(fileName)) {
+                keys.remove();
+            }
+        }
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                //do nothing
+            }
+        }
+    }
+
+    public interface Listener<T> {
+        /**
+         * @param value the cached value, or null if there is none or it is older than the max stale time.
+         * @param fresh whether the value is younger than the fresh time.
+         */
+        void onLoaded(T value, boolean fresh);
+    }
+
+    private static class MemoryEntry {
+
+        private final long storedAt;
+        private final Object value;
+
+        private MemoryEntry(long storedAt, Object value) {
+            this.storedAt = storedAt;
+            this.value = value;
+        }
+    }
+
+    //What is written to disk.
+    private static class CacheEntry {
+
+        private String key;
+        private long storedAt;
+        private String value;
+
+        private CacheEntry(String key, long storedAt, String value) {
+            this.key = key;
+            this.storedAt = storedAt;
+            this.value = value;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.mercadopago.util;
 
 import android.text.Html;
+import android.text.SpannableStringBuilder;
 import android.text.Spanned;
+import android.text.style.RelativeSizeSpan;
+import android.text.style.SuperscriptSpan;
 
 import com.mercadopago.model.Currency;
 
@@ -41,33 +44,53 @@ public class CurrenciesUtil {
         put(CURRENCY_URUGUAY , new Currency(CURRENCY_URUGUAY,"Peso Uruguayo", "$",2,",".charAt(0),".".charAt(0)));
     }};
 
+    private static final float SMALL_PROPORTION = 0.8f;
+
+    //DecimalFormat is not thread safe, each thread keeps its own formatters, by currency id.
+    private static final ThreadLocal<Map<String, DecimalFormat>> formatters = new ThreadLocal<Map<String, DecimalFormat>>() {
+        @Override
+        protected Map<String, DecimalFormat> initialValue() {
+            return new HashMap<>();
+        }
+    };
+
     public static String formatNumber(BigDecimal amount, String currencyId) {
         // Get currency configuration
         Currency currency = currenciesList.get(currencyId);
 
         if (currency != null) {
-
-            // Set formatters
-            DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-            dfs.setDecimalSeparator(currency.getDecimalSeparator());
-            dfs.setGroupingSeparator(currency.getThousandsSeparator());
-            DecimalFormat df = new DecimalFormat();
-            df.setDecimalFormatSymbols(dfs);
-            df.setMinimumFractionDigits(currency.getDecimalPlaces());
-            df.setMaximumFractionDigits(currency.getDecimalPlaces());
-
-            // return formatted string
-            return currency.getSymbol() + " " + df.format(amount);
-
+            return formatNumber(amount, currency);
         } else {
             return null;
         }
     }
 
     public static Spanned getFormattedAmount(BigDecimal amount, String currencyId) {
-        String originalNumber = CurrenciesUtil.formatNumber(amount, currencyId);
-        Spanned amountText = CurrenciesUtil.formatCurrencyInText(amount, currencyId, originalNumber, false, true);
-        return amountText;
+        Currency currency = currenciesList.get(currencyId);
+        if (currency != null) {
+            return getFormattedAmount(amount, currency);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Formats a list of amounts, like the ones of the installments of a card, resolving the currency
+     * and its formatter once.
+     *
+     * @return the amounts formatted as in {@link #getFormattedAmount(BigDecimal, String)}, in the
+     * same order, or null if the currency is not supported.
+     */
+    public static List<Spanned> getFormattedAmounts(List<BigDecimal> amounts, String currencyId) {
+        Currency currency = currenciesList.get(currencyId);
+        if (currency == null || amounts == null) {
+            return null;
+        }
+        List<Spanned> formattedAmounts = new ArrayList<>(amounts.size());
+        for (BigDecimal amount : amounts) {
+            formattedAmounts.add(amount == null ? null : getFormattedAmount(amount, currency));
+        }
+        return formattedAmounts;
     }
 
     public static Spanned formatNumber(BigDecimal amount, String currencyId, boolean symbolUp, boolean decimalsUp) {
@@ -76,26 +99,148 @@ public class CurrenciesUtil {
         Currency currency = currenciesList.get(currencyId);
 
         if (currency != null) {
+            SpannableStringBuilder builder = new SpannableStringBuilder();
+            appendAmount(builder, currency, getFormatter(currency).format(amount), symbolUp, decimalsUp);
+            return builder;
+        } else {
+            return null;
+        }
+    }
+
+    public static Spanned formatCurrencyInText(BigDecimal amount, String currencyId, String originalText,
+                                               boolean symbolUp, boolean decimalsUp) {
+        return formatCurrencyInText("", amount, currencyId, originalText, symbolUp, decimalsUp);
+    }
+
+    /**
+     * Replaces the formatted amount in the text by its spanned version. Texts with html are parsed,
+     * plain texts are spanned directly.
+     */
+    public static Spanned formatCurrencyInText(String amountPrefix, BigDecimal amount, String currencyId, String originalText,
+                                               boolean symbolUp, boolean decimalsUp) {
+        Spanned spannedAmount;
+        Currency currency = currenciesList.get(currencyId);
+        String formattedAmount = currency == null ? null : formatNumber(amount, currency);
+        if (isHtml(originalText) || isHtml(amountPrefix)) {
+            String formattedText = originalText;
+            if (formattedAmount != null && originalText.contains(formattedAmount)) {
+                String spannedString = getSpannedString(currency, formattedAmount, symbolUp, decimalsUp);
+                formattedText = originalText.replace(formattedAmount, amountPrefix + spannedString);
+            }
+            spannedAmount = Html.fromHtml(formattedText);
+        } else {
+            SpannableStringBuilder builder = new SpannableStringBuilder();
+            int textStart = 0;
+            int amountStart = formattedAmount == null ? -1 : originalText.indexOf(formattedAmount);
+            while (amountStart != -1) {
+                appendText(builder, originalText.substring(textStart, amountStart));
+                appendText(builder, amountPrefix);
+                appendAmount(builder, currency, formattedAmount, symbolUp, decimalsUp);
+                textStart = amountStart + formattedAmount.length();
+                amountStart = originalText.indexOf(formattedAmount, textStart);
+            }
+            appendText(builder, originalText.substring(textStart));
+            spannedAmount = builder;
+        }
+        return spannedAmount;
+    }
+
+    private static String formatNumber(BigDecimal amount, Currency currency) {
+        String number = getFormatter(currency).format(amount);
+        return new StringBuilder(currency.getSymbol().length() + 1 + number.length())
+                .append(currency.getSymbol())
+                .append(' ')
+                .append(number)
+                .toString();
+    }
 
+    private static Spanned getFormattedAmount(BigDecimal amount, Currency currency) {
+        SpannableStringBuilder builder = new SpannableStringBuilder();
+        appendAmount(builder, currency, formatNumber(amount, currency), false, true);
+        return builder;
+    }
+
+    private static DecimalFormat getFormatter(Currency currency) {
+        Map<String, DecimalFormat> currencyFormatters = formatters.get();
+        DecimalFormat df = currencyFormatters.get(currency.getId());
+        if (df == null) {
             // Set formatters
             DecimalFormatSymbols dfs = new DecimalFormatSymbols();
             dfs.setDecimalSeparator(currency.getDecimalSeparator());
             dfs.setGroupingSeparator(currency.getThousandsSeparator());
-            DecimalFormat df = new DecimalFormat();
+            df = new DecimalFormat();
             df.setDecimalFormatSymbols(dfs);
             df.setMinimumFractionDigits(currency.getDecimalPlaces());
             df.setMaximumFractionDigits(currency.getDecimalPlaces());
+            currencyFormatters.put(currency.getId(), df);
+        }
+        return df;
+    }
 
-            // return formatted string
-            String formatedAmount = df.format(amount);
-            String spannedString = getSpannedString(currency, formatedAmount, symbolUp, decimalsUp);
+    //Spans the amount as getSpannedString does with html.
+    private static void appendAmount(SpannableStringBuilder builder, Currency currency, String formattedAmount,
+                                     boolean symbolUp, boolean decimalsUp) {
 
-            return Html.fromHtml(spannedString);
+        if (formattedAmount.contains(currency.getSymbol())) {
+            formattedAmount = formattedAmount.replace(currency.getSymbol(), "");
+        }
+
+        int decimalDivisionIndex = formattedAmount.indexOf(currency.getDecimalSeparator());
+        String wholeNumber;
+        String decimals = null;
+        if (decimalDivisionIndex == -1) {
+            wholeNumber = formattedAmount;
         } else {
-            return null;
+            wholeNumber = formattedAmount.substring(0, decimalDivisionIndex);
+            decimals = formattedAmount.substring(decimalDivisionIndex + 1, formattedAmount.length());
+        }
+
+        if (symbolUp) {
+            appendSmallSuperscript(builder, currency.getSymbol() + " ");
+        } else {
+            appendText(builder, currency.getSymbol());
+        }
+        appendText(builder, wholeNumber);
+
+        if (decimals != null) {
+            if (decimalsUp) {
+                appendSmallSuperscript(builder, " " + decimals);
+            } else {
+                appendText(builder, decimals);
+            }
+        }
+    }
+
+    //Like <sup><small><small>text</small></small></sup>.
+    private static void appendSmallSuperscript(SpannableStringBuilder builder, String text) {
+        int start = builder.length();
+        appendText(builder, text);
+        if (builder.length() > start) {
+            builder.setSpan(new SuperscriptSpan(), start, builder.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            builder.setSpan(new RelativeSizeSpan(SMALL_PROPORTION * SMALL_PROPORTION), start, builder.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
         }
     }
 
+    //Collapses spaces and line breaks as Html.fromHtml does, so both ways show the same text.
+    private static void appendText(SpannableStringBuilder builder, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' || c == '\n') {
+                int length = builder.length();
+                char previous = length == 0 ? '\n' : builder.charAt(length - 1);
+                if (previous != ' ' && previous != '\n') {
+                    builder.append(' ');
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private static boolean isHtml(String text) {
+        return text.indexOf('<') != -1 || text.indexOf('&') != -1;
+    }
+
     private static String getSpannedString(Currency currency, String formattedAmount, boolean symbolUp, boolean decimalsUp) {
 
         if (formattedAmount.contains(currency.getSymbol())) {
@@ -130,30 +275,6 @@ public class CurrenciesUtil {
         return htmlFormatBuilder.toString();
     }
 
-    public static Spanned formatCurrencyInText(BigDecimal amount, String currencyId, String originalText,
-                                               boolean symbolUp, boolean decimalsUp) {
-        return formatCurrencyInText("", amount, currencyId, originalText, symbolUp, decimalsUp);
-    }
-
-    public static Spanned formatCurrencyInText(String amountPrefix, BigDecimal amount, String currencyId, String originalText,
-                                               boolean symbolUp, boolean decimalsUp) {
-        Spanned spannedAmount;
-        Currency currency = currenciesList.get(currencyId);
-        String formattedAmount = formatNumber(amount, currencyId);
-        if (formattedAmount != null) {
-            String spannedString = getSpannedString(currency, formattedAmount, symbolUp, decimalsUp);
-
-            String formattedText = originalText;
-            if (originalText.contains(formattedAmount)) {
-                formattedText = originalText.replace(formattedAmount, amountPrefix + spannedString);
-            }
-            spannedAmount = Html.fromHtml(formattedText);
-        } else {
-            spannedAmount = Html.fromHtml(originalText);
-        }
-        return spannedAmount;
-    }
-
     public static boolean isValidCurrency(String currencyId) {
         return !TextUtil.isEmpty(currencyId) && currenciesList.containsKey(currencyId);
     }
@@ -0,0 +1,94 @@
+package com.mercadopago.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded queue that any thread can add to without locking, and a single thread takes from.
+ * Adding claims the next slot with a compare and set, so it doesn't wait for other threads; when
+ * every slot is taken it fails instead of waiting for the consumer.
+ */
+public class EventRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> mSlots;
+    private final int mCapacity;
+    private final int mMask;
+    private final AtomicLong mTail;
+    private volatile long mHead;
+
+    /**
+     * @param capacity rounded up to a power of two.
+     */
+    public EventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        mSlots = new AtomicReferenceArray<>(size);
+        mCapacity = size;
+        mMask = size - 1;
+        mTail = new AtomicLong();
+    }
+
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * @return false if the buffer is full.
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            long tail = mTail.get();
+            if (tail - mHead >= mCapacity) {
+                return false;
+            }
+            if (mTail.compareAndSet(tail, tail + 1)) {
+                mSlots.lazySet((int) tail & mMask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Must be called from one thread at a time.
+     *
+     * @return the oldest element, or null if there is none or the thread that claimed its slot
+     * didn't set it yet.
+     */
+    public E poll() {
+        long head = mHead;
+        int index = (int) head & mMask;
+        E element = mSlots.get(index);
+        if (element != null) {
+            //The slot is cleared before moving the head, so a full buffer never overwrites an element.
+            mSlots.lazySet(index, null);
+            mHead = head + 1;
+        }
+        return element;
+    }
+
+    /**
+     * Must be called from one thread at a time.
+     *
+     * @return the number of elements taken.
+     */
+    public int drainTo(List<E> elements, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            elements.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, mTail.get() - mHead);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
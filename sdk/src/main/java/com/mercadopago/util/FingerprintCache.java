@@ -0,0 +1,120 @@
+package com.mercadopago.util;
+
+import android.content.Context;
+
+import com.mercadopago.model.Fingerprint;
+
+/**
+ * Keeps the fingerprint of the device sent with every token.
+ * <p>
+ * The attributes that don't change while the app runs, like the vendor ids, the ram or the
+ * features of the device, are read once per process. The free disk space and the location are
+ * read again on the {@link SdkExecutor} when the fingerprint is older than the refresh time, while
+ * the previous fingerprint is still served. Fingerprints are never modified once served, so tokens
+ * can share them.
+ */
+public class FingerprintCache {
+
+    public static final long DEFAULT_REFRESH_TIME = 5 * 60 * 1000L;
+
+    private static FingerprintCache mInstance;
+
+    private final long mRefreshTime;
+    private final Object mBuildLock;
+
+    private Fingerprint mFingerprint;
+    private long mBuiltAt;
+    private boolean mRefreshing;
+
+    protected FingerprintCache(long refreshTime) {
+        mRefreshTime = refreshTime;
+        mBuildLock = new Object();
+    }
+
+    public synchronized static FingerprintCache getInstance() {
+        if (mInstance == null) {
+            mInstance = new FingerprintCache(DEFAULT_REFRESH_TIME);
+        }
+        return mInstance;
+    }
+
+    /**
+     * Returns the fingerprint of the device. The first call reads every attribute in the calling
+     * thread; later ones return at once and refresh it in background when it's old.
+     */
+    public Fingerprint getFingerprint(Context context) {
+        Fingerprint fingerprint;
+        boolean refresh;
+        synchronized (this) {
+            fingerprint = mFingerprint;
+            refresh = fingerprint != null && !mRefreshing && now() - mBuiltAt >= mRefreshTime;
+            mRefreshing |= refresh;
+        }
+        if (fingerprint == null) {
+            return build(context);
+        }
+        if (refresh) {
+            refresh(context, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Builds or refreshes the fingerprint in background, so it's ready when a token is created.
+     */
+    public void prefetch(final Context context) {
+        SdkExecutor.getInstance().execute(this, new Runnable() {
+            @Override
+            public void run() {
+                getFingerprint(context);
+            }
+        });
+    }
+
+    /**
+     * @param staticAttributes the fingerprint to take the static attributes from, or null to read
+     *                         them.
+     */
+    protected Fingerprint createFingerprint(Context context, Fingerprint staticAttributes) {
+        return new Fingerprint(context, staticAttributes);
+    }
+
+    protected long now() {
+        return System.currentTimeMillis();
+    }
+
+    //Threads asking for the first fingerprint wait for the one building it.
+    private Fingerprint build(Context context) {
+        synchronized (mBuildLock) {
+            Fingerprint fingerprint;
+            synchronized (this) {
+                fingerprint = mFingerprint;
+            }
+            if (fingerprint == null) {
+                fingerprint = createFingerprint(context, null);
+                setFingerprint(fingerprint);
+            }
+            return fingerprint;
+        }
+    }
+
+    private void refresh(final Context context, final Fingerprint staticAttributes) {
+        SdkExecutor.getInstance().execute(this, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    setFingerprint(createFingerprint(context, staticAttributes));
+                } finally {
+                    synchronized (FingerprintCache.this) {
+                        mRefreshing = false;
+                    }
+                }
+            }
+        });
+    }
+
+    private synchronized void setFingerprint(Fingerprint fingerprint) {
+        mFingerprint = fingerprint;
+        mBuiltAt = now();
+    }
+}
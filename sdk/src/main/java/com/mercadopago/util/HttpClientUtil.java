@@ -5,15 +5,51 @@ import android.content.Context;
 import com.mercadopago.core.Settings;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import javax.net.SocketFactory;
+
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
 
+/**
+ * Provides the http clients of the SDK. Clients with different timeouts share one connection pool,
+ * dispatcher and cache, so connections to the api and merchant servers are kept alive and reused
+ * through the whole checkout instead of doing a TLS handshake on each step.
+ */
 public class HttpClientUtil {
 
+    public static final int DEFAULT_CONNECTIONS_PER_HOST = 5;
+
+    /**
+     * Marks requests whose response is read while it is downloaded. Their bodies are not logged,
+     * since logging them would buffer the whole response first.
+     */
+    public static final String STREAMED_RESPONSE_HEADER = "X-Streamed-Response";
+
+    //The api and the merchant server.
+    private static final int POOLED_HOSTS = 2;
+    private static final long KEEP_ALIVE_DURATION = 5;
+
     private static OkHttpClient client;
     private static OkHttpClient customClient;
+    private static final Map<String, OkHttpClient> timeoutClients = new HashMap<>();
+    private static int connectionsPerHost = DEFAULT_CONNECTIONS_PER_HOST;
 
     public synchronized static okhttp3.OkHttpClient getClient(Context context, int connectTimeout, int readTimeout, int writeTimeout) {
 
@@ -21,37 +57,134 @@ public class HttpClientUtil {
             return customClient;
         } else {
             if (client == null) {
-                createClient(context, connectTimeout, readTimeout, writeTimeout);
+                createClient(context);
+            }
+            String key = connectTimeout + "|" + readTimeout + "|" + writeTimeout;
+            OkHttpClient timeoutClient = timeoutClients.get(key);
+            if (timeoutClient == null) {
+                timeoutClient = client.newBuilder()
+                        .connectTimeout(connectTimeout, TimeUnit.SECONDS)
+                        .writeTimeout(writeTimeout, TimeUnit.SECONDS)
+                        .readTimeout(readTimeout, TimeUnit.SECONDS)
+                        .build();
+                timeoutClients.put(key, timeoutClient);
             }
-            return client;
+            return timeoutClient;
         }
     }
 
-    private static void createClient(Context context, int connectTimeout, int readTimeout, int writeTimeout) {
+    private static void createClient(Context context) {
         // Set log info
-        HttpLoggingInterceptor interceptor = new HttpLoggingInterceptor();
-        interceptor.setLevel(Settings.OKHTTP_LOGGING);
+        final HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
+        loggingInterceptor.setLevel(Settings.OKHTTP_LOGGING);
+        Interceptor interceptor = new Interceptor() {
+            @Override
+            public Response intercept(Chain chain) throws IOException {
+                Request request = chain.request();
+                if (request.header(STREAMED_RESPONSE_HEADER) == null) {
+                    return loggingInterceptor.intercept(chain);
+                }
+                return chain.proceed(request.newBuilder().removeHeader(STREAMED_RESPONSE_HEADER).build());
+            }
+        };
 
         // Set cache size
         int cacheSize = 10 * 1024 * 1024; // 10 MiB
         okhttp3.Cache cache = new okhttp3.Cache(new File(context.getCacheDir().getPath() + "okhttp"), cacheSize);
 
+        // Keep idle connections to every host for the whole flow
+        ConnectionPool connectionPool = new ConnectionPool(connectionsPerHost * POOLED_HOSTS, KEEP_ALIVE_DURATION, TimeUnit.MINUTES);
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(connectionsPerHost);
+
+        // Measure the phases of each call
+        ApiMetrics apiMetrics = ApiMetrics.getInstance();
+
         // Set client
         okhttp3.OkHttpClient.Builder okHttpClientBuilder = new okhttp3.OkHttpClient.Builder()
-                .connectTimeout(connectTimeout, TimeUnit.SECONDS)
-                .writeTimeout(writeTimeout, TimeUnit.SECONDS)
-                .readTimeout(readTimeout, TimeUnit.SECONDS)
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
                 .cache(cache)
-                .addInterceptor(interceptor);
+                .dns(apiMetrics.getDns(Dns.SYSTEM))
+                .socketFactory(apiMetrics.getSocketFactory(SocketFactory.getDefault()))
+                .addInterceptor(apiMetrics.getInterceptor())
+                .addInterceptor(interceptor)
+                .addNetworkInterceptor(apiMetrics.getNetworkInterceptor());
 
         client = okHttpClientBuilder.build();
     }
 
-    public static void setCustomClient(okhttp3.OkHttpClient client) {
+    /**
+     * Sets how many connections are kept and used at the same time for each host. The pool is
+     * sized when the first client is created, so it must be set before any request.
+     */
+    public synchronized static void setConnectionsPerHost(int connections) {
+        if (connections < 1) throw new IllegalArgumentException("connections per host is lower than 1");
+        connectionsPerHost = connections;
+        if (client != null) {
+            client.dispatcher().setMaxRequestsPerHost(connections);
+        }
+    }
+
+    /**
+     * Opens a connection to each origin of the given urls in the background, so the first request
+     * to each of them doesn't wait for the TLS handshake.
+     */
+    public static void warmUp(Context context, Collection<String> urls) {
+        OkHttpClient warmUpClient;
+        synchronized (HttpClientUtil.class) {
+            if (customClientSet()) {
+                warmUpClient = customClient;
+            } else {
+                if (client == null) {
+                    createClient(context);
+                }
+                warmUpClient = client;
+            }
+        }
+        for (String origin : getOrigins(urls)) {
+            Request request = new Request.Builder()
+                    .url(origin)
+                    .head()
+                    .build();
+            warmUpClient.newCall(request).enqueue(new okhttp3.Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    //Requests will connect when sent.
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) throws IOException {
+                    response.body().close();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return the scheme and host of each http url, without repeating them.
+     */
+    public static List<String> getOrigins(Collection<String> urls) {
+        Set<String> origins = new LinkedHashSet<>();
+        for (String url : urls) {
+            if (url == null || !url.startsWith("http")) {
+                continue;
+            }
+            int hostStart = url.indexOf("://");
+            if (hostStart < 0) {
+                continue;
+            }
+            int hostEnd = url.indexOf('/', hostStart + 3);
+            origins.add(hostEnd < 0 ? url : url.substring(0, hostEnd));
+        }
+        return new ArrayList<>(origins);
+    }
+
+    public synchronized static void setCustomClient(okhttp3.OkHttpClient client) {
         customClient = client;
     }
 
-    public static void removeCustomClient() {
+    public synchronized static void removeCustomClient() {
         customClient = null;
     }
 
@@ -0,0 +1,135 @@
+package com.mercadopago.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Streaming histogram of latencies in microseconds, recorded from any thread without locking.
+ * Like an HDR histogram, each power of two is split in linear buckets, so memory is fixed and
+ * percentiles are within an eighth of the actual value, from one microsecond to over two minutes.
+ * Longer values are counted in the last bucket.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_VALUE_BITS = 27;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray mCounts;
+    private final AtomicLong mCount;
+    private final AtomicLong mSum;
+    private final AtomicLong mMax;
+
+    public LatencyHistogram() {
+        mCounts = new AtomicLongArray(BUCKETS);
+        mCount = new AtomicLong();
+        mSum = new AtomicLong();
+        mMax = new AtomicLong();
+    }
+
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        mCounts.incrementAndGet(getIndex(Math.min(value, MAX_VALUE)));
+        mCount.incrementAndGet();
+        mSum.addAndGet(value);
+        long max = mMax.get();
+        while (value > max && !mMax.compareAndSet(max, value)) {
+            max = mMax.get();
+        }
+    }
+
+    public long getCount() {
+        return mCount.get();
+    }
+
+    public Snapshot getSnapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = mCounts.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, mSum.get(), mMax.get());
+    }
+
+    //Values below SUB_BUCKETS have a bucket each, then each power of two has SUB_BUCKETS.
+    private static int getIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+    }
+
+    private static long getHighestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * The latencies recorded until it was taken.
+     */
+    public static class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public long getMean() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        /**
+         * @param percentile from 0 to 100.
+         * @return the latency that percentile of the values are at or below, or 0 if there are none.
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * Math.min(percentile, 100) / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(getHighestValue(i), max);
+                }
+            }
+            return max;
+        }
+
+        public long getP50() {
+            return getPercentile(50);
+        }
+
+        public long getP95() {
+            return getPercentile(95);
+        }
+
+        public long getP99() {
+            return getPercentile(99);
+        }
+    }
+}
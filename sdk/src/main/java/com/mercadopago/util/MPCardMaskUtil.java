@@ -20,8 +20,8 @@ public class MPCardMaskUtil {
     public static final int CARD_NUMBER_MAX_LENGTH = 16;
     public static final int CARD_NUMBER_AMEX_LENGTH = 15;
     public static final int CARD_NUMBER_DINERS_LENGTH = 14;
-    private static final int CARD_NUMBER_MAESTRO_SETTING_1_LENGTH = 18;
-    private static final int CARD_NUMBER_MAESTRO_SETTING_2_LENGTH = 19;
+    public static final int CARD_NUMBER_MAESTRO_SETTING_1_LENGTH = 18;
+    public static final int CARD_NUMBER_MAESTRO_SETTING_2_LENGTH = 19;
 
     protected MPCardMaskUtil() {
 
@@ -31,10 +31,10 @@ public class MercadoPagoUtil {
         int resource;
         paymentMethodId = type + paymentMethodId;
         try {
-            resource = context.getResources().getIdentifier(paymentMethodId, "drawable", context.getPackageName());
+            resource = ResourceIdCache.getInstance().getDrawable(context, paymentMethodId);
         } catch (Exception e) {
             try {
-                resource = context.getResources().getIdentifier(SDK_PREFIX + "bank", "drawable", context.getPackageName());
+                resource = ResourceIdCache.getInstance().getDrawable(context, SDK_PREFIX + "bank");
             } catch (Exception ex) {
                 resource = 0;
             }
@@ -46,7 +46,7 @@ public class MercadoPagoUtil {
         int resource;
         if (itemId != null && context != null) {
             try {
-                resource = context.getResources().getIdentifier(SDK_PREFIX + itemId, "drawable", context.getPackageName());
+                resource = ResourceIdCache.getInstance().getDrawable(context, SDK_PREFIX + itemId);
             } catch (Exception e) {
                 resource = 0;
             }
@@ -0,0 +1,756 @@
+package com.mercadopago.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mercadopago.callbacks.OnPartialResultCallback;
+import com.mercadopago.model.AccountMoney;
+import com.mercadopago.model.Bin;
+import com.mercadopago.model.Card;
+import com.mercadopago.model.CardNumber;
+import com.mercadopago.model.CustomSearchItem;
+import com.mercadopago.model.Installment;
+import com.mercadopago.model.Issuer;
+import com.mercadopago.model.PayerCost;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.model.PaymentMethodSearchItem;
+import com.mercadopago.model.SecurityCode;
+import com.mercadopago.model.Setting;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand written adapters for the models decoded on every checkout: the payment method search,
+ * payment methods with their settings, installments and issuers. They read and write the same json
+ * as the reflective adapters of {@link JsonUtil}, without reflection nor field name translation.
+ * <p>
+ * Only exact classes are handled, subclasses and the rest of the models keep the reflective path.
+ * Fields added to these models must be added here too.
+ */
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        TypeAdapter<?> adapter;
+        if (rawType == PaymentMethodSearch.class) {
+            adapter = new PaymentMethodSearchAdapter(gson);
+        } else if (rawType == PaymentMethodSearchItem.class) {
+            adapter = new PaymentMethodSearchItemAdapter();
+        } else if (rawType == PaymentMethod.class) {
+            adapter = new PaymentMethodAdapter(gson);
+        } else if (rawType == Setting.class) {
+            adapter = new SettingAdapter(gson);
+        } else if (rawType == Bin.class) {
+            adapter = new BinAdapter();
+        } else if (rawType == CardNumber.class) {
+            adapter = new CardNumberAdapter();
+        } else if (rawType == SecurityCode.class) {
+            adapter = new SecurityCodeAdapter();
+        } else if (rawType == Installment.class) {
+            adapter = new InstallmentAdapter(gson);
+        } else if (rawType == PayerCost.class) {
+            adapter = new PayerCostAdapter();
+        } else if (rawType == Issuer.class) {
+            adapter = new IssuerAdapter();
+        } else {
+            adapter = null;
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /**
+     * Reads a payment method search handing its groups to the callback as soon as they are read,
+     * before custom options, payment methods and cards. The service sends groups first.
+     */
+    public static PaymentMethodSearch readPaymentMethodSearch(Gson gson, JsonReader in, OnPartialResultCallback<List<PaymentMethodSearchItem>> onGroupsRead) throws IOException {
+        return new PaymentMethodSearchAdapter(gson).read(in, onGroupsRead);
+    }
+
+    private static class PaymentMethodSearchAdapter extends TypeAdapter<PaymentMethodSearch> {
+
+        private final TypeAdapter<PaymentMethodSearchItem> itemAdapter;
+        private final TypeAdapter<CustomSearchItem> customSearchItemAdapter;
+        private final TypeAdapter<PaymentMethod> paymentMethodAdapter;
+        private final TypeAdapter<Card> cardAdapter;
+        private final TypeAdapter<AccountMoney> accountMoneyAdapter;
+
+        private PaymentMethodSearchAdapter(Gson gson) {
+            itemAdapter = gson.getAdapter(PaymentMethodSearchItem.class);
+            customSearchItemAdapter = gson.getAdapter(CustomSearchItem.class);
+            paymentMethodAdapter = gson.getAdapter(PaymentMethod.class);
+            cardAdapter = gson.getAdapter(Card.class);
+            accountMoneyAdapter = gson.getAdapter(AccountMoney.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PaymentMethodSearch value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("groups");
+            writeList(out, value.getGroups(), itemAdapter);
+            out.name("custom_options");
+            writeList(out, value.getCustomSearchItems(), customSearchItemAdapter);
+            out.name("payment_methods");
+            writeList(out, value.getPaymentMethods(), paymentMethodAdapter);
+            out.name("cards");
+            writeList(out, value.getCards(), cardAdapter);
+            out.name("account_money");
+            accountMoneyAdapter.write(out, value.getAccountMoney());
+            out.endObject();
+        }
+
+        @Override
+        public PaymentMethodSearch read(JsonReader in) throws IOException {
+            return read(in, null);
+        }
+
+        private PaymentMethodSearch read(JsonReader in, OnPartialResultCallback<List<PaymentMethodSearchItem>> onGroupsRead) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PaymentMethodSearch value = new PaymentMethodSearch();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "groups":
+                        value.setGroups(readList(in, itemAdapter));
+                        if (onGroupsRead != null && value.getGroups() != null) {
+                            onGroupsRead.onPartialResult(value.getGroups());
+                        }
+                        break;
+                    case "custom_options":
+                        value.setCustomSearchItems(readList(in, customSearchItemAdapter));
+                        break;
+                    case "payment_methods":
+                        value.setPaymentMethods(readList(in, paymentMethodAdapter));
+                        break;
+                    case "cards":
+                        value.setCards(readList(in, cardAdapter));
+                        break;
+                    case "account_money":
+                        value.setAccountMoney(accountMoneyAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class PaymentMethodSearchItemAdapter extends TypeAdapter<PaymentMethodSearchItem> {
+
+        @Override
+        public void write(JsonWriter out, PaymentMethodSearchItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("type").value(value.getType());
+            out.name("description").value(value.getDescription());
+            out.name("comment").value(value.getComment());
+            out.name("children");
+            writeList(out, value.getChildren(), this);
+            out.name("children_header").value(value.getChildrenHeader());
+            out.name("show_icon").value(value.getShowIcon());
+            out.endObject();
+        }
+
+        @Override
+        public PaymentMethodSearchItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PaymentMethodSearchItem value = new PaymentMethodSearchItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        value.setId(readString(in));
+                        break;
+                    case "type":
+                        value.setType(readString(in));
+                        break;
+                    case "description":
+                        value.setDescription(readString(in));
+                        break;
+                    case "comment":
+                        value.setComment(readString(in));
+                        break;
+                    case "children":
+                        value.setChildren(readList(in, this));
+                        break;
+                    case "children_header":
+                        value.setChildrenHeader(readString(in));
+                        break;
+                    case "show_icon":
+                        value.setShowIcon(readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class PaymentMethodAdapter extends TypeAdapter<PaymentMethod> {
+
+        private final TypeAdapter<Setting> settingAdapter;
+
+        private PaymentMethodAdapter(Gson gson) {
+            settingAdapter = gson.getAdapter(Setting.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PaymentMethod value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("additional_info_needed");
+            writeStrings(out, value.getAdditionalInfoNeeded());
+            out.name("id").value(value.getId());
+            out.name("name").value(value.getName());
+            out.name("payment_type_id").value(value.getPaymentTypeId());
+            out.name("status").value(value.getStatus());
+            out.name("secure_thumbnail").value(value.getSecureThumbnail());
+            out.name("thumbnail").value(value.getThumbnail());
+            out.name("deferred_capture").value(value.getDeferredCapture());
+            out.name("settings");
+            writeList(out, value.getSettings(), settingAdapter);
+            out.name("min_allowed_amount").value(value.getMinAllowedAmount());
+            out.name("max_allowed_amount").value(value.getMaxAllowedAmount());
+            out.name("accreditation_time").value(value.getAccreditationTime());
+            out.endObject();
+        }
+
+        @Override
+        public PaymentMethod read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PaymentMethod value = new PaymentMethod();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "additional_info_needed":
+                        value.setAdditionalInfoNeeded(readStrings(in));
+                        break;
+                    case "id":
+                        value.setId(readString(in));
+                        break;
+                    case "name":
+                        value.setName(readString(in));
+                        break;
+                    case "payment_type_id":
+                        value.setPaymentTypeId(readString(in));
+                        break;
+                    case "status":
+                        value.setStatus(readString(in));
+                        break;
+                    case "secure_thumbnail":
+                        value.setSecureThumbnail(readString(in));
+                        break;
+                    case "thumbnail":
+                        value.setThumbnail(readString(in));
+                        break;
+                    case "deferred_capture":
+                        value.setDeferredCapture(readString(in));
+                        break;
+                    case "settings":
+                        value.setSettings(readList(in, settingAdapter));
+                        break;
+                    case "min_allowed_amount":
+                        value.setMinAllowedAmount(readBigDecimal(in));
+                        break;
+                    case "max_allowed_amount":
+                        value.setMaxAllowedAmount(readBigDecimal(in));
+                        break;
+                    case "accreditation_time":
+                        value.setAccreditationTime(readInteger(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class SettingAdapter extends TypeAdapter<Setting> {
+
+        private final TypeAdapter<Bin> binAdapter;
+        private final TypeAdapter<CardNumber> cardNumberAdapter;
+        private final TypeAdapter<SecurityCode> securityCodeAdapter;
+
+        private SettingAdapter(Gson gson) {
+            binAdapter = gson.getAdapter(Bin.class);
+            cardNumberAdapter = gson.getAdapter(CardNumber.class);
+            securityCodeAdapter = gson.getAdapter(SecurityCode.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Setting value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("bin");
+            binAdapter.write(out, value.getBin());
+            out.name("card_number");
+            cardNumberAdapter.write(out, value.getCardNumber());
+            out.name("security_code");
+            securityCodeAdapter.write(out, value.getSecurityCode());
+            out.endObject();
+        }
+
+        @Override
+        public Setting read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Setting value = new Setting();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "bin":
+                        value.setBin(binAdapter.read(in));
+                        break;
+                    case "card_number":
+                        value.setCardNumber(cardNumberAdapter.read(in));
+                        break;
+                    case "security_code":
+                        value.setSecurityCode(securityCodeAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class BinAdapter extends TypeAdapter<Bin> {
+
+        @Override
+        public void write(JsonWriter out, Bin value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("exclusion_pattern").value(value.getExclusionPattern());
+            out.name("installments_pattern").value(value.getInstallmentsPattern());
+            out.name("pattern").value(value.getPattern());
+            out.endObject();
+        }
+
+        @Override
+        public Bin read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Bin value = new Bin();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "exclusion_pattern":
+                        value.setExclusionPattern(readString(in));
+                        break;
+                    case "installments_pattern":
+                        value.setInstallmentsPattern(readString(in));
+                        break;
+                    case "pattern":
+                        value.setPattern(readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class CardNumberAdapter extends TypeAdapter<CardNumber> {
+
+        @Override
+        public void write(JsonWriter out, CardNumber value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("length").value(value.getLength());
+            out.name("validation").value(value.getValidation());
+            out.endObject();
+        }
+
+        @Override
+        public CardNumber read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CardNumber value = new CardNumber();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "length":
+                        value.setLength(readInteger(in));
+                        break;
+                    case "validation":
+                        value.setValidation(readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class SecurityCodeAdapter extends TypeAdapter<SecurityCode> {
+
+        @Override
+        public void write(JsonWriter out, SecurityCode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("card_location").value(value.getCardLocation());
+            out.name("length").value(value.getLength());
+            out.name("mode").value(value.getMode());
+            out.endObject();
+        }
+
+        @Override
+        public SecurityCode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SecurityCode value = new SecurityCode();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "card_location":
+                        value.setCardLocation(readString(in));
+                        break;
+                    case "length":
+                        value.setLength(readInteger(in));
+                        break;
+                    case "mode":
+                        value.setMode(readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class InstallmentAdapter extends TypeAdapter<Installment> {
+
+        private final TypeAdapter<Issuer> issuerAdapter;
+        private final TypeAdapter<PayerCost> payerCostAdapter;
+
+        private InstallmentAdapter(Gson gson) {
+            issuerAdapter = gson.getAdapter(Issuer.class);
+            payerCostAdapter = gson.getAdapter(PayerCost.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Installment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("issuer");
+            issuerAdapter.write(out, value.getIssuer());
+            out.name("payer_costs");
+            writeList(out, value.getPayerCosts(), payerCostAdapter);
+            out.name("payment_method_id").value(value.getPaymentMethodId());
+            out.name("payment_type_id").value(value.getPaymentTypeId());
+            out.endObject();
+        }
+
+        @Override
+        public Installment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Installment value = new Installment();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "issuer":
+                        value.setIssuer(issuerAdapter.read(in));
+                        break;
+                    case "payer_costs":
+                        value.setPayerCosts(readList(in, payerCostAdapter));
+                        break;
+                    case "payment_method_id":
+                        value.setPaymentMethodId(readString(in));
+                        break;
+                    case "payment_type_id":
+                        value.setPaymentTypeId(readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class PayerCostAdapter extends TypeAdapter<PayerCost> {
+
+        @Override
+        public void write(JsonWriter out, PayerCost value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("installments").value(value.getInstallments());
+            out.name("installment_rate").value(value.getInstallmentRate());
+            out.name("labels");
+            writeStrings(out, value.getLabels());
+            out.name("min_allowed_amount").value(value.getMinAllowedAmount());
+            out.name("max_allowed_amount").value(value.getMaxAllowedAmount());
+            out.name("recommended_message").value(value.getRecommendedMessage());
+            out.name("installment_amount").value(value.getInstallmentAmount());
+            out.name("total_amount").value(value.getTotalAmount());
+            out.endObject();
+        }
+
+        @Override
+        public PayerCost read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PayerCost value = new PayerCost();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "installments":
+                        value.setInstallments(readInteger(in));
+                        break;
+                    case "installment_rate":
+                        value.setInstallmentRate(readBigDecimal(in));
+                        break;
+                    case "labels":
+                        value.setLabels(readStrings(in));
+                        break;
+                    case "min_allowed_amount":
+                        value.setMinAllowedAmount(readBigDecimal(in));
+                        break;
+                    case "max_allowed_amount":
+                        value.setMaxAllowedAmount(readBigDecimal(in));
+                        break;
+                    case "recommended_message":
+                        value.setRecommendedMessage(readString(in));
+                        break;
+                    case "installment_amount":
+                        value.setInstallmentAmount(readBigDecimal(in));
+                        break;
+                    case "total_amount":
+                        value.setTotalAmount(readBigDecimal(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class IssuerAdapter extends TypeAdapter<Issuer> {
+
+        @Override
+        public void write(JsonWriter out, Issuer value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("name").value(value.getName());
+            out.endObject();
+        }
+
+        @Override
+        public Issuer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Issuer value = new Issuer();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        value.setId(readLong(in));
+                        break;
+                    case "name":
+                        value.setName(readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    //Reading of simple values follows the default Gson adapters.
+
+    private static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        } else if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    private static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        } else if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    private static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private static BigDecimal readBigDecimal(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return new BigDecimal(in.nextString());
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private static List<String> readStrings(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    private static void writeStrings(JsonWriter out, List<String> values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    private static <T> List<T> readList(JsonReader in, TypeAdapter<T> adapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<T> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(adapter.read(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    private static <T> void writeList(JsonWriter out, List<T> values, TypeAdapter<T> adapter) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T value : values) {
+            adapter.write(out, value);
+        }
+        out.endArray();
+    }
+}
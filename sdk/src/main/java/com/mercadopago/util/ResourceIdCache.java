@@ -0,0 +1,64 @@
+package com.mercadopago.util;
+
+import android.content.Context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the ids of the resources looked up by name, like the icons of the payment methods, so
+ * {@link android.content.res.Resources#getIdentifier(String, String, String)}, which searches
+ * the resource tables by name, runs once per name and not every time a row or a card is drawn.
+ * <p>
+ * Missing resources are kept too, as 0, since most payment methods and issuers have no image.
+ * Resources are looked up in the package of the app, the same for every context of the process.
+ */
+public class ResourceIdCache {
+
+    public static final String DRAWABLE = "drawable";
+    public static final String COLOR = "color";
+
+    private static ResourceIdCache mInstance;
+
+    private final Map<String, Integer> mIds;
+
+    protected ResourceIdCache() {
+        mIds = new ConcurrentHashMap<>();
+    }
+
+    public synchronized static ResourceIdCache getInstance() {
+        if (mInstance == null) {
+            mInstance = new ResourceIdCache();
+        }
+        return mInstance;
+    }
+
+    /**
+     * @return the id of the resource, or 0 if there is no resource with that name and type.
+     */
+    public int getIdentifier(Context context, String name, String type) {
+        String key = type + "/" + name;
+        Integer id = mIds.get(key);
+        if (id == null) {
+            id = lookUp(context, name, type);
+            mIds.put(key, id);
+        }
+        return id;
+    }
+
+    public int getDrawable(Context context, String name) {
+        return getIdentifier(context, name, DRAWABLE);
+    }
+
+    public int getColor(Context context, String name) {
+        return getIdentifier(context, name, COLOR);
+    }
+
+    public void clear() {
+        mIds.clear();
+    }
+
+    protected int lookUp(Context context, String name, String type) {
+        return context.getResources().getIdentifier(name, type, context.getPackageName());
+    }
+}
@@ -0,0 +1,77 @@
+package com.mercadopago.util;
+
+import android.content.Context;
+
+import com.mercadopago.adapters.ErrorHandlingCallAdapter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * Keeps one {@link Retrofit} per base url and timeout profile, along with the service proxies
+ * created from it, so API calls don't rebuild them every time.
+ */
+public class RetrofitUtil {
+
+    private static final Map<String, RetrofitEntry> sRetrofits = new HashMap<>();
+
+    public synchronized static <T> T getService(Context context, String baseUrl, int connectTimeout, int readTimeout, int writeTimeout, Class<T> serviceClass) {
+        OkHttpClient client = HttpClientUtil.getClient(context, connectTimeout, readTimeout, writeTimeout);
+        return getService(client, baseUrl, connectTimeout, readTimeout, writeTimeout, serviceClass);
+    }
+
+    public synchronized static <T> T getService(OkHttpClient client, String baseUrl, int connectTimeout, int readTimeout, int writeTimeout, Class<T> serviceClass) {
+        RetrofitEntry entry = getEntry(client, baseUrl, connectTimeout, readTimeout, writeTimeout);
+        Object service = entry.services.get(serviceClass);
+        if (service == null) {
+            service = ApiMetrics.getInstance().nameCalls(serviceClass, entry.retrofit.create(serviceClass));
+            entry.services.put(serviceClass, service);
+        }
+        return serviceClass.cast(service);
+    }
+
+    public static Retrofit createRetrofit(OkHttpClient client, String baseUrl) {
+        return new Retrofit.Builder()
+                .baseUrl(baseUrl)
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create(JsonUtil.getInstance().getGson()))
+                .addCallAdapterFactory(new ErrorHandlingCallAdapter.ErrorHandlingCallAdapterFactory())
+                .build();
+    }
+
+    public synchronized static void clear() {
+        sRetrofits.clear();
+    }
+
+    public synchronized static int size() {
+        return sRetrofits.size();
+    }
+
+    private static RetrofitEntry getEntry(OkHttpClient client, String baseUrl, int connectTimeout, int readTimeout, int writeTimeout) {
+        String key = baseUrl + "|" + connectTimeout + "|" + readTimeout + "|" + writeTimeout;
+        RetrofitEntry entry = sRetrofits.get(key);
+        //A custom client may have been set or removed since the entry was built.
+        if (entry == null || entry.client != client) {
+            entry = new RetrofitEntry(client, createRetrofit(client, baseUrl));
+            sRetrofits.put(key, entry);
+        }
+        return entry;
+    }
+
+    private static class RetrofitEntry {
+
+        private final OkHttpClient client;
+        private final Retrofit retrofit;
+        private final Map<Class<?>, Object> services;
+
+        private RetrofitEntry(OkHttpClient client, Retrofit retrofit) {
+            this.client = client;
+            this.retrofit = retrofit;
+            this.services = new HashMap<>();
+        }
+    }
+}
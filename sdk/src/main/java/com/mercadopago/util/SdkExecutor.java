@@ -0,0 +1,262 @@
+package com.mercadopago.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the work of the SDK that must not run on the main thread, like building the fingerprint
+ * of the device before creating a token, on a few named threads instead of a new thread each.
+ * <p>
+ * Tasks are scheduled for an owner, usually the presenter or the services of a screen, so the
+ * pending tasks of a screen can be cancelled when it's finished. The queue is not bounded, since
+ * tasks are often scheduled from the main thread and must never run there; how many tasks wait
+ * is reported by {@link #getMetrics()}.
+ */
+public class SdkExecutor {
+
+    public static final int DEFAULT_THREADS = 2;
+
+    private static final String THREAD_NAME = "mpsdk-worker-";
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static SdkExecutor mInstance;
+
+    private final ThreadPoolExecutor mExecutor;
+    private final Map<Object, List<Task>> mTasks;
+
+    private long mScheduledTasks;
+    private long mCompletedTasks;
+    private long mCancelledTasks;
+    private long mFailedTasks;
+    private long mRanTasks;
+    private long mTotalWaitTime;
+    private long mMaxWaitTime;
+    private long mTotalRunTime;
+
+    protected SdkExecutor(int threads) {
+        mExecutor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private int mCreatedThreads;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, THREAD_NAME + ++mCreatedThreads);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        mExecutor.allowCoreThreadTimeOut(true);
+        mTasks = new HashMap<>();
+    }
+
+    public synchronized static SdkExecutor getInstance() {
+        if (mInstance == null) {
+            mInstance = new SdkExecutor(DEFAULT_THREADS);
+        }
+        return mInstance;
+    }
+
+    /**
+     * Schedules the task for the owner.
+     *
+     * @return the task, to cancel it.
+     */
+    public Task execute(Object owner, final Task task) {
+        task.mOwner = owner;
+        task.mScheduledAt = now();
+        task.mRunnable = new Runnable() {
+            @Override
+            public void run() {
+                runTask(task);
+            }
+        };
+        synchronized (this) {
+            mScheduledTasks++;
+            List<Task> ownerTasks = mTasks.get(owner);
+            if (ownerTasks == null) {
+                ownerTasks = new ArrayList<>();
+                mTasks.put(owner, ownerTasks);
+            }
+            ownerTasks.add(task);
+        }
+        mExecutor.execute(task.mRunnable);
+        return task;
+    }
+
+    public Task execute(Object owner, final Runnable runnable) {
+        return execute(owner, new Task() {
+            @Override
+            public void run() {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * Cancels the tasks of the owner. Pending tasks won't run, and running ones can check
+     * {@link Task#isCancelled()} to stop.
+     */
+    public void cancel(Object owner) {
+        List<Task> ownerTasks;
+        synchronized (this) {
+            ownerTasks = mTasks.remove(owner);
+        }
+        if (ownerTasks != null) {
+            for (Task task : ownerTasks) {
+                cancel(task);
+            }
+        }
+    }
+
+    public synchronized Metrics getMetrics() {
+        return new Metrics(mExecutor.getQueue().size(), mExecutor.getActiveCount(), mScheduledTasks, mCompletedTasks,
+                mCancelledTasks, mFailedTasks,
+                mRanTasks == 0 ? 0 : mTotalWaitTime / mRanTasks, mMaxWaitTime,
+                mRanTasks == 0 ? 0 : mTotalRunTime / mRanTasks);
+    }
+
+    /**
+     * @return the time in nanoseconds.
+     */
+    protected long now() {
+        return System.nanoTime();
+    }
+
+    private void cancel(Task task) {
+        task.mCancelled = true;
+        if (mExecutor.remove(task.mRunnable)) {
+            synchronized (this) {
+                mCancelledTasks++;
+            }
+        }
+    }
+
+    private void runTask(Task task) {
+        long start = now();
+        boolean failed = true;
+        try {
+            if (!task.isCancelled()) {
+                task.run();
+            }
+            failed = false;
+        } finally {
+            long end = now();
+            synchronized (this) {
+                if (task.isCancelled()) {
+                    mCancelledTasks++;
+                } else if (failed) {
+                    mFailedTasks++;
+                } else {
+                    mCompletedTasks++;
+                }
+                mRanTasks++;
+                long waitTime = start - task.mScheduledAt;
+                mTotalWaitTime += waitTime;
+                mMaxWaitTime = Math.max(mMaxWaitTime, waitTime);
+                mTotalRunTime += end - start;
+                List<Task> ownerTasks = mTasks.get(task.mOwner);
+                if (ownerTasks != null) {
+                    ownerTasks.remove(task);
+                    if (ownerTasks.isEmpty()) {
+                        mTasks.remove(task.mOwner);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Work scheduled on the executor.
+     */
+    public abstract static class Task implements Runnable {
+
+        private volatile boolean mCancelled;
+        private Object mOwner;
+        private long mScheduledAt;
+        private Runnable mRunnable;
+
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+    }
+
+    public static class Metrics {
+
+        private final int queuedTasks;
+        private final int runningTasks;
+        private final long scheduledTasks;
+        private final long completedTasks;
+        private final long cancelledTasks;
+        private final long failedTasks;
+        private final long averageWaitTime;
+        private final long maxWaitTime;
+        private final long averageRunTime;
+
+        private Metrics(int queuedTasks, int runningTasks, long scheduledTasks, long completedTasks, long cancelledTasks,
+                        long failedTasks, long averageWaitTime, long maxWaitTime, long averageRunTime) {
+            this.queuedTasks = queuedTasks;
+            this.runningTasks = runningTasks;
+            this.scheduledTasks = scheduledTasks;
+            this.completedTasks = completedTasks;
+            this.cancelledTasks = cancelledTasks;
+            this.failedTasks = failedTasks;
+            this.averageWaitTime = averageWaitTime;
+            this.maxWaitTime = maxWaitTime;
+            this.averageRunTime = averageRunTime;
+        }
+
+        /**
+         * @return tasks waiting for a thread.
+         */
+        public int getQueuedTasks() {
+            return queuedTasks;
+        }
+
+        public int getRunningTasks() {
+            return runningTasks;
+        }
+
+        public long getScheduledTasks() {
+            return scheduledTasks;
+        }
+
+        public long getCompletedTasks() {
+            return completedTasks;
+        }
+
+        public long getCancelledTasks() {
+            return cancelledTasks;
+        }
+
+        /**
+         * @return tasks that threw an exception.
+         */
+        public long getFailedTasks() {
+            return failedTasks;
+        }
+
+        /**
+         * @return the average time tasks waited for a thread, in nanoseconds.
+         */
+        public long getAverageWaitTime() {
+            return averageWaitTime;
+        }
+
+        public long getMaxWaitTime() {
+            return maxWaitTime;
+        }
+
+        /**
+         * @return the average time tasks took to run, in nanoseconds.
+         */
+        public long getAverageRunTime() {
+            return averageRunTime;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.mercadopago.util;
+
+import android.content.Intent;
+import android.os.Bundle;
+
+import com.google.gson.Gson;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Passes objects between SDK activities in-process. Instead of the object's json, the intent extra
+ * holds a handle to the object kept here, so the next activity reads it without a Gson round trip.
+ * <p>
+ * Extras that are not handles are parsed as json, so intents built with json extras keep working.
+ * If the process is killed, handles of a recreated activity are resolved from the snapshot saved
+ * with {@link #saveSnapshot(Intent, Bundle)} and restored with {@link #restoreSnapshot(Bundle)}.
+ * Objects are kept until the activity that receives them finishes and calls
+ * {@link #release(Intent)}, so an intent passed on to another activity must get handles of its own
+ * with {@link #putExtras(Intent, Intent)}. Objects are shared, not copied, so receivers must not
+ * modify them.
+ */
+public class SessionStore {
+
+    private static final String HANDLE_PREFIX = "mpsdk_session:";
+    private static final String SNAPSHOT_BUNDLE = "mpsdkSessionSnapshot";
+
+    private static SessionStore mInstance;
+
+    //Handles of a previous process must not resolve to objects of this one.
+    private final String mSessionId;
+    private final Map<String, Object> mValues;
+    //Json of values saved by a previous process, not parsed yet.
+    private final Map<String, String> mSnapshots;
+    private long mNextId;
+
+    protected SessionStore() {
+        mSessionId = UUID.randomUUID().toString();
+        mValues = new HashMap<>();
+        mSnapshots = new HashMap<>();
+    }
+
+    public synchronized static SessionStore getInstance() {
+        if (mInstance == null) {
+            mInstance = new SessionStore();
+        }
+        return mInstance;
+    }
+
+    public static boolean isHandle(String extra) {
+        return extra != null && extra.startsWith(HANDLE_PREFIX);
+    }
+
+    /**
+     * @return a handle to the value, or null if the value is null.
+     */
+    public synchronized String put(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String handle = HANDLE_PREFIX + mSessionId + ":" + mNextId++;
+        mValues.put(handle, value);
+        return handle;
+    }
+
+    /**
+     * @return a new handle to the value the given handle points to, so each can be released on its
+     * own. An extra that is not a handle, or a handle that can't be resolved, is returned as it is.
+     */
+    public synchronized String share(String extra) {
+        if (!isHandle(extra)) {
+            return extra;
+        }
+        String handle = HANDLE_PREFIX + mSessionId + ":" + mNextId++;
+        if (mValues.containsKey(extra)) {
+            mValues.put(handle, mValues.get(extra));
+        } else if (mSnapshots.containsKey(extra)) {
+            mSnapshots.put(handle, mSnapshots.get(extra));
+        } else {
+            return extra;
+        }
+        return handle;
+    }
+
+    /**
+     * @param extra a handle returned by {@link #put(Object)} or the json of the value.
+     * @return the value, or null if there is none or the handle can't be resolved.
+     */
+    public <T> T get(String extra, Type type) {
+        return get(extra, type, JsonUtil.getInstance().getGson());
+    }
+
+    /**
+     * @param gson parses the extra when it is json, as it was written by the caller.
+     */
+    public <T> T get(String extra, Type type, Gson gson) {
+        if (!isHandle(extra)) {
+            return gson.fromJson(extra, type);
+        }
+        String snapshot;
+        synchronized (this) {
+            Object value = mValues.get(extra);
+            if (value != null) {
+                return (T) value;
+            }
+            snapshot = mSnapshots.get(extra);
+        }
+        if (snapshot == null) {
+            return null;
+        }
+        T value = JsonUtil.getInstance().getGson().fromJson(snapshot, type);
+        synchronized (this) {
+            //Unless the handle was released meanwhile.
+            if (value != null && mSnapshots.remove(extra) != null) {
+                mValues.put(extra, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return the json of the values the given handles point to, by handle.
+     */
+    public Map<String, String> getSnapshot(Collection<String> handles) {
+        Map<String, Object> values = new HashMap<>();
+        Map<String, String> snapshot = new HashMap<>();
+        synchronized (this) {
+            for (String handle : handles) {
+                if (mValues.containsKey(handle)) {
+                    values.put(handle, mValues.get(handle));
+                } else if (mSnapshots.containsKey(handle)) {
+                    snapshot.put(handle, mSnapshots.get(handle));
+                }
+            }
+        }
+        //Values are serialized each time, since they may have changed since the last snapshot.
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            snapshot.put(entry.getKey(), JsonUtil.getInstance().toJson(entry.getValue()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the values the given handles point to.
+     */
+    public synchronized void release(Collection<String> handles) {
+        for (String handle : handles) {
+            mValues.remove(handle);
+            mSnapshots.remove(handle);
+        }
+    }
+
+    /**
+     * Keeps the json of values saved by a previous process, to be parsed when requested.
+     */
+    public synchronized void restore(Map<String, String> snapshot) {
+        for (Map.Entry<String, String> entry : snapshot.entrySet()) {
+            if (!mValues.containsKey(entry.getKey()) && !mSnapshots.containsKey(entry.getKey())) {
+                mSnapshots.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public void putExtra(Intent intent, String name, Object value) {
+        intent.putExtra(name, put(value));
+    }
+
+    public <T> T getExtra(Intent intent, String name, Type type) {
+        return get(intent.getStringExtra(name), type);
+    }
+
+    public <T> T getExtra(Intent intent, String name, Type type, Gson gson) {
+        return get(intent.getStringExtra(name), type, gson);
+    }
+
+    /**
+     * Copies the extras of the source intent, giving its handles new ones, so the activity started
+     * with the intent releases its own handles and not the source's.
+     */
+    public void putExtras(Intent intent, Intent source) {
+        intent.putExtras(source);
+        Bundle extras = source.getExtras();
+        if (extras != null) {
+            for (String name : extras.keySet()) {
+                Object extra = extras.get(name);
+                if (extra instanceof String && isHandle((String) extra)) {
+                    intent.putExtra(name, share((String) extra));
+                }
+            }
+        }
+    }
+
+    public void saveSnapshot(Intent intent, Bundle outState) {
+        List<String> handles = getHandles(intent);
+        if (!handles.isEmpty()) {
+            Bundle snapshotBundle = new Bundle();
+            for (Map.Entry<String, String> entry : getSnapshot(handles).entrySet()) {
+                snapshotBundle.putString(entry.getKey(), entry.getValue());
+            }
+            outState.putBundle(SNAPSHOT_BUNDLE, snapshotBundle);
+        }
+    }
+
+    /**
+     * Drops the values of the handles in the intent extras. Called when the activity that receives
+     * them finishes.
+     */
+    public void release(Intent intent) {
+        release(getHandles(intent));
+    }
+
+    public void restoreSnapshot(Bundle savedInstanceState) {
+        Bundle snapshotBundle = savedInstanceState == null ? null : savedInstanceState.getBundle(SNAPSHOT_BUNDLE);
+        if (snapshotBundle != null) {
+            Map<String, String> snapshot = new HashMap<>();
+            for (String handle : snapshotBundle.keySet()) {
+                snapshot.put(handle, snapshotBundle.getString(handle));
+            }
+            restore(snapshot);
+        }
+    }
+
+    private static List<String> getHandles(Intent intent) {
+        List<String> handles = new ArrayList<>();
+        Bundle extras = intent == null ? null : intent.getExtras();
+        if (extras != null) {
+            for (String name : extras.keySet()) {
+                Object extra = extras.get(name);
+                if (extra instanceof String && isHandle((String) extra)) {
+                    handles.add((String) extra);
+                }
+            }
+        }
+        return handles;
+    }
+}
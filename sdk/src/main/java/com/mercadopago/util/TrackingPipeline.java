@@ -0,0 +1,426 @@
+package com.mercadopago.util;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+
+import com.google.gson.reflect.TypeToken;
+import com.mercadopago.BuildConfig;
+import com.mercadopago.mptracker.MPTracker;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the events of the SDK to the {@link MPTracker} off the thread that tracks them. Tracking
+ * adds the event to an {@link EventRingBuffer} and returns; a task on the {@link SdkExecutor}
+ * takes the events in batches and sends them in order, one batch at a time.
+ * <p>
+ * When the buffer is full, events are dropped and counted. Events the tracker fails to send are
+ * retried with the next batches, up to {@link #MAX_SEND_ATTEMPTS} times. Only then is app storage
+ * touched: the events still unsent are written when they fail and when the app goes to the
+ * background, and sent the next time the SDK tracks an event in a new process.
+ */
+public class TrackingPipeline {
+
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_BATCH_SIZE = 32;
+    public static final int MAX_SEND_ATTEMPTS = 3;
+
+    private static final String BATCH_FILE = "mpsdk_tracking_batch";
+    private static final String ENCODING = "UTF-8";
+    private static final Type EVENTS = new TypeToken<List<Event>>() {
+    }.getType();
+
+    private static TrackingPipeline mInstance;
+
+    private final EventRingBuffer<Event> mEvents;
+    private final int mBatchSize;
+    private final AtomicBoolean mDrainScheduled;
+    private final AtomicLong mTrackedEvents;
+    private final AtomicLong mDroppedEvents;
+    private final AtomicLong mSentEvents;
+    private final AtomicLong mFailedEvents;
+    private final AtomicLong mRestoredEvents;
+    private final Runnable mDrain;
+    //Events the tracker failed to send, retried in-process and kept in the batch file for the next one.
+    private final List<Event> mUnsentEvents;
+    private final AtomicBoolean mPersistRequested;
+
+    private volatile Context mContext;
+    private boolean mRestored;
+    private boolean mUnsentChanged;
+
+    protected TrackingPipeline(int capacity, int batchSize) {
+        mEvents = new EventRingBuffer<>(capacity);
+        mBatchSize = batchSize;
+        mDrainScheduled = new AtomicBoolean();
+        mTrackedEvents = new AtomicLong();
+        mDroppedEvents = new AtomicLong();
+        mSentEvents = new AtomicLong();
+        mFailedEvents = new AtomicLong();
+        mRestoredEvents = new AtomicLong();
+        mUnsentEvents = new ArrayList<>();
+        mPersistRequested = new AtomicBoolean();
+        mDrain = new Runnable() {
+            @Override
+            public void run() {
+                drain();
+            }
+        };
+    }
+
+    public synchronized static TrackingPipeline getInstance() {
+        if (mInstance == null) {
+            mInstance = new TrackingPipeline(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+        }
+        return mInstance;
+    }
+
+    public void trackScreen(String screenName, String version, String publicKey, Context context) {
+        trackScreen(screenName, version, publicKey, null, context);
+    }
+
+    public void trackScreen(String screenName, String version, String publicKey, String siteId, Context context) {
+        Event event = new Event(Event.SCREEN);
+        event.screenName = screenName;
+        event.version = version;
+        event.publicKey = publicKey;
+        event.siteId = siteId;
+        track(event, context);
+    }
+
+    public void trackEvent(String screenName, String action, String result, String publicKey, Context context) {
+        trackEvent(screenName, action, result, publicKey, null, context);
+    }
+
+    public void trackEvent(String screenName, String action, String result, String publicKey, String siteId, Context context) {
+        Event event = new Event(Event.EVENT);
+        event.screenName = screenName;
+        event.action = action;
+        event.result = result;
+        event.publicKey = publicKey;
+        event.siteId = siteId;
+        track(event, context);
+    }
+
+    public void trackPayment(String screenName, String action, Long paymentId, String paymentMethodId, String status,
+                             String statusDetail, String paymentTypeId, Integer installments, Integer issuerId) {
+        Event event = new Event(Event.PAYMENT);
+        event.screenName = screenName;
+        event.action = action;
+        event.paymentId = paymentId;
+        event.paymentMethodId = paymentMethodId;
+        event.status = status;
+        event.statusDetail = statusDetail;
+        event.paymentTypeId = paymentTypeId;
+        event.installments = installments;
+        event.issuerId = issuerId;
+        track(event, null);
+    }
+
+    public void trackToken(String tokenId) {
+        Event event = new Event(Event.TOKEN);
+        event.tokenId = tokenId;
+        track(event, null);
+    }
+
+    /**
+     * @return events tracked, dropped or not.
+     */
+    public long getTrackedEvents() {
+        return mTrackedEvents.get();
+    }
+
+    /**
+     * @return events dropped because the buffer was full.
+     */
+    public long getDroppedEvents() {
+        return mDroppedEvents.get();
+    }
+
+    public long getSentEvents() {
+        return mSentEvents.get();
+    }
+
+    /**
+     * @return times the tracker threw sending an event. The event is retried up to
+     * {@link #MAX_SEND_ATTEMPTS} times, and then kept for the next process.
+     */
+    public long getFailedEvents() {
+        return mFailedEvents.get();
+    }
+
+    /**
+     * @return events of batches left by a previous process.
+     */
+    public long getRestoredEvents() {
+        return mRestoredEvents.get();
+    }
+
+    /**
+     * @return events waiting to be sent.
+     */
+    public int getPendingEvents() {
+        return mEvents.size();
+    }
+
+    /**
+     * Sends the pending events and writes the ones still unsent to app storage, so they survive
+     * the process being killed. Called when the app goes to the background.
+     */
+    public void persist() {
+        mPersistRequested.set(true);
+        scheduleDrain();
+    }
+
+    private void track(Event event, Context context) {
+        if (mContext == null && context != null) {
+            setContext(context.getApplicationContext() == null ? context : context.getApplicationContext());
+        }
+        mTrackedEvents.incrementAndGet();
+        if (!mEvents.offer(event)) {
+            mDroppedEvents.incrementAndGet();
+        }
+        scheduleDrain();
+    }
+
+    private synchronized void setContext(Context context) {
+        if (mContext == null) {
+            mContext = context;
+            context.registerComponentCallbacks(new ComponentCallbacks2() {
+                @Override
+                public void onTrimMemory(int level) {
+                    if (level == TRIM_MEMORY_UI_HIDDEN) {
+                        persist();
+                    }
+                }
+
+                @Override
+                public void onConfigurationChanged(Configuration newConfig) {
+                    //do nothing
+                }
+
+                @Override
+                public void onLowMemory() {
+                    //do nothing
+                }
+            });
+        }
+    }
+
+    private void scheduleDrain() {
+        if (mDrainScheduled.compareAndSet(false, true)) {
+            execute(mDrain);
+        }
+    }
+
+    private void drain() {
+        try {
+            File batchFile = getBatchFile();
+            if (!mRestored && batchFile != null) {
+                mRestored = true;
+                List<Event> restored = read(batchFile);
+                mRestoredEvents.addAndGet(restored.size());
+                mUnsentEvents.addAll(0, restored);
+                mUnsentChanged = !restored.isEmpty();
+            }
+            retryUnsent();
+            List<Event> batch = new ArrayList<>(mBatchSize);
+            while (mEvents.drainTo(batch, mBatchSize) > 0) {
+                for (Event event : batch) {
+                    send(event);
+                }
+                batch.clear();
+            }
+            boolean persistRequested = mPersistRequested.getAndSet(false);
+            if (batchFile != null && (mUnsentChanged || persistRequested)) {
+                mUnsentChanged = false;
+                if (mUnsentEvents.isEmpty()) {
+                    batchFile.delete();
+                } else {
+                    write(batchFile, mUnsentEvents);
+                }
+            }
+        } finally {
+            mDrainScheduled.set(false);
+        }
+        //Events tracked, or a persist requested, after the buffer was found empty but before the flag was cleared.
+        if (!mEvents.isEmpty() || mPersistRequested.get()) {
+            scheduleDrain();
+        }
+    }
+
+    private void retryUnsent() {
+        if (mUnsentEvents.isEmpty()) {
+            return;
+        }
+        List<Event> unsent = new ArrayList<>(mUnsentEvents);
+        mUnsentEvents.clear();
+        for (Event event : unsent) {
+            if (event.attempts < MAX_SEND_ATTEMPTS) {
+                send(event);
+            } else {
+                mUnsentEvents.add(event);
+            }
+        }
+    }
+
+    private void send(Event event) {
+        try {
+            dispatch(event, mContext);
+            mSentEvents.incrementAndGet();
+            if (event.attempts > 0) {
+                mUnsentChanged = true;
+            }
+        } catch (RuntimeException e) {
+            mFailedEvents.incrementAndGet();
+            event.attempts++;
+            if (mUnsentEvents.size() == mEvents.getCapacity()) {
+                mUnsentEvents.remove(0);
+                mDroppedEvents.incrementAndGet();
+            }
+            mUnsentEvents.add(event);
+            mUnsentChanged = true;
+        }
+    }
+
+    /**
+     * Sends the event to the tracker. Called from one thread at a time, in the order events were
+     * tracked.
+     */
+    protected void dispatch(Event event, Context context) {
+        MPTracker tracker = MPTracker.getInstance();
+        if (Event.SCREEN.equals(event.type)) {
+            if (event.siteId == null) {
+                tracker.trackScreen(event.screenName, event.version, event.publicKey, BuildConfig.VERSION_NAME, context);
+            } else {
+                tracker.trackScreen(event.screenName, event.version, event.publicKey, event.siteId, BuildConfig.VERSION_NAME, context);
+            }
+        } else if (Event.EVENT.equals(event.type)) {
+            if (event.siteId == null) {
+                tracker.trackEvent(event.screenName, event.action, event.result, event.publicKey, BuildConfig.VERSION_NAME, context);
+            } else {
+                tracker.trackEvent(event.screenName, event.action, event.result, event.publicKey, event.siteId,
+                        BuildConfig.VERSION_NAME, context);
+            }
+        } else if (Event.PAYMENT.equals(event.type)) {
+            tracker.trackPayment(event.screenName, event.action, event.paymentId, event.paymentMethodId, event.status,
+                    event.statusDetail, event.paymentTypeId, event.installments, event.issuerId);
+        } else if (Event.TOKEN.equals(event.type)) {
+            tracker.trackToken(event.tokenId);
+        }
+    }
+
+    protected void execute(Runnable runnable) {
+        SdkExecutor.getInstance().execute(this, runnable);
+    }
+
+    /**
+     * @return the file of the events left unsent, or null until an event is tracked with a context.
+     */
+    protected File getBatchFile() {
+        Context context = mContext;
+        return context == null ? null : new File(context.getFilesDir(), BATCH_FILE);
+    }
+
+    private static List<Event> read(File file) {
+        List<Event> events = null;
+        if (file.exists()) {
+            Reader reader = null;
+            try {
+                reader = new InputStreamReader(new FileInputStream(file), ENCODING);
+                events = JsonUtil.getInstance().getGson().fromJson(reader, EVENTS);
+            } catch (IOException | RuntimeException e) {
+                file.delete();
+            } finally {
+                close(reader);
+            }
+        }
+        return events == null ? new ArrayList<Event>() : events;
+    }
+
+    private static void write(File file, List<Event> events) {
+        Writer writer = null;
+        try {
+            writer = new OutputStreamWriter(new FileOutputStream(file), ENCODING);
+            JsonUtil.getInstance().getGson().toJson(events, EVENTS, writer);
+        } catch (IOException e) {
+            file.delete();
+        } finally {
+            close(writer);
+        }
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                //do nothing
+            }
+        }
+    }
+
+    public static class Event {
+
+        private static final String SCREEN = "screen";
+        private static final String EVENT = "event";
+        private static final String PAYMENT = "payment";
+        private static final String TOKEN = "token";
+
+        private String type;
+        private String screenName;
+        private String action;
+        private String result;
+        private String version;
+        private String publicKey;
+        private String siteId;
+        private Long paymentId;
+        private String paymentMethodId;
+        private String status;
+        private String statusDetail;
+        private String paymentTypeId;
+        private Integer installments;
+        private Integer issuerId;
+        private String tokenId;
+        //Not written, so events restored in a new process are retried again.
+        private transient int attempts;
+
+        private Event(String type) {
+            this.type = type;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getScreenName() {
+            return screenName;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public String getSiteId() {
+            return siteId;
+        }
+
+        public String getTokenId() {
+            return tokenId;
+        }
+    }
+}
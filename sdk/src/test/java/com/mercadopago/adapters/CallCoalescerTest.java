@@ -0,0 +1,132 @@
+package com.mercadopago.adapters;
+
+import com.mercadopago.callbacks.Callback;
+import com.mercadopago.model.ApiException;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import retrofit2.Call;
+
+public class CallCoalescerTest {
+
+    private static final long MEMO_TIME = 1000;
+    private static final String INSTALLMENTS_KEY = "https://api.mercadopago.com/v1/payment_methods/installments?bin=466057&amount=100";
+
+    @Test
+    public void whenRequestInFlightThenJoinIt() {
+        MockedCallCoalescer coalescer = new MockedCallCoalescer();
+        Call<?> call = createCall();
+        MockedCallback firstCallback = new MockedCallback();
+        MockedCallback secondCallback = new MockedCallback();
+
+        Assert.assertFalse(coalescer.join(INSTALLMENTS_KEY, call, firstCallback));
+        Assert.assertTrue(coalescer.join(INSTALLMENTS_KEY, createCall(), secondCallback));
+
+        List<Callback<String>> callbacks = coalescer.complete(INSTALLMENTS_KEY, call, "installments");
+        Assert.assertEquals(2, callbacks.size());
+        Assert.assertSame(firstCallback, callbacks.get(0));
+        Assert.assertSame(secondCallback, callbacks.get(1));
+        Assert.assertFalse(coalescer.join(INSTALLMENTS_KEY, createCall(), new MockedCallback()));
+    }
+
+    @Test
+    public void whenRequestCompletedThenMemoizeItForMemoTime() {
+        MockedCallCoalescer coalescer = new MockedCallCoalescer();
+        Call<?> call = createCall();
+        coalescer.join(INSTALLMENTS_KEY, call, new MockedCallback());
+        coalescer.complete(INSTALLMENTS_KEY, call, "installments");
+
+        coalescer.time += MEMO_TIME;
+        Assert.assertEquals("installments", coalescer.getMemo(INSTALLMENTS_KEY));
+
+        coalescer.time += 1;
+        Assert.assertNull(coalescer.getMemo(INSTALLMENTS_KEY));
+    }
+
+    @Test
+    public void whenRequestFailedThenDoNotMemoizeIt() {
+        MockedCallCoalescer coalescer = new MockedCallCoalescer();
+        Call<?> call = createCall();
+        coalescer.join(INSTALLMENTS_KEY, call, new MockedCallback());
+        coalescer.join(INSTALLMENTS_KEY, createCall(), new MockedCallback());
+
+        Assert.assertEquals(2, coalescer.fail(INSTALLMENTS_KEY, call).size());
+        Assert.assertNull(coalescer.getMemo(INSTALLMENTS_KEY));
+    }
+
+    @Test
+    public void whenLastCallbackLeavesThenCancelSharedCall() {
+        MockedCallCoalescer coalescer = new MockedCallCoalescer();
+        Call<?> call = createCall();
+        MockedCallback firstCallback = new MockedCallback();
+        MockedCallback secondCallback = new MockedCallback();
+        coalescer.join(INSTALLMENTS_KEY, call, firstCallback);
+        coalescer.join(INSTALLMENTS_KEY, createCall(), secondCallback);
+
+        Assert.assertNull(coalescer.leave(INSTALLMENTS_KEY, firstCallback));
+        Assert.assertSame(call, coalescer.leave(INSTALLMENTS_KEY, secondCallback));
+    }
+
+    @Test
+    public void whenCancelledRequestCompletesThenDoNotCompleteNewRequest() {
+        MockedCallCoalescer coalescer = new MockedCallCoalescer();
+        Call<?> cancelledCall = createCall();
+        MockedCallback cancelledCallback = new MockedCallback();
+        coalescer.join(INSTALLMENTS_KEY, cancelledCall, cancelledCallback);
+        coalescer.leave(INSTALLMENTS_KEY, cancelledCallback);
+        Call<?> call = createCall();
+        coalescer.join(INSTALLMENTS_KEY, call, new MockedCallback());
+
+        Assert.assertTrue(coalescer.complete(INSTALLMENTS_KEY, cancelledCall, "installments").isEmpty());
+        Assert.assertNull(coalescer.getMemo(INSTALLMENTS_KEY));
+        Assert.assertEquals(1, coalescer.complete(INSTALLMENTS_KEY, call, "installments").size());
+    }
+
+    @Test
+    public void whenRequestIsNotGetThenDoNotShareIt() {
+        Assert.assertNull(CallCoalescer.getKey(null));
+    }
+
+    private Call<?> createCall() {
+        return (Call<?>) Proxy.newProxyInstance(Call.class.getClassLoader(), new Class<?>[]{Call.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return null;
+            }
+        });
+    }
+
+    private static class MockedCallCoalescer extends CallCoalescer {
+
+        private long time = 1000000;
+
+        private MockedCallCoalescer() {
+            super(MEMO_TIME);
+        }
+
+        @Override
+        protected long now() {
+            return time;
+        }
+    }
+
+    private static class MockedCallback extends Callback<String> {
+
+        @Override
+        public void success(String s) {
+            //Not tested
+        }
+
+        @Override
+        public void failure(ApiException apiException) {
+            //Not tested
+        }
+    }
+}
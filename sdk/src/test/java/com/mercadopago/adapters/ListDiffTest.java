@@ -0,0 +1,289 @@
+package com.mercadopago.adapters;
+
+import com.mercadopago.model.Issuer;
+import com.mercadopago.model.PayerCost;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class ListDiffTest {
+
+    @Test
+    public void whenListsAreEqualThenThereAreNoUpdates() {
+        ListDiff diff = ListDiff.calculate(getPayerCosts(1, 3, 6, 12), getPayerCosts(1, 3, 6, 12), PayerCostsAdapter.ITEM_CALLBACK);
+
+        Assert.assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void whenItemsAreAppendedThenNotifyOneInsertedRange() {
+        List<Issuer> oldIssuers = Arrays.asList(new Issuer(1L, "Galicia"), new Issuer(2L, "Santander"));
+        List<Issuer> newIssuers = new ArrayList<>(oldIssuers);
+        newIssuers.add(new Issuer(3L, "Macro"));
+        newIssuers.add(new Issuer(4L, "Patagonia"));
+        RecordingUpdateCallback updates = new RecordingUpdateCallback();
+
+        ListDiff.calculate(oldIssuers, newIssuers, IssuersAdapter.ITEM_CALLBACK).dispatchUpdatesTo(updates);
+
+        Assert.assertEquals(Arrays.asList("inserted 2 2"), updates.updates);
+    }
+
+    @Test
+    public void whenAmountsChangeThenNotifyOnlyTheirRows() {
+        List<PayerCost> oldPayerCosts = getPayerCosts(1, 3, 6, 9, 12);
+        List<PayerCost> newPayerCosts = getPayerCosts(1, 3, 6, 9, 12);
+        newPayerCosts.get(1).setTotalAmount(new BigDecimal("999"));
+        newPayerCosts.get(2).setInstallmentAmount(new BigDecimal("1"));
+        newPayerCosts.get(4).setInstallmentRate(new BigDecimal("40.5"));
+        RecordingUpdateCallback updates = new RecordingUpdateCallback();
+
+        ListDiff.calculate(oldPayerCosts, newPayerCosts, PayerCostsAdapter.ITEM_CALLBACK).dispatchUpdatesTo(updates);
+
+        Assert.assertEquals(Arrays.asList("changed 1 2", "changed 4 1"), updates.updates);
+    }
+
+    @Test
+    public void whenAmountsAreEqualWithOtherScaleThenRowIsTheSame() {
+        List<PayerCost> oldPayerCosts = getPayerCosts(3);
+        List<PayerCost> newPayerCosts = getPayerCosts(3);
+        newPayerCosts.get(0).setTotalAmount(newPayerCosts.get(0).getTotalAmount().setScale(4));
+
+        Assert.assertTrue(ListDiff.calculate(oldPayerCosts, newPayerCosts, PayerCostsAdapter.ITEM_CALLBACK).isEmpty());
+    }
+
+    @Test
+    public void whenOneItemIsOutOfOrderThenMoveOnlyIt() {
+        RecordingUpdateCallback updates = new RecordingUpdateCallback();
+
+        ListDiff.calculate(getPayerCosts(12, 1, 3, 6), getPayerCosts(1, 3, 6, 12), PayerCostsAdapter.ITEM_CALLBACK).dispatchUpdatesTo(updates);
+
+        Assert.assertEquals(Arrays.asList("moved 0 3"), updates.updates);
+    }
+
+    @Test
+    public void whenIdsAreRepeatedThenReplaceEveryItem() {
+        RecordingUpdateCallback updates = new RecordingUpdateCallback();
+
+        ListDiff.calculate(getPayerCosts(1, 3), getPayerCosts(1, 1, 6), PayerCostsAdapter.ITEM_CALLBACK).dispatchUpdatesTo(updates);
+
+        Assert.assertEquals(Arrays.asList("removed 0 2", "inserted 0 3"), updates.updates);
+    }
+
+    @Test
+    public void whenUpdatesAreAppliedThenOldListBecomesNewList() {
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            List<PayerCost> oldPayerCosts = getRandomPayerCosts(random);
+            List<PayerCost> newPayerCosts = getRandomPayerCosts(random);
+            ApplyingUpdateCallback updates = new ApplyingUpdateCallback(oldPayerCosts);
+
+            ListDiff.calculate(oldPayerCosts, newPayerCosts, PayerCostsAdapter.ITEM_CALLBACK).dispatchUpdatesTo(updates);
+
+            Assert.assertEquals(newPayerCosts.size(), updates.installments.size());
+            for (int j = 0; j < newPayerCosts.size(); j++) {
+                Integer installments = updates.installments.get(j);
+                Assert.assertTrue(installments == null || installments.equals(newPayerCosts.get(j).getInstallments()));
+                Assert.assertEquals(installments == null || !isSameItem(oldPayerCosts, newPayerCosts.get(j)), (boolean) updates.notified.get(j));
+            }
+        }
+    }
+
+    @Test
+    public void whenListIsFilledThenNotifyWithoutWaitingForDiff() {
+        RecordingUpdateCallback updates = new RecordingUpdateCallback();
+        MockedListUpdater listUpdater = new MockedListUpdater(updates);
+
+        listUpdater.setList(getPayerCosts(1, 3));
+
+        Assert.assertEquals(2, listUpdater.getList().size());
+        Assert.assertEquals(Arrays.asList("inserted 0 2"), updates.updates);
+        Assert.assertTrue(listUpdater.tasks.isEmpty());
+    }
+
+    @Test
+    public void whenListIsSetBeforeDiffIsDoneThenDropTheOldDiff() {
+        RecordingUpdateCallback updates = new RecordingUpdateCallback();
+        MockedListUpdater listUpdater = new MockedListUpdater(updates);
+        listUpdater.setList(getPayerCosts(1, 3));
+        updates.updates.clear();
+        final List<String> set = new ArrayList<>();
+
+        listUpdater.setList(getPayerCosts(1, 3, 6), new Runnable() {
+            @Override
+            public void run() {
+                set.add("first");
+            }
+        });
+        listUpdater.addAll(getPayerCosts(12));
+        Assert.assertEquals(2, listUpdater.getList().size());
+        listUpdater.runTasks();
+
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertEquals(Arrays.asList(1, 3, 6, 12), getInstallments(listUpdater.getList()));
+        Assert.assertEquals(Arrays.asList("inserted 2 2"), updates.updates);
+    }
+
+    @Test
+    public void whenDiffIsPendingThenListIsUpdating() {
+        MockedListUpdater listUpdater = new MockedListUpdater(new RecordingUpdateCallback());
+        listUpdater.setList(getPayerCosts(1, 3));
+        Assert.assertFalse(listUpdater.isUpdating());
+
+        listUpdater.setList(getPayerCosts(1, 3, 6));
+        Assert.assertTrue(listUpdater.isUpdating());
+
+        listUpdater.runTasks();
+        Assert.assertFalse(listUpdater.isUpdating());
+
+        listUpdater.setList(getPayerCosts(1));
+        listUpdater.cancel();
+        Assert.assertFalse(listUpdater.isUpdating());
+    }
+
+    private static boolean isSameItem(List<PayerCost> oldPayerCosts, PayerCost newPayerCost) {
+        for (PayerCost oldPayerCost : oldPayerCosts) {
+            if (oldPayerCost.getInstallments().equals(newPayerCost.getInstallments())) {
+                return PayerCostsAdapter.ITEM_CALLBACK.areContentsTheSame(oldPayerCost, newPayerCost);
+            }
+        }
+        return false;
+    }
+
+    private static List<PayerCost> getRandomPayerCosts(Random random) {
+        List<Integer> installments = new ArrayList<>();
+        for (int i = 1; i <= 24; i++) {
+            if (random.nextInt(3) > 0) {
+                installments.add(i);
+            }
+        }
+        if (random.nextBoolean()) {
+            Collections.shuffle(installments, random);
+        }
+        List<PayerCost> payerCosts = new ArrayList<>();
+        for (Integer installment : installments) {
+            PayerCost payerCost = getPayerCosts(installment).get(0);
+            if (random.nextInt(4) == 0) {
+                payerCost.setInstallmentRate(BigDecimal.TEN);
+            }
+            payerCosts.add(payerCost);
+        }
+        return payerCosts;
+    }
+
+    static List<PayerCost> getPayerCosts(int... installments) {
+        List<PayerCost> payerCosts = new ArrayList<>();
+        for (int installment : installments) {
+            PayerCost payerCost = new PayerCost();
+            payerCost.setInstallments(installment);
+            payerCost.setInstallmentRate(BigDecimal.ZERO);
+            payerCost.setTotalAmount(new BigDecimal("1200.00"));
+            payerCost.setInstallmentAmount(new BigDecimal("1200.00").divide(new BigDecimal(installment), 2, BigDecimal.ROUND_HALF_UP));
+            payerCosts.add(payerCost);
+        }
+        return payerCosts;
+    }
+
+    private static List<Integer> getInstallments(List<PayerCost> payerCosts) {
+        List<Integer> installments = new ArrayList<>();
+        for (PayerCost payerCost : payerCosts) {
+            installments.add(payerCost.getInstallments());
+        }
+        return installments;
+    }
+
+    private static class RecordingUpdateCallback implements ListDiff.UpdateCallback {
+
+        private final List<String> updates = new ArrayList<>();
+
+        @Override
+        public void onRemoved(int position, int count) {
+            updates.add("removed " + position + " " + count);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            updates.add("moved " + fromPosition + " " + toPosition);
+        }
+
+        @Override
+        public void onInserted(int position, int count) {
+            updates.add("inserted " + position + " " + count);
+        }
+
+        @Override
+        public void onChanged(int position, int count) {
+            updates.add("changed " + position + " " + count);
+        }
+    }
+
+    //Applies the updates to the installments of the old list, as the adapter rows. Inserted rows are null.
+    private static class ApplyingUpdateCallback implements ListDiff.UpdateCallback {
+
+        private final List<Integer> installments;
+        private final List<Boolean> notified;
+
+        private ApplyingUpdateCallback(List<PayerCost> payerCosts) {
+            installments = getInstallments(payerCosts);
+            notified = new ArrayList<>(Collections.nCopies(installments.size(), false));
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            installments.subList(position, position + count).clear();
+            notified.subList(position, position + count).clear();
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            installments.add(toPosition, installments.remove(fromPosition));
+            notified.add(toPosition, notified.remove(fromPosition));
+        }
+
+        @Override
+        public void onInserted(int position, int count) {
+            installments.addAll(position, Collections.<Integer>nCopies(count, null));
+            notified.addAll(position, Collections.nCopies(count, true));
+        }
+
+        @Override
+        public void onChanged(int position, int count) {
+            for (int i = position; i < position + count; i++) {
+                Assert.assertNotNull(installments.get(i));
+                notified.set(i, true);
+            }
+        }
+    }
+
+    private static class MockedListUpdater extends ListUpdater<PayerCost> {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        private MockedListUpdater(ListDiff.UpdateCallback updateCallback) {
+            super(updateCallback, PayerCostsAdapter.ITEM_CALLBACK);
+        }
+
+        private void runTasks() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+        @Override
+        protected void execute(Runnable runnable) {
+            tasks.add(runnable);
+        }
+
+        @Override
+        protected void post(Runnable runnable) {
+            tasks.add(runnable);
+        }
+    }
+}
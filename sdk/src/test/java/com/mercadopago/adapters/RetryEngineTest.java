@@ -0,0 +1,131 @@
+package com.mercadopago.adapters;
+
+import com.mercadopago.BuildConfig;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class RetryEngineTest {
+
+    private static final String INSTALLMENTS_PATH = "/v1/payment_methods/installments";
+    private static final String CARD_TOKENS_PATH = "/v1/card_tokens";
+    private static final String PAYMENTS_PATH = "/" + BuildConfig.API_VERSION + "/checkout/payments";
+    private static final String SEARCH_PATH = "/" + BuildConfig.API_VERSION + "/checkout/payment_methods/search/options";
+
+    @Test
+    public void whenRetryingThenDelayGrowsExponentiallyUpToMaxDelay() {
+        RetryPolicy policy = new RetryPolicy.Builder()
+                .setInitialDelay(100)
+                .setMaxDelay(1000)
+                .setMultiplier(2)
+                .build();
+
+        Assert.assertEquals(50, policy.getDelay(1, 0));
+        Assert.assertEquals(100, policy.getDelay(2, 0));
+        Assert.assertEquals(200, policy.getDelay(3, 0));
+        Assert.assertEquals(500, policy.getDelay(5, 0));
+        Assert.assertEquals(999, policy.getDelay(5, 0.999999));
+    }
+
+    @Test
+    public void whenRetryingThenDelayHasJitter() {
+        RetryPolicy policy = new RetryPolicy.Builder().build();
+
+        long minDelay = policy.getDelay(1, 0);
+        long maxDelay = policy.getDelay(1, 0.999999);
+
+        Assert.assertEquals(RetryPolicy.DEFAULT_INITIAL_DELAY / 2, minDelay);
+        Assert.assertTrue(maxDelay > minDelay);
+        Assert.assertTrue(maxDelay <= RetryPolicy.DEFAULT_INITIAL_DELAY);
+    }
+
+    @Test
+    public void whenGetFailsThenRetryUpToMaxRetries() {
+        MockedRetryEngine retryEngine = new MockedRetryEngine();
+        retryEngine.onRequest();
+
+        for (int retry = 1; retry <= RetryPolicy.DEFAULT_MAX_RETRIES; retry++) {
+            Assert.assertTrue(retryEngine.getRetryDelay("GET", INSTALLMENTS_PATH, null, retry) >= 0);
+        }
+        Assert.assertEquals(-1, retryEngine.getRetryDelay("GET", INSTALLMENTS_PATH, null, RetryPolicy.DEFAULT_MAX_RETRIES + 1));
+
+        RetryEngine.Metrics metrics = retryEngine.getMetrics();
+        Assert.assertEquals(1, metrics.getRequests());
+        Assert.assertEquals(RetryPolicy.DEFAULT_MAX_RETRIES, metrics.getRetries());
+        Assert.assertEquals(1, metrics.getExhaustedRequests());
+    }
+
+    @Test
+    public void whenPostHasNoIdempotencyKeyThenDoNotRetryIt() {
+        MockedRetryEngine retryEngine = new MockedRetryEngine();
+
+        Assert.assertEquals(-1, retryEngine.getRetryDelay("POST", CARD_TOKENS_PATH, null, 1));
+        Assert.assertEquals(-1, retryEngine.getRetryDelay("POST", PAYMENTS_PATH, "", 1));
+        Assert.assertEquals(2, retryEngine.getMetrics().getNotIdempotentRequests());
+    }
+
+    @Test
+    public void whenPostHasIdempotencyKeyThenRetryItWithEndpointPolicy() {
+        MockedRetryEngine retryEngine = new MockedRetryEngine();
+
+        Assert.assertTrue(retryEngine.getRetryDelay("POST", PAYMENTS_PATH, "transaction-1", 1) >= 500);
+        Assert.assertTrue(retryEngine.getRetryDelay("POST", PAYMENTS_PATH, "transaction-1", 2) >= 0);
+        Assert.assertEquals(-1, retryEngine.getRetryDelay("POST", PAYMENTS_PATH, "transaction-1", 3));
+    }
+
+    @Test
+    public void whenEndpointPolicyIsIdempotentThenRetryPostWithoutKey() {
+        MockedRetryEngine retryEngine = new MockedRetryEngine();
+
+        Assert.assertTrue(retryEngine.getRetryDelay("POST", SEARCH_PATH, null, 1) >= 0);
+    }
+
+    @Test
+    public void whenPolicySetForPathThenUseLongestPrefix() {
+        MockedRetryEngine retryEngine = new MockedRetryEngine();
+        RetryPolicy paymentMethodsPolicy = new RetryPolicy.Builder().setMaxRetries(1).build();
+        RetryPolicy installmentsPolicy = new RetryPolicy.Builder().setMaxRetries(0).build();
+        retryEngine.setPolicy("/v1/payment_methods", paymentMethodsPolicy);
+        retryEngine.setPolicy(INSTALLMENTS_PATH, installmentsPolicy);
+
+        Assert.assertSame(installmentsPolicy, retryEngine.getPolicy(INSTALLMENTS_PATH + "/issuers"));
+        Assert.assertSame(paymentMethodsPolicy, retryEngine.getPolicy("/v1/payment_methods"));
+        Assert.assertEquals(-1, retryEngine.getRetryDelay("GET", INSTALLMENTS_PATH, null, 1));
+    }
+
+    @Test
+    public void whenBudgetSpentThenStopRetryingUntilRequestsRefillIt() {
+        MockedRetryEngine retryEngine = new MockedRetryEngine();
+        int retries = 0;
+        while (retryEngine.getRetryDelay("GET", INSTALLMENTS_PATH, null, 1) >= 0) {
+            retries++;
+        }
+
+        Assert.assertEquals(10, retries);
+        Assert.assertEquals(1, retryEngine.getMetrics().getOverBudgetRequests());
+
+        for (int i = 0; i < 5; i++) {
+            retryEngine.onRequest();
+        }
+        Assert.assertTrue(retryEngine.getRetryDelay("GET", INSTALLMENTS_PATH, null, 1) >= 0);
+    }
+
+    @Test
+    public void whenRetriedRequestRespondsThenCountItAsRecovered() {
+        MockedRetryEngine retryEngine = new MockedRetryEngine();
+
+        retryEngine.onResponse(0);
+        retryEngine.onResponse(2);
+
+        Assert.assertEquals(1, retryEngine.getMetrics().getRecoveredRequests());
+    }
+
+    private static class MockedRetryEngine extends RetryEngine {
+
+        @Override
+        protected double random() {
+            return 0.5;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.mercadopago.checkout;
 
 import com.mercadopago.constants.Sites;
+import com.mercadopago.controllers.CheckoutBootstrap;
 import com.mercadopago.controllers.CheckoutTimer;
 import com.mercadopago.controllers.Timer;
 import com.mercadopago.core.MercadoPagoCheckout;
@@ -255,6 +256,96 @@ public class CheckoutPresenterTest {
         assertTrue(view.showingPaymentMethodSelection);
     }
 
+    @Test
+    public void ifDiscountCampaignsFailThenDisableDiscountAndStartPaymentMethodSelection() {
+        MockedProvider provider = new MockedProvider();
+        MockedView view = new MockedView();
+
+        CheckoutPresenter presenter = new CheckoutPresenter();
+        presenter.attachResourcesProvider(provider);
+        presenter.attachView(view);
+
+        CheckoutPreference preference = new CheckoutPreference.Builder()
+                .addItem(new Item("id", BigDecimal.TEN))
+                .setSite(Sites.ARGENTINA)
+                .build();
+
+        provider.setCampaignsError(new MercadoPagoError("campaigns error", true));
+        provider.setPaymentMethodSearchResponse(PaymentMethodSearchs.getCompletePaymentMethodSearchMLA());
+        presenter.setCheckoutPreference(preference);
+        presenter.initialize();
+
+        assertTrue(provider.paymentMethodSearchRequested);
+        assertFalse(presenter.isDiscountEnabled());
+        assertTrue(view.showingPaymentMethodSelection);
+    }
+
+    @Test
+    public void ifPaymentMethodSearchRetrievedBeforeDirectDiscountThenWaitForDiscountToStartFlow() {
+        MockedProvider provider = new MockedProvider();
+        MockedView view = new MockedView();
+
+        CheckoutPresenter presenter = new CheckoutPresenter();
+        presenter.attachResourcesProvider(provider);
+        presenter.attachView(view);
+
+        CheckoutPreference preference = new CheckoutPreference.Builder()
+                .addItem(new Item("id", BigDecimal.TEN))
+                .setSite(Sites.ARGENTINA)
+                .build();
+
+        provider.setCampaignsResponse(Discounts.getCampaigns());
+        provider.setDeferDirectDiscount(true);
+        provider.setPaymentMethodSearchResponse(PaymentMethodSearchs.getCompletePaymentMethodSearchMLA());
+        presenter.setCheckoutPreference(preference);
+        presenter.initialize();
+
+        assertTrue(provider.paymentMethodSearchRequested);
+        assertTrue(provider.directDiscountRequested);
+        assertFalse(view.showingPaymentMethodSelection);
+
+        Discount discount = new Discount();
+        provider.resolveDirectDiscount(discount);
+
+        assertTrue(view.showingPaymentMethodSelection);
+        assertEquals(discount, presenter.getDiscount());
+    }
+
+    @Test
+    public void whenCheckoutBootstrapFinishesThenReportStageTimings() {
+        MockedProvider provider = new MockedProvider();
+        MockedView view = new MockedView();
+
+        CheckoutPresenter presenter = new CheckoutPresenter();
+        presenter.attachResourcesProvider(provider);
+        presenter.attachView(view);
+
+        CheckoutPreference preference = new CheckoutPreference.Builder()
+                .addItem(new Item("id", BigDecimal.TEN))
+                .setSite(Sites.ARGENTINA)
+                .build();
+
+        final List<String> reportedStages = new ArrayList<>();
+        presenter.setBootstrapListener(new CheckoutBootstrap.FinishListener() {
+            @Override
+            public void onFinish(CheckoutBootstrap bootstrap) {
+                for (CheckoutBootstrap.StageTiming timing : bootstrap.getStageTimings()) {
+                    reportedStages.add(timing.getStage());
+                }
+            }
+        });
+
+        provider.setCampaignsResponse(Discounts.getCampaigns());
+        provider.setPaymentMethodSearchResponse(PaymentMethodSearchs.getCompletePaymentMethodSearchMLA());
+        presenter.setCheckoutPreference(preference);
+        presenter.initialize();
+
+        assertTrue(reportedStages.contains(CheckoutBootstrap.STAGE_PAYMENT_METHOD_SEARCH));
+        assertTrue(reportedStages.contains(CheckoutBootstrap.STAGE_CAMPAIGNS));
+        assertTrue(reportedStages.contains(CheckoutBootstrap.STAGE_DIRECT_DISCOUNT));
+        assertTrue(reportedStages.contains(CheckoutBootstrap.STAGE_DISCOUNTS));
+    }
+
     //Response from payment methodSelection
     @Test
     public void ifOkPaymentMethodSelectionResponseReceivedThenStartRyC() {
@@ -1434,6 +1525,9 @@ public class CheckoutPresenterTest {
         private boolean campaignsRequested = false;
         private boolean directDiscountRequested = false;
         private List<Campaign> campaigns;
+        private MercadoPagoError campaignsError;
+        private boolean deferDirectDiscount = false;
+        private OnResourcesRetrievedCallback<Discount> pendingDirectDiscountCallback;
         private boolean checkoutPreferenceRequested = false;
         private CheckoutPreference preference;
         private boolean paymentMethodSearchRequested = false;
@@ -1455,13 +1549,21 @@ public class CheckoutPresenterTest {
         @Override
         public void getDiscountCampaigns(OnResourcesRetrievedCallback<List<Campaign>> callback) {
             this.campaignsRequested = true;
-            callback.onSuccess(campaigns);
+            if (campaignsError != null) {
+                callback.onFailure(campaignsError);
+            } else {
+                callback.onSuccess(campaigns);
+            }
         }
 
         @Override
         public void getDirectDiscount(BigDecimal amount, String payerEmail, OnResourcesRetrievedCallback<Discount> onResourcesRetrievedCallback) {
             this.directDiscountRequested = true;
-            onResourcesRetrievedCallback.onSuccess(null);
+            if (deferDirectDiscount) {
+                pendingDirectDiscountCallback = onResourcesRetrievedCallback;
+            } else {
+                onResourcesRetrievedCallback.onSuccess(null);
+            }
         }
 
         @Override
@@ -1496,6 +1598,18 @@ public class CheckoutPresenterTest {
             this.campaigns = campaigns;
         }
 
+        public void setCampaignsError(MercadoPagoError campaignsError) {
+            this.campaignsError = campaignsError;
+        }
+
+        public void setDeferDirectDiscount(boolean deferDirectDiscount) {
+            this.deferDirectDiscount = deferDirectDiscount;
+        }
+
+        public void resolveDirectDiscount(Discount discount) {
+            pendingDirectDiscountCallback.onSuccess(discount);
+        }
+
         public void setCheckoutPreferenceResponse(CheckoutPreference preference) {
             this.preference = preference;
         }
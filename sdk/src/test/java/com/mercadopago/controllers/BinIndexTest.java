@@ -0,0 +1,131 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.mocks.PaymentMethodSearchs;
+import com.mercadopago.mocks.PaymentMethods;
+import com.mercadopago.model.Bin;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.Setting;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+public class BinIndexTest {
+
+    @Test
+    public void whenPatternIsLiteralThenPrefixIsTheLiteral() {
+        Assert.assertEquals(new HashSet<>(Arrays.asList("4")), BinIndex.getLiteralPrefixes("^4"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("34", "37")), BinIndex.getLiteralPrefixes("^((34)|(37))"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("603493")), BinIndex.getLiteralPrefixes("^(603493)"));
+    }
+
+    @Test
+    public void whenPatternHasCharacterClassesThenKeepPrefixesBeforeThem() {
+        Assert.assertEquals(new HashSet<>(Arrays.asList("627170", "589657", "603522", "60420", "6042", "6043", "604400")),
+                BinIndex.getLiteralPrefixes("^((627170)|(589657)|(603522)|(604((20[1-9])|(2[1-9][0-9])|(3[0-9]{2})|(400))))"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("")), BinIndex.getLiteralPrefixes("^[45]"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("4")), BinIndex.getLiteralPrefixes("^45?"));
+    }
+
+    @Test
+    public void whenBinMatchesTwoSettingsThenLastOneWins() {
+        Setting first = createSetting("^4", null);
+        Setting second = createSetting("^45", null);
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setSettings(Arrays.asList(first, second));
+
+        BinIndex binIndex = new BinIndex(Arrays.asList(paymentMethod));
+
+        Assert.assertEquals(second, binIndex.getSetting(paymentMethod, "450000"));
+        Assert.assertEquals(first, binIndex.getSetting(paymentMethod, "400000"));
+        Assert.assertNull(binIndex.getSetting(paymentMethod, "500000"));
+    }
+
+    @Test
+    public void whenBinMatchesExclusionPatternThenSettingIsNotValid() {
+        Setting setting = createSetting("^4", "^(451766|451772)");
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setSettings(Arrays.asList(setting));
+
+        BinIndex binIndex = new BinIndex(Arrays.asList(paymentMethod));
+
+        Assert.assertTrue(binIndex.match("451766").isEmpty());
+        Assert.assertEquals(1, binIndex.match("451767").size());
+    }
+
+    @Test
+    public void whenBinIsEmptyThenNothingMatches() {
+        BinIndex binIndex = new BinIndex(getFixturePaymentMethods());
+
+        Assert.assertTrue(binIndex.match("").isEmpty());
+        Assert.assertTrue(binIndex.match(null).isEmpty());
+    }
+
+    @Test
+    public void whenMatchingFixtureBinsThenGetSameResultAsPatternScan() {
+        List<PaymentMethod> paymentMethods = getFixturePaymentMethods();
+        BinIndex binIndex = new BinIndex(paymentMethods);
+
+        for (String bin : getBins()) {
+            List<BinIndex.BinMatch> matches = binIndex.match(bin);
+            List<PaymentMethod> expectedPaymentMethods = new ArrayList<>();
+            for (PaymentMethod paymentMethod : paymentMethods) {
+                Setting expectedSetting = getSettingByPatternScan(paymentMethod.getSettings(), bin);
+                if (expectedSetting != null) {
+                    expectedPaymentMethods.add(paymentMethod);
+                    Assert.assertEquals(bin, expectedSetting, binIndex.getSetting(paymentMethod, bin));
+                }
+            }
+            Assert.assertEquals(bin, expectedPaymentMethods, binIndex.getValidPaymentMethods(bin));
+            Assert.assertEquals(bin, expectedPaymentMethods.size(), matches.size());
+        }
+    }
+
+    static List<PaymentMethod> getFixturePaymentMethods() {
+        List<PaymentMethod> paymentMethods = new ArrayList<>(PaymentMethodSearchs.getCompletePaymentMethodSearchMLA().getPaymentMethods());
+        paymentMethods.add(PaymentMethods.getPaymentMethodOn());
+        paymentMethods.add(PaymentMethods.getPaymentMethodOff());
+        return paymentMethods;
+    }
+
+    static List<String> getBins() {
+        List<String> bins = new ArrayList<>();
+        bins.addAll(Arrays.asList("450995", "451766", "371180", "376411", "589562", "603493", "501105", "279950",
+                "604201", "604400", "604299", "627170", "520053", "542702", "222100", "272099", "301234", "360000", "364600"));
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            bins.add(String.valueOf(100000 + random.nextInt(900000)));
+        }
+        return bins;
+    }
+
+    private Setting createSetting(String pattern, String exclusionPattern) {
+        Bin bin = new Bin();
+        bin.setPattern(pattern);
+        bin.setExclusionPattern(exclusionPattern);
+        Setting setting = new Setting();
+        setting.setBin(bin);
+        return setting;
+    }
+
+    //Matching as done before patterns were compiled and indexed.
+    static Setting getSettingByPatternScan(List<Setting> settings, String bin) {
+        Setting selectedSetting = null;
+        if (settings != null) {
+            for (Setting setting : settings) {
+                if (bin.matches(setting.getBin().getPattern() + ".*") &&
+                        (setting.getBin().getExclusionPattern() == null || setting.getBin().getExclusionPattern().isEmpty()
+                                || !bin.matches(setting.getBin().getExclusionPattern() + ".*"))) {
+                    selectedSetting = setting;
+                }
+            }
+        }
+        return selectedSetting;
+    }
+}
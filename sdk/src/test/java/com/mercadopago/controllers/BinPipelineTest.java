@@ -0,0 +1,196 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.adapters.MPCall;
+import com.mercadopago.callbacks.Callback;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinPipelineTest {
+
+    private static final long DEBOUNCE_TIME = 300;
+    private static final String CARD_NUMBER = "4509953566233704";
+
+    private final List<String> changes = new ArrayList<>();
+    private final List<String> settledBins = new ArrayList<>();
+
+    @Test
+    public void whenRestOfNumberTypedThenReportBinOnce() {
+        MockedBinPipeline pipeline = listen(new MockedBinPipeline());
+
+        for (int i = 0; i <= CARD_NUMBER.length(); i++) {
+            pipeline.update(getBin(CARD_NUMBER.substring(0, i)));
+            pipeline.advance(10);
+        }
+
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals("null>450995", changes.get(0));
+    }
+
+    @Test
+    public void whenBinDoesNotChangeForDebounceTimeThenItSettles() {
+        MockedBinPipeline pipeline = listen(new MockedBinPipeline());
+
+        pipeline.update("450995");
+        pipeline.advance(DEBOUNCE_TIME - 1);
+        Assert.assertTrue(settledBins.isEmpty());
+        Assert.assertFalse(pipeline.isSettled());
+
+        pipeline.advance(1);
+        Assert.assertEquals(1, settledBins.size());
+        Assert.assertEquals("450995", settledBins.get(0));
+        Assert.assertTrue(pipeline.isSettled());
+    }
+
+    @Test
+    public void whenBinChangesBeforeDebounceTimeThenOnlyLatestSettles() {
+        MockedBinPipeline pipeline = listen(new MockedBinPipeline());
+
+        pipeline.update("450995");
+        pipeline.advance(100);
+        pipeline.update(null);
+        pipeline.advance(100);
+        pipeline.update("371449");
+        pipeline.advance(DEBOUNCE_TIME);
+
+        Assert.assertEquals(3, changes.size());
+        Assert.assertEquals("450995>null", changes.get(1));
+        Assert.assertEquals(1, settledBins.size());
+        Assert.assertEquals("371449", settledBins.get(0));
+    }
+
+    @Test
+    public void whenNumberPastedOverAnotherThenReportNewBinAtOnce() {
+        MockedBinPipeline pipeline = listen(new MockedBinPipeline());
+        pipeline.update("450995");
+
+        pipeline.update("371449");
+
+        Assert.assertEquals("450995>371449", changes.get(1));
+    }
+
+    @Test
+    public void whenBinChangesThenCancelItsCalls() {
+        MockedBinPipeline pipeline = listen(new MockedBinPipeline());
+        pipeline.update("450995");
+        MockedCall first = pipeline.track(new MockedCall());
+        MockedCall second = pipeline.track(new MockedCall());
+
+        pipeline.update("450995");
+        Assert.assertFalse(first.cancelled);
+
+        pipeline.update("450996");
+        Assert.assertTrue(first.cancelled);
+        Assert.assertTrue(second.cancelled);
+
+        MockedCall third = pipeline.track(new MockedCall());
+        pipeline.cancel();
+        Assert.assertTrue(third.cancelled);
+        Assert.assertEquals("450996", pipeline.getBin());
+    }
+
+    @Test
+    public void whenThereIsNoBinThenDoNotTrackCalls() {
+        MockedBinPipeline pipeline = listen(new MockedBinPipeline());
+        MockedCall call = pipeline.track(new MockedCall());
+
+        pipeline.update("450995");
+
+        Assert.assertFalse(call.cancelled);
+    }
+
+    @Test
+    public void whenCancelledThenDoNotSettle() {
+        MockedBinPipeline pipeline = listen(new MockedBinPipeline());
+        pipeline.update("450995");
+
+        pipeline.cancel();
+        pipeline.advance(DEBOUNCE_TIME);
+
+        Assert.assertTrue(settledBins.isEmpty());
+    }
+
+    private MockedBinPipeline listen(MockedBinPipeline pipeline) {
+        pipeline.setOnBinChangedListener(new BinPipeline.OnBinChangedListener() {
+            @Override
+            public void onBinChanged(String previousBin, String bin) {
+                changes.add(previousBin + ">" + bin);
+            }
+        });
+        pipeline.setOnBinSettledListener(new BinPipeline.OnBinSettledListener() {
+            @Override
+            public void onBinSettled(String bin) {
+                settledBins.add(bin);
+            }
+        });
+        return pipeline;
+    }
+
+    private static String getBin(String number) {
+        return number.length() < 6 ? null : number.substring(0, 6);
+    }
+
+    //Runs the delayed runnables on a virtual clock.
+    private static class MockedBinPipeline extends BinPipeline {
+
+        private final List<Runnable> runnables = new ArrayList<>();
+        private final List<Long> times = new ArrayList<>();
+        private long time;
+
+        private MockedBinPipeline() {
+            super(DEBOUNCE_TIME);
+        }
+
+        @Override
+        protected void postDelayed(Runnable runnable, long delay) {
+            runnables.add(runnable);
+            times.add(time + delay);
+        }
+
+        @Override
+        protected void removeCallbacks(Runnable runnable) {
+            for (int i = runnables.size() - 1; i >= 0; i--) {
+                if (runnables.get(i) == runnable) {
+                    runnables.remove(i);
+                    times.remove(i);
+                }
+            }
+        }
+
+        private void advance(long millis) {
+            time += millis;
+            for (int i = 0; i < runnables.size(); ) {
+                if (times.get(i) <= time) {
+                    Runnable runnable = runnables.remove(i);
+                    times.remove(i);
+                    runnable.run();
+                } else {
+                    i++;
+                }
+            }
+        }
+    }
+
+    private static class MockedCall implements MPCall<Object> {
+
+        private boolean cancelled;
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void enqueue(Callback<Object> callback) {
+        }
+
+        @Override
+        public MPCall<Object> clone() {
+            return new MockedCall();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.util.MPCardMaskUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class CardNumberEditorTest {
+
+    private static final String CARD_NUMBER = "4509953566233704123";
+    private static final int[] CARD_NUMBER_LENGTHS = {13, 14, 15, 16, 18, 19};
+
+    private int notifiedStart;
+    private int notifiedCount;
+    private int notifications;
+
+    @Test
+    public void whenDigitsTypedThenMaskLikeMaskUtil() {
+        for (int cardNumberLength : CARD_NUMBER_LENGTHS) {
+            CardNumberEditor editor = new CardNumberEditor();
+            editor.setCardNumberLength(cardNumberLength);
+            for (int i = 0; i <= cardNumberLength; i++) {
+                String number = CARD_NUMBER.substring(0, i);
+                editor.update(number);
+                Assert.assertEquals(MPCardMaskUtil.buildNumberWithMask(cardNumberLength, number), editor.getMaskedNumber().toString());
+            }
+            for (int i = cardNumberLength; i >= 0; i--) {
+                String number = CARD_NUMBER.substring(0, i);
+                editor.update(number);
+                Assert.assertEquals(MPCardMaskUtil.buildNumberWithMask(cardNumberLength, number), editor.getMaskedNumber().toString());
+            }
+        }
+    }
+
+    @Test
+    public void whenCardNumberLengthSetThenRegroupDigits() {
+        CardNumberEditor editor = new CardNumberEditor();
+        editor.update("3714 4963 53");
+
+        editor.setCardNumberLength(MPCardMaskUtil.CARD_NUMBER_AMEX_LENGTH);
+
+        Assert.assertEquals(MPCardMaskUtil.buildNumberWithMask(MPCardMaskUtil.CARD_NUMBER_AMEX_LENGTH, "3714496353"), editor.getMaskedNumber().toString());
+        Assert.assertEquals("3714496353", editor.getNumber());
+    }
+
+    @Test
+    public void whenOnlySpacesChangeThenDigitsDidNotChange() {
+        CardNumberEditor editor = new CardNumberEditor();
+        listen(editor);
+
+        Assert.assertTrue(editor.update("4509"));
+        notifications = 0;
+
+        Assert.assertFalse(editor.update("4509 "));
+        Assert.assertEquals(0, notifications);
+        Assert.assertEquals("4509", editor.getNumber());
+    }
+
+    @Test
+    public void whenDigitTypedThenNotifyOnlyItsChar() {
+        CardNumberEditor editor = new CardNumberEditor();
+        editor.update("4509 95");
+        listen(editor);
+
+        editor.update("4509 953");
+
+        Assert.assertEquals(1, notifications);
+        Assert.assertEquals(7, notifiedStart);
+        Assert.assertEquals(1, notifiedCount);
+        Assert.assertEquals('3', editor.getMaskedNumber().charAt(7));
+    }
+
+    @Test
+    public void whenDigitDeletedThenNotifyHiddenChar() {
+        CardNumberEditor editor = new CardNumberEditor();
+        editor.update("4509 953");
+        listen(editor);
+
+        editor.update("4509 95");
+
+        Assert.assertEquals(7, notifiedStart);
+        Assert.assertEquals(1, notifiedCount);
+        Assert.assertEquals(MPCardMaskUtil.HIDDEN_NUMBER_CHAR, editor.getMaskedNumber().charAt(7));
+    }
+
+    @Test
+    public void whenDigitChangedInTheMiddleThenNotifyFromItToTheEnd() {
+        CardNumberEditor editor = new CardNumberEditor();
+        editor.update("4509 9535");
+        listen(editor);
+
+        editor.update("4519 9535");
+
+        Assert.assertEquals(2, notifiedStart);
+        Assert.assertEquals(7, notifiedCount);
+    }
+
+    @Test
+    public void whenBinDigitsDoNotChangeThenKeepBin() {
+        CardNumberEditor editor = new CardNumberEditor();
+        Assert.assertNull(editor.getBin());
+
+        editor.update("4509 95");
+        String bin = editor.getBin();
+        editor.update("4509 9535 66");
+
+        Assert.assertEquals("450995", bin);
+        Assert.assertSame(bin, editor.getBin());
+
+        editor.update("4509 9635 66");
+        Assert.assertEquals("450996", editor.getBin());
+    }
+
+    @Test
+    public void whenCardNumberLengthDoesNotChangeThenDoNotNotify() {
+        CardNumberEditor editor = new CardNumberEditor();
+        editor.update("4509 9535");
+        listen(editor);
+
+        editor.setCardNumberLength(MPCardMaskUtil.CARD_NUMBER_MAX_LENGTH);
+        Assert.assertEquals(0, notifications);
+
+        editor.setCardNumberLength(15);
+        Assert.assertEquals(1, notifications);
+        Assert.assertEquals(MPCardMaskUtil.buildNumberWithMask(15, "45099535"), editor.getMaskedNumber().toString());
+    }
+
+    private void listen(CardNumberEditor editor) {
+        notifications = 0;
+        editor.setOnCardNumberChangedListener(new CardNumberEditor.OnCardNumberChangedListener() {
+            @Override
+            public void onCardNumberChanged(CardNumberEditor editor, int start, int count) {
+                notifications++;
+                notifiedStart = start;
+                notifiedCount = count;
+            }
+        });
+    }
+}
@@ -0,0 +1,242 @@
+package com.mercadopago.controllers;
+
+import com.mercadopago.adapters.MPCall;
+import com.mercadopago.callbacks.Callback;
+import com.mercadopago.mocks.Installments;
+import com.mercadopago.mocks.Issuers;
+import com.mercadopago.model.ApiException;
+import com.mercadopago.model.Installment;
+import com.mercadopago.model.Issuer;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CardPrefetcherTest {
+
+    private static final String VISA = "visa";
+    private static final String BIN = "450995";
+    private static final BigDecimal AMOUNT = new BigDecimal(1000);
+
+    @Test
+    public void whenCardHasOneIssuerThenPrefetchItsInstallments() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        List<Issuer> issuers = Issuers.getOneIssuerListMLA();
+
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        prefetcher.issuersCallbacks.get(0).success(issuers);
+
+        Assert.assertEquals(1, prefetcher.issuersCallbacks.size());
+        Assert.assertEquals(1, prefetcher.installmentsCallbacks.size());
+        Assert.assertEquals(issuers.get(0).getId(), prefetcher.installmentsIssuerId);
+    }
+
+    @Test
+    public void whenCardHasManyIssuersThenDoNotPrefetchInstallments() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        prefetcher.issuersCallbacks.get(0).success(Issuers.getIssuersListMLA());
+
+        Assert.assertTrue(prefetcher.installmentsCallbacks.isEmpty());
+    }
+
+    @Test
+    public void whenDataWasPrefetchedThenServeItWithoutRequests() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        List<Issuer> issuers = Issuers.getOneIssuerListMLA();
+        List<Installment> installments = Installments.getInstallmentsListWithUniquePayerCost();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        prefetcher.issuersCallbacks.get(0).success(issuers);
+        prefetcher.installmentsCallbacks.get(0).success(installments);
+
+        ResultCallback<List<Issuer>> issuersResult = new ResultCallback<>();
+        ResultCallback<List<Installment>> installmentsResult = new ResultCallback<>();
+        prefetcher.getIssuers(VISA, BIN, issuersResult);
+        prefetcher.getInstallments(BIN, AMOUNT, issuers.get(0).getId(), VISA, installmentsResult);
+
+        Assert.assertSame(issuers, issuersResult.result);
+        Assert.assertSame(installments, installmentsResult.result);
+        Assert.assertEquals(1, prefetcher.issuersCallbacks.size());
+        Assert.assertEquals(1, prefetcher.installmentsCallbacks.size());
+    }
+
+    @Test
+    public void whenPrefetchIsInFlightThenJoinIt() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        List<Issuer> issuers = Issuers.getIssuersListMLA();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+
+        ResultCallback<List<Issuer>> issuersResult = new ResultCallback<>();
+        prefetcher.getIssuers(VISA, BIN, issuersResult);
+        Assert.assertNull(issuersResult.result);
+
+        prefetcher.issuersCallbacks.get(0).success(issuers);
+        Assert.assertSame(issuers, issuersResult.result);
+        Assert.assertEquals(1, prefetcher.issuersCallbacks.size());
+    }
+
+    @Test
+    public void whenBinChangesThenDiscardPreviousPrefetch() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        prefetcher.prefetch(VISA, "450996", AMOUNT);
+
+        prefetcher.issuersCallbacks.get(0).success(Issuers.getOneIssuerListMLA());
+        Assert.assertTrue(prefetcher.installmentsCallbacks.isEmpty());
+
+        ResultCallback<List<Issuer>> issuersResult = new ResultCallback<>();
+        prefetcher.getIssuers(VISA, BIN, issuersResult);
+        Assert.assertEquals(3, prefetcher.issuersCallbacks.size());
+        Assert.assertNull(issuersResult.result);
+    }
+
+    @Test
+    public void whenSameCardIsPrefetchedAgainThenDoNotRequestIt() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+
+        Assert.assertEquals(1, prefetcher.issuersCallbacks.size());
+    }
+
+    @Test
+    public void whenPrefetchFailsThenRequestAgain() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        prefetcher.issuersCallbacks.get(0).failure(new ApiException());
+
+        ResultCallback<List<Issuer>> issuersResult = new ResultCallback<>();
+        prefetcher.getIssuers(VISA, BIN, issuersResult);
+
+        Assert.assertEquals(2, prefetcher.issuersCallbacks.size());
+        Assert.assertSame(issuersResult, prefetcher.issuersCallbacks.get(1));
+    }
+
+    @Test
+    public void whenPrefetchIsJoinedAndFailsThenRequestAgain() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        ResultCallback<List<Issuer>> issuersResult = new ResultCallback<>();
+        prefetcher.getIssuers(VISA, BIN, issuersResult);
+
+        prefetcher.issuersCallbacks.get(0).failure(new ApiException());
+
+        Assert.assertNull(issuersResult.error);
+        Assert.assertEquals(2, prefetcher.issuersCallbacks.size());
+        Assert.assertSame(issuersResult, prefetcher.issuersCallbacks.get(1));
+    }
+
+    @Test
+    public void whenPrefetchIsJoinedManyTimesThenDeliverToEachCallback() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        List<Issuer> issuers = Issuers.getIssuersListMLA();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        ResultCallback<List<Issuer>> firstResult = new ResultCallback<>();
+        ResultCallback<List<Issuer>> secondResult = new ResultCallback<>();
+        prefetcher.getIssuers(VISA, BIN, firstResult);
+        prefetcher.getIssuers(VISA, BIN, secondResult);
+
+        prefetcher.issuersCallbacks.get(0).success(issuers);
+
+        Assert.assertSame(issuers, firstResult.result);
+        Assert.assertSame(issuers, secondResult.result);
+        Assert.assertEquals(1, prefetcher.issuersCallbacks.size());
+    }
+
+    @Test
+    public void whenCancelledThenDoNotDeliverPrefetch() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        ResultCallback<List<Issuer>> issuersResult = new ResultCallback<>();
+        prefetcher.getIssuers(VISA, BIN, issuersResult);
+
+        prefetcher.cancel();
+        prefetcher.issuersCallbacks.get(0).success(Issuers.getOneIssuerListMLA());
+
+        Assert.assertNull(issuersResult.result);
+        Assert.assertTrue(prefetcher.installmentsCallbacks.isEmpty());
+    }
+
+    @Test
+    public void whenCancelledThenCancelRequests() {
+        MockedCardPrefetcher prefetcher = new MockedCardPrefetcher();
+        prefetcher.prefetch(VISA, BIN, AMOUNT);
+        prefetcher.issuersCallbacks.get(0).success(Issuers.getOneIssuerListMLA());
+
+        prefetcher.cancel();
+
+        Assert.assertEquals(2, prefetcher.calls.size());
+        for (MockedCall<?> call : prefetcher.calls) {
+            Assert.assertTrue(call.cancelled);
+        }
+    }
+
+    private static class MockedCardPrefetcher extends CardPrefetcher {
+
+        private final List<Callback<List<Issuer>>> issuersCallbacks = new ArrayList<>();
+        private final List<Callback<List<Installment>>> installmentsCallbacks = new ArrayList<>();
+        private final List<MockedCall<?>> calls = new ArrayList<>();
+        private Long installmentsIssuerId;
+
+        @Override
+        protected MPCall<List<Issuer>> fetchIssuers(String paymentMethodId, String bin, Callback<List<Issuer>> callback) {
+            issuersCallbacks.add(callback);
+            return createCall();
+        }
+
+        @Override
+        protected MPCall<List<Installment>> fetchInstallments(String bin, BigDecimal amount, Long issuerId, String paymentMethodId, Callback<List<Installment>> callback) {
+            installmentsIssuerId = issuerId;
+            installmentsCallbacks.add(callback);
+            return createCall();
+        }
+
+        private <T> MPCall<T> createCall() {
+            MockedCall<T> call = new MockedCall<>();
+            calls.add(call);
+            return call;
+        }
+    }
+
+    private static class MockedCall<T> implements MPCall<T> {
+
+        private boolean cancelled;
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void enqueue(Callback<T> callback) {
+            //Not tested
+        }
+
+        @Override
+        public MPCall<T> clone() {
+            return new MockedCall<>();
+        }
+    }
+
+    private static class ResultCallback<T> extends Callback<T> {
+
+        private T result;
+        private ApiException error;
+
+        @Override
+        public void success(T t) {
+            result = t;
+        }
+
+        @Override
+        public void failure(ApiException apiException) {
+            error = apiException;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -76,6 +77,24 @@ public class DiscountsPresenterTest {
         assertTrue(mockedView.drawedSummary);
     }
 
+    @Test
+    public void getTotalAmountWithDiscountWhenDiscountIsValid() {
+        DiscountsPresenter presenter = new DiscountsPresenter();
+        Discount discount = new Discount();
+        discount.setId(1L);
+        discount.setCurrencyId("ARS");
+        discount.setCouponAmount(new BigDecimal(20));
+
+        presenter.setTransactionAmount(new BigDecimal(100));
+        presenter.setDiscount(discount);
+
+        assertEquals(new BigDecimal(80), presenter.getTotalAmount());
+
+        discount.setId(null);
+
+        assertEquals(new BigDecimal(100), presenter.getTotalAmount());
+    }
+
     private class MockedView implements DiscountsActivityView {
 
         private Boolean drawedSummary;
@@ -0,0 +1,164 @@
+package com.mercadopago.paymentvault;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.mercadopago.adapters.PaymentMethodSearchItemAdapter;
+import com.mercadopago.model.CustomSearchItem;
+import com.mercadopago.model.PaymentMethodSearchItem;
+import com.mercadopago.uicontrollers.paymentmethodsearch.PaymentMethodSearchCustomOption;
+import com.mercadopago.uicontrollers.paymentmethodsearch.PaymentMethodSearchOption;
+import com.mercadopago.uicontrollers.paymentmethodsearch.PaymentMethodSearchViewController;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PaymentMethodSearchItemAdapterTest {
+
+    static final int SAVED_CARDS = 40;
+    static final int OPTIONS = 10;
+    static final int VISIBLE_ROWS = 8;
+
+    int inflations;
+    private List<PaymentMethodSearchViewController> createdControllers;
+
+    @Test
+    public void whenItemsAddedThenUseOneViewTypePerKindOfRow() {
+        PaymentMethodSearchItemAdapter adapter = createAdapter();
+
+        Assert.assertEquals(PaymentMethodSearchItemAdapter.VIEW_TYPE_SAVED_CARD, adapter.getItemViewType(0));
+        Assert.assertEquals(PaymentMethodSearchItemAdapter.VIEW_TYPE_CUSTOM_OPTION, adapter.getItemViewType(SAVED_CARDS));
+        Assert.assertEquals(PaymentMethodSearchItemAdapter.VIEW_TYPE_OPTION, adapter.getItemViewType(SAVED_CARDS + 1));
+        Assert.assertEquals(PaymentMethodSearchItemAdapter.VIEW_TYPE_OPTION, adapter.getItemViewType(adapter.getItemCount() - 1));
+    }
+
+    @Test
+    public void whenScrollingThenRecycleRowsOfSameViewType() {
+        PaymentMethodSearchItemAdapter adapter = createAdapter();
+        inflations = 0;
+
+        scrollThrough(adapter);
+
+        //At most a screen of rows of each view type.
+        Assert.assertTrue(inflations <= 3 * VISIBLE_ROWS);
+        Assert.assertTrue(inflations < adapter.getItemCount());
+    }
+
+    @Test
+    public void whenRowRecycledThenControllerDrawsOnIt() {
+        PaymentMethodSearchItemAdapter adapter = createAdapter();
+        PaymentMethodSearchItemAdapter.ViewHolder holder = adapter.onCreateViewHolder(null, adapter.getItemViewType(0));
+
+        adapter.onBindViewHolder(holder, 0);
+        adapter.onBindViewHolder(holder, 1);
+
+        Assert.assertSame(holder.itemView, createdControllers.get(1).getView());
+        Assert.assertEquals(1, ((MockedCustomOption) createdControllers.get(1)).draws);
+    }
+
+    //Binds the visible rows while scrolling one row at a time, recycling the rows that leave the screen.
+    void scrollThrough(PaymentMethodSearchItemAdapter adapter) {
+        Map<Integer, Deque<PaymentMethodSearchItemAdapter.ViewHolder>> pool = new HashMap<>();
+        Deque<PaymentMethodSearchItemAdapter.ViewHolder> shown = new ArrayDeque<>();
+        Deque<Integer> shownViewTypes = new ArrayDeque<>();
+        for (int position = 0; position < adapter.getItemCount(); position++) {
+            if (shown.size() == VISIBLE_ROWS) {
+                int viewType = shownViewTypes.removeFirst();
+                if (!pool.containsKey(viewType)) {
+                    pool.put(viewType, new ArrayDeque<PaymentMethodSearchItemAdapter.ViewHolder>());
+                }
+                pool.get(viewType).add(shown.removeFirst());
+            }
+            int viewType = adapter.getItemViewType(position);
+            PaymentMethodSearchItemAdapter.ViewHolder holder = pool.containsKey(viewType) ? pool.get(viewType).poll() : null;
+            if (holder == null) {
+                holder = adapter.onCreateViewHolder(null, viewType);
+            }
+            adapter.onBindViewHolder(holder, position);
+            shown.add(holder);
+            shownViewTypes.add(viewType);
+        }
+    }
+
+    PaymentMethodSearchItemAdapter createAdapter() {
+        PaymentMethodSearchItemAdapter adapter = new PaymentMethodSearchItemAdapter();
+        createdControllers = createControllers();
+        adapter.addItems(createdControllers);
+        return adapter;
+    }
+
+    List<PaymentMethodSearchViewController> createControllers() {
+        List<PaymentMethodSearchViewController> controllers = new ArrayList<>();
+        for (int i = 0; i < SAVED_CARDS; i++) {
+            CustomSearchItem card = new CustomSearchItem();
+            card.setType("credit_card");
+            card.setDescription("Terminada en " + (1000 + i));
+            controllers.add(new MockedCustomOption(card));
+        }
+        CustomSearchItem accountMoney = new CustomSearchItem();
+        accountMoney.setType("account_money");
+        controllers.add(new MockedCustomOption(accountMoney));
+        for (int i = 0; i < OPTIONS; i++) {
+            controllers.add(new MockedOption(new PaymentMethodSearchItem()));
+        }
+        return controllers;
+    }
+
+    private class MockedOption extends PaymentMethodSearchOption {
+
+        private MockedOption(PaymentMethodSearchItem item) {
+            super(null, item, null);
+        }
+
+        @Override
+        public View inflateInParent(ViewGroup parent, boolean attachToRoot) {
+            inflations++;
+            mView = new View(null);
+            return mView;
+        }
+
+        @Override
+        public void initializeControls() {
+            //Rows have no children in tests
+        }
+
+        @Override
+        public void draw() {
+            //Rows have no children in tests
+        }
+    }
+
+    private class MockedCustomOption extends PaymentMethodSearchCustomOption {
+
+        private int draws;
+
+        private MockedCustomOption(CustomSearchItem item) {
+            super(null, item);
+        }
+
+        @Override
+        public View inflateInParent(ViewGroup parent, boolean attachToRoot) {
+            inflations++;
+            mView = new View(null);
+            return mView;
+        }
+
+        @Override
+        public void initializeControls() {
+            //Rows have no children in tests
+        }
+
+        @Override
+        public void draw() {
+            draws++;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mercadopago.paymentvault;
 
+import com.mercadopago.callbacks.OnPartialResultCallback;
 import com.mercadopago.callbacks.OnSelectedCallback;
 import com.mercadopago.constants.PaymentTypes;
 import com.mercadopago.constants.Sites;
@@ -196,6 +197,73 @@ public class PaymentVaultPresenterTest {
         assertEquals(paymentMethodSearch.getGroups().get(1).getChildren(), mockedView.searchItemsShown);
     }
 
+    @Test
+    public void whenGroupsRetrievedBeforeSearchThenShowThem() {
+        MockedView mockedView = new MockedView();
+        MockedProvider provider = new MockedProvider();
+
+        PaymentMethodSearch paymentMethodSearch = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA();
+        provider.setPartialResponse(paymentMethodSearch.getGroups());
+
+        PaymentVaultPresenter presenter = new PaymentVaultPresenter();
+        presenter.attachView(mockedView);
+        presenter.attachResourcesProvider(provider);
+
+        presenter.setAmount(BigDecimal.TEN);
+        presenter.setSite(Sites.ARGENTINA);
+
+        presenter.initialize(true);
+        mockedView.simulateItemSelection(1);
+
+        assertEquals(paymentMethodSearch.getGroups(), mockedView.searchItemsShown);
+        assertTrue(mockedView.customOptionsShown == null);
+        assertFalse(mockedView.isItemShown);
+    }
+
+    @Test
+    public void whenSearchRetrievedAfterGroupsThenReplaceThemWithAllOptions() {
+        MockedView mockedView = new MockedView();
+        MockedProvider provider = new MockedProvider();
+
+        PaymentMethodSearch paymentMethodSearch = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA();
+        provider.setPartialResponse(paymentMethodSearch.getGroups());
+
+        PaymentVaultPresenter presenter = new PaymentVaultPresenter();
+        presenter.attachView(mockedView);
+        presenter.attachResourcesProvider(provider);
+
+        presenter.setAmount(BigDecimal.TEN);
+        presenter.setSite(Sites.ARGENTINA);
+
+        presenter.initialize(true);
+        provider.resolvePendingSearch(paymentMethodSearch);
+        mockedView.simulateItemSelection(1);
+
+        assertTrue(mockedView.paymentMethodOptionsCleaned);
+        assertEquals(paymentMethodSearch.getCustomSearchItems(), mockedView.customOptionsShown);
+        assertEquals(paymentMethodSearch.getGroups().get(1).getChildren(), mockedView.searchItemsShown);
+    }
+
+    @Test
+    public void whenOnlyOneGroupRetrievedBeforeSearchAndSelectAutomaticallyThenDoNotShowIt() {
+        MockedView mockedView = new MockedView();
+        MockedProvider provider = new MockedProvider();
+
+        PaymentMethodSearch paymentMethodSearch = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA();
+        provider.setPartialResponse(paymentMethodSearch.getGroups().subList(0, 1));
+
+        PaymentVaultPresenter presenter = new PaymentVaultPresenter();
+        presenter.attachView(mockedView);
+        presenter.attachResourcesProvider(provider);
+
+        presenter.setAmount(BigDecimal.TEN);
+        presenter.setSite(Sites.ARGENTINA);
+
+        presenter.initialize(true);
+
+        assertTrue(mockedView.searchItemsShown == null);
+    }
+
     @Test
     public void whenDiscountsItemSelectedThenStartDiscountFlow() {
         MockedView mockedView = new MockedView();
@@ -1062,6 +1130,8 @@ public class PaymentVaultPresenterTest {
         private boolean shouldFail;
         private boolean shouldDiscountFail;
         private PaymentMethodSearch successfulResponse;
+        private List<PaymentMethodSearchItem> partialResponse;
+        private OnResourcesRetrievedCallback<PaymentMethodSearch> pendingCallback;
         private Discount successfulDiscountResponse;
         private MercadoPagoError failedResponse;
 
@@ -1075,6 +1145,16 @@ public class PaymentVaultPresenterTest {
             failedResponse = exception;
         }
 
+        public void setPartialResponse(List<PaymentMethodSearchItem> groups) {
+            shouldFail = false;
+            successfulResponse = null;
+            partialResponse = groups;
+        }
+
+        public void resolvePendingSearch(PaymentMethodSearch paymentMethodSearch) {
+            pendingCallback.onSuccess(paymentMethodSearch);
+        }
+
         public void setDiscountResponse(Discount discount) {
             shouldDiscountFail = false;
             successfulDiscountResponse = discount;
@@ -1094,6 +1174,9 @@ public class PaymentVaultPresenterTest {
         public void getPaymentMethodSearch(BigDecimal amount, PaymentPreference paymentPreference, Payer payer, Site site, OnResourcesRetrievedCallback<PaymentMethodSearch> onResourcesRetrievedCallback) {
             if (shouldFail) {
                 onResourcesRetrievedCallback.onFailure(failedResponse);
+            } else if (partialResponse != null) {
+                ((OnPartialResultCallback<List<PaymentMethodSearchItem>>) onResourcesRetrievedCallback).onPartialResult(partialResponse);
+                pendingCallback = onResourcesRetrievedCallback;
             } else {
                 onResourcesRetrievedCallback.onSuccess(successfulResponse);
             }
@@ -1153,6 +1236,7 @@ public class PaymentVaultPresenterTest {
         private boolean cardFlowStarted = false;
         private BigDecimal amountSentToCardFlow;
         private boolean isItemShown;
+        private boolean paymentMethodOptionsCleaned;
         private PaymentMethod selectedPaymentMethod;
         private OnSelectedCallback<PaymentMethodSearchItem> itemSelectionCallback;
         private OnSelectedCallback<CustomSearchItem> customItemSelectionCallback;
@@ -1238,7 +1322,7 @@ public class PaymentVaultPresenterTest {
 
         @Override
         public void cleanPaymentMethodOptions() {
-            //Not yet tested
+            this.paymentMethodOptionsCleaned = true;
         }
 
         public void simulateItemSelection(int index) {
@@ -0,0 +1,175 @@
+package com.mercadopago.preferences;
+
+import com.mercadopago.model.Discount;
+import com.mercadopago.model.Item;
+import com.mercadopago.util.CurrenciesUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CheckoutAmountTest {
+
+    @Test
+    public void whenGettingAmountThenSumItemsExactly() {
+        CheckoutPreference preference = getPreference(newItem("0.1", 3, CurrenciesUtil.CURRENCY_ARGENTINA),
+                newItem("1000.05", 2, CurrenciesUtil.CURRENCY_ARGENTINA));
+
+        Assert.assertEquals(new BigDecimal("2000.40"), preference.getAmount());
+    }
+
+    @Test
+    public void whenItemsDoNotChangeThenKeepAmount() {
+        CheckoutPreference preference = getPreference(newItem("10", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+
+        Assert.assertSame(preference.getCheckoutAmount(), preference.getCheckoutAmount());
+        Assert.assertSame(preference.getAmount(), preference.getAmount());
+    }
+
+    @Test
+    public void whenItemChangesThenSumAgain() {
+        Item item = newItem("10", 1, CurrenciesUtil.CURRENCY_ARGENTINA);
+        CheckoutPreference preference = getPreference(item);
+        Assert.assertEquals(new BigDecimal("10"), preference.getAmount());
+
+        item.setQuantity(3);
+        Assert.assertEquals(new BigDecimal("30"), preference.getAmount());
+
+        item.setUnitPrice(new BigDecimal("5"));
+        Assert.assertEquals(new BigDecimal("15"), preference.getAmount());
+
+        preference.getItems().add(newItem("1", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+        Assert.assertEquals(new BigDecimal("16"), preference.getAmount());
+
+        List<Item> items = new ArrayList<>();
+        items.add(newItem("2", 2, CurrenciesUtil.CURRENCY_ARGENTINA));
+        preference.setItems(items);
+        Assert.assertEquals(new BigDecimal("4"), preference.getAmount());
+    }
+
+    @Test
+    public void whenItemHasNoPriceThenAmountIsNull() {
+        CheckoutPreference preference = getPreference(newItem("10", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+        preference.getItems().get(0).setUnitPrice(null);
+
+        Assert.assertNull(preference.getAmount());
+        Assert.assertTrue(preference.getTotalsByCurrency().isEmpty());
+    }
+
+    @Test
+    public void whenThereAreNoItemsThenAmountIsZero() {
+        CheckoutPreference preference = new CheckoutPreference("id");
+
+        Assert.assertEquals(BigDecimal.ZERO, preference.getAmount());
+    }
+
+    @Test
+    public void whenItemIsReplacedThenSumAgain() {
+        CheckoutPreference preference = getPreference(newItem("10", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+        Assert.assertEquals(new BigDecimal("10"), preference.getAmount());
+
+        preference.getItems().set(0, newItem("7", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+
+        Assert.assertEquals(new BigDecimal("7"), preference.getAmount());
+    }
+
+    @Test
+    public void whenItemsAreSetThenCopyThem() {
+        List<Item> items = new ArrayList<>();
+        items.add(newItem("10", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+        CheckoutPreference preference = new CheckoutPreference("id");
+        preference.setItems(items);
+
+        items.add(newItem("5", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+
+        Assert.assertEquals(1, preference.getItems().size());
+        Assert.assertEquals(new BigDecimal("10"), preference.getAmount());
+    }
+
+    @Test
+    public void whenOtherItemChangesThenKeepAmount() {
+        CheckoutPreference preference = getPreference(newItem("10", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+        CheckoutAmount checkoutAmount = preference.getCheckoutAmount();
+
+        newItem("5", 1, CurrenciesUtil.CURRENCY_ARGENTINA).setQuantity(2);
+
+        Assert.assertSame(checkoutAmount, preference.getCheckoutAmount());
+    }
+
+    @Test
+    public void whenItemIsInManyPreferencesThenEachOneSumsAgain() {
+        Item item = newItem("10", 1, CurrenciesUtil.CURRENCY_ARGENTINA);
+        CheckoutPreference preference = getPreference(item);
+        CheckoutPreference otherPreference = getPreference(item);
+        Assert.assertEquals(new BigDecimal("10"), preference.getAmount());
+        Assert.assertEquals(new BigDecimal("10"), otherPreference.getAmount());
+
+        for (Item currentItem : preference.getItems()) {
+            currentItem.setQuantity(2);
+        }
+
+        Assert.assertEquals(new BigDecimal("20"), preference.getAmount());
+        Assert.assertEquals(new BigDecimal("20"), otherPreference.getAmount());
+    }
+
+    @Test
+    public void whenItemsHaveManyCurrenciesThenSumEachOne() {
+        CheckoutPreference preference = getPreference(newItem("10", 2, CurrenciesUtil.CURRENCY_ARGENTINA),
+                newItem("5", 1, CurrenciesUtil.CURRENCY_USA), newItem("1", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+
+        Assert.assertEquals(2, preference.getTotalsByCurrency().size());
+        Assert.assertEquals(new BigDecimal("21"), preference.getTotal(CurrenciesUtil.CURRENCY_ARGENTINA));
+        Assert.assertEquals(new BigDecimal("5"), preference.getTotal(CurrenciesUtil.CURRENCY_USA));
+    }
+
+    @Test
+    public void whenDiscountIsValidThenSubtractIt() {
+        CheckoutPreference preference = getPreference(newItem("100", 1, CurrenciesUtil.CURRENCY_ARGENTINA));
+        Discount discount = getDiscount("20.5");
+
+        Assert.assertEquals(new BigDecimal("79.5"), preference.getTotal(discount));
+        Assert.assertEquals(new BigDecimal("100"), preference.getTotal((Discount) null));
+        discount.setCouponAmount(new BigDecimal("30"));
+        Assert.assertEquals(new BigDecimal("70"), preference.getTotal(discount));
+        discount.setId(null);
+        Assert.assertEquals(new BigDecimal("100"), preference.getTotal(discount));
+    }
+
+    @Test
+    public void whenAmountIsGivenThenSubtractDiscountFromIt() {
+        CheckoutAmount checkoutAmount = new CheckoutAmount(new BigDecimal("50"));
+
+        Assert.assertEquals(new BigDecimal("50"), checkoutAmount.getSubtotal());
+        Assert.assertEquals(new BigDecimal("40"), checkoutAmount.getTotal(getDiscount("10")));
+        Assert.assertTrue(checkoutAmount.getTotalsByCurrency().isEmpty());
+        Assert.assertNull(new CheckoutAmount(null).getTotal(getDiscount("10")));
+    }
+
+    private static Discount getDiscount(String couponAmount) {
+        Discount discount = new Discount();
+        discount.setId(1L);
+        discount.setCurrencyId(CurrenciesUtil.CURRENCY_ARGENTINA);
+        discount.setCouponAmount(new BigDecimal(couponAmount));
+        return discount;
+    }
+
+    private static CheckoutPreference getPreference(Item... items) {
+        List<Item> itemList = new ArrayList<>();
+        for (Item item : items) {
+            itemList.add(item);
+        }
+        CheckoutPreference preference = new CheckoutPreference("id");
+        preference.setItems(itemList);
+        return preference;
+    }
+
+    private static Item newItem(String unitPrice, int quantity, String currencyId) {
+        Item item = new Item("Item", quantity, new BigDecimal(unitPrice));
+        item.setCurrencyId(currencyId);
+        return item;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mercadopago.preferences;
+
+import com.mercadopago.controllers.PaymentMethodGuessingController;
+import com.mercadopago.mocks.PaymentMethodSearchs;
+import com.mercadopago.model.PaymentMethod;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class PaymentPreferenceFilterTest {
+
+    private static final int EXCLUSIONS = 50;
+
+    @Test
+    public void whenPaymentMethodIsExcludedByIdOrTypeThenItIsNotSupported() {
+        PaymentPreferenceFilter filter = getFilter(Arrays.asList("visa"), Arrays.asList("ticket"));
+
+        Assert.assertFalse(filter.isPaymentMethodSupported(newPaymentMethod("visa", "credit_card")));
+        Assert.assertFalse(filter.isPaymentMethodSupported(newPaymentMethod("rapipago", "ticket")));
+        Assert.assertTrue(filter.isPaymentMethodSupported(newPaymentMethod("master", "credit_card")));
+        Assert.assertFalse(filter.isPaymentMethodSupported(null));
+    }
+
+    @Test
+    public void whenPreferenceChangesThenCompileFilterAgain() {
+        PaymentPreference paymentPreference = new PaymentPreference();
+        PaymentPreferenceFilter filter = paymentPreference.getFilter();
+        Assert.assertSame(filter, paymentPreference.getFilter());
+        Assert.assertTrue(paymentPreference.isPaymentMethodSupported(newPaymentMethod("visa", "credit_card")));
+
+        paymentPreference.setExcludedPaymentMethodIds(Arrays.asList("visa"));
+
+        Assert.assertNotSame(filter, paymentPreference.getFilter());
+        Assert.assertFalse(paymentPreference.isPaymentMethodSupported(newPaymentMethod("visa", "credit_card")));
+    }
+
+    @Test
+    public void whenFilteringByPaymentTypeThenAddEachPaymentMethodOnce() {
+        List<PaymentMethod> paymentMethods = Arrays.asList(newPaymentMethod("visa", "credit_card"),
+                newPaymentMethod("debvisa", "debit_card"), newPaymentMethod("rapipago", "ticket"));
+
+        List<PaymentMethod> filtered = new PaymentMethodGuessingController(paymentMethods, null, null)
+                .filterByPaymentType(Arrays.asList("ticket", "atm", "bank_transfer"), paymentMethods);
+
+        Assert.assertEquals(2, filtered.size());
+        Assert.assertEquals("visa", filtered.get(0).getId());
+        Assert.assertEquals("debvisa", filtered.get(1).getId());
+    }
+
+    @Test
+    public void whenManyPaymentMethodsExcludedThenMatchExclusionLists() {
+        List<PaymentMethod> paymentMethods = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA().getPaymentMethods();
+        List<String> excludedPaymentMethodIds = new ArrayList<>();
+        for (int i = 0; i < EXCLUSIONS; i++) {
+            excludedPaymentMethodIds.add("excluded" + i);
+        }
+        excludedPaymentMethodIds.add(paymentMethods.get(0).getId());
+        PaymentPreference paymentPreference = new PaymentPreference();
+        paymentPreference.setExcludedPaymentMethodIds(excludedPaymentMethodIds);
+        paymentPreference.setExcludedPaymentTypeIds(Arrays.asList("ticket"));
+
+        for (PaymentMethod paymentMethod : paymentMethods) {
+            boolean supported = !excludedPaymentMethodIds.contains(paymentMethod.getId())
+                    && !"ticket".equals(paymentMethod.getPaymentTypeId());
+            Assert.assertEquals(paymentMethod.getId(), supported, paymentPreference.isPaymentMethodSupported(paymentMethod));
+        }
+    }
+
+    private static PaymentPreferenceFilter getFilter(List<String> excludedPaymentMethodIds, List<String> excludedPaymentTypeIds) {
+        PaymentPreference paymentPreference = new PaymentPreference();
+        paymentPreference.setExcludedPaymentMethodIds(excludedPaymentMethodIds);
+        paymentPreference.setExcludedPaymentTypeIds(excludedPaymentTypeIds);
+        return paymentPreference.getFilter();
+    }
+
+    private static PaymentMethod newPaymentMethod(String id, String paymentTypeId) {
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setId(id);
+        paymentMethod.setPaymentTypeId(paymentTypeId);
+        return paymentMethod;
+    }
+}
@@ -0,0 +1,234 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.util.ApiMetrics;
+import com.mercadopago.util.LatencyHistogram;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import okhttp3.Connection;
+import okhttp3.Dns;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public class ApiMetricsTest {
+
+    private static final int THREADS = 4;
+    private static final int VALUES_PER_THREAD = 50000;
+
+    @Test
+    public void whenValuesAreRecordedThenPercentilesAreWithinAnEighth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Long> values = new ArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            long value = 1 + random.nextInt(2000000);
+            values.add(value);
+            histogram.record(value);
+        }
+        Collections.sort(values);
+
+        LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(10000, snapshot.getCount());
+        Assert.assertEquals((long) values.get(9999), snapshot.getMax());
+        assertClose(values.get(4999), snapshot.getP50());
+        assertClose(values.get(9499), snapshot.getP95());
+        assertClose(values.get(9899), snapshot.getP99());
+        Assert.assertEquals(snapshot.getMax(), snapshot.getPercentile(100));
+    }
+
+    @Test
+    public void whenValuesAreSmallThenPercentilesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getSnapshot().getP50());
+        for (int i = 1; i <= 4; i++) {
+            histogram.record(i);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(2, snapshot.getP50());
+        Assert.assertEquals(4, snapshot.getP99());
+        Assert.assertEquals(2, snapshot.getMean());
+    }
+
+    @Test
+    public void whenManyThreadsRecordThenCountEveryValue() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < VALUES_PER_THREAD; j++) {
+                        histogram.record(j);
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        Assert.assertEquals(THREADS * VALUES_PER_THREAD, histogram.getCount());
+        Assert.assertEquals(THREADS * VALUES_PER_THREAD, histogram.getSnapshot().getCount());
+        Assert.assertEquals(VALUES_PER_THREAD - 1, histogram.getSnapshot().getMax());
+    }
+
+    @Test
+    public void whenCallIsInterceptedThenMeasureEachPhase() throws IOException {
+        final MockedApiMetrics metrics = new MockedApiMetrics();
+        final List<ApiMetrics.CallTimings> measured = new ArrayList<>();
+        metrics.setListener(new ApiMetrics.Listener() {
+            @Override
+            public void onCallMeasured(ApiMetrics.CallTimings timings) {
+                measured.add(timings);
+            }
+        });
+        final Dns dns = metrics.getDns(new Dns() {
+            @Override
+            public List<InetAddress> lookup(String hostname) {
+                metrics.advance(10);
+                return new ArrayList<>();
+            }
+        });
+
+        long enqueuedAt = metrics.now();
+        metrics.advance(5);
+        metrics.getInterceptor().intercept(new MockedChain(new Interceptor() {
+            @Override
+            public Response intercept(Chain chain) throws IOException {
+                dns.lookup("api.mercadopago.com");
+                //Connecting the socket and the tls handshake.
+                metrics.advance(50);
+                return metrics.getNetworkInterceptor().intercept(new MockedChain(new Interceptor() {
+                    @Override
+                    public Response intercept(Chain chain) {
+                        metrics.advance(100);
+                        return null;
+                    }
+                }));
+            }
+        }));
+        metrics.advance(30);
+        ApiMetrics.CallTimings timings = metrics.onResponse("CheckoutService.getPaymentMethodSearch", enqueuedAt);
+        metrics.advance(7);
+        metrics.onDispatched(timings);
+
+        Assert.assertEquals(1, measured.size());
+        Assert.assertSame(timings, measured.get(0));
+        Assert.assertEquals(100000, timings.getTtfb());
+        Assert.assertEquals(30000, timings.getBodyTime());
+        Assert.assertEquals(7000, timings.getDispatchTime());
+        Assert.assertEquals(202000, timings.getTotalTime());
+        //No socket was connected, so the lookup isn't taken as part of opening a connection.
+        Assert.assertEquals(-1, timings.getDnsTime());
+        Assert.assertEquals(-1, timings.getConnectTime());
+        Assert.assertEquals(-1, timings.getTlsTime());
+
+        Map<String, LatencyHistogram.Snapshot> snapshot = metrics.getSnapshot("CheckoutService.getPaymentMethodSearch");
+        Assert.assertFalse(snapshot.containsKey(ApiMetrics.DNS));
+        Assert.assertEquals(100, snapshot.get(ApiMetrics.TTFB).getP50());
+        Assert.assertEquals(30, snapshot.get(ApiMetrics.BODY).getP99());
+        Assert.assertEquals(7, snapshot.get(ApiMetrics.DISPATCH).getP95());
+        Assert.assertEquals(1, metrics.getSnapshot().size());
+    }
+
+    @Test
+    public void whenClientIsNotInstrumentedThenMeasureDispatchAndTotal() {
+        MockedApiMetrics metrics = new MockedApiMetrics();
+
+        long enqueuedAt = metrics.now();
+        metrics.advance(40);
+        ApiMetrics.CallTimings timings = metrics.onResponse("GET /v1/payment_methods", enqueuedAt);
+        metrics.advance(2);
+        metrics.onDispatched(timings);
+
+        Assert.assertEquals(-1, timings.getTtfb());
+        Assert.assertEquals(-1, timings.getBodyTime());
+        Assert.assertEquals(2000, timings.getDispatchTime());
+        Assert.assertEquals(42000, timings.getTotalTime());
+        Assert.assertEquals(2, metrics.getSnapshot("GET /v1/payment_methods").size());
+
+        metrics.clear();
+        Assert.assertTrue(metrics.getSnapshot().isEmpty());
+    }
+
+    @Test
+    public void whenServiceMethodIsCalledThenNameItsCalls() {
+        final List<String> endpoints = new ArrayList<>();
+        MockedService service = new MockedApiMetrics().nameCalls(MockedService.class, new MockedService() {
+            @Override
+            public String getPaymentMethods(String publicKey) {
+                endpoints.add(ApiMetrics.getCallingEndpoint());
+                return publicKey;
+            }
+        });
+
+        Assert.assertEquals("key", service.getPaymentMethods("key"));
+        Assert.assertEquals("MockedService.getPaymentMethods", endpoints.get(0));
+        Assert.assertNull(ApiMetrics.getCallingEndpoint());
+    }
+
+    private static void assertClose(long expected, long actual) {
+        Assert.assertTrue(expected + " ~ " + actual, Math.abs(actual - expected) <= expected / 8 + 1);
+    }
+
+    public interface MockedService {
+        String getPaymentMethods(String publicKey);
+    }
+
+    private static class MockedApiMetrics extends ApiMetrics {
+
+        private long now = 1000000;
+
+        private void advance(long micros) {
+            now += micros * 1000;
+        }
+
+        @Override
+        public long now() {
+            return now;
+        }
+    }
+
+    private static class MockedChain implements Interceptor.Chain {
+
+        private final Interceptor next;
+
+        private MockedChain(Interceptor next) {
+            this.next = next;
+        }
+
+        @Override
+        public Request request() {
+            return null;
+        }
+
+        @Override
+        public Response proceed(Request request) throws IOException {
+            return next.intercept(this);
+        }
+
+        @Override
+        public Connection connection() {
+            return null;
+        }
+    }
+}
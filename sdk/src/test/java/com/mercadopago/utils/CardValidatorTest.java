@@ -0,0 +1,202 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.mocks.PaymentMethods;
+import com.mercadopago.model.CardToken;
+import com.mercadopago.model.IdentificationType;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.Setting;
+import com.mercadopago.util.CardValidator;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+
+public class CardValidatorTest {
+
+    private static final String VISA_NUMBER = "4509953566233704";
+    private static final int GENERATED_NUMBERS = 2000;
+
+    @Test
+    public void whenCheckingLuhnThenMatchDigitByDigitCheck() {
+        for (String number : generateNumbers(new Random(1))) {
+            Assert.assertEquals(number, checkLuhnParsingDigits(number), CardValidator.checkLuhn(number));
+        }
+    }
+
+    @Test
+    public void whenNumberHasNoDigitsOrOtherCharsThenLuhnFails() {
+        Assert.assertFalse(CardValidator.checkLuhn(null));
+        Assert.assertFalse(CardValidator.checkLuhn(""));
+        Assert.assertFalse(CardValidator.checkLuhn("4509 9535 6623 3704"));
+        Assert.assertTrue(CardValidator.checkLuhn(new StringBuilder(VISA_NUMBER)));
+    }
+
+    @Test
+    public void whenNumberMatchesSettingThenNumberIsValid() {
+        CardValidator.Result result = new CardValidator().validateCardNumber(PaymentMethods.getPaymentMethodOn(), VISA_NUMBER);
+
+        Assert.assertTrue(result.isCardNumberValid());
+        Assert.assertEquals(16, result.getCardNumberLength());
+    }
+
+    @Test
+    public void whenNumberIsInvalidThenReturnWhy() {
+        CardValidator validator = new CardValidator();
+        PaymentMethod visa = PaymentMethods.getPaymentMethodOn();
+
+        Assert.assertEquals(CardValidator.ERROR_EMPTY, validator.validateCardNumber(visa, "").getCardNumberError());
+        Assert.assertEquals(CardValidator.ERROR_BIN, validator.validateCardNumber(visa, "45099").getCardNumberError());
+        Assert.assertEquals(CardValidator.ERROR_BIN, validator.validateCardNumber(visa, "4517660000000000").getCardNumberError());
+        Assert.assertEquals(CardValidator.ERROR_LENGTH, validator.validateCardNumber(visa, "450995356623370").getCardNumberError());
+        Assert.assertEquals(CardValidator.ERROR_LUHN, validator.validateCardNumber(visa, "4509953566233705").getCardNumberError());
+    }
+
+    @Test
+    public void whenBinDoesNotChangeThenLookUpSettingOnce() {
+        CountingPaymentMethod paymentMethod = new CountingPaymentMethod(PaymentMethods.getPaymentMethodOn());
+        CardValidator validator = new CardValidator();
+
+        validator.validateCardNumber(paymentMethod, VISA_NUMBER);
+        validator.validateSecurityCode(paymentMethod, VISA_NUMBER, "123");
+        validator.validateCardNumber(paymentMethod, "4509953566233705");
+        Assert.assertEquals(1, paymentMethod.settingsLookups);
+
+        validator.validateCardNumber(paymentMethod, "4000000000000002");
+        Assert.assertEquals(2, paymentMethod.settingsLookups);
+    }
+
+    @Test
+    public void whenSecurityCodeLengthDiffersFromSettingThenItIsInvalid() {
+        CardValidator validator = new CardValidator();
+        PaymentMethod visa = PaymentMethods.getPaymentMethodOn();
+
+        Assert.assertTrue(validator.validateSecurityCode(visa, VISA_NUMBER, "123").isSecurityCodeValid());
+
+        CardValidator.Result result = validator.validateSecurityCode(visa, VISA_NUMBER, "1234");
+        Assert.assertEquals(CardValidator.ERROR_LENGTH, result.getSecurityCodeError());
+        Assert.assertEquals(3, result.getSecurityCodeLength());
+        Assert.assertEquals(CardValidator.ERROR_SETTING, validator.validateSecurityCode(visa, "123", "123").getSecurityCodeError());
+        Assert.assertTrue(validator.validateSecurityCode(null, VISA_NUMBER, null).isSecurityCodeValid());
+    }
+
+    @Test
+    public void whenValidatingCardTokenThenCheckEveryField() {
+        int year = Calendar.getInstance().get(Calendar.YEAR) + 1;
+        CardToken cardToken = new CardToken(VISA_NUMBER, 12, year, "123", "APRO", "DNI", "12345678");
+        CardValidator validator = new CardValidator();
+
+        Assert.assertTrue(cardToken.validate(true));
+        Assert.assertTrue(validator.validate(cardToken, PaymentMethods.getPaymentMethodOn(), null, true).isValid());
+
+        IdentificationType dni = new IdentificationType("DNI", "DNI", "number", 7, 8);
+        cardToken.getCardholder().getIdentification().setNumber("123456");
+        CardValidator.Result result = validator.validate(cardToken, PaymentMethods.getPaymentMethodOn(), dni, true);
+        Assert.assertFalse(result.isIdentificationValid());
+        Assert.assertFalse(result.isValid());
+
+        cardToken.setSecurityCode("12");
+        Assert.assertFalse(cardToken.validate(true));
+        Assert.assertTrue(validator.validate(cardToken, null, null, false).isSecurityCodeValid());
+    }
+
+    @Test
+    public void whenYearHasTwoDigitsThenItIsInTheCurrentCentury() {
+        int century = Calendar.getInstance().get(Calendar.YEAR) / 100 * 100;
+        CardToken cardToken = new CardToken(VISA_NUMBER, 12, 7, "123", "APRO", "DNI", "12345678");
+
+        Assert.assertEquals(Integer.valueOf(century + 7), cardToken.getExpirationYear());
+    }
+
+    @Test
+    public void whenValidatingGeneratedNumbersThenMatchParsingDigitsAndSettingLookups() {
+        PaymentMethod visa = PaymentMethods.getPaymentMethodOn();
+        CardValidator validator = new CardValidator();
+
+        for (String number : generateNumbers(new Random(2))) {
+            boolean valid = validator.validateCardNumber(visa, number).isCardNumberValid()
+                    && validator.validateSecurityCode(visa, number, "123").isSecurityCodeValid();
+            Assert.assertEquals(number, validateParsingDigits(visa, number, "123"), valid);
+        }
+    }
+
+    //Visa numbers, a third of them with a wrong check digit.
+    static List<String> generateNumbers(Random random) {
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < GENERATED_NUMBERS; i++) {
+            StringBuilder number = new StringBuilder("4");
+            for (int j = 1; j < 15; j++) {
+                number.append((char) ('0' + random.nextInt(10)));
+            }
+            for (char checkDigit = '0'; checkDigit <= '9'; checkDigit++) {
+                number.append(checkDigit);
+                if (checkLuhnParsingDigits(number.toString()) != (i % 3 == 0)) {
+                    break;
+                }
+                number.setLength(number.length() - 1);
+            }
+            numbers.add(number.toString());
+        }
+        return numbers;
+    }
+
+    //As card numbers were validated before the validator.
+    static boolean validateParsingDigits(PaymentMethod paymentMethod, String cardNumber, String securityCode) {
+        try {
+            Setting setting = Setting.getSettingByBin(paymentMethod.getSettings(), cardNumber.substring(0, 6));
+            if (setting == null) {
+                throw new Exception("invalid bin");
+            }
+            if (cardNumber.trim().length() != setting.getCardNumber().getLength()) {
+                throw new Exception("invalid length");
+            }
+            if ("standard".equals(setting.getCardNumber().getValidation()) && !checkLuhnParsingDigits(cardNumber)) {
+                throw new Exception("invalid luhn");
+            }
+            setting = Setting.getSettingByBin(paymentMethod.getSettings(), cardNumber.substring(0, 6));
+            if (securityCode.trim().length() != setting.getSecurityCode().getLength()) {
+                throw new Exception("invalid security code");
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean checkLuhnParsingDigits(String cardNumber) {
+        int sum = 0;
+        boolean alternate = false;
+        for (int i = cardNumber.length() - 1; i >= 0; i--) {
+            int n = Integer.parseInt(cardNumber.substring(i, i + 1));
+            if (alternate) {
+                n *= 2;
+                if (n > 9) {
+                    n = (n % 10) + 1;
+                }
+            }
+            sum += n;
+            alternate = !alternate;
+        }
+        return (sum % 10 == 0);
+    }
+
+    private static class CountingPaymentMethod extends PaymentMethod {
+
+        private final PaymentMethod paymentMethod;
+        private int settingsLookups;
+
+        private CountingPaymentMethod(PaymentMethod paymentMethod) {
+            this.paymentMethod = paymentMethod;
+        }
+
+        @Override
+        public List<Setting> getSettings() {
+            settingsLookups++;
+            return paymentMethod.getSettings();
+        }
+    }
+}
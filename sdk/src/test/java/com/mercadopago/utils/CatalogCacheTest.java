@@ -0,0 +1,241 @@
+package com.mercadopago.utils;
+
+import com.google.gson.reflect.TypeToken;
+import com.mercadopago.model.IdentificationType;
+import com.mercadopago.util.CatalogCache;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+public class CatalogCacheTest {
+
+    private static final long FRESH_TIME = 1000;
+    private static final long MAX_STALE_TIME = 5000;
+    private static final long MAX_SIZE = 64 * 1024;
+
+    private static final Type IDENTIFICATION_TYPES = new TypeToken<List<IdentificationType>>() {
+    }.getType();
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = File.createTempFile("catalog", "");
+        directory.delete();
+        directory.mkdirs();
+    }
+
+    @Test
+    public void whenValueIsYoungerThanFreshTimeThenServeItAsFresh() {
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+        cache.put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+
+        cache.time += FRESH_TIME;
+        List<IdentificationType> cached = cache.load("APP_USR-1:identification_types");
+
+        Assert.assertEquals(2, cached.size());
+        Assert.assertEquals("DNI", cached.get(0).getId());
+        Assert.assertTrue(cache.fresh);
+    }
+
+    @Test
+    public void whenValueIsOlderThanFreshTimeThenServeItAsStale() {
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+        cache.put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+
+        cache.time += FRESH_TIME + 1;
+
+        Assert.assertNotNull(cache.load("APP_USR-1:identification_types"));
+        Assert.assertFalse(cache.fresh);
+    }
+
+    @Test
+    public void whenValueIsOlderThanMaxStaleTimeThenDropIt() {
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+        cache.put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+
+        cache.time += MAX_STALE_TIME + 1;
+
+        Assert.assertNull(cache.load("APP_USR-1:identification_types"));
+    }
+
+    @Test
+    public void whenCacheIsRecreatedThenReadValuesFromDisk() {
+        new MockedCatalogCache(MAX_SIZE).put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+        List<IdentificationType> cached = cache.load("APP_USR-1:identification_types");
+
+        Assert.assertEquals(2, cached.size());
+        Assert.assertTrue(cache.fresh);
+        Assert.assertNull(cache.load("APP_USR-2:identification_types"));
+    }
+
+    @Test
+    public void whenValueWasLoadedThenServeDecodedValueFromMemory() {
+        new MockedCatalogCache(MAX_SIZE).put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+
+        List<IdentificationType> cached = cache.load("APP_USR-1:identification_types");
+        Assert.assertEquals(1, cache.diskTasks);
+
+        Assert.assertSame(cached, cache.load("APP_USR-1:identification_types"));
+        Assert.assertEquals(1, cache.diskTasks);
+    }
+
+    @Test
+    public void whenKeyHasNoValueThenRememberTheMiss() {
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+
+        Assert.assertNull(cache.load("APP_USR-1:issuers:visa:450995"));
+        Assert.assertNull(cache.load("APP_USR-1:issuers:visa:450995"));
+
+        Assert.assertEquals(1, cache.diskTasks);
+    }
+
+    @Test
+    public void whenValueIsInMemoryThenDeliverItRightAway() {
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+        cache.put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+        final List<List<IdentificationType>> loaded = new ArrayList<>();
+
+        cache.get("APP_USR-1:identification_types", IDENTIFICATION_TYPES, new CatalogCache.Listener<List<IdentificationType>>() {
+            @Override
+            public void onLoaded(List<IdentificationType> value, boolean fresh) {
+                loaded.add(value);
+            }
+        });
+
+        Assert.assertEquals(1, loaded.size());
+    }
+
+    @Test
+    public void whenValueIsInMemoryButNotOnMainThreadThenDeliverItLater() {
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+        cache.put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+        cache.mainThread = false;
+        final List<List<IdentificationType>> loaded = new ArrayList<>();
+
+        cache.get("APP_USR-1:identification_types", IDENTIFICATION_TYPES, new CatalogCache.Listener<List<IdentificationType>>() {
+            @Override
+            public void onLoaded(List<IdentificationType> value, boolean fresh) {
+                loaded.add(value);
+            }
+        });
+
+        Assert.assertTrue(loaded.isEmpty());
+        cache.runPosted();
+        Assert.assertEquals(1, loaded.size());
+    }
+
+    @Test
+    public void whenKeysShareFileThenDoNotServeOtherKeyValue() {
+        //"Aa" and "BB" have the same hash code.
+        new MockedCatalogCache(MAX_SIZE).put("Aa", getIdentificationTypes(), IDENTIFICATION_TYPES);
+
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+
+        Assert.assertNull(cache.load("BB"));
+        Assert.assertNotNull(cache.load("Aa"));
+    }
+
+    @Test
+    public void whenSizeExceedsMaxSizeThenEvictOldestFiles() {
+        MockedCatalogCache cache = new MockedCatalogCache(1);
+        cache.put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+
+        Assert.assertNull(cache.load("APP_USR-1:identification_types"));
+        Assert.assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test
+    public void whenCacheClearedThenRemoveAllValues() {
+        MockedCatalogCache cache = new MockedCatalogCache(MAX_SIZE);
+        cache.put("APP_USR-1:identification_types", getIdentificationTypes(), IDENTIFICATION_TYPES);
+
+        cache.clear();
+
+        Assert.assertNull(new MockedCatalogCache(MAX_SIZE).load("APP_USR-1:identification_types"));
+        Assert.assertNull(cache.load("APP_USR-1:identification_types"));
+    }
+
+    private List<IdentificationType> getIdentificationTypes() {
+        List<IdentificationType> identificationTypes = new ArrayList<>();
+        identificationTypes.add(new IdentificationType("DNI", "DNI", "number", 7, 8));
+        identificationTypes.add(new IdentificationType("CI", "Cédula", "number", 1, 9));
+        return identificationTypes;
+    }
+
+    private class MockedCatalogCache extends CatalogCache {
+
+        private final List<Runnable> posted = new ArrayList<>();
+        private long time = 1000000;
+        private int diskTasks;
+        private List<IdentificationType> loaded;
+        private boolean fresh;
+        private boolean mainThread = true;
+
+        private MockedCatalogCache(long maxSize) {
+            this(maxSize, new CountingExecutor());
+        }
+
+        private MockedCatalogCache(long maxSize, CountingExecutor executor) {
+            super(directory, FRESH_TIME, MAX_STALE_TIME, maxSize, executor);
+            executor.cache = this;
+        }
+
+        private List<IdentificationType> load(String key) {
+            loaded = null;
+            get(key, IDENTIFICATION_TYPES, new Listener<List<IdentificationType>>() {
+                @Override
+                public void onLoaded(List<IdentificationType> value, boolean fresh) {
+                    loaded = value;
+                    MockedCatalogCache.this.fresh = fresh;
+                }
+            });
+            runPosted();
+            return loaded;
+        }
+
+        private void runPosted() {
+            while (!posted.isEmpty()) {
+                posted.remove(0).run();
+            }
+        }
+
+        @Override
+        protected void post(Runnable runnable) {
+            posted.add(runnable);
+        }
+
+        @Override
+        protected long now() {
+            return time;
+        }
+
+        @Override
+        protected boolean isMainThread() {
+            return mainThread;
+        }
+    }
+
+    private static class CountingExecutor implements Executor {
+
+        private MockedCatalogCache cache;
+
+        @Override
+        public void execute(Runnable command) {
+            cache.diskTasks++;
+            command.run();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.model.Currency;
+import com.mercadopago.util.CurrenciesUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CurrenciesUtilTest {
+
+    private static final int THREADS = 4;
+
+    @Test
+    public void whenFormattingNumberThenUseCurrencySeparators() {
+        Assert.assertEquals("$ 1.234.567,89", CurrenciesUtil.formatNumber(new BigDecimal("1234567.891"), CurrenciesUtil.CURRENCY_ARGENTINA));
+        Assert.assertEquals("$ 1,234.50", CurrenciesUtil.formatNumber(new BigDecimal("1234.5"), CurrenciesUtil.CURRENCY_MEXICO));
+        Assert.assertEquals("$ 1.235", CurrenciesUtil.formatNumber(new BigDecimal("1234.6"), CurrenciesUtil.CURRENCY_CHILE));
+        Assert.assertEquals("US$ 10,00", CurrenciesUtil.formatNumber(BigDecimal.TEN, CurrenciesUtil.CURRENCY_USA));
+        Assert.assertNull(CurrenciesUtil.formatNumber(BigDecimal.TEN, "XXX"));
+    }
+
+    @Test
+    public void whenFormattingFromManyThreadsThenFormattersAreNotShared() throws InterruptedException {
+        final List<BigDecimal> amounts = getAmounts(1000);
+        final AtomicInteger errors = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final String currencyId = i % 2 == 0 ? CurrenciesUtil.CURRENCY_ARGENTINA : CurrenciesUtil.CURRENCY_MEXICO;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Currency currency = CurrenciesUtil.getCurrency(currencyId);
+                    for (BigDecimal amount : amounts) {
+                        if (!formatWithNewFormatter(amount, currency).equals(CurrenciesUtil.formatNumber(amount, currencyId))) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(0, errors.get());
+    }
+
+    @Test
+    public void whenFormattingWithCachedFormatterThenMatchNewFormatters() {
+        Currency currency = CurrenciesUtil.getCurrency(CurrenciesUtil.CURRENCY_ARGENTINA);
+
+        for (BigDecimal amount : getAmounts(100)) {
+            Assert.assertEquals(formatWithNewFormatter(amount, currency), CurrenciesUtil.formatNumber(amount, CurrenciesUtil.CURRENCY_ARGENTINA));
+            Assert.assertEquals(formatWithNewFormatter(amount, currency), CurrenciesUtil.formatNumber(amount, CurrenciesUtil.CURRENCY_ARGENTINA));
+        }
+    }
+
+    private static List<BigDecimal> getAmounts(int count) {
+        List<BigDecimal> amounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            amounts.add(new BigDecimal(i * 1234.567).setScale(3, BigDecimal.ROUND_HALF_UP));
+        }
+        return amounts;
+    }
+
+    //As formatNumber did before caching the formatters.
+    private static String formatWithNewFormatter(BigDecimal amount, Currency currency) {
+        DecimalFormatSymbols dfs = new DecimalFormatSymbols();
+        dfs.setDecimalSeparator(currency.getDecimalSeparator());
+        dfs.setGroupingSeparator(currency.getThousandsSeparator());
+        DecimalFormat df = new DecimalFormat();
+        df.setDecimalFormatSymbols(dfs);
+        df.setMinimumFractionDigits(currency.getDecimalPlaces());
+        df.setMaximumFractionDigits(currency.getDecimalPlaces());
+        return currency.getSymbol() + " " + df.format(amount);
+    }
+}
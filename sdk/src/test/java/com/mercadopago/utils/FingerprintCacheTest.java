@@ -0,0 +1,129 @@
+package com.mercadopago.utils;
+
+import android.content.Context;
+
+import com.mercadopago.model.Fingerprint;
+import com.mercadopago.util.FingerprintCache;
+import com.mercadopago.util.JsonUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class FingerprintCacheTest {
+
+    private static final long REFRESH_TIME = 1000;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    public void whenFingerprintIsFreshThenServeTheSameOne() {
+        MockedFingerprintCache cache = new MockedFingerprintCache();
+
+        Fingerprint fingerprint = cache.getFingerprint(null);
+        cache.time = REFRESH_TIME - 1;
+
+        Assert.assertSame(fingerprint, cache.getFingerprint(null));
+        Assert.assertEquals(1, cache.builtFingerprints);
+        Assert.assertEquals(1, cache.readStaticAttributes);
+    }
+
+    @Test
+    public void whenFingerprintIsOldThenServeItAndRefreshItInBackground() throws InterruptedException {
+        MockedFingerprintCache cache = new MockedFingerprintCache();
+        Fingerprint fingerprint = cache.getFingerprint(null);
+        cache.time = REFRESH_TIME;
+
+        Assert.assertSame(fingerprint, cache.getFingerprint(null));
+        Assert.assertTrue(cache.refreshed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Fingerprint refreshed = waitForRefresh(cache, fingerprint);
+        Assert.assertNotSame(fingerprint, refreshed);
+        Assert.assertEquals(fingerprint.model, refreshed.model);
+        Assert.assertEquals(2, refreshed.freeDiskSpace);
+        Assert.assertEquals(1, fingerprint.freeDiskSpace);
+        Assert.assertEquals(1, cache.readStaticAttributes);
+    }
+
+    @Test
+    public void whenRefreshIsRunningThenDoNotScheduleAnother() throws InterruptedException {
+        MockedFingerprintCache cache = new MockedFingerprintCache();
+        Fingerprint fingerprint = cache.getFingerprint(null);
+        cache.release = new CountDownLatch(1);
+        cache.time = REFRESH_TIME;
+
+        cache.getFingerprint(null);
+        cache.getFingerprint(null);
+        cache.release.countDown();
+        Assert.assertTrue(cache.refreshed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        waitForRefresh(cache, fingerprint);
+
+        Assert.assertEquals(2, cache.builtFingerprints);
+    }
+
+    @Test
+    public void whenPrefetchedThenBuildInBackground() throws InterruptedException {
+        MockedFingerprintCache cache = new MockedFingerprintCache();
+
+        cache.prefetch(null);
+        Assert.assertTrue(cache.built.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        cache.getFingerprint(null);
+        Assert.assertEquals(1, cache.readStaticAttributes);
+    }
+
+    //The refreshed fingerprint is set right after it's built.
+    private static Fingerprint waitForRefresh(FingerprintCache cache, Fingerprint old) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        Fingerprint fingerprint = cache.getFingerprint(null);
+        while (fingerprint == old && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+            fingerprint = cache.getFingerprint(null);
+        }
+        return fingerprint;
+    }
+
+    private static class MockedFingerprintCache extends FingerprintCache {
+
+        private final CountDownLatch built = new CountDownLatch(1);
+        private final CountDownLatch refreshed = new CountDownLatch(1);
+        private volatile CountDownLatch release;
+        private volatile long time;
+        private volatile int builtFingerprints;
+        private volatile int readStaticAttributes;
+
+        private MockedFingerprintCache() {
+            super(REFRESH_TIME);
+        }
+
+        @Override
+        protected Fingerprint createFingerprint(Context context, Fingerprint staticAttributes) {
+            if (release != null) {
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    //Released
+                }
+            }
+            builtFingerprints++;
+            Fingerprint fingerprint;
+            if (staticAttributes == null) {
+                readStaticAttributes++;
+                fingerprint = JsonUtil.getInstance().fromJson("{\"model\":\"Nexus 5\",\"free_disk_space\":1}", Fingerprint.class);
+                built.countDown();
+            } else {
+                fingerprint = JsonUtil.getInstance().fromJson("{\"free_disk_space\":" + (staticAttributes.freeDiskSpace + 1) + "}", Fingerprint.class);
+                fingerprint.model = staticAttributes.model;
+                refreshed.countDown();
+            }
+            return fingerprint;
+        }
+
+        @Override
+        protected long now() {
+            return time;
+        }
+    }
+}
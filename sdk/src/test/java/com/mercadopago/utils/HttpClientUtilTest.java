@@ -0,0 +1,28 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.util.HttpClientUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class HttpClientUtilTest {
+
+    @Test
+    public void whenUrlsShareOriginThenWarmItUpOnce() {
+        List<String> origins = HttpClientUtil.getOrigins(Arrays.asList("https://api.mercadopago.com",
+                "https://api.mercadopago.com/v1/payment_methods", "https://merchant.com/mp/customers", "https://merchant.com/mp/payments"));
+
+        Assert.assertEquals(Arrays.asList("https://api.mercadopago.com", "https://merchant.com"), origins);
+    }
+
+    @Test
+    public void whenUrlIsNotSetOrNotHttpThenSkipIt() {
+        List<String> origins = HttpClientUtil.getOrigins(Arrays.asList(null, "", "/customers", "ftp://merchant.com", "http://merchant.com:8080/mp"));
+
+        Assert.assertEquals(Arrays.asList("http://merchant.com:8080"), origins);
+    }
+}
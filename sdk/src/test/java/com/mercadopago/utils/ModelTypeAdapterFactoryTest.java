@@ -0,0 +1,186 @@
+package com.mercadopago.utils;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.mercadopago.callbacks.OnPartialResultCallback;
+import com.mercadopago.model.Bin;
+import com.mercadopago.model.CardNumber;
+import com.mercadopago.model.Installment;
+import com.mercadopago.model.Issuer;
+import com.mercadopago.model.PayerCost;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.model.PaymentMethodSearchItem;
+import com.mercadopago.model.SecurityCode;
+import com.mercadopago.model.Setting;
+import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.ModelTypeAdapterFactory;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class ModelTypeAdapterFactoryTest {
+
+    private static final int MAX_POPULATED_DEPTH = 4;
+
+    //The models with a hand written adapter.
+    private static final Class<?>[] ADAPTED_MODELS = {PaymentMethodSearch.class, PaymentMethodSearchItem.class,
+            PaymentMethod.class, Setting.class, Bin.class, CardNumber.class, SecurityCode.class, Installment.class,
+            PayerCost.class, Issuer.class};
+
+    private static final String[] PAYMENT_METHOD_SEARCH_FIXTURES = {"complete_payment_method_search_MLA.json",
+            "cards_but_no_account_money_MLA.json", "not_cards_nor_account_money_MLA.json", "only_account_money_MLA.json",
+            "only_credit_card_MLA.json", "only_credit_card_and_account_money_MLA.json", "only_credit_card_and_one_card_MLA.json",
+            "only_one_off_type_and_account_money_MLA.json", "only_ticket_MLA.json", "payment_method_on_top.json",
+            "saved_cards_payment_method_search_MLA.json"};
+    private static final String[] PAYMENT_METHOD_FIXTURES = {"payment_method_on.json", "payment_method_pagofacil.json",
+            "payment_method_visa.json"};
+    private static final String[] INSTALLMENTS_FIXTURES = {"installments_MLA.json", "installments_list.json",
+            "installments_list_without_payer_costs.json", "installments_multiple.json", "installments_unique.json",
+            "installments_without_payercost.json"};
+    private static final String[] PAYER_COSTS_FIXTURES = {"payer_cost_list.json", "payer_costs.json", "payer_costs_with_cft_and_tea.json"};
+    private static final String[] ISSUERS_FIXTURES = {"issuer_list_MLA.json", "issuers.json", "issuers_MLA.json"};
+
+    //Same configuration as JsonUtil, without the hand written adapters.
+    private final Gson reflectiveGson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .serializeNulls().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ").create();
+    private final Gson gson = JsonUtil.getInstance().getGson();
+    private int populatedValues;
+
+    @Test
+    public void whenDecodingFixturesThenGetSameModelsAsReflectiveGson() {
+        for (String fixture : PAYMENT_METHOD_SEARCH_FIXTURES) {
+            assertSameDecoding(fixture, PaymentMethodSearch.class);
+        }
+        for (String fixture : PAYMENT_METHOD_FIXTURES) {
+            assertSameDecoding(fixture, PaymentMethod.class);
+        }
+        for (String fixture : INSTALLMENTS_FIXTURES) {
+            assertSameDecoding(fixture, new TypeToken<List<Installment>>() {
+            }.getType());
+        }
+        for (String fixture : PAYER_COSTS_FIXTURES) {
+            assertSameDecoding(fixture, new TypeToken<List<PayerCost>>() {
+            }.getType());
+        }
+        for (String fixture : ISSUERS_FIXTURES) {
+            assertSameDecoding(fixture, new TypeToken<List<Issuer>>() {
+            }.getType());
+        }
+        assertSameDecoding("installments.json", Installment.class);
+        assertSameDecoding("payer_cost.json", PayerCost.class);
+        assertSameDecoding("issuer_MLA.json", Issuer.class);
+    }
+
+    @Test
+    public void whenEncodingModelsThenGetSameJsonAsReflectiveGson() {
+        for (String fixture : PAYMENT_METHOD_SEARCH_FIXTURES) {
+            PaymentMethodSearch paymentMethodSearch = reflectiveGson.fromJson(ResourcesUtil.getStringResource(fixture), PaymentMethodSearch.class);
+            Assert.assertEquals(fixture, reflectiveGson.toJson(paymentMethodSearch), gson.toJson(paymentMethodSearch));
+        }
+        Type type = new TypeToken<List<Installment>>() {
+        }.getType();
+        List<Installment> installments = reflectiveGson.fromJson(ResourcesUtil.getStringResource("installments_list.json"), type);
+        Assert.assertEquals(reflectiveGson.toJson(installments, type), gson.toJson(installments, type));
+    }
+
+    @Test
+    public void whenValuesAreNullThenWriteNulls() {
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setId("visa");
+
+        Assert.assertEquals(reflectiveGson.toJson(paymentMethod), gson.toJson(paymentMethod));
+        Assert.assertNull(gson.fromJson("null", PaymentMethod.class));
+        Assert.assertNull(gson.fromJson("{\"settings\":null}", PaymentMethod.class).getSettings());
+    }
+
+    @Test
+    public void whenReadingPaymentMethodSearchThenGetGroupsBeforeWholeSearch() throws IOException {
+        String json = ResourcesUtil.getStringResource("complete_payment_method_search_MLA.json");
+        final List<List<PaymentMethodSearchItem>> groupsRead = new ArrayList<>();
+
+        PaymentMethodSearch paymentMethodSearch = ModelTypeAdapterFactory.readPaymentMethodSearch(gson, gson.newJsonReader(new StringReader(json)),
+                new OnPartialResultCallback<List<PaymentMethodSearchItem>>() {
+                    @Override
+                    public void onPartialResult(List<PaymentMethodSearchItem> groups) {
+                        groupsRead.add(groups);
+                    }
+                });
+
+        Assert.assertEquals(1, groupsRead.size());
+        Assert.assertSame(paymentMethodSearch.getGroups(), groupsRead.get(0));
+        Assert.assertEquals(reflectiveGson.toJson(gson.fromJson(json, PaymentMethodSearch.class)), reflectiveGson.toJson(paymentMethodSearch));
+    }
+
+    @Test
+    public void whenEveryFieldIsSetThenAdaptersKeepAllOfThem() throws IllegalAccessException {
+        for (Class<?> modelClass : ADAPTED_MODELS) {
+            Object model = populate(modelClass, 0);
+            String json = reflectiveGson.toJson(model);
+
+            Assert.assertFalse(json, json.contains(":null"));
+            Assert.assertEquals(modelClass.getSimpleName(), json, gson.toJson(model));
+            Assert.assertEquals(modelClass.getSimpleName(), json, reflectiveGson.toJson(gson.fromJson(json, modelClass)));
+        }
+    }
+
+    //Sets every serialized field of the model, lists with one element, to a value of its own.
+    private Object populate(Type type, int depth) throws IllegalAccessException {
+        Class<?> rawType = TypeToken.get(type).getRawType();
+        if (rawType == String.class) {
+            return "value" + ++populatedValues;
+        } else if (rawType == Integer.class || rawType == int.class) {
+            return ++populatedValues;
+        } else if (rawType == Long.class || rawType == long.class) {
+            return (long) ++populatedValues;
+        } else if (rawType == Double.class || rawType == double.class) {
+            return ++populatedValues + 0.5;
+        } else if (rawType == Boolean.class || rawType == boolean.class) {
+            return true;
+        } else if (rawType == BigDecimal.class) {
+            return new BigDecimal(++populatedValues + ".25");
+        } else if (rawType == Date.class) {
+            return new Date(1000L * ++populatedValues);
+        } else if (rawType.isEnum()) {
+            return rawType.getEnumConstants()[0];
+        } else if (List.class.isAssignableFrom(rawType)) {
+            List<Object> list = new ArrayList<>();
+            //Lists of the model itself, like the children of an item, end at some depth.
+            if (depth < MAX_POPULATED_DEPTH) {
+                list.add(populate(((ParameterizedType) type).getActualTypeArguments()[0], depth + 1));
+            }
+            return list;
+        }
+        Object model = reflectiveGson.fromJson("{}", rawType);
+        for (Class<?> modelClass = rawType; modelClass != Object.class; modelClass = modelClass.getSuperclass()) {
+            for (Field field : modelClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    field.setAccessible(true);
+                    field.set(model, populate(field.getGenericType(), depth + 1));
+                }
+            }
+        }
+        return model;
+    }
+
+    private void assertSameDecoding(String fixture, Type type) {
+        String json = ResourcesUtil.getStringResource(fixture);
+        Object expected = reflectiveGson.fromJson(json, type);
+        Object actual = gson.fromJson(json, type);
+        Assert.assertEquals(fixture, reflectiveGson.toJson(expected, type), reflectiveGson.toJson(actual, type));
+    }
+}
@@ -0,0 +1,241 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.model.Card;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.model.PaymentMethodSearchItem;
+import com.mercadopago.util.JsonUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PaymentMethodSearchIndexTest {
+
+    private static final String[] PAYMENT_METHOD_SEARCH_FIXTURES = {"complete_payment_method_search_MLA.json",
+            "cards_but_no_account_money_MLA.json", "not_cards_nor_account_money_MLA.json", "only_account_money_MLA.json",
+            "only_credit_card_MLA.json", "only_credit_card_and_account_money_MLA.json", "only_credit_card_and_one_card_MLA.json",
+            "only_one_off_type_and_account_money_MLA.json", "only_ticket_MLA.json", "payment_method_on_top.json",
+            "saved_cards_payment_method_search_MLA.json"};
+    private static final String[] PAYMENT_TYPES = {"ticket", "atm", "bank_transfer"};
+    private static final int SYNTHETIC_GROUPS = 300;
+    private static final int SYNTHETIC_CARDS = 300;
+
+    @Test
+    public void whenLookingUpFixturesThenMatchLinearScans() {
+        for (String fixture : PAYMENT_METHOD_SEARCH_FIXTURES) {
+            String json = ResourcesUtil.getStringResource(fixture);
+            assertSameLookups(fromJson(json), fromJson(json));
+        }
+    }
+
+    @Test
+    public void whenLookingUpSyntheticSearchThenMatchLinearScans() {
+        String json = JsonUtil.getInstance().toJson(generateSearch());
+        assertSameLookups(fromJson(json), fromJson(json));
+    }
+
+    @Test
+    public void whenPaymentMethodIdsArePrefixesOfEachOtherThenLastMatchWins() {
+        PaymentMethodSearch search = new PaymentMethodSearch();
+        List<PaymentMethod> paymentMethods = new ArrayList<>();
+        paymentMethods.add(newPaymentMethod("bancomer", "ticket"));
+        paymentMethods.add(newPaymentMethod("banco", "atm"));
+        search.setPaymentMethods(paymentMethods);
+
+        PaymentMethod paymentMethod = search.getPaymentMethodBySearchItem(newItem("bancomer_bank_transfer"));
+
+        Assert.assertSame(paymentMethods.get(1), paymentMethod);
+        Assert.assertEquals("er_bank_transfer", paymentMethods.get(1).getPaymentTypeId());
+        Assert.assertEquals("bank_transfer", paymentMethods.get(0).getPaymentTypeId());
+    }
+
+    @Test
+    public void whenListsAreSetThenIndexesAreRebuilt() {
+        PaymentMethodSearch search = new PaymentMethodSearch();
+        List<PaymentMethod> paymentMethods = new ArrayList<>();
+        paymentMethods.add(newPaymentMethod("rapipago", "ticket"));
+        search.setPaymentMethods(paymentMethods);
+        List<PaymentMethodSearchItem> groups = new ArrayList<>();
+        groups.add(newItem("rapipago"));
+        search.setGroups(groups);
+        Assert.assertNull(search.getPaymentMethodById("pagofacil"));
+        Assert.assertNull(search.getSearchItemByPaymentMethod(newPaymentMethod("pagofacil", "ticket")));
+
+        paymentMethods = new ArrayList<>(paymentMethods);
+        paymentMethods.add(newPaymentMethod("pagofacil", "ticket"));
+        search.setPaymentMethods(paymentMethods);
+        groups = new ArrayList<>(groups);
+        groups.add(newItem("pagofacil"));
+        search.setGroups(groups);
+
+        Assert.assertSame(paymentMethods.get(1), search.getPaymentMethodById("pagofacil"));
+        Assert.assertSame(groups.get(1), search.getSearchItemByPaymentMethod(newPaymentMethod("pagofacil", "ticket")));
+    }
+
+    private static void assertSameLookups(PaymentMethodSearch scanned, PaymentMethodSearch indexed) {
+        List<PaymentMethodSearchItem> scannedItems = getLeaves(scanned.getGroups());
+        List<PaymentMethodSearchItem> indexedItems = getLeaves(indexed.getGroups());
+        for (int i = 0; i < scannedItems.size(); i++) {
+            PaymentMethod expected = getPaymentMethodBySearchItem(scanned, scannedItems.get(i));
+            PaymentMethod actual = indexed.getPaymentMethodBySearchItem(indexedItems.get(i));
+            assertSamePaymentMethod(expected, actual);
+            if (expected != null) {
+                assertSameItem(searchItemInList(scanned.getGroups(), expected), indexed.getSearchItemByPaymentMethod(actual));
+                assertSamePaymentMethod(getPaymentMethodById(scanned, expected.getId()), indexed.getPaymentMethodById(actual.getId()));
+            }
+        }
+        if (scanned.getPaymentMethods() != null) {
+            for (int i = 0; i < scanned.getPaymentMethods().size(); i++) {
+                Assert.assertEquals(scanned.getPaymentMethods().get(i).getPaymentTypeId(), indexed.getPaymentMethods().get(i).getPaymentTypeId());
+            }
+        }
+        if (scanned.getCards() != null) {
+            for (Card card : scanned.getCards()) {
+                Card expected = getCardById(scanned, card.getId());
+                Card actual = indexed.getCardById(card.getId());
+                Assert.assertEquals(expected.getId(), actual.getId());
+                Assert.assertEquals(scanned.getCards().indexOf(expected), indexed.getCards().indexOf(actual));
+            }
+        }
+        Assert.assertNull(indexed.getPaymentMethodById("unknown"));
+        Assert.assertNull(indexed.getCardById("unknown"));
+    }
+
+    private static void assertSamePaymentMethod(PaymentMethod expected, PaymentMethod actual) {
+        if (expected == null) {
+            Assert.assertNull(actual);
+        } else {
+            Assert.assertEquals(expected.getId(), actual.getId());
+            Assert.assertEquals(expected.getPaymentTypeId(), actual.getPaymentTypeId());
+        }
+    }
+
+    private static void assertSameItem(PaymentMethodSearchItem expected, PaymentMethodSearchItem actual) {
+        if (expected == null) {
+            Assert.assertNull(actual);
+        } else {
+            Assert.assertEquals(expected.getId(), actual.getId());
+            Assert.assertEquals(expected.getDescription(), actual.getDescription());
+        }
+    }
+
+    //Groups with a payment method per payment type each, and saved cards.
+    static PaymentMethodSearch generateSearch() {
+        PaymentMethodSearch search = new PaymentMethodSearch();
+        List<PaymentMethodSearchItem> groups = new ArrayList<>();
+        List<PaymentMethod> paymentMethods = new ArrayList<>();
+        for (int i = 0; i < SYNTHETIC_GROUPS; i++) {
+            PaymentMethodSearchItem group = newItem("group" + i);
+            List<PaymentMethodSearchItem> children = new ArrayList<>();
+            for (int j = 0; j < PAYMENT_TYPES.length; j++) {
+                String id = "method" + i + "x" + j;
+                paymentMethods.add(newPaymentMethod(id, PAYMENT_TYPES[j]));
+                children.add(newItem(j == 0 ? id : id + "_" + PAYMENT_TYPES[j]));
+            }
+            group.setChildren(children);
+            groups.add(group);
+        }
+        search.setGroups(groups);
+        search.setPaymentMethods(paymentMethods);
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < SYNTHETIC_CARDS; i++) {
+            Card card = new Card();
+            card.setId("card" + i);
+            cards.add(card);
+        }
+        search.setCards(cards);
+        return search;
+    }
+
+    static List<PaymentMethodSearchItem> getLeaves(List<PaymentMethodSearchItem> items) {
+        List<PaymentMethodSearchItem> leaves = new ArrayList<>();
+        if (items != null) {
+            for (PaymentMethodSearchItem item : items) {
+                if (item.hasChildren()) {
+                    leaves.addAll(getLeaves(item.getChildren()));
+                } else {
+                    leaves.add(item);
+                }
+            }
+        }
+        return leaves;
+    }
+
+    static PaymentMethodSearch fromJson(String json) {
+        return JsonUtil.getInstance().fromJson(json, PaymentMethodSearch.class);
+    }
+
+    private static PaymentMethod newPaymentMethod(String id, String paymentTypeId) {
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setId(id);
+        paymentMethod.setPaymentTypeId(paymentTypeId);
+        return paymentMethod;
+    }
+
+    private static PaymentMethodSearchItem newItem(String id) {
+        PaymentMethodSearchItem item = new PaymentMethodSearchItem();
+        item.setId(id);
+        item.setDescription("Description of " + id);
+        return item;
+    }
+
+    //The lookups as they were before the indexes.
+    static PaymentMethod getPaymentMethodBySearchItem(PaymentMethodSearch search, PaymentMethodSearchItem item) {
+        PaymentMethod requiredPaymentMethod = null;
+        if (search.getPaymentMethods() != null && item != null && item.getId() != null) {
+            for (PaymentMethod currentPaymentMethod : search.getPaymentMethods()) {
+                if (item.getId().startsWith(currentPaymentMethod.getId())) {
+                    requiredPaymentMethod = currentPaymentMethod;
+                    String itemIdWithoutPaymentMethod = item.getId().replaceFirst(currentPaymentMethod.getId(), "");
+                    requiredPaymentMethod.setPaymentTypeId(itemIdWithoutPaymentMethod.isEmpty()
+                            ? currentPaymentMethod.getPaymentTypeId() : itemIdWithoutPaymentMethod.substring(1));
+                }
+            }
+        }
+        return requiredPaymentMethod;
+    }
+
+    static PaymentMethodSearchItem searchItemInList(List<PaymentMethodSearchItem> list, PaymentMethod paymentMethod) {
+        PaymentMethodSearchItem requiredItem = null;
+        for (PaymentMethodSearchItem currentItem : list) {
+            if (currentItem.getId().startsWith(paymentMethod.getId()) && currentItem.getId().equals(paymentMethod.getId())) {
+                requiredItem = currentItem;
+                break;
+            } else if (currentItem.getId().startsWith(paymentMethod.getId())) {
+                String potentialPaymentType = currentItem.getId().replaceFirst(paymentMethod.getId(), "");
+                if (potentialPaymentType.endsWith(paymentMethod.getPaymentTypeId())) {
+                    requiredItem = currentItem;
+                    break;
+                }
+            } else if (currentItem.hasChildren()) {
+                requiredItem = searchItemInList(currentItem.getChildren(), paymentMethod);
+                if (requiredItem != null) {
+                    break;
+                }
+            }
+        }
+        return requiredItem;
+    }
+
+    static PaymentMethod getPaymentMethodById(PaymentMethodSearch search, String paymentMethodId) {
+        for (PaymentMethod paymentMethod : search.getPaymentMethods()) {
+            if (paymentMethod.getId().equals(paymentMethodId)) {
+                return paymentMethod;
+            }
+        }
+        return null;
+    }
+
+    static Card getCardById(PaymentMethodSearch search, String cardId) {
+        for (Card card : search.getCards()) {
+            if (card.getId().equals(cardId)) {
+                return card;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.mercadopago.utils;
+
+import android.content.Context;
+
+import com.mercadopago.util.ResourceIdCache;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ResourceIdCacheTest {
+
+    private static final int LOOK_UPS = 100;
+
+    @Test
+    public void whenResourceIsLookedUpAgainThenServeItFromCache() {
+        MockedResourceIdCache cache = new MockedResourceIdCache();
+        cache.resources.put("drawable/mpsdk_visa", 11);
+
+        Assert.assertEquals(11, cache.getDrawable(null, "mpsdk_visa"));
+        Assert.assertEquals(11, cache.getDrawable(null, "mpsdk_visa"));
+        Assert.assertEquals(1, cache.lookUps);
+    }
+
+    @Test
+    public void whenResourceIsMissingThenRememberTheMiss() {
+        MockedResourceIdCache cache = new MockedResourceIdCache();
+
+        Assert.assertEquals(0, cache.getDrawable(null, "mpsdk_ico_card_unknown"));
+        Assert.assertEquals(0, cache.getDrawable(null, "mpsdk_ico_card_unknown"));
+        Assert.assertEquals(1, cache.lookUps);
+    }
+
+    @Test
+    public void whenNamesAreEqualThenTypesAreKeptApart() {
+        MockedResourceIdCache cache = new MockedResourceIdCache();
+        cache.resources.put("drawable/mpsdk_visa", 11);
+        cache.resources.put("color/mpsdk_visa", 22);
+
+        Assert.assertEquals(11, cache.getDrawable(null, "mpsdk_visa"));
+        Assert.assertEquals(22, cache.getColor(null, "mpsdk_visa"));
+    }
+
+    @Test
+    public void whenClearedThenLookUpAgain() {
+        MockedResourceIdCache cache = new MockedResourceIdCache();
+        cache.getDrawable(null, "mpsdk_visa");
+
+        cache.clear();
+        cache.getDrawable(null, "mpsdk_visa");
+
+        Assert.assertEquals(2, cache.lookUps);
+    }
+
+    @Test
+    public void whenNamesAreLookedUpManyTimesThenLookUpEachOnce() {
+        MockedResourceIdCache cache = new MockedResourceIdCache();
+        cache.resources.put("drawable/mpsdk_visa", 11);
+        int found = 0;
+
+        for (int i = 0; i < LOOK_UPS; i++) {
+            found += cache.getDrawable(null, "mpsdk_" + (i % 2 == 0 ? "visa" : "master"));
+        }
+
+        Assert.assertEquals(11 * LOOK_UPS / 2, found);
+        Assert.assertEquals(2, cache.lookUps);
+    }
+
+    private static class MockedResourceIdCache extends ResourceIdCache {
+
+        private final Map<String, Integer> resources = new HashMap<>();
+        private int lookUps;
+
+        @Override
+        protected int lookUp(Context context, String name, String type) {
+            lookUps++;
+            Integer id = resources.get(type + "/" + name);
+            return id == null ? 0 : id;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.controllers.CustomServicesHandler;
+import com.mercadopago.preferences.ServicePreference;
+import com.mercadopago.services.CheckoutService;
+import com.mercadopago.services.GatewayService;
+import com.mercadopago.util.RetrofitUtil;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import okhttp3.OkHttpClient;
+
+public class RetrofitUtilTest {
+
+    private static final String BASE_URL = "https://api.mercadopago.com";
+    private static final String CUSTOM_BASE_URL = "https://www.mercadopago.com";
+
+    private OkHttpClient client;
+
+    @Before
+    public void clearRegistry() {
+        RetrofitUtil.clear();
+        CustomServicesHandler.getInstance().clear();
+        client = new OkHttpClient();
+    }
+
+    @Test
+    public void whenServiceRequestedTwiceWithSameProfileThenReuseIt() {
+        CheckoutService first = RetrofitUtil.getService(client, BASE_URL, 10, 20, 20, CheckoutService.class);
+        CheckoutService second = RetrofitUtil.getService(client, BASE_URL, 10, 20, 20, CheckoutService.class);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, RetrofitUtil.size());
+    }
+
+    @Test
+    public void whenServicesRequestedWithDifferentProfilesThenKeepOneRetrofitPerProfile() {
+        CheckoutService defaultService = RetrofitUtil.getService(client, BASE_URL, 10, 20, 20, CheckoutService.class);
+        CheckoutService paymentService = RetrofitUtil.getService(client, BASE_URL, 10, 40, 40, CheckoutService.class);
+        CheckoutService customService = RetrofitUtil.getService(client, CUSTOM_BASE_URL, 10, 20, 20, CheckoutService.class);
+        RetrofitUtil.getService(client, BASE_URL, 10, 20, 20, GatewayService.class);
+
+        Assert.assertNotSame(defaultService, paymentService);
+        Assert.assertNotSame(defaultService, customService);
+        Assert.assertEquals(3, RetrofitUtil.size());
+    }
+
+    @Test
+    public void whenClientChangesThenRebuildService() {
+        CheckoutService first = RetrofitUtil.getService(client, BASE_URL, 10, 20, 20, CheckoutService.class);
+        CheckoutService second = RetrofitUtil.getService(new OkHttpClient(), BASE_URL, 10, 20, 20, CheckoutService.class);
+
+        Assert.assertNotSame(first, second);
+    }
+
+    @Test
+    public void whenServicePreferenceBaseUrlChangesThenClearRegistry() {
+        ServicePreference servicePreference = new ServicePreference.Builder()
+                .setDefaultBaseURL(CUSTOM_BASE_URL)
+                .build();
+        CustomServicesHandler.getInstance().setServices(servicePreference);
+        RetrofitUtil.getService(client, CUSTOM_BASE_URL, 10, 20, 20, CheckoutService.class);
+
+        CustomServicesHandler.getInstance().clear();
+        CustomServicesHandler.getInstance().setServices(servicePreference);
+        Assert.assertEquals(1, RetrofitUtil.size());
+
+        CustomServicesHandler.getInstance().setServices(null);
+        Assert.assertEquals(0, RetrofitUtil.size());
+    }
+}
@@ -0,0 +1,187 @@
+package com.mercadopago.utils;
+
+import com.mercadopago.util.SdkExecutor;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SdkExecutorTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    public void whenTaskExecutedThenRunOnNamedThread() throws InterruptedException {
+        SdkExecutor executor = new MockedSdkExecutor(2, false);
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        final CountDownLatch ran = new CountDownLatch(1);
+
+        executor.execute(this, new Runnable() {
+            @Override
+            public void run() {
+                threadName.set(Thread.currentThread().getName());
+                ran.countDown();
+            }
+        });
+
+        Assert.assertTrue(ran.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertTrue(threadName.get().startsWith("mpsdk-worker-"));
+    }
+
+    @Test
+    public void whenOwnerCancelsThenPendingTasksDoNotRun() throws InterruptedException {
+        SdkExecutor executor = new MockedSdkExecutor(1, false);
+        CountDownLatch release = new CountDownLatch(1);
+        Object owner = new Object();
+        Object otherOwner = new Object();
+        final AtomicInteger ranTasks = new AtomicInteger();
+        CountDownLatch otherRan = new CountDownLatch(1);
+
+        block(executor, release);
+        executor.execute(owner, count(ranTasks, null));
+        executor.execute(owner, count(ranTasks, null));
+        executor.execute(otherOwner, count(ranTasks, otherRan));
+        Assert.assertEquals(3, executor.getMetrics().getQueuedTasks());
+
+        executor.cancel(owner);
+        release.countDown();
+
+        Assert.assertTrue(otherRan.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(1, ranTasks.get());
+        Assert.assertEquals(2, executor.getMetrics().getCancelledTasks());
+    }
+
+    @Test
+    public void whenRunningTaskCancelledThenItCanStop() throws InterruptedException {
+        SdkExecutor executor = new MockedSdkExecutor(1, false);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(1);
+        final AtomicReference<Boolean> sawCancel = new AtomicReference<>();
+
+        executor.execute(this, new SdkExecutor.Task() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    cancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    //Checked below
+                }
+                sawCancel.set(isCancelled());
+                finished.countDown();
+            }
+        });
+        Assert.assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        executor.cancel(this);
+        cancelled.countDown();
+
+        Assert.assertTrue(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertTrue(sawCancel.get());
+    }
+
+    @Test
+    public void whenThreadsAreBusyThenQueueTasksInsteadOfRunningThemInCallerThread() throws InterruptedException {
+        SdkExecutor executor = new MockedSdkExecutor(1, false);
+        CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch ran = new CountDownLatch(64);
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger ranInCaller = new AtomicInteger();
+
+        block(executor, release);
+        for (int i = 0; i < 64; i++) {
+            executor.execute(this, new Runnable() {
+                @Override
+                public void run() {
+                    if (Thread.currentThread() == caller) {
+                        ranInCaller.incrementAndGet();
+                    }
+                    ran.countDown();
+                }
+            });
+        }
+        Assert.assertEquals(64, executor.getMetrics().getQueuedTasks());
+        release.countDown();
+
+        Assert.assertTrue(ran.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(0, ranInCaller.get());
+    }
+
+    @Test
+    public void whenTasksRunThenMeasureTheirWaitAndRunTime() throws InterruptedException {
+        MockedSdkExecutor executor = new MockedSdkExecutor(1, true);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        executor.execute(this, count(new AtomicInteger(), ran));
+        Assert.assertTrue(ran.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        waitUntilCompleted(executor, 1);
+
+        SdkExecutor.Metrics metrics = executor.getMetrics();
+        Assert.assertEquals(1, metrics.getScheduledTasks());
+        Assert.assertEquals(1, metrics.getCompletedTasks());
+        Assert.assertEquals(MockedSdkExecutor.TICK, metrics.getAverageWaitTime());
+        Assert.assertEquals(MockedSdkExecutor.TICK, metrics.getMaxWaitTime());
+        Assert.assertEquals(MockedSdkExecutor.TICK, metrics.getAverageRunTime());
+    }
+
+    //Keeps the only thread of the executor busy until released.
+    private void block(SdkExecutor executor, final CountDownLatch release) throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(new Object(), new Runnable() {
+            @Override
+            public void run() {
+                blocked.countDown();
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    //Released
+                }
+            }
+        });
+        Assert.assertTrue(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static Runnable count(final AtomicInteger counter, final CountDownLatch latch) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                counter.incrementAndGet();
+                if (latch != null) {
+                    latch.countDown();
+                }
+            }
+        };
+    }
+
+    //Metrics are recorded right after the task runs.
+    private static void waitUntilCompleted(SdkExecutor executor, int tasks) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (executor.getMetrics().getCompletedTasks() < tasks && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static class MockedSdkExecutor extends SdkExecutor {
+
+        private static final long TICK = 1000;
+
+        private final AtomicLong time = new AtomicLong();
+        private final boolean mockedTime;
+
+        private MockedSdkExecutor(int threads, boolean mockedTime) {
+            super(threads);
+            this.mockedTime = mockedTime;
+        }
+
+        @Override
+        protected long now() {
+            return mockedTime ? time.addAndGet(TICK) : super.now();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.mercadopago.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.mercadopago.mocks.Cards;
+import com.mercadopago.mocks.PaymentMethodSearchs;
+import com.mercadopago.model.Card;
+import com.mercadopago.model.PaymentMethod;
+import com.mercadopago.model.PaymentMethodSearch;
+import com.mercadopago.model.Site;
+import com.mercadopago.util.JsonUtil;
+import com.mercadopago.util.SessionStore;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class SessionStoreTest {
+
+    @Test
+    public void whenValuePutThenGetSameInstanceByHandle() {
+        SessionStore sessionStore = new MockedSessionStore();
+        PaymentMethodSearch paymentMethodSearch = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA();
+
+        String handle = sessionStore.put(paymentMethodSearch);
+
+        Assert.assertTrue(SessionStore.isHandle(handle));
+        Assert.assertSame(paymentMethodSearch, sessionStore.get(handle, PaymentMethodSearch.class));
+    }
+
+    @Test
+    public void whenValueIsNullThenHandleIsNull() {
+        SessionStore sessionStore = new MockedSessionStore();
+
+        Assert.assertNull(sessionStore.put(null));
+        Assert.assertNull(sessionStore.get(null, Site.class));
+    }
+
+    @Test
+    public void whenExtraIsJsonThenParseIt() {
+        SessionStore sessionStore = new MockedSessionStore();
+        Site site = new Site("MLA", "ARS");
+
+        Site parsedSite = sessionStore.get(JsonUtil.getInstance().toJson(site), Site.class);
+
+        Assert.assertFalse(SessionStore.isHandle(JsonUtil.getInstance().toJson(site)));
+        Assert.assertEquals("MLA", parsedSite.getId());
+        Assert.assertEquals("ARS", parsedSite.getCurrencyId());
+    }
+
+    @Test
+    public void whenProcessRestartedThenHandleIsResolvedFromSnapshot() {
+        SessionStore sessionStore = new MockedSessionStore();
+        List<PaymentMethod> paymentMethods = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA().getPaymentMethods();
+        String handle = sessionStore.put(paymentMethods);
+        Map<String, String> snapshot = sessionStore.getSnapshot(Arrays.asList(handle));
+
+        SessionStore restartedSessionStore = new MockedSessionStore();
+        Type listType = new TypeToken<List<PaymentMethod>>() {
+        }.getType();
+        Assert.assertNull(restartedSessionStore.get(handle, listType));
+
+        restartedSessionStore.restore(snapshot);
+        List<PaymentMethod> restoredPaymentMethods = restartedSessionStore.get(handle, listType);
+
+        Assert.assertEquals(paymentMethods.size(), restoredPaymentMethods.size());
+        Assert.assertEquals(paymentMethods.get(0).getId(), restoredPaymentMethods.get(0).getId());
+        Assert.assertSame(restoredPaymentMethods, restartedSessionStore.get(handle, listType));
+    }
+
+    @Test
+    public void whenNewProcessPutsValuesThenHandlesDoNotCollide() {
+        SessionStore sessionStore = new MockedSessionStore();
+        SessionStore restartedSessionStore = new MockedSessionStore();
+
+        String handle = sessionStore.put(new Site("MLA", "ARS"));
+        restartedSessionStore.put(new Site("MLB", "BRL"));
+
+        Assert.assertNull(restartedSessionStore.get(handle, Site.class));
+    }
+
+    @Test
+    public void whenHandlesReleasedThenDropTheirValues() {
+        SessionStore sessionStore = new MockedSessionStore();
+        String handle = sessionStore.put(new Site("MLA", "ARS"));
+        String otherHandle = sessionStore.put(new Site("MLB", "BRL"));
+
+        sessionStore.release(Arrays.asList(handle));
+
+        Assert.assertNull(sessionStore.get(handle, Site.class));
+        Assert.assertEquals("MLB", sessionStore.<Site>get(otherHandle, Site.class).getId());
+    }
+
+    @Test
+    public void whenHandleSharedThenReleasingOneKeepsTheOther() {
+        SessionStore sessionStore = new MockedSessionStore();
+        Site site = new Site("MLA", "ARS");
+        String handle = sessionStore.put(site);
+
+        String sharedHandle = sessionStore.share(handle);
+        sessionStore.release(Arrays.asList(sharedHandle));
+
+        Assert.assertFalse(handle.equals(sharedHandle));
+        Assert.assertSame(site, sessionStore.get(handle, Site.class));
+        Assert.assertNull(sessionStore.get(sharedHandle, Site.class));
+        Assert.assertEquals("{}", sessionStore.share("{}"));
+    }
+
+    @Test
+    public void whenRestoredHandleSharedThenResolveBothFromSnapshot() {
+        SessionStore sessionStore = new MockedSessionStore();
+        String handle = sessionStore.put(new Site("MLA", "ARS"));
+        SessionStore restartedSessionStore = new MockedSessionStore();
+        restartedSessionStore.restore(sessionStore.getSnapshot(Arrays.asList(handle)));
+
+        String sharedHandle = restartedSessionStore.share(handle);
+        restartedSessionStore.release(Arrays.asList(handle));
+
+        Assert.assertEquals("MLA", restartedSessionStore.<Site>get(sharedHandle, Site.class).getId());
+    }
+
+    @Test
+    public void whenJsonWrittenWithPlainGsonThenParseItWithTheSameGson() {
+        SessionStore sessionStore = new MockedSessionStore();
+        Type listType = new TypeToken<List<Card>>() {
+        }.getType();
+        String json = new Gson().toJson(Cards.getCardsMLA());
+
+        List<Card> cards = sessionStore.get(json, listType, new Gson());
+
+        Assert.assertEquals(Cards.getCardsMLA().get(0).getLastFourDigits(), cards.get(0).getLastFourDigits());
+        Assert.assertNotNull(cards.get(0).getPaymentMethod());
+    }
+
+    @Test
+    public void whenManyValuesPutThenKeepThemUntilReleased() {
+        SessionStore sessionStore = new MockedSessionStore();
+        String handle = sessionStore.put(new Site("MLA", "ARS"));
+
+        for (int i = 0; i < 1000; i++) {
+            sessionStore.put(new Site("MLB", "BRL"));
+        }
+
+        Assert.assertEquals("MLA", sessionStore.<Site>get(handle, Site.class).getId());
+    }
+
+    @Test
+    public void whenValueChangedThenSnapshotHasTheChange() {
+        SessionStore sessionStore = new MockedSessionStore();
+        PaymentMethodSearch paymentMethodSearch = PaymentMethodSearchs.getCompletePaymentMethodSearchMLA();
+        String handle = sessionStore.put(paymentMethodSearch);
+        sessionStore.getSnapshot(Arrays.asList(handle));
+
+        paymentMethodSearch.setPaymentMethods(paymentMethodSearch.getPaymentMethods().subList(0, 1));
+        Map<String, String> snapshot = sessionStore.getSnapshot(Arrays.asList(handle));
+
+        SessionStore restartedSessionStore = new MockedSessionStore();
+        restartedSessionStore.restore(snapshot);
+        PaymentMethodSearch restored = restartedSessionStore.get(handle, PaymentMethodSearch.class);
+        Assert.assertEquals(1, restored.getPaymentMethods().size());
+    }
+
+    @Test
+    public void whenSearchCopiedWithCardsThenSharedSearchIsNotChanged() {
+        PaymentMethodSearch paymentMethodSearch = PaymentMethodSearchs.getPaymentMethodWithoutCustomOptionsMLA();
+        List<Card> sharedCards = paymentMethodSearch.getCards();
+        List<Card> cards = Cards.getCardsMLA();
+
+        PaymentMethodSearch copy = paymentMethodSearch.copyWithCards(cards, "ending in");
+
+        Assert.assertSame(sharedCards, paymentMethodSearch.getCards());
+        Assert.assertEquals(cards.size(), copy.getCards().size());
+        Assert.assertEquals(cards.size(), copy.getCustomSearchItems().size());
+        Assert.assertSame(paymentMethodSearch.getGroups(), copy.getGroups());
+    }
+
+    private static class MockedSessionStore extends SessionStore {
+    }
+}
@@ -0,0 +1,235 @@
+package com.mercadopago.utils;
+
+import android.content.Context;
+
+import com.mercadopago.util.EventRingBuffer;
+import com.mercadopago.util.TrackingPipeline;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TrackingPipelineTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 20000;
+
+    private File batchFile;
+
+    @Before
+    public void createBatchFile() throws IOException {
+        batchFile = File.createTempFile("tracking", "");
+        batchFile.delete();
+    }
+
+    @Test
+    public void whenBufferIsFullThenRejectElements() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+        Assert.assertEquals(4, buffer.getCapacity());
+
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer(i));
+        }
+        Assert.assertFalse(buffer.offer(4));
+        Assert.assertEquals(Integer.valueOf(0), buffer.poll());
+        Assert.assertTrue(buffer.offer(5));
+
+        List<Integer> elements = new ArrayList<>();
+        Assert.assertEquals(4, buffer.drainTo(elements, 10));
+        Assert.assertEquals("[1, 2, 3, 5]", elements.toString());
+        Assert.assertNull(buffer.poll());
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void whenManyThreadsOfferThenConsumerGetsEachElementOnceInOrder() throws InterruptedException {
+        final EventRingBuffer<long[]> buffer = new EventRingBuffer<>(1024);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger dropped = new AtomicInteger();
+        final AtomicInteger runningProducers = new AtomicInteger(PRODUCERS);
+        for (int i = 0; i < PRODUCERS; i++) {
+            final int producer = i;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < EVENTS_PER_PRODUCER; j++) {
+                        if (!buffer.offer(new long[]{producer, j})) {
+                            dropped.incrementAndGet();
+                        }
+                    }
+                    runningProducers.decrementAndGet();
+                }
+            }).start();
+        }
+
+        long[] lastEvents = new long[PRODUCERS];
+        Arrays.fill(lastEvents, -1);
+        int received = 0;
+        start.countDown();
+        while (runningProducers.get() > 0 || !buffer.isEmpty()) {
+            long[] element = buffer.poll();
+            if (element != null) {
+                Assert.assertTrue(element[1] > lastEvents[(int) element[0]]);
+                lastEvents[(int) element[0]] = element[1];
+                received++;
+            }
+        }
+
+        Assert.assertEquals(PRODUCERS * EVENTS_PER_PRODUCER, received + dropped.get());
+    }
+
+    @Test
+    public void whenEventsAreTrackedThenSendThemInOrderOffTheCaller() {
+        MockedTrackingPipeline pipeline = new MockedTrackingPipeline(16, batchFile);
+
+        pipeline.trackScreen("CARD_NUMBER", "2", "APP_USR-1", null);
+        pipeline.trackEvent("CARD_NUMBER", "BACK_PRESSED", "2", "APP_USR-1", "MLA", null);
+        pipeline.trackToken("token");
+        Assert.assertTrue(pipeline.sent.isEmpty());
+        Assert.assertEquals(3, pipeline.getPendingEvents());
+        pipeline.runTasks();
+
+        Assert.assertEquals(3, pipeline.sent.size());
+        Assert.assertEquals("CARD_NUMBER", pipeline.sent.get(0).getScreenName());
+        Assert.assertNull(pipeline.sent.get(0).getSiteId());
+        Assert.assertEquals("BACK_PRESSED", pipeline.sent.get(1).getAction());
+        Assert.assertEquals("MLA", pipeline.sent.get(1).getSiteId());
+        Assert.assertEquals("token", pipeline.sent.get(2).getTokenId());
+        Assert.assertEquals(3, pipeline.getSentEvents());
+        Assert.assertFalse(batchFile.exists());
+    }
+
+    @Test
+    public void whenBufferIsFullThenDropAndCountEvents() {
+        MockedTrackingPipeline pipeline = new MockedTrackingPipeline(4, batchFile);
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.trackToken("token" + i);
+        }
+        pipeline.runTasks();
+
+        Assert.assertEquals(10, pipeline.getTrackedEvents());
+        Assert.assertEquals(6, pipeline.getDroppedEvents());
+        Assert.assertEquals(4, pipeline.sent.size());
+        Assert.assertEquals("token3", pipeline.sent.get(3).getTokenId());
+    }
+
+    @Test
+    public void whenTrackerFailsThenSendEventsInTheNextProcess() {
+        MockedTrackingPipeline pipeline = new MockedTrackingPipeline(16, batchFile);
+        pipeline.failing = true;
+        pipeline.trackToken("token1");
+        pipeline.trackToken("token2");
+        pipeline.runTasks();
+        Assert.assertEquals(2, pipeline.getFailedEvents());
+        Assert.assertTrue(batchFile.exists());
+
+        MockedTrackingPipeline nextPipeline = new MockedTrackingPipeline(16, batchFile);
+        nextPipeline.trackToken("token3");
+        nextPipeline.runTasks();
+
+        Assert.assertEquals(2, nextPipeline.getRestoredEvents());
+        Assert.assertEquals(3, nextPipeline.sent.size());
+        Assert.assertEquals("token1", nextPipeline.sent.get(0).getTokenId());
+        Assert.assertEquals("token3", nextPipeline.sent.get(2).getTokenId());
+        Assert.assertFalse(batchFile.exists());
+    }
+
+    @Test
+    public void whenTrackerFailsThenRetryEventsWithTheNextBatch() {
+        MockedTrackingPipeline pipeline = new MockedTrackingPipeline(16, batchFile);
+        pipeline.failing = true;
+        pipeline.trackToken("token1");
+        pipeline.runTasks();
+        Assert.assertTrue(batchFile.exists());
+
+        pipeline.failing = false;
+        pipeline.trackToken("token2");
+        pipeline.runTasks();
+
+        Assert.assertEquals(1, pipeline.getFailedEvents());
+        Assert.assertEquals(2, pipeline.sent.size());
+        Assert.assertEquals("token1", pipeline.sent.get(0).getTokenId());
+        Assert.assertEquals("token2", pipeline.sent.get(1).getTokenId());
+        Assert.assertFalse(batchFile.exists());
+    }
+
+    @Test
+    public void whenEventFailsMaxAttemptsThenKeepItForTheNextProcess() {
+        MockedTrackingPipeline pipeline = new MockedTrackingPipeline(16, batchFile);
+        pipeline.failing = true;
+        for (int i = 0; i <= TrackingPipeline.MAX_SEND_ATTEMPTS; i++) {
+            pipeline.trackToken("token" + i);
+            pipeline.runTasks();
+        }
+
+        pipeline.failing = false;
+        pipeline.trackToken("token4");
+        pipeline.runTasks();
+
+        //token0 and token1 failed three times each, and aren't retried in this process.
+        Assert.assertEquals(3, pipeline.sent.size());
+        Assert.assertEquals("token2", pipeline.sent.get(0).getTokenId());
+        Assert.assertEquals("token4", pipeline.sent.get(2).getTokenId());
+
+        MockedTrackingPipeline nextPipeline = new MockedTrackingPipeline(16, batchFile);
+        nextPipeline.persist();
+        nextPipeline.runTasks();
+
+        Assert.assertEquals(2, nextPipeline.getRestoredEvents());
+        Assert.assertEquals("token0", nextPipeline.sent.get(0).getTokenId());
+        Assert.assertEquals("token1", nextPipeline.sent.get(1).getTokenId());
+        Assert.assertFalse(batchFile.exists());
+    }
+
+    private static class MockedTrackingPipeline extends TrackingPipeline {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private final List<Event> sent = new ArrayList<>();
+        private final File batchFile;
+        private boolean failing;
+
+        private MockedTrackingPipeline(int capacity, File batchFile) {
+            super(capacity, 2);
+            this.batchFile = batchFile;
+        }
+
+        private void runTasks() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+        @Override
+        protected void execute(Runnable runnable) {
+            tasks.add(runnable);
+        }
+
+        @Override
+        protected void dispatch(Event event, Context context) {
+            if (failing) {
+                throw new IllegalStateException();
+            }
+            sent.add(event);
+        }
+
+        @Override
+        protected File getBatchFile() {
+            return batchFile;
+        }
+    }
+}